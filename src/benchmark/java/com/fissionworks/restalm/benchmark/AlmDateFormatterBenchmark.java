@@ -0,0 +1,54 @@
+package com.fissionworks.restalm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fissionworks.restalm.commons.AlmDateFormatter;
+
+/**
+ * Measures parsing and formatting dates in the ALM formats.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AlmDateFormatterBenchmark {
+
+	private final String date = "2015-06-12";
+
+	private final String dateTime = "2015-06-21 14:02:33";
+
+	private final long millis = AlmDateFormatter.parseDateTime(dateTime);
+
+	@Benchmark
+	public String getStandardDate() {
+		return AlmDateFormatter.getStandardDate(millis);
+	}
+
+	@Benchmark
+	public String getStandardDateTime() {
+		return AlmDateFormatter.getStandardDateTime(millis);
+	}
+
+	@Benchmark
+	public long parseDate() {
+		return AlmDateFormatter.parseDate(date);
+	}
+
+	@Benchmark
+	public long parseDateTime() {
+		return AlmDateFormatter.parseDateTime(dateTime);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.fissionworks.restalm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+
+/**
+ * Measures converting each entity type to and from a {@link GenericEntity}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AlmEntityBenchmark {
+
+	@Param({ "AlmTest", "Defect", "DesignStep", "Release", "ReleaseCycle", "ReleaseFolder", "Requirement",
+			"RequirementCoverage", "Run", "TestConfig", "TestFolder", "TestInstance", "TestSet", "TestSetFolder" })
+	public String entityClass;
+
+	private AlmEntity entity;
+
+	private GenericEntity genericEntity;
+
+	private AlmEntity target;
+
+	@Benchmark
+	public GenericEntity createEntity() {
+		return entity.createEntity();
+	}
+
+	@Benchmark
+	public AlmEntity populateFields() {
+		target.populateFields(genericEntity);
+		return target;
+	}
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		entity = BenchmarkData.createEntities().get(entityClass);
+		genericEntity = entity.createEntity();
+		target = entity.getClass().newInstance();
+	}
+
+}
@@ -0,0 +1,292 @@
+package com.fissionworks.restalm.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+
+import com.fissionworks.restalm.conversion.marshalling.MarshallingUtils;
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.entity.defects.Defect;
+import com.fissionworks.restalm.model.entity.management.Release;
+import com.fissionworks.restalm.model.entity.management.ReleaseCycle;
+import com.fissionworks.restalm.model.entity.management.ReleaseFolder;
+import com.fissionworks.restalm.model.entity.requirements.Requirement;
+import com.fissionworks.restalm.model.entity.requirements.RequirementCoverage;
+import com.fissionworks.restalm.model.entity.testlab.Run;
+import com.fissionworks.restalm.model.entity.testlab.TestInstance;
+import com.fissionworks.restalm.model.entity.testlab.TestSet;
+import com.fissionworks.restalm.model.entity.testlab.TestSetFolder;
+import com.fissionworks.restalm.model.entity.testplan.AlmTest;
+import com.fissionworks.restalm.model.entity.testplan.DesignStep;
+import com.fissionworks.restalm.model.entity.testplan.TestConfig;
+import com.fissionworks.restalm.model.entity.testplan.TestFolder;
+
+/**
+ * Synthetic entities and ALM payloads shared by the benchmarks; values are
+ * shaped like those ALM returns, including the HTML ALM stores for rich text
+ * fields.
+ */
+final class BenchmarkData {
+
+	static final String HTML_TEXT = "<html><body><div align=\"left\"><font face=\"Arial\">"
+			+ "<span style=\"font-size:8pt\">Verify that a user with an expired password is sent to the "
+			+ "reset&nbsp;page</span></font></div><div align=\"left\"><font face=\"Arial\">"
+			+ "<span style=\"font-size:8pt\">and that the old password is rejected &amp; logged</span></font></div>"
+			+ "</body></html>";
+
+	static final String PLAIN_TEXT = "Verify that a user with an expired password is sent to the reset page";
+
+	private BenchmarkData() {
+		throw new UnsupportedOperationException("BenchmarkData should not be instantiated");
+	}
+
+	/*
+	 * One fully populated entity of each type, keyed by simple class name.
+	 */
+	static Map<String, AlmEntity> createEntities() {
+		final Map<String, AlmEntity> entities = new LinkedHashMap<>();
+		entities.put(AlmTest.class.getSimpleName(), createTest(1001));
+		entities.put(Defect.class.getSimpleName(), createDefect());
+		entities.put(DesignStep.class.getSimpleName(), createDesignStep());
+		entities.put(Release.class.getSimpleName(), createRelease());
+		entities.put(ReleaseCycle.class.getSimpleName(), createReleaseCycle());
+		entities.put(ReleaseFolder.class.getSimpleName(), createReleaseFolder());
+		entities.put(Requirement.class.getSimpleName(), createRequirement());
+		entities.put(RequirementCoverage.class.getSimpleName(), createRequirementCoverage());
+		entities.put(Run.class.getSimpleName(), createRun());
+		entities.put(TestConfig.class.getSimpleName(), createTestConfig());
+		entities.put(TestFolder.class.getSimpleName(), createTestFolder());
+		entities.put(TestInstance.class.getSimpleName(), createTestInstance());
+		entities.put(TestSet.class.getSimpleName(), createTestSet());
+		entities.put(TestSetFolder.class.getSimpleName(), createTestSetFolder());
+		return entities;
+	}
+
+	/*
+	 * An Entities page of the given number of tests, as returned by ALM.
+	 */
+	static byte[] createEntityPage(final int entityCount) throws IOException {
+		final List<GenericEntity> entities = new ArrayList<>(entityCount);
+		for (int index = 0; index < entityCount; index++) {
+			entities.add(createTest(1000 + index).createEntity());
+		}
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		MarshallingUtils.writeEntities(outputMessage(body), entities);
+		return body.toByteArray();
+	}
+
+	static AlmTest createTest(final int id) {
+		final AlmTest test = new AlmTest();
+		test.setCreationDate("2015-06-12");
+		test.setDescription(HTML_TEXT);
+		test.setDesigner("jsmith");
+		test.setId(id);
+		test.setName("Expired password redirects to reset page " + id);
+		test.setParentId(42);
+		test.setStatus("Ready");
+		test.setType("MANUAL");
+		return test;
+	}
+
+	static HttpInputMessage inputMessage(final byte[] body) {
+		return new HttpInputMessage() {
+			@Override
+			public InputStream getBody() {
+				return new ByteArrayInputStream(body);
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return new HttpHeaders();
+			}
+		};
+	}
+
+	static HttpOutputMessage outputMessage(final OutputStream body) {
+		final HttpHeaders headers = new HttpHeaders();
+		return new HttpOutputMessage() {
+			@Override
+			public OutputStream getBody() {
+				return body;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+		};
+	}
+
+	private static Defect createDefect() {
+		final Defect defect = new Defect();
+		defect.setAssignedTo("jsmith");
+		defect.setClosingDate("2015-07-01");
+		defect.setComments(HTML_TEXT);
+		defect.setDescription(HTML_TEXT);
+		defect.setDetectedBy("mjones");
+		defect.setDetectedInReleaseCycleId(7);
+		defect.setDetectedInReleaseId(3);
+		defect.setDetectedOnDate("2015-06-20");
+		defect.setId(5001);
+		defect.setModified("2015-07-01 16:45:10");
+		defect.setSeverity("2-Medium");
+		defect.setStatus("Closed");
+		defect.setSummary("Reset page not shown for expired password");
+		return defect;
+	}
+
+	private static DesignStep createDesignStep() {
+		final DesignStep step = new DesignStep();
+		step.setDescription(HTML_TEXT);
+		step.setExpectedResult(HTML_TEXT);
+		step.setId(2001);
+		step.setName("Step 1");
+		step.setParentId(1001);
+		step.setStepOrder(1);
+		return step;
+	}
+
+	private static Release createRelease() {
+		final Release release = new Release();
+		release.setDescription(HTML_TEXT);
+		release.setEndDate("2015-12-31");
+		release.setId(3);
+		release.setName("Release 2015.2");
+		release.setParentId(1);
+		release.setStartDate("2015-07-01");
+		return release;
+	}
+
+	private static ReleaseCycle createReleaseCycle() {
+		final ReleaseCycle cycle = new ReleaseCycle();
+		cycle.setDescription(HTML_TEXT);
+		cycle.setEndDate("2015-08-31");
+		cycle.setId(7);
+		cycle.setName("Cycle 1");
+		cycle.setParentId(3);
+		cycle.setStartDate("2015-07-01");
+		return cycle;
+	}
+
+	private static ReleaseFolder createReleaseFolder() {
+		final ReleaseFolder folder = new ReleaseFolder();
+		folder.setDescription(HTML_TEXT);
+		folder.setId(1);
+		folder.setName("Releases");
+		folder.setParentId(0);
+		return folder;
+	}
+
+	private static Requirement createRequirement() {
+		final Requirement requirement = new Requirement();
+		requirement.setAuthor("mjones");
+		requirement.setComments(HTML_TEXT);
+		requirement.setCreationDate("2015-05-04");
+		requirement.setDescription(HTML_TEXT);
+		requirement.setDirectCoverStatus("Passed");
+		requirement.setFatherName("Authentication");
+		requirement.setId(301);
+		requirement.setLastModified("2015-06-02 09:15:00");
+		requirement.setName("Expired passwords must be reset");
+		requirement.setParentId(300);
+		requirement.setTypeId(3);
+		return requirement;
+	}
+
+	private static RequirementCoverage createRequirementCoverage() {
+		final RequirementCoverage coverage = new RequirementCoverage();
+		coverage.setCoverageEntityType("test");
+		coverage.setId(401);
+		coverage.setLastModified("2015-06-02 09:20:00");
+		coverage.setRequirementId(301);
+		coverage.setStatus("Passed");
+		coverage.setTestId(1001);
+		return coverage;
+	}
+
+	private static Run createRun() {
+		final Run run = new Run();
+		run.setComments(HTML_TEXT);
+		run.setHost("build-agent-07");
+		run.setId(9001);
+		run.setLastModified("2015-06-21 14:02:33");
+		run.setName("Run_6-21_14-2-33");
+		run.setOwner("jsmith");
+		run.setStatus("Passed");
+		run.setSubtype("hp.qc.run.MANUAL");
+		run.setTestConfigId(1101);
+		run.setTestId(1001);
+		run.setTestInstanceId(8001);
+		run.setTestSetId(601);
+		return run;
+	}
+
+	private static TestConfig createTestConfig() {
+		final TestConfig config = new TestConfig();
+		config.setCreatedBy("jsmith");
+		config.setCreationDate("2015-06-12");
+		config.setDataState(0);
+		config.setDescription(HTML_TEXT);
+		config.setId(1101);
+		config.setName("Expired password redirects to reset page");
+		config.setParentId(1001);
+		config.setTestName("Expired password redirects to reset page");
+		return config;
+	}
+
+	private static TestFolder createTestFolder() {
+		final TestFolder folder = new TestFolder();
+		folder.setDescription(HTML_TEXT);
+		folder.setId(42);
+		folder.setName("Authentication");
+		folder.setParentId(2);
+		return folder;
+	}
+
+	private static TestInstance createTestInstance() {
+		final TestInstance instance = new TestInstance();
+		instance.setId(8001);
+		instance.setLastModified("2015-06-21 14:05:12");
+		instance.setPlannedHost("build-agent-07");
+		instance.setResponsibleTester("jsmith");
+		instance.setStatus("Passed");
+		instance.setSubtype("hp.qc.test-instance.MANUAL");
+		instance.setTestConfigId(1101);
+		instance.setTestId(1001);
+		instance.setTestInstanceNumber(1);
+		instance.setTestOrder(1);
+		instance.setTestSetId(601);
+		return instance;
+	}
+
+	private static TestSet createTestSet() {
+		final TestSet testSet = new TestSet();
+		testSet.setDescription(HTML_TEXT);
+		testSet.setId(601);
+		testSet.setName("Authentication regression");
+		testSet.setParentId(501);
+		testSet.setSubtype("hp.qc.test-set.default");
+		return testSet;
+	}
+
+	private static TestSetFolder createTestSetFolder() {
+		final TestSetFolder folder = new TestSetFolder();
+		folder.setDescription(HTML_TEXT);
+		folder.setId(501);
+		folder.setName("Regression");
+		folder.setParentId(0);
+		return folder;
+	}
+
+}
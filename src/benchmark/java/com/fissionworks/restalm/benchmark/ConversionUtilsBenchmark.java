@@ -0,0 +1,61 @@
+package com.fissionworks.restalm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fissionworks.restalm.conversion.ConversionUtils;
+
+/**
+ * Measures stripping HTML from plain text, from a typical ALM rich text value
+ * and from a large rich text body.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionUtilsBenchmark {
+
+	private static final int LARGE_TEXT_LENGTH = 256 * 1024;
+
+	@Param({ "plain", "html", "largeHtml" })
+	public String text;
+
+	private String source;
+
+	@Benchmark
+	public String removeHtml() {
+		return ConversionUtils.removeHtml(source);
+	}
+
+	@Setup
+	public void setUp() {
+		switch (text) {
+		case "plain":
+			source = BenchmarkData.PLAIN_TEXT;
+			break;
+		case "html":
+			source = BenchmarkData.HTML_TEXT;
+			break;
+		default:
+			final StringBuilder builder = new StringBuilder(LARGE_TEXT_LENGTH + BenchmarkData.HTML_TEXT.length());
+			while (builder.length() < LARGE_TEXT_LENGTH) {
+				builder.append(BenchmarkData.HTML_TEXT);
+			}
+			source = builder.toString();
+		}
+	}
+
+}
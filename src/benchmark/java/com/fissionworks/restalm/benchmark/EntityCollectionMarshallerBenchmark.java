@@ -0,0 +1,50 @@
+package com.fissionworks.restalm.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fissionworks.restalm.conversion.marshalling.EntityCollectionMarshaller;
+import com.fissionworks.restalm.model.entity.base.GenericEntityCollection;
+
+/**
+ * Measures reading a page of entities, as returned by a collection request,
+ * into a {@link GenericEntityCollection}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityCollectionMarshallerBenchmark {
+
+	@Param({ "200", "1000" })
+	public int entityCount;
+
+	private final EntityCollectionMarshaller marshaller = new EntityCollectionMarshaller();
+
+	private byte[] page;
+
+	@Benchmark
+	public GenericEntityCollection read() throws IOException {
+		return marshaller.read(GenericEntityCollection.class, BenchmarkData.inputMessage(page));
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		page = BenchmarkData.createEntityPage(entityCount);
+	}
+
+}
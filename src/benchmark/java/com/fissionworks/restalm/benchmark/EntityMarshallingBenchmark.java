@@ -0,0 +1,70 @@
+package com.fissionworks.restalm.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+
+import com.fissionworks.restalm.conversion.marshalling.EntityMarshaller;
+import com.fissionworks.restalm.conversion.marshalling.MarshallingUtils;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.thoughtworks.xstream.io.naming.NoNameCoder;
+import com.thoughtworks.xstream.io.xml.CompactWriter;
+
+/**
+ * Measures converting a single entity between its ALM XML and a
+ * {@link GenericEntity}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMarshallingBenchmark {
+
+	private GenericEntity entity;
+
+	private byte[] entityXml;
+
+	private final EntityMarshaller marshaller = new EntityMarshaller();
+
+	private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+	@Benchmark
+	public GenericEntity read() throws IOException {
+		return marshaller.read(GenericEntity.class, BenchmarkData.inputMessage(entityXml));
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		entity = BenchmarkData.createTest(1001).createEntity();
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final OutputStreamWriter writer = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+		MarshallingUtils.writeEntity(new CompactWriter(writer, new NoNameCoder()), entity);
+		writer.flush();
+		entityXml = new String(body.toByteArray(), StandardCharsets.UTF_8)
+				.replace("</Entity>", "<RelatedEntities/></Entity>").getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public int write() throws IOException {
+		output.reset();
+		marshaller.write(entity, MediaType.APPLICATION_XML, BenchmarkData.outputMessage(output));
+		return output.size();
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks of the marshalling, entity population and conversion hot
+ * paths; built and run only with the {@code benchmark} Maven profile.
+ */
+package com.fissionworks.restalm.benchmark;
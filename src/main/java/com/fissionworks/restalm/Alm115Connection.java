@@ -1,67 +1,110 @@
 package com.fissionworks.restalm;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.fissionworks.restalm.constants.ServiceUrl;
-import com.fissionworks.restalm.constants.field.AlmTestField;
-import com.fissionworks.restalm.constants.field.DesignStepField;
 import com.fissionworks.restalm.constants.field.FieldName;
-import com.fissionworks.restalm.constants.field.ReleaseCycleField;
-import com.fissionworks.restalm.constants.field.ReleaseField;
-import com.fissionworks.restalm.constants.field.ReleaseFolderField;
-import com.fissionworks.restalm.constants.field.RequirementField;
-import com.fissionworks.restalm.constants.field.TestFolderField;
 import com.fissionworks.restalm.conversion.error.AlmResponseErrorHandler;
 import com.fissionworks.restalm.conversion.marshalling.EntityCollectionMarshaller;
 import com.fissionworks.restalm.conversion.marshalling.EntityFieldCollectionMarshaller;
 import com.fissionworks.restalm.conversion.marshalling.EntityMarshaller;
+import com.fissionworks.restalm.conversion.marshalling.MarshallingUtils;
 import com.fissionworks.restalm.conversion.marshalling.SiteMarshaller;
+import com.fissionworks.restalm.conversion.marshalling.StreamingEntityParser;
 import com.fissionworks.restalm.exceptions.AlmRestException;
 import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.http.FlightRecorderInterceptor;
 import com.fissionworks.restalm.http.HttpHeaderManager;
+import com.fissionworks.restalm.http.MetricsInterceptor;
+import com.fissionworks.restalm.http.PooledClientHttpRequestFactory;
+import com.fissionworks.restalm.jfr.FlightRecorderEvents;
+import com.fissionworks.restalm.metrics.AlmMetrics;
 import com.fissionworks.restalm.model.authentication.Credentials;
 import com.fissionworks.restalm.model.customization.EntityFieldCollection;
 import com.fissionworks.restalm.model.entity.AlmEntity;
 import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+import com.fissionworks.restalm.model.entity.BulkResult;
 import com.fissionworks.restalm.model.entity.base.GenericEntity;
 import com.fissionworks.restalm.model.entity.base.GenericEntityCollection;
-import com.fissionworks.restalm.model.entity.management.Release;
-import com.fissionworks.restalm.model.entity.management.ReleaseCycle;
-import com.fissionworks.restalm.model.entity.management.ReleaseFolder;
-import com.fissionworks.restalm.model.entity.requirements.Requirement;
-import com.fissionworks.restalm.model.entity.testplan.AlmTest;
-import com.fissionworks.restalm.model.entity.testplan.DesignStep;
-import com.fissionworks.restalm.model.entity.testplan.TestFolder;
 import com.fissionworks.restalm.model.site.Project;
 import com.fissionworks.restalm.model.site.Site;
 
 /**
  * An implementation of the {@link ApplicationLifecycleManagement} interface
- * that is compatible with ALM 11.5. This implementation is NOT thread safe.
+ * that is compatible with ALM 11.5. This implementation is thread safe; once
+ * authenticated and logged in, a single instance (and therefore a single ALM
+ * session) may be shared by any number of threads. The session lifecycle
+ * methods ({@link #authenticate(Credentials)}, {@link #login(Project)} and
+ * {@link #logout()}) are not intended to be called while other threads are
+ * still using the connection.
+ * <p>
+ * Connections created with {@link #Alm115Connection(String)} use a plain
+ * {@code HttpURLConnection} based transport; use {@link Builder} to create a
+ * connection with a pooled keep-alive transport, timeouts, or a custom
+ * {@link ClientHttpRequestFactory}.
+ * <p>
+ * Once authenticated, requests, response parsing and entity population are
+ * reported as Java Flight Recorder events when a recording enables them; see
+ * {@link FlightRecorderEvents}.
  *
  * @since 1.0.0
  *
  */
-public final class Alm115Connection implements ApplicationLifecycleManagement {
+public final class Alm115Connection implements ApplicationLifecycleManagement, Closeable {
 
+	private static final String ID_FIELD = "id";
 	private static final Logger LOGGER = LoggerFactory.getLogger(Alm115Connection.class);
-	private Project currentProject;
-	private final Map<Class<?>, EntityFieldCollection> entityFieldMap = new HashMap<>();
+	private static final int MAX_DELETE_ID_LENGTH = 2000;
+	private final int batchSize;
+	private volatile Project currentProject;
+	private final int deleteParallelism;
+	private final EntityCache entityCache;
+	private final Map<Class<?>, EntityFieldCollection> entityFieldMap = new ConcurrentHashMap<>();
+	private final FieldMetadataStore fieldMetadataStore;
+	private final AlmMetrics metrics;
+	private final ClientHttpRequestFactory ownedRequestFactory;
 	private final RestTemplate rest;
-	private Site site;
+	private volatile Site site;
 	private final String url;
+	private final int warmUpParallelism;
 
 	/**
 	 * Constructs an connection that allows communication with the provided URL.
@@ -77,11 +120,72 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	 * @since 1.0.0
 	 */
 	public Alm115Connection(final String theUrl) {
-		Validate.notBlank(theUrl, "The URL cannot be null or blank");
-		this.url = theUrl;
-		this.rest = new RestTemplate();
+		this(new Builder(theUrl), new SimpleClientHttpRequestFactory(), null);
+	}
+
+	private Alm115Connection(final Builder builder, final ClientHttpRequestFactory requestFactory,
+			final ClientHttpRequestFactory theOwnedRequestFactory) {
+		this.url = builder.url;
+		this.batchSize = builder.batchSize;
+		this.deleteParallelism = builder.deleteParallelism;
+		this.entityCache = builder.entityCache;
+		this.fieldMetadataStore = builder.fieldMetadataStore;
+		this.warmUpParallelism = builder.warmUpParallelism;
+		this.metrics = builder.metrics;
+		this.ownedRequestFactory = theOwnedRequestFactory;
+		this.rest = new RestTemplate(requestFactory);
 		rest.setMessageConverters(getMessageConverters());
 		rest.setErrorHandler(new AlmResponseErrorHandler());
+		if (metrics != null) {
+			final List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+			interceptors.add(new MetricsInterceptor(metrics));
+			rest.setInterceptors(interceptors);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}; Entities are sent in batches of at most the batch size
+	 * set with {@link Builder#batchSize(int)} (100 by default), with entities
+	 * of different collection types sent in separate batches. ALM processes a
+	 * batch as a single transaction; if a batch is rejected, its entities are
+	 * added one at a time so that only the entities ALM actually rejects are
+	 * reported as failures. If a batch fails without a response from ALM (e.g.
+	 * a read timeout), ALM may still have added it, so its entities are not
+	 * resent but are all reported as failures.
+	 *
+	 * @throws NullPointerException
+	 *             thrown if the collection of entities is null.
+	 * @throws IllegalArgumentException
+	 *             thrown if the collection of entities contains null entities.
+	 * @throws IllegalStateException
+	 *             thrown if ALM does not return one entity for each entity of
+	 *             an accepted batch.
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> BulkResult<T> addEntities(final Collection<T> resourceEntities) {
+		Validate.notNull(resourceEntities, "resourceEntities cannot be null");
+		Validate.noNullElements(resourceEntities, "resourceEntities cannot contain null entities");
+		final Project project = this.currentProject;
+		final List<T> entities = new ArrayList<>(resourceEntities);
+		final List<GenericEntity> genericEntities = new ArrayList<>(entities.size());
+		final List<T> addedEntities = new ArrayList<>(entities.size());
+		final BulkResult<T> result = new BulkResult<>();
+		for (int index = 0; index < entities.size(); index++) {
+			final T entity = entities.get(index);
+			try {
+				genericEntities.add(createEntityForAdd(entity));
+				addedEntities.add(createEntity(entity));
+			} catch (final IllegalArgumentException exception) {
+				genericEntities.add(null);
+				addedEntities.add(null);
+				result.addFailure(index, entity, exception);
+			}
+		}
+		for (final List<Integer> batch : createBatches(entities, genericEntities)) {
+			addBatch(project, entities, genericEntities, addedEntities, batch, result);
+		}
+		return result;
 	}
 
 	/**
@@ -90,13 +194,12 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	@Override
 	public <T extends AlmEntity> T addEntity(final T resourceEntity) {
 		Validate.notNull(resourceEntity, "resource entity cannot be null");
+		final Project project = this.currentProject;
 		final GenericEntity entity = createEntityForAdd(resourceEntity);
-
-		// no need to check since resourceEntity is known to be of type T
-		@SuppressWarnings("unchecked")
-		final T addedEntity = (T) this.createEntity(resourceEntity.getClass());
+		final T addedEntity = createEntity(resourceEntity);
 		addedEntity.populateFields(rest.postForObject(ServiceUrl.ADD_ENTITY_URL.url(), entity, GenericEntity.class, url,
-				currentProject.getDomain(), currentProject.getProjectName(), resourceEntity.getEntityCollectionType()));
+				project.getDomain(), project.getProjectName(), resourceEntity.getEntityCollectionType()));
+		recordEntitiesParsed(resourceEntity.getEntityType(), 1);
 		return addedEntity;
 	}
 
@@ -113,7 +216,7 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 					"Already authenticated by ALM; logout before calling authenticate with new credentials");
 		}
 
-		final List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+		final List<ClientHttpRequestInterceptor> interceptors = createInterceptors();
 		interceptors.add(new HttpHeaderManager(theCredentials));
 		rest.setInterceptors(interceptors);
 		rest.headForHeaders(ServiceUrl.AUTHENTICATE.url(), url);
@@ -121,6 +224,89 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	}
 
 	/**
+	 * Releases the pooled HTTP connections created by {@link Builder}; has no
+	 * effect for connections using a plain or caller supplied transport. The
+	 * connection should not be used after it has been closed.
+	 *
+	 * @since 1.0.0
+	 */
+	@Override
+	public void close() {
+		if (ownedRequestFactory instanceof DisposableBean) {
+			try {
+				((DisposableBean) ownedRequestFactory).destroy();
+			} catch (final Exception exception) {
+				LOGGER.warn("Error releasing pooled HTTP connections", exception);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}; Ids are deleted in chunks of at most the batch size set
+	 * with {@link Builder#batchSize(int)} (100 by default), further limited so
+	 * that the id list of a single request never exceeds 2000 characters.
+	 * Chunks are deleted concurrently when a parallelism greater than one has
+	 * been set with {@link Builder#deleteParallelism(int)}. If ALM rejects a
+	 * chunk, its ids are deleted one at a time so that only the ids ALM
+	 * actually rejects are reported as failures.
+	 *
+	 * @throws NullPointerException
+	 *             thrown if the entity class or id list are null.
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> BulkResult<Integer> deleteEntities(final Class<T> entityClass, final int... ids) {
+		Validate.notNull(entityClass, "entity class must not be null");
+		Validate.notNull(ids, "id list must not be null");
+		final Project project = this.currentProject;
+		final String collectionType = getCollectionType(entityClass);
+		final List<int[]> chunks = createDeleteChunks(ids);
+		final List<BulkResult<Integer>> chunkResults = new ArrayList<>(chunks.size());
+		try {
+			if ((deleteParallelism == 1) || (chunks.size() < 2)) {
+				for (final int[] chunk : chunks) {
+					chunkResults.add(deleteChunk(project, collectionType, ids, chunk[0], chunk[1]));
+				}
+			} else {
+				final ExecutorService executor = Executors
+						.newFixedThreadPool(Math.min(deleteParallelism, chunks.size()));
+				try {
+					final List<Future<BulkResult<Integer>>> futures = new ArrayList<>(chunks.size());
+					for (final int[] chunk : chunks) {
+						futures.add(executor.submit(new Callable<BulkResult<Integer>>() {
+							@Override
+							public BulkResult<Integer> call() {
+								return deleteChunk(project, collectionType, ids, chunk[0], chunk[1]);
+							}
+						}));
+					}
+					for (final Future<BulkResult<Integer>> future : futures) {
+						chunkResults.add(awaitResult(future));
+					}
+				} finally {
+					executor.shutdownNow();
+				}
+			}
+		} finally {
+			invalidateCachedEntities(project, collectionType, ids);
+		}
+		final BulkResult<Integer> result = new BulkResult<>();
+		for (final BulkResult<Integer> chunkResult : chunkResults) {
+			for (final Integer id : chunkResult.getSuccesses()) {
+				result.addSuccess(id);
+			}
+			for (final BulkResult.Failure<Integer> failure : chunkResult.getFailures()) {
+				result.addFailure(failure.getIndex(), failure.getItem(), failure.getCause());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}; Large id lists are split into several requests as
+	 * described for {@link #deleteEntities(Class, int...)}; chunks are deleted
+	 * one after the other, stopping at the first chunk ALM rejects.
+	 *
 	 * @since 1.0.0
 	 */
 	@Override
@@ -129,11 +315,72 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 		Validate.notNull(id, "id list must not be null");
 		Validate.isTrue(id.length > 0, "At least one id to delete must be provided");
 
-		rest.delete(ServiceUrl.BULK_DELETE_URL.url(), url, currentProject.getDomain(), currentProject.getProjectName(),
-				createEntity(entityClass).getEntityCollectionType(), createCommaSeparatedIdString(id));
+		final Project project = this.currentProject;
+		final String collectionType = getCollectionType(entityClass);
+		try {
+			for (final int[] chunk : createDeleteChunks(id)) {
+				rest.delete(ServiceUrl.BULK_DELETE_URL.url(), url, project.getDomain(), project.getProjectName(),
+						collectionType, createCommaSeparatedIdString(Arrays.copyOfRange(id, chunk[0], chunk[1])));
+			}
+		} finally {
+			invalidateCachedEntities(project, collectionType, id);
+		}
+	}
+
+	/**
+	 * @throws NullPointerException
+	 *             thrown if the entity class or query parameters are null.
+	 * @throws IllegalArgumentException
+	 *             thrown if parallelism is less than one.
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> AlmEntityCollection<T> getAllEntities(final Class<T> entityClass,
+			final RestParameters queryParameters, final int parallelism) {
+		Validate.notNull(entityClass, "entityClass cannot be null");
+		Validate.notNull(queryParameters, "queryParameters cannot be null");
+		Validate.isTrue(parallelism > 0, "parallelism must be greater than zero");
+		final int pageSize = queryParameters.getPageSize();
+		final AlmEntityCollection<T> firstPage = getEntityPage(entityClass, queryParameters,
+				queryParameters.getStartIndex());
+		final int totalResults = firstPage.getTotalResults();
+		final AlmEntityCollection<T> entities = new AlmEntityCollection<>(totalResults);
+		for (final T entity : firstPage) {
+			entities.addEntity(entity);
+		}
+		final int firstRemainingIndex = queryParameters.getStartIndex() + pageSize;
+		if (firstRemainingIndex > totalResults) {
+			return entities;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			final List<Future<AlmEntityCollection<T>>> pages = new ArrayList<>();
+			for (int startIndex = firstRemainingIndex; startIndex <= totalResults; startIndex += pageSize) {
+				final int pageStartIndex = startIndex;
+				pages.add(executor.submit(new Callable<AlmEntityCollection<T>>() {
+					@Override
+					public AlmEntityCollection<T> call() {
+						return getEntityPage(entityClass, queryParameters, pageStartIndex);
+					}
+				}));
+			}
+			for (final Future<AlmEntityCollection<T>> page : pages) {
+				for (final T entity : awaitResult(page)) {
+					entities.addEntity(entity);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return entities;
 	}
 
 	/**
+	 * {@inheritDoc}; If the connection was built with an {@link EntityCache},
+	 * the entity is served from the cache when present and added to it when
+	 * retrieved from ALM.
+	 *
 	 * @throws NullPointerException
 	 *             thrown if entity class is null.
 	 * @throws IllegalArgumentException
@@ -144,10 +391,20 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	public <T extends AlmEntity> T getEnityById(final Class<T> entityClass, final int id) {
 		Validate.notNull(entityClass, "entityClass cannot be null");
 		Validate.isTrue(id >= 0, "id cannot be negative");
+		final Project project = this.currentProject;
 		final T entity = createEntity(entityClass);
-		entity.populateFields(rest.getForObject(ServiceUrl.ENTITY_BY_ID.url(), GenericEntity.class, this.url,
-				this.currentProject.getDomain(), this.currentProject.getProjectName(), entity.getEntityCollectionType(),
-				id));
+		final String collectionType = entity.getEntityCollectionType();
+		final long cacheGeneration = entityCache == null ? 0 : entityCache.getGeneration();
+		GenericEntity genericEntity = entityCache == null ? null : entityCache.get(project, collectionType, id);
+		if (genericEntity == null) {
+			genericEntity = rest.getForObject(ServiceUrl.ENTITY_BY_ID.url(), GenericEntity.class, this.url,
+					project.getDomain(), project.getProjectName(), collectionType, id);
+			recordEntitiesParsed(entity.getEntityType(), 1);
+			if (entityCache != null) {
+				entityCache.put(project, collectionType, id, genericEntity, cacheGeneration);
+			}
+		}
+		entity.populateFields(genericEntity);
 		return entity;
 	}
 
@@ -157,12 +414,16 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	@Override
 	public <T extends AlmEntity> EntityFieldCollection getEnityFields(final Class<T> entityClass) {
 		Validate.notNull(entityClass, "entityClass cannot be null");
-		if (this.entityFieldMap.containsKey(entityClass)) {
-			return entityFieldMap.get(entityClass);
+		final EntityFieldCollection cachedFields = entityFieldMap.get(entityClass);
+		if (cachedFields != null) {
+			return cachedFields;
 		}
-		entityFieldMap.put(entityClass, getCorrectedEntityFields(entityClass));
-
-		return entityFieldMap.get(entityClass);
+		// the lookup is performed outside of the map so that concurrent
+		// callers never block on each other's HTTP round-trip; if two threads
+		// race, the first collection stored wins and is shared by both.
+		final EntityFieldCollection retrievedFields = getCorrectedEntityFields(entityClass);
+		final EntityFieldCollection existingFields = entityFieldMap.putIfAbsent(entityClass, retrievedFields);
+		return existingFields == null ? retrievedFields : existingFields;
 	}
 
 	/**
@@ -172,17 +433,45 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	public <T extends AlmEntity> AlmEntityCollection<T> getEntities(final Class<T> entityClass,
 			final RestParameters queryParameters) {
 		Validate.notNull(entityClass, "entityClass cannot be null");
-		final GenericEntityCollection genericEntities = rest.getForObject(ServiceUrl.GET_ENTITY_COLLECTION.url(),
-				GenericEntityCollection.class, url, currentProject.getDomain(), currentProject.getProjectName(),
-				createEntity(entityClass).getEntityCollectionType(), queryParameters.getFields(),
+		return getEntityPage(entityClass, queryParameters, queryParameters.getStartIndex());
+	}
+
+	/**
+	 * @throws NullPointerException
+	 *             thrown if the entity class, query parameters or consumer are
+	 *             null.
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> int getEntities(final Class<T> entityClass, final RestParameters queryParameters,
+			final Consumer<? super T> consumer) {
+		Validate.notNull(entityClass, "entityClass cannot be null");
+		Validate.notNull(queryParameters, "queryParameters cannot be null");
+		Validate.notNull(consumer, "consumer cannot be null");
+		final Project project = this.currentProject;
+		final AtomicInteger parsedCount = new AtomicInteger();
+		final Consumer<GenericEntity> entityConsumer = new Consumer<GenericEntity>() {
+			@Override
+			public void accept(final GenericEntity genericEntity) {
+				parsedCount.incrementAndGet();
+				final T entity = createEntity(entityClass);
+				entity.populateFields(genericEntity);
+				consumer.accept(entity);
+			}
+		};
+		return rest.execute(ServiceUrl.GET_ENTITY_COLLECTION.url(), HttpMethod.GET, null,
+				new ResponseExtractor<Integer>() {
+					@Override
+					public Integer extractData(final ClientHttpResponse response) throws IOException {
+						try {
+							return StreamingEntityParser.parseEntities(response.getBody(), entityConsumer);
+						} finally {
+							recordEntitiesParsed(getEntityType(entityClass), parsedCount.get());
+						}
+					}
+				}, url, project.getDomain(), project.getProjectName(),
+				getCollectionType(entityClass), queryParameters.getFields(),
 				queryParameters.getQueryStatements(), queryParameters.getPageSize(), queryParameters.getStartIndex());
-		final AlmEntityCollection<T> entities = new AlmEntityCollection<>(genericEntities.getTotalResults());
-		for (final GenericEntity genericEntity : genericEntities) {
-			final T entity = createEntity(entityClass);
-			entity.populateFields(genericEntity);
-			entities.addEntity(entity);
-		}
-		return entities;
 	}
 
 	/**
@@ -219,6 +508,10 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	}
 
 	/**
+	 * {@inheritDoc}; If enabled with {@link Builder#warmUpEntityFields(int)},
+	 * the field metadata of every entity type is retrieved before this method
+	 * returns.
+	 *
 	 * @throws IllegalArgumentException
 	 *             Thrown if the {@link Project} does not exist in the site
 	 *             currently authenticated with.
@@ -229,6 +522,9 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 		Validate.isTrue(site.containsProject(project),
 				"Project does not exist/currently authenticated user does not have permissions for this project");
 		this.currentProject = project;
+		if (warmUpParallelism > 0) {
+			warmUpEntityFields();
+		}
 	}
 
 	/**
@@ -238,7 +534,99 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	public void logout() {
 		this.currentProject = null;
 		this.rest.headForHeaders(ServiceUrl.LOGOUT.url(), this.url);
-		this.rest.getInterceptors().clear();
+		// only the session headers are discarded; requests made after logging
+		// out are still measured and recorded.
+		final Iterator<ClientHttpRequestInterceptor> interceptors = this.rest.getInterceptors().iterator();
+		while (interceptors.hasNext()) {
+			if (interceptors.next() instanceof HttpHeaderManager) {
+				interceptors.remove();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}; Pages are retrieved on a daemon thread, one page ahead of
+	 * the caller.
+	 *
+	 * @throws NullPointerException
+	 *             thrown if the entity class or query parameters are null.
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> Stream<T> streamEntities(final Class<T> entityClass,
+			final RestParameters queryParameters) {
+		Validate.notNull(entityClass, "entityClass cannot be null");
+		Validate.notNull(queryParameters, "queryParameters cannot be null");
+		final PagedEntityIterator<T> iterator = new PagedEntityIterator<>(new IntFunction<AlmEntityCollection<T>>() {
+			@Override
+			public AlmEntityCollection<T> apply(final int startIndex) {
+				return getEntityPage(entityClass, queryParameters, startIndex);
+			}
+		}, queryParameters.getPageSize(), queryParameters.getStartIndex());
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(new Runnable() {
+					@Override
+					public void run() {
+						iterator.close();
+					}
+				});
+	}
+
+	/**
+	 * {@inheritDoc}; Entities are sent in batches of at most the batch size
+	 * set with {@link Builder#batchSize(int)} (100 by default), with entities
+	 * of different collection types sent in separate batches. If a batch is
+	 * rejected, its entities are updated one at a time so that only the
+	 * entities ALM actually rejects are reported as failures; if it fails
+	 * without a response from ALM, its entities are all reported as failures.
+	 *
+	 * @throws NullPointerException
+	 *             thrown if the collection of entities or the field names are
+	 *             null.
+	 * @throws IllegalArgumentException
+	 *             thrown if the collection of entities contains null entities.
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> BulkResult<T> updateEntities(final Collection<T> almEntities,
+			final FieldName... fieldNames) {
+		Validate.notNull(almEntities, "almEntities cannot be null");
+		Validate.noNullElements(almEntities, "almEntities cannot contain null entities");
+		Validate.notNull(fieldNames, "fieldNames cannot be null");
+		final Project project = this.currentProject;
+		final List<T> entities = new ArrayList<>(almEntities);
+		final List<GenericEntity> genericEntities = new ArrayList<>(entities.size());
+		final BulkResult<T> result = new BulkResult<>();
+		for (int index = 0; index < entities.size(); index++) {
+			final T entity = entities.get(index);
+			try {
+				Validate.isTrue(entity.getId() >= 0, "entity must have an ID set to be updated");
+				final GenericEntity genericEntity;
+				if (fieldNames.length > 0) {
+					verifyFieldsAreEditable(entity, fieldNames);
+					genericEntity = createEntityForUpdate(entity);
+					genericEntity.removeExtraFields(Arrays.asList(fieldNames));
+				} else {
+					genericEntity = createEntityForUpdate(entity);
+				}
+				genericEntities.add(genericEntity);
+			} catch (final IllegalArgumentException exception) {
+				genericEntities.add(null);
+				result.addFailure(index, entity, exception);
+			}
+		}
+		for (final List<Integer> batch : createBatches(entities, genericEntities)) {
+			try {
+				updateBatch(project, entities, genericEntities, batch, result);
+			} finally {
+				for (final int index : batch) {
+					invalidateCachedEntities(project, entities.get(index).getEntityCollectionType(),
+							entities.get(index).getId());
+				}
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -248,9 +636,14 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	public void updateEntity(final AlmEntity almEntity) {
 		Validate.notNull(almEntity, "Entity must not be null");
 		Validate.isTrue(almEntity.getId() >= 0, "entity must have an ID set to be updated");
+		final Project project = this.currentProject;
 		final GenericEntity entity = createEntityForUpdate(almEntity);
-		this.rest.put(ServiceUrl.ENTITY_BY_ID.url(), entity, this.url, this.currentProject.getDomain(),
-				this.currentProject.getProjectName(), almEntity.getEntityCollectionType(), almEntity.getId());
+		try {
+			this.rest.put(ServiceUrl.ENTITY_BY_ID.url(), entity, this.url, project.getDomain(),
+					project.getProjectName(), almEntity.getEntityCollectionType(), almEntity.getId());
+		} finally {
+			invalidateCachedEntities(project, almEntity.getEntityCollectionType(), almEntity.getId());
+		}
 	}
 
 	/**
@@ -264,10 +657,115 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 		Validate.isTrue(fieldNames.length > 0);
 		verifyFieldsAreEditable(almEntity, fieldNames);
 
+		final Project project = this.currentProject;
 		final GenericEntity entity = this.createEntityForUpdate(almEntity);
 		entity.removeExtraFields(Arrays.asList(fieldNames));
-		this.rest.put(ServiceUrl.ENTITY_BY_ID.url(), entity, this.url, this.currentProject.getDomain(),
-				this.currentProject.getProjectName(), almEntity.getEntityCollectionType(), almEntity.getId());
+		try {
+			this.rest.put(ServiceUrl.ENTITY_BY_ID.url(), entity, this.url, project.getDomain(),
+					project.getProjectName(), almEntity.getEntityCollectionType(), almEntity.getId());
+		} finally {
+			invalidateCachedEntities(project, almEntity.getEntityCollectionType(), almEntity.getId());
+		}
+	}
+
+	private <T extends AlmEntity> void addBatch(final Project project, final List<T> entities,
+			final List<GenericEntity> genericEntities, final List<T> addedEntities, final List<Integer> batch,
+			final BulkResult<T> result) {
+		final String collectionType = entities.get(batch.get(0)).getEntityCollectionType();
+		if (batch.size() > 1) {
+			final List<GenericEntity> batchEntities = new ArrayList<>(batch.size());
+			for (final int index : batch) {
+				batchEntities.add(genericEntities.get(index));
+			}
+			List<GenericEntity> returnedEntities = null;
+			try {
+				returnedEntities = sendEntities(HttpMethod.POST, ServiceUrl.ADD_ENTITY_URL, project, collectionType,
+						batchEntities);
+			} catch (final AlmRestException exception) {
+				LOGGER.warn("Bulk add of " + batch.size() + " " + collectionType
+						+ " rejected; adding entities individually: " + exception.getMessage());
+			} catch (final RestClientException exception) {
+				// ALM may have added the batch before the transport failed, so
+				// resending its entities could add them twice.
+				addFailures(entities, batch, result, exception);
+				return;
+			}
+			if (returnedEntities != null) {
+				Validate.validState(returnedEntities.size() == batch.size(),
+						"ALM returned %d entities for a bulk add of %d entities", returnedEntities.size(),
+						batch.size());
+				final Object populateEvent = FlightRecorderEvents.beginPopulateFields();
+				for (int i = 0; i < batch.size(); i++) {
+					final T addedEntity = addedEntities.get(batch.get(i));
+					addedEntity.populateFields(returnedEntities.get(i));
+					result.addSuccess(addedEntity);
+				}
+				FlightRecorderEvents.commitPopulateFields(populateEvent, returnedEntities.get(0).getType(),
+						batch.size());
+				return;
+			}
+		}
+		for (final int index : batch) {
+			try {
+				final T addedEntity = addedEntities.get(index);
+				addedEntity.populateFields(rest.postForObject(ServiceUrl.ADD_ENTITY_URL.url(),
+						genericEntities.get(index), GenericEntity.class, url, project.getDomain(),
+						project.getProjectName(), collectionType));
+				recordEntitiesParsed(addedEntity.getEntityType(), 1);
+				result.addSuccess(addedEntity);
+			} catch (final AlmRestException | RestClientException exception) {
+				result.addFailure(index, entities.get(index), exception);
+			}
+		}
+	}
+
+	private <T extends AlmEntity> void addFailures(final List<T> entities, final List<Integer> batch,
+			final BulkResult<T> result, final RuntimeException cause) {
+		for (final int index : batch) {
+			result.addFailure(index, entities.get(index), cause);
+		}
+	}
+
+	private <V> V awaitResult(final Future<V> future) {
+		try {
+			return future.get();
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a concurrent ALM request", exception);
+		} catch (final ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) exception.getCause();
+			}
+			throw new IllegalStateException("Error performing a concurrent ALM request", exception.getCause());
+		}
+	}
+
+	/*
+	 * Groups the indexes of the entities that were successfully prepared (have
+	 * a non-null generic entity) by collection type, and splits each group into
+	 * batches of at most batchSize entities.
+	 */
+	private <T extends AlmEntity> List<List<Integer>> createBatches(final List<T> entities,
+			final List<GenericEntity> genericEntities) {
+		final Map<String, List<Integer>> groups = new LinkedHashMap<>();
+		for (int index = 0; index < entities.size(); index++) {
+			if (genericEntities.get(index) != null) {
+				final String collectionType = entities.get(index).getEntityCollectionType();
+				List<Integer> group = groups.get(collectionType);
+				if (group == null) {
+					group = new ArrayList<>();
+					groups.put(collectionType, group);
+				}
+				group.add(index);
+			}
+		}
+		final List<List<Integer>> batches = new ArrayList<>();
+		for (final List<Integer> group : groups.values()) {
+			for (int from = 0; from < group.size(); from += batchSize) {
+				batches.add(group.subList(from, Math.min(from + batchSize, group.size())));
+			}
+		}
+		return batches;
 	}
 
 	private String createCommaSeparatedIdString(final int... id) {
@@ -280,13 +778,37 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 	}
 
 	private <T extends AlmEntity> T createEntity(final Class<T> entityClass) {
-		try {
-			return entityClass.newInstance();
-		} catch (InstantiationException | IllegalAccessException e) {
-			LOGGER.warn("Error creating resource entity; Resource entities must have default constructor");
+		return AlmEntityRegistry.forClass(entityClass).newEntity();
+	}
+
+	/*
+	 * Splits the ids into [from, to) ranges holding at most batchSize ids,
+	 * whose comma separated id list is at most MAX_DELETE_ID_LENGTH characters.
+	 */
+	private List<int[]> createDeleteChunks(final int... ids) {
+		final List<int[]> chunks = new ArrayList<>();
+		int from = 0;
+		int length = 0;
+		for (int index = 0; index < ids.length; index++) {
+			final int idLength = String.valueOf(ids[index]).length() + 1;
+			if ((index > from) && (((index - from) == batchSize) || ((length + idLength) > MAX_DELETE_ID_LENGTH))) {
+				chunks.add(new int[] { from, index });
+				from = index;
+				length = 0;
+			}
+			length += idLength;
 		}
-		throw new IllegalArgumentException(
-				"Error creating resource entity; Resource entities must have default constructor");
+		if (from < ids.length) {
+			chunks.add(new int[] { from, ids.length });
+		}
+		return chunks;
+	}
+
+	private <T extends AlmEntity> T createEntity(final T resourceEntity) {
+		// no need to check since resourceEntity is known to be of type T
+		@SuppressWarnings("unchecked")
+		final T entity = (T) this.createEntity(resourceEntity.getClass());
+		return entity;
 	}
 
 	private GenericEntity createEntityForAdd(final AlmEntity resourceEntity) {
@@ -304,39 +826,96 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 		return entity;
 	}
 
+	/*
+	 * The flight recorder interceptor is only installed when authenticating,
+	 * which wraps the transport for the session headers anyway; it does nothing
+	 * unless a recording enables its event.
+	 */
+	private List<ClientHttpRequestInterceptor> createInterceptors() {
+		final List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+		if (metrics != null) {
+			interceptors.add(new MetricsInterceptor(metrics));
+		}
+		if (FlightRecorderEvents.isAvailable()) {
+			interceptors.add(new FlightRecorderInterceptor());
+		}
+		return interceptors;
+	}
+
+	private BulkResult<Integer> deleteChunk(final Project project, final String collectionType, final int[] ids,
+			final int from, final int to) {
+		final BulkResult<Integer> result = new BulkResult<>();
+		if ((to - from) > 1) {
+			try {
+				rest.delete(ServiceUrl.BULK_DELETE_URL.url(), url, project.getDomain(), project.getProjectName(),
+						collectionType, createCommaSeparatedIdString(Arrays.copyOfRange(ids, from, to)));
+				for (int index = from; index < to; index++) {
+					result.addSuccess(ids[index]);
+				}
+				return result;
+			} catch (final AlmRestException | RestClientException exception) {
+				LOGGER.warn("Bulk delete of " + (to - from) + " " + collectionType
+						+ " rejected; deleting entities individually: " + exception.getMessage());
+			}
+		}
+		for (int index = from; index < to; index++) {
+			try {
+				rest.delete(ServiceUrl.BULK_DELETE_URL.url(), url, project.getDomain(), project.getProjectName(),
+						collectionType, String.valueOf(ids[index]));
+				result.addSuccess(ids[index]);
+			} catch (final AlmRestException | RestClientException exception) {
+				result.addFailure(index, ids[index], exception);
+			}
+		}
+		return result;
+	}
+
 	/*
 	 * Fixes field parameter values (editable, required, etc.) that ALM does not
 	 * correctly report.
 	 */
 	private <T extends AlmEntity> EntityFieldCollection getCorrectedEntityFields(final Class<T> entityClass) {
-		final EntityFieldCollection fields = rest.getForObject(ServiceUrl.GET_ENTITY_FIELDS.url(),
-				EntityFieldCollection.class, this.url, this.currentProject.getDomain(),
-				this.currentProject.getProjectName(), getEntityType(entityClass));
-		if (entityClass.equals(AlmTest.class)) {
-			fields.setEditable(AlmTestField.PARENT_ID.getName(), true);
-		} else if (entityClass.equals(TestFolder.class)) {
-			fields.setEditable(TestFolderField.PARENT_ID.getName(), true);
-		} else if (entityClass.equals(DesignStep.class)) {
-			fields.setRequired(DesignStepField.PARENT_ID.getName(), true);
-		} else if (entityClass.equals(ReleaseFolder.class)) {
-			fields.setEditable(ReleaseFolderField.PARENT_ID.getName(), true);
-		} else if (entityClass.equals(Release.class)) {
-			fields.setEditable(ReleaseField.PARENT_ID.getName(), true);
-		} else if (entityClass.equals(ReleaseCycle.class)) {
-			fields.setEditable(ReleaseCycleField.PARENT_ID.getName(), true);
-		} else if (entityClass.equals(Requirement.class)) {
-			fields.setEditable(RequirementField.PARENT_ID.getName(), true);
+		final Project project = this.currentProject;
+		final String entityType = getEntityType(entityClass);
+		EntityFieldCollection fields = fieldMetadataStore == null ? null
+				: fieldMetadataStore.load(url, project, entityType);
+		if (fields == null) {
+			fields = rest.getForObject(ServiceUrl.GET_ENTITY_FIELDS.url(), EntityFieldCollection.class, this.url,
+					project.getDomain(), project.getProjectName(), entityType);
+			if (fieldMetadataStore != null) {
+				fieldMetadataStore.save(url, project, entityType, fields);
+			}
 		}
+		AlmEntityRegistry.forClass(entityClass).correctFields(fields);
 		return fields;
 	}
 
-	private String getEntityType(final Class<? extends AlmEntity> entityClass) {
-		try {
-			return entityClass.newInstance().getEntityType();
-		} catch (InstantiationException | IllegalAccessException e) {
-			LOGGER.warn("Error retrieving resource entity; unable to determine collection type");
+	private String getCollectionType(final Class<? extends AlmEntity> entityClass) {
+		return AlmEntityRegistry.forClass(entityClass).getCollectionName();
+	}
+
+	private <T extends AlmEntity> AlmEntityCollection<T> getEntityPage(final Class<T> entityClass,
+			final RestParameters queryParameters, final int startIndex) {
+		final Project project = this.currentProject;
+		final GenericEntityCollection genericEntities = rest.getForObject(ServiceUrl.GET_ENTITY_COLLECTION.url(),
+				GenericEntityCollection.class, url, project.getDomain(), project.getProjectName(),
+				getCollectionType(entityClass), queryParameters.getFields(),
+				queryParameters.getQueryStatements(), queryParameters.getPageSize(), startIndex);
+		final String entityType = getEntityType(entityClass);
+		recordEntitiesParsed(entityType, genericEntities.size());
+		final AlmEntityCollection<T> entities = new AlmEntityCollection<>(genericEntities.getTotalResults());
+		final Object populateEvent = FlightRecorderEvents.beginPopulateFields();
+		for (final GenericEntity genericEntity : genericEntities) {
+			final T entity = createEntity(entityClass);
+			entity.populateFields(genericEntity);
+			entities.addEntity(entity);
 		}
-		throw new IllegalArgumentException("Error retrieving resource entity; unable to determine collection type");
+		FlightRecorderEvents.commitPopulateFields(populateEvent, entityType, genericEntities.size());
+		return entities;
+	}
+
+	private String getEntityType(final Class<? extends AlmEntity> entityClass) {
+		return AlmEntityRegistry.forClass(entityClass).getEntityName();
 	}
 
 	private List<HttpMessageConverter<?>> getMessageConverters() {
@@ -348,6 +927,84 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 		return converters;
 	}
 
+	private void invalidateCachedEntities(final Project project, final String collectionType, final int... ids) {
+		if (entityCache != null) {
+			entityCache.invalidate(project, collectionType, ids);
+		}
+	}
+
+	/*
+	 * Sends the given entities as a single collection payload and returns the
+	 * entities ALM responds with, in response order.
+	 */
+	private List<GenericEntity> sendEntities(final HttpMethod method, final ServiceUrl serviceUrl,
+			final Project project, final String collectionType, final List<GenericEntity> entities) {
+		return rest.execute(serviceUrl.url(), method, new RequestCallback() {
+			@Override
+			public void doWithRequest(final ClientHttpRequest request) throws IOException {
+				MarshallingUtils.writeEntities(request, entities);
+			}
+		}, new ResponseExtractor<List<GenericEntity>>() {
+			@Override
+			public List<GenericEntity> extractData(final ClientHttpResponse response) throws IOException {
+				final List<GenericEntity> returnedEntities = new ArrayList<>(entities.size());
+				StreamingEntityParser.parseEntities(response.getBody(), new Consumer<GenericEntity>() {
+					@Override
+					public void accept(final GenericEntity entity) {
+						returnedEntities.add(entity);
+					}
+				});
+				recordEntitiesParsed(entities.get(0).getType(), returnedEntities.size());
+				return returnedEntities;
+			}
+		}, url, project.getDomain(), project.getProjectName(), collectionType);
+	}
+
+	private void recordEntitiesParsed(final String entityType, final int count) {
+		if (metrics != null) {
+			metrics.recordEntitiesParsed(entityType, count);
+		}
+	}
+
+	private <T extends AlmEntity> void updateBatch(final Project project, final List<T> entities,
+			final List<GenericEntity> genericEntities, final List<Integer> batch, final BulkResult<T> result) {
+		final String collectionType = entities.get(batch.get(0)).getEntityCollectionType();
+		if (batch.size() > 1) {
+			// the id is part of the URL for single updates, but must be part of
+			// each entity of a collection payload; it matches the URL should
+			// the entities have to be updated individually.
+			final List<GenericEntity> batchEntities = new ArrayList<>(batch.size());
+			for (final int index : batch) {
+				final GenericEntity genericEntity = genericEntities.get(index);
+				genericEntity.setFieldValue(ID_FIELD, String.valueOf(entities.get(index).getId()));
+				batchEntities.add(genericEntity);
+			}
+			try {
+				sendEntities(HttpMethod.PUT, ServiceUrl.BULK_UPDATE_URL, project, collectionType, batchEntities);
+				for (final int index : batch) {
+					result.addSuccess(entities.get(index));
+				}
+				return;
+			} catch (final AlmRestException exception) {
+				LOGGER.warn("Bulk update of " + batch.size() + " " + collectionType
+						+ " rejected; updating entities individually: " + exception.getMessage());
+			} catch (final RestClientException exception) {
+				addFailures(entities, batch, result, exception);
+				return;
+			}
+		}
+		for (final int index : batch) {
+			final T entity = entities.get(index);
+			try {
+				rest.put(ServiceUrl.ENTITY_BY_ID.url(), genericEntities.get(index), url, project.getDomain(),
+						project.getProjectName(), collectionType, entity.getId());
+				result.addSuccess(entity);
+			} catch (final AlmRestException | RestClientException exception) {
+				result.addFailure(index, entity, exception);
+			}
+		}
+	}
+
 	private void verifyFieldsAreEditable(final AlmEntity almEntity, final FieldName... fieldNames) {
 		final EntityFieldCollection entityFields = this.getEnityFields(almEntity.getClass());
 		for (final FieldName fieldName : fieldNames) {
@@ -356,4 +1013,371 @@ public final class Alm115Connection implements ApplicationLifecycleManagement {
 		}
 	}
 
+	/*
+	 * Retrieves (and corrects) the fields of every entity class concurrently,
+	 * replacing any fields retrieved for a previous project; entity classes
+	 * whose fields cannot be retrieved are logged and left to be retrieved on
+	 * first use.
+	 */
+	private void warmUpEntityFields() {
+		final List<Class<? extends AlmEntity>> entityClasses = AlmEntityRegistry.getEntityClasses();
+		final ExecutorService executor = Executors
+				.newFixedThreadPool(Math.min(warmUpParallelism, entityClasses.size()));
+		try {
+			final List<Future<?>> futures = new ArrayList<>(entityClasses.size());
+			for (final Class<? extends AlmEntity> entityClass : entityClasses) {
+				futures.add(executor.submit(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							entityFieldMap.put(entityClass, getCorrectedEntityFields(entityClass));
+						} catch (final AlmRestException | RestClientException | IllegalArgumentException exception) {
+							LOGGER.warn("Unable to warm up fields of " + entityClass.getSimpleName() + ": "
+									+ exception.getMessage());
+						}
+					}
+				}));
+			}
+			for (final Future<?> future : futures) {
+				awaitResult(future);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Builder for {@link Alm115Connection} instances with a configurable HTTP
+	 * transport. Unless a {@link ClientHttpRequestFactory} is supplied with
+	 * {@link #requestFactory(ClientHttpRequestFactory)}, the built connection
+	 * uses a {@link PooledClientHttpRequestFactory}, keeping connections to ALM
+	 * alive between requests; call {@link Alm115Connection#close()} to release
+	 * the pool when the connection is no longer needed.
+	 *
+	 * @since 1.0.0
+	 *
+	 */
+	public static final class Builder {
+
+		private static final int DEFAULT_BATCH_SIZE = 100;
+
+		private static final long DEFAULT_IDLE_CONNECTION_TIMEOUT = 30000L;
+
+		private static final long DEFAULT_KEEP_ALIVE_DURATION = 60000L;
+
+		private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+		private static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 50;
+
+		private int batchSize = DEFAULT_BATCH_SIZE;
+
+		private int connectionRequestTimeout;
+
+		private int connectTimeout;
+
+		private int deleteParallelism = 1;
+
+		private EntityCache entityCache;
+
+		private FieldMetadataStore fieldMetadataStore;
+
+		private long idleConnectionTimeout = DEFAULT_IDLE_CONNECTION_TIMEOUT;
+
+		private long keepAliveDuration = DEFAULT_KEEP_ALIVE_DURATION;
+
+		private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+		private int maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+
+		private AlmMetrics metrics;
+
+		private int readTimeout;
+
+		private ClientHttpRequestFactory requestFactory;
+
+		private final String url;
+
+		private int warmUpParallelism;
+
+		/**
+		 * Creates a builder for a connection to the given URL.
+		 *
+		 * @param theUrl
+		 *            The URL of the deployed ALM instance.
+		 * @throws NullPointerException
+		 *             Thrown if URL is null.
+		 * @throws IllegalArgumentException
+		 *             Thrown if URL is blank (empty string).
+		 * @since 1.0.0
+		 */
+		public Builder(final String theUrl) {
+			Validate.notBlank(theUrl, "The URL cannot be null or blank");
+			this.url = theUrl;
+		}
+
+		/**
+		 * Creates the {@link Alm115Connection}.
+		 *
+		 * @return A new connection; {@link Alm115Connection#authenticate(Credentials)}
+		 *         must be called before interacting with the ALM instance.
+		 * @since 1.0.0
+		 */
+		public Alm115Connection build() {
+			if (requestFactory != null) {
+				return new Alm115Connection(this, requestFactory, null);
+			}
+			final PooledClientHttpRequestFactory pooledFactory = new PooledClientHttpRequestFactory(
+					maxConnectionsTotal, maxConnectionsPerRoute, idleConnectionTimeout, keepAliveDuration);
+			pooledFactory.setConnectTimeout(connectTimeout);
+			pooledFactory.setReadTimeout(readTimeout);
+			pooledFactory.setConnectionRequestTimeout(connectionRequestTimeout);
+			return new Alm115Connection(this, pooledFactory, pooledFactory);
+		}
+
+		/**
+		 * Sets the maximum number of entities sent to ALM in a single request
+		 * by bulk operations; defaults to 100.
+		 *
+		 * @param theBatchSize
+		 *            The maximum number of entities per request.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder batchSize(final int theBatchSize) {
+			Validate.isTrue(theBatchSize > 0, "the batch size must be greater than zero");
+			this.batchSize = theBatchSize;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum time to wait for a free connection from the pool.
+		 *
+		 * @param theConnectionRequestTimeout
+		 *            The timeout in milliseconds; zero (the default) waits
+		 *            indefinitely.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder connectionRequestTimeout(final int theConnectionRequestTimeout) {
+			Validate.isTrue(theConnectionRequestTimeout >= 0, "the connection request timeout cannot be negative");
+			this.connectionRequestTimeout = theConnectionRequestTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for establishing a new connection to ALM.
+		 *
+		 * @param theConnectTimeout
+		 *            The timeout in milliseconds; zero (the default) waits
+		 *            indefinitely.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder connectTimeout(final int theConnectTimeout) {
+			Validate.isTrue(theConnectTimeout >= 0, "the connect timeout cannot be negative");
+			this.connectTimeout = theConnectTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of requests
+		 * {@link Alm115Connection#deleteEntities(Class, int...)} sends
+		 * concurrently; defaults to 1, deleting one chunk of ids at a time.
+		 *
+		 * @param theDeleteParallelism
+		 *            The maximum number of concurrent delete requests.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder deleteParallelism(final int theDeleteParallelism) {
+			Validate.isTrue(theDeleteParallelism > 0, "the delete parallelism must be greater than zero");
+			this.deleteParallelism = theDeleteParallelism;
+			return this;
+		}
+
+		/**
+		 * Sets the cache {@link Alm115Connection#getEnityById(Class, int)}
+		 * serves entities from; by default entities are not cached and every
+		 * call is sent to ALM.
+		 *
+		 * @param theEntityCache
+		 *            The cache to use; may be shared with other connections to
+		 *            the same ALM instance.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @throws NullPointerException
+		 *             Thrown if the entity cache is null.
+		 * @since 1.0.0
+		 */
+		public Builder entityCache(final EntityCache theEntityCache) {
+			Validate.notNull(theEntityCache, "entityCache cannot be null");
+			this.entityCache = theEntityCache;
+			return this;
+		}
+
+		/**
+		 * Sets the store field metadata is loaded from and saved to, so that
+		 * the field metadata of each entity type does not have to be requested
+		 * from ALM by every new connection; by default field metadata is
+		 * requested from ALM once per connection.
+		 *
+		 * @param theFieldMetadataStore
+		 *            The store to use.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @throws NullPointerException
+		 *             Thrown if the field metadata store is null.
+		 * @since 1.0.0
+		 */
+		public Builder fieldMetadataStore(final FieldMetadataStore theFieldMetadataStore) {
+			Validate.notNull(theFieldMetadataStore, "fieldMetadataStore cannot be null");
+			this.fieldMetadataStore = theFieldMetadataStore;
+			return this;
+		}
+
+		/**
+		 * Sets how long a pooled connection may remain unused before it is
+		 * evicted from the pool; defaults to 30 seconds.
+		 *
+		 * @param theIdleConnectionTimeout
+		 *            The idle timeout in milliseconds.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder idleConnectionTimeout(final long theIdleConnectionTimeout) {
+			Validate.isTrue(theIdleConnectionTimeout > 0, "the idle connection timeout must be greater than zero");
+			this.idleConnectionTimeout = theIdleConnectionTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets how long a connection is kept alive when ALM does not specify a
+		 * keep-alive timeout; defaults to 60 seconds.
+		 *
+		 * @param theKeepAliveDuration
+		 *            The keep-alive duration in milliseconds.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder keepAliveDuration(final long theKeepAliveDuration) {
+			Validate.isTrue(theKeepAliveDuration > 0, "the keep-alive duration must be greater than zero");
+			this.keepAliveDuration = theKeepAliveDuration;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of pooled connections to the ALM host;
+		 * defaults to 20.
+		 *
+		 * @param theMaxConnectionsPerRoute
+		 *            The maximum number of connections per route.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder maxConnectionsPerRoute(final int theMaxConnectionsPerRoute) {
+			Validate.isTrue(theMaxConnectionsPerRoute > 0, "the max connections per route must be greater than zero");
+			this.maxConnectionsPerRoute = theMaxConnectionsPerRoute;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of pooled connections across all routes;
+		 * defaults to 50.
+		 *
+		 * @param theMaxConnectionsTotal
+		 *            The maximum number of connections.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder maxConnectionsTotal(final int theMaxConnectionsTotal) {
+			Validate.isTrue(theMaxConnectionsTotal > 0, "the max connections total must be greater than zero");
+			this.maxConnectionsTotal = theMaxConnectionsTotal;
+			return this;
+		}
+
+		/**
+		 * Sets the metrics every request to ALM, and the number of entities
+		 * parsed from the responses, is reported to; by default requests are
+		 * not measured.
+		 *
+		 * @param theMetrics
+		 *            The metrics to report to, e.g. an
+		 *            {@link com.fissionworks.restalm.metrics.InMemoryAlmMetrics};
+		 *            may be shared with other connections.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @throws NullPointerException
+		 *             Thrown if the metrics are null.
+		 * @since 1.0.0
+		 */
+		public Builder metrics(final AlmMetrics theMetrics) {
+			Validate.notNull(theMetrics, "metrics cannot be null");
+			this.metrics = theMetrics;
+			return this;
+		}
+
+		/**
+		 * Sets the socket read timeout for responses from ALM.
+		 *
+		 * @param theReadTimeout
+		 *            The timeout in milliseconds; zero (the default) waits
+		 *            indefinitely.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder readTimeout(final int theReadTimeout) {
+			Validate.isTrue(theReadTimeout >= 0, "the read timeout cannot be negative");
+			this.readTimeout = theReadTimeout;
+			return this;
+		}
+
+		/**
+		 * Uses the given {@link ClientHttpRequestFactory} as the HTTP
+		 * transport instead of the default connection pool; all pool and
+		 * timeout settings of this builder are ignored, and the caller remains
+		 * responsible for releasing the factory's resources.
+		 *
+		 * @param theRequestFactory
+		 *            The request factory to use.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @throws NullPointerException
+		 *             Thrown if the request factory is null.
+		 * @since 1.0.0
+		 */
+		public Builder requestFactory(final ClientHttpRequestFactory theRequestFactory) {
+			Validate.notNull(theRequestFactory, "requestFactory cannot be null");
+			this.requestFactory = theRequestFactory;
+			return this;
+		}
+
+		/**
+		 * Enables retrieving the field metadata of every entity type when
+		 * {@link Alm115Connection#login(Project)} is called, using up to the
+		 * given number of concurrent requests, so that the first add or update
+		 * of each entity type does not have to wait for its field metadata.
+		 * By default field metadata is retrieved the first time it is needed.
+		 *
+		 * @param theWarmUpParallelism
+		 *            The maximum number of concurrent field metadata requests.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 * @since 1.0.0
+		 */
+		public Builder warmUpEntityFields(final int theWarmUpParallelism) {
+			Validate.isTrue(theWarmUpParallelism > 0, "the warm up parallelism must be greater than zero");
+			this.warmUpParallelism = theWarmUpParallelism;
+			return this;
+		}
+	}
+
 }
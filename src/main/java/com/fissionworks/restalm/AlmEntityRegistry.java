@@ -0,0 +1,331 @@
+package com.fissionworks.restalm;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.DesignStepField;
+import com.fissionworks.restalm.constants.field.ReleaseCycleField;
+import com.fissionworks.restalm.constants.field.ReleaseField;
+import com.fissionworks.restalm.constants.field.ReleaseFolderField;
+import com.fissionworks.restalm.constants.field.RequirementField;
+import com.fissionworks.restalm.constants.field.TestFolderField;
+import com.fissionworks.restalm.model.customization.EntityFieldCollection;
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.defects.Defect;
+import com.fissionworks.restalm.model.entity.management.Release;
+import com.fissionworks.restalm.model.entity.management.ReleaseCycle;
+import com.fissionworks.restalm.model.entity.management.ReleaseFolder;
+import com.fissionworks.restalm.model.entity.requirements.Requirement;
+import com.fissionworks.restalm.model.entity.requirements.RequirementCoverage;
+import com.fissionworks.restalm.model.entity.testlab.Run;
+import com.fissionworks.restalm.model.entity.testlab.TestInstance;
+import com.fissionworks.restalm.model.entity.testlab.TestSet;
+import com.fissionworks.restalm.model.entity.testlab.TestSetFolder;
+import com.fissionworks.restalm.model.entity.testplan.AlmTest;
+import com.fissionworks.restalm.model.entity.testplan.DesignStep;
+import com.fissionworks.restalm.model.entity.testplan.TestConfig;
+import com.fissionworks.restalm.model.entity.testplan.TestFolder;
+
+/**
+ * Registry of the {@link AlmEntity} classes this library provides, keyed by
+ * both class and {@link EntityType}. Each registration creates new instances
+ * of its class without reflection, knows the entity and collection names of
+ * the class without an instance being created, and applies the corrections to
+ * the field metadata ALM reports for the entity type.
+ * <p>
+ * Entity classes that are not registered (for example entity classes defined
+ * by users of this library) are registered on first use with a registration
+ * that creates instances through their default constructor.
+ *
+ * @since 1.0.0
+ */
+final class AlmEntityRegistry {
+
+	private static final Map<Class<?>, Registration<?>> REGISTRATIONS_BY_CLASS = new ConcurrentHashMap<>();
+
+	private static final Map<EntityType, Registration<?>> REGISTRATIONS_BY_TYPE = new EnumMap<>(EntityType.class);
+
+	static {
+		register(new Registration<AlmTest>(EntityType.ALM_TEST, AlmTest.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setEditable(AlmTestField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			AlmTest newEntity() {
+				return new AlmTest();
+			}
+		});
+
+		register(new Registration<Defect>(EntityType.DEFECT, Defect.class) {
+			@Override
+			Defect newEntity() {
+				return new Defect();
+			}
+		});
+
+		register(new Registration<DesignStep>(EntityType.DESIGN_STEP, DesignStep.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setRequired(DesignStepField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			DesignStep newEntity() {
+				return new DesignStep();
+			}
+		});
+
+		register(new Registration<Release>(EntityType.RELEASE, Release.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setEditable(ReleaseField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			Release newEntity() {
+				return new Release();
+			}
+		});
+
+		register(new Registration<ReleaseCycle>(EntityType.RELEASE_CYCLE, ReleaseCycle.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setEditable(ReleaseCycleField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			ReleaseCycle newEntity() {
+				return new ReleaseCycle();
+			}
+		});
+
+		register(new Registration<ReleaseFolder>(EntityType.RELEASE_FOLDER, ReleaseFolder.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setEditable(ReleaseFolderField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			ReleaseFolder newEntity() {
+				return new ReleaseFolder();
+			}
+		});
+
+		register(new Registration<Requirement>(EntityType.REQUIREMENT, Requirement.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setEditable(RequirementField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			Requirement newEntity() {
+				return new Requirement();
+			}
+		});
+
+		register(new Registration<RequirementCoverage>(EntityType.REQUIREMENT_COVERAGE, RequirementCoverage.class) {
+			@Override
+			RequirementCoverage newEntity() {
+				return new RequirementCoverage();
+			}
+		});
+
+		register(new Registration<Run>(EntityType.RUN, Run.class) {
+			@Override
+			Run newEntity() {
+				return new Run();
+			}
+		});
+
+		register(new Registration<TestConfig>(EntityType.TEST_CONFIG, TestConfig.class) {
+			@Override
+			TestConfig newEntity() {
+				return new TestConfig();
+			}
+		});
+
+		register(new Registration<TestFolder>(EntityType.TEST_FOLDER, TestFolder.class) {
+			@Override
+			void correctFields(final EntityFieldCollection fields) {
+				fields.setEditable(TestFolderField.PARENT_ID.getName(), true);
+			}
+
+			@Override
+			TestFolder newEntity() {
+				return new TestFolder();
+			}
+		});
+
+		register(new Registration<TestInstance>(EntityType.TEST_INSTANCE, TestInstance.class) {
+			@Override
+			TestInstance newEntity() {
+				return new TestInstance();
+			}
+		});
+
+		register(new Registration<TestSet>(EntityType.TEST_SET, TestSet.class) {
+			@Override
+			TestSet newEntity() {
+				return new TestSet();
+			}
+		});
+
+		register(new Registration<TestSetFolder>(EntityType.TEST_SET_FOLDER, TestSetFolder.class) {
+			@Override
+			TestSetFolder newEntity() {
+				return new TestSetFolder();
+			}
+		});
+	}
+
+	private AlmEntityRegistry() {
+	}
+
+	/*
+	 * Returns the registration of the given class, registering classes not
+	 * provided by this library on first use.
+	 */
+	static <T extends AlmEntity> Registration<T> forClass(final Class<T> entityClass) {
+		Registration<?> registration = REGISTRATIONS_BY_CLASS.get(entityClass);
+		if (registration == null) {
+			registration = new ReflectiveRegistration<>(entityClass);
+			final Registration<?> existingRegistration = REGISTRATIONS_BY_CLASS.putIfAbsent(entityClass,
+					registration);
+			if (existingRegistration != null) {
+				registration = existingRegistration;
+			}
+		}
+		// no need to check since registrations are keyed by their own class
+		@SuppressWarnings("unchecked")
+		final Registration<T> typedRegistration = (Registration<T>) registration;
+		return typedRegistration;
+	}
+
+	static Registration<?> forType(final EntityType entityType) {
+		return REGISTRATIONS_BY_TYPE.get(entityType);
+	}
+
+	/*
+	 * Returns the entity classes provided by this library, in EntityType
+	 * order.
+	 */
+	static List<Class<? extends AlmEntity>> getEntityClasses() {
+		final List<Class<? extends AlmEntity>> entityClasses = new ArrayList<>(REGISTRATIONS_BY_TYPE.size());
+		for (final Registration<?> registration : REGISTRATIONS_BY_TYPE.values()) {
+			entityClasses.add(registration.getEntityClass());
+		}
+		return Collections.unmodifiableList(entityClasses);
+	}
+
+	private static void register(final Registration<?> registration) {
+		REGISTRATIONS_BY_CLASS.put(registration.getEntityClass(), registration);
+		REGISTRATIONS_BY_TYPE.put(registration.getEntityType(), registration);
+	}
+
+	abstract static class Registration<T extends AlmEntity> {
+
+		private final String collectionName;
+
+		private final Class<T> entityClass;
+
+		private final String entityName;
+
+		private final EntityType entityType;
+
+		private Registration(final Class<T> theEntityClass, final EntityType theEntityType,
+				final String theEntityName, final String theCollectionName) {
+			this.entityClass = theEntityClass;
+			this.entityType = theEntityType;
+			this.entityName = theEntityName;
+			this.collectionName = theCollectionName;
+		}
+
+		private Registration(final EntityType theEntityType, final Class<T> theEntityClass) {
+			this(theEntityClass, theEntityType, theEntityType.entityName(), theEntityType.collectionName());
+		}
+
+		/*
+		 * Fixes field parameter values (editable, required, etc.) that ALM
+		 * does not correctly report; most entity types need no corrections.
+		 */
+		void correctFields(final EntityFieldCollection fields) {
+			// no corrections by default
+		}
+
+		String getCollectionName() {
+			return collectionName;
+		}
+
+		Class<T> getEntityClass() {
+			return entityClass;
+		}
+
+		String getEntityName() {
+			return entityName;
+		}
+
+		/*
+		 * Returns the entity type of the class, or null for classes not
+		 * provided by this library.
+		 */
+		EntityType getEntityType() {
+			return entityType;
+		}
+
+		abstract T newEntity();
+	}
+
+	private static final class ReflectiveRegistration<T extends AlmEntity> extends Registration<T> {
+
+		private final Constructor<T> constructor;
+
+		private ReflectiveRegistration(final Class<T> theEntityClass) {
+			this(theEntityClass, getDefaultConstructor(theEntityClass));
+		}
+
+		private ReflectiveRegistration(final Class<T> theEntityClass, final Constructor<T> theConstructor) {
+			this(theEntityClass, theConstructor, newInstance(theConstructor));
+		}
+
+		private ReflectiveRegistration(final Class<T> theEntityClass, final Constructor<T> theConstructor,
+				final T prototype) {
+			super(theEntityClass, null, prototype.getEntityType(), prototype.getEntityCollectionType());
+			this.constructor = theConstructor;
+		}
+
+		private static <T extends AlmEntity> Constructor<T> getDefaultConstructor(final Class<T> entityClass) {
+			try {
+				return entityClass.getConstructor();
+			} catch (final NoSuchMethodException exception) {
+				throw new IllegalArgumentException(
+						"Error creating resource entity; Resource entities must have default constructor",
+						exception);
+			}
+		}
+
+		private static <T extends AlmEntity> T newInstance(final Constructor<T> constructor) {
+			try {
+				return constructor.newInstance();
+			} catch (final ReflectiveOperationException exception) {
+				throw new IllegalArgumentException(
+						"Error creating resource entity; Resource entities must have default constructor",
+						exception);
+			}
+		}
+
+		@Override
+		T newEntity() {
+			return newInstance(constructor);
+		}
+	}
+
+}
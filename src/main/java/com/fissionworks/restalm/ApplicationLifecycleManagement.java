@@ -1,11 +1,16 @@
 package com.fissionworks.restalm;
 
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 import com.fissionworks.restalm.constants.field.FieldName;
 import com.fissionworks.restalm.filter.RestParameters;
 import com.fissionworks.restalm.model.authentication.Credentials;
 import com.fissionworks.restalm.model.customization.EntityFieldCollection;
 import com.fissionworks.restalm.model.entity.AlmEntity;
 import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+import com.fissionworks.restalm.model.entity.BulkResult;
 import com.fissionworks.restalm.model.site.Project;
 import com.fissionworks.restalm.model.site.Site;
 
@@ -16,6 +21,19 @@ import com.fissionworks.restalm.model.site.Site;
  * @Since 1.0.0
  */
 public interface ApplicationLifecycleManagement {
+	/**
+	 * Add many {@link AlmEntity} objects to ALM, sending them in batches
+	 * rather than one request per entity.
+	 *
+	 * @param entities
+	 *            The resource entities to add.
+	 * @return A {@link BulkResult} holding a copy of each entity as it was
+	 *         saved to ALM and the entities that could not be added, with the
+	 *         reason ALM gave.
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> BulkResult<T> addEntities(final Collection<T> entities);
+
 	/**
 	 * Add a {@link AlmEntity} to ALM.
 	 *
@@ -35,6 +53,20 @@ public interface ApplicationLifecycleManagement {
 	 */
 	void authenticate(final Credentials theCredentials);
 
+	/**
+	 * Delete any number of {@link AlmEntity}s from ALM, splitting the id list
+	 * into as many requests as needed.
+	 *
+	 * @param entityClass
+	 *            The type of entities to be deleted.
+	 * @param ids
+	 *            The id's to be deleted.
+	 * @return A {@link BulkResult} holding the ids that were deleted and the
+	 *         ids that could not be deleted, with the reason ALM gave.
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> BulkResult<Integer> deleteEntities(final Class<T> entityClass, final int... ids);
+
 	/**
 	 * Delete a {@link AlmEntity} or list of {@link AlmEntity}s from ALM.
 	 *
@@ -69,6 +101,26 @@ public interface ApplicationLifecycleManagement {
 	 */
 	<T extends AlmEntity> EntityFieldCollection getEnityFields(final Class<T> entityClass);
 
+	/**
+	 * Get every {@link AlmEntity} matching the given {@link RestParameters},
+	 * retrieving pages concurrently. The first page (beginning at
+	 * {@link RestParameters#getStartIndex()}) is retrieved to determine the
+	 * total result count, after which the remaining pages of
+	 * {@link RestParameters#getPageSize()} entities are requested in parallel.
+	 *
+	 * @param entityClass
+	 *            The type of {@link AlmEntity} objects to retrieve.
+	 * @param queryParameters
+	 *            The parameters to use to filter the return results.
+	 * @param parallelism
+	 *            The maximum number of pages to request concurrently.
+	 * @return An {@link AlmEntityCollection} containing all matching entities,
+	 *         ordered by the start index of the page they were retrieved in.
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> AlmEntityCollection<T> getAllEntities(final Class<T> entityClass,
+			final RestParameters queryParameters, final int parallelism);
+
 	/**
 	 * Get a collection of {@link AlmEntity} objects, using the give
 	 * {@link RestParameters} to filter the return results.
@@ -84,6 +136,28 @@ public interface ApplicationLifecycleManagement {
 	<T extends AlmEntity> AlmEntityCollection<T> getEntities(final Class<T> entityClass,
 			final RestParameters queryParameters);
 
+	/**
+	 * Get the page of {@link AlmEntity} objects matching the given
+	 * {@link RestParameters}, handing each entity to the given consumer as soon
+	 * as it has been read from the response. Unlike
+	 * {@link #getEntities(Class, RestParameters)}, the page is never collected
+	 * into an intermediate collection, so only the entity currently being
+	 * consumed needs to be held in memory.
+	 *
+	 * @param entityClass
+	 *            The type of {@link AlmEntity} objects to retrieve.
+	 * @param queryParameters
+	 *            The parameters to use to filter the return results.
+	 * @param consumer
+	 *            Receives each matching entity, in the order ALM returns them.
+	 * @return The total number of entities matching the
+	 *         {@link RestParameters}, which may exceed the number of entities
+	 *         passed to the consumer when results are paged.
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> int getEntities(final Class<T> entityClass, final RestParameters queryParameters,
+			final Consumer<? super T> consumer);
+
 	/**
 	 * Returns a {@link Site} object from the ALM instance currently
 	 * authenticated with and connected to.
@@ -126,6 +200,43 @@ public interface ApplicationLifecycleManagement {
 	 */
 	void logout();
 
+	/**
+	 * Get every {@link AlmEntity} matching the given {@link RestParameters} as
+	 * a lazily populated {@link Stream}. Pages of
+	 * {@link RestParameters#getPageSize()} entities are requested from ALM as
+	 * the stream is consumed, beginning at
+	 * {@link RestParameters#getStartIndex()} and continuing until the total
+	 * result count is reached, so at most a couple of pages are held in memory
+	 * at any time. Streams that are not fully consumed should be closed (for
+	 * example with try-with-resources) to stop any outstanding page request.
+	 *
+	 * @param entityClass
+	 *            The type of {@link AlmEntity} objects to retrieve.
+	 * @param queryParameters
+	 *            The parameters to use to filter the return results.
+	 * @return A sequential {@link Stream} of all matching entities.
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> Stream<T> streamEntities(final Class<T> entityClass, final RestParameters queryParameters);
+
+	/**
+	 * Update many {@link AlmEntity} objects in ALM, sending them in batches
+	 * rather than one request per entity. If field names are given, only
+	 * those fields are updated, as with
+	 * {@link #updateEntity(AlmEntity, FieldName...)}; otherwise all editable
+	 * fields are updated, as with {@link #updateEntity(AlmEntity)}.
+	 *
+	 * @param entities
+	 *            The entities to update; each must have an id.
+	 * @param fieldNames
+	 *            The fields to update; may be empty to update all editable
+	 *            fields.
+	 * @return A {@link BulkResult} holding the entities that were updated and
+	 *         the entities that could not be updated, with the reason ALM gave.
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> BulkResult<T> updateEntities(final Collection<T> entities, final FieldName... fieldNames);
+
 	/**
 	 * Updates all editable fields of the given {@link AlmEntity}. If attempting
 	 * to edit only certain fields, use
@@ -0,0 +1,210 @@
+package com.fissionworks.restalm;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.Validate;
+
+import com.fissionworks.restalm.constants.field.FieldName;
+import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+
+/**
+ * {@link AsyncApplicationLifecycleManagement} that runs the calls of a
+ * blocking {@link ApplicationLifecycleManagement} on an {@link Executor}. At
+ * most a fixed number of calls are handed to the executor at any one time;
+ * further calls are queued, without blocking the caller, and dispatched in
+ * the order they were made as earlier calls complete. The underlying
+ * connection must already be logged in to the project the calls are made
+ * against.
+ *
+ * @since 1.0.0
+ */
+public final class AsyncAlmConnection implements AsyncApplicationLifecycleManagement {
+
+	private final ApplicationLifecycleManagement alm;
+
+	private final Executor executor;
+
+	private final Semaphore inFlightPermits;
+
+	private final Queue<PendingCall<?>> pendingCalls = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Creates an asynchronous facade over the given connection.
+	 *
+	 * @param theAlm
+	 *            The (logged in) connection the calls are made on.
+	 * @param theExecutor
+	 *            The executor the calls are run on.
+	 * @param theMaxInFlight
+	 *            The maximum number of calls running on the executor at any
+	 *            one time.
+	 * @throws NullPointerException
+	 *             thrown if the connection or executor are null.
+	 * @throws IllegalArgumentException
+	 *             thrown if the maximum number of calls is less than one.
+	 * @since 1.0.0
+	 */
+	public AsyncAlmConnection(final ApplicationLifecycleManagement theAlm, final Executor theExecutor,
+			final int theMaxInFlight) {
+		Validate.notNull(theAlm, "alm connection must not be null");
+		Validate.notNull(theExecutor, "executor must not be null");
+		Validate.isTrue(theMaxInFlight > 0, "the maximum number of in flight calls must be greater than zero");
+		this.alm = theAlm;
+		this.executor = theExecutor;
+		this.inFlightPermits = new Semaphore(theMaxInFlight);
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> CompletableFuture<T> addEntity(final T entity) {
+		return submit(new Supplier<T>() {
+			@Override
+			public T get() {
+				return alm.addEntity(entity);
+			}
+		});
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> CompletableFuture<Void> deleteEntity(final Class<T> entityClass, final int... id) {
+		return submit(new Supplier<Void>() {
+			@Override
+			public Void get() {
+				alm.deleteEntity(entityClass, id);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> CompletableFuture<T> getEnityById(final Class<T> entityClass, final int id) {
+		return submit(new Supplier<T>() {
+			@Override
+			public T get() {
+				return alm.getEnityById(entityClass, id);
+			}
+		});
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public <T extends AlmEntity> CompletableFuture<AlmEntityCollection<T>> getEntities(final Class<T> entityClass,
+			final RestParameters queryParameters) {
+		return submit(new Supplier<AlmEntityCollection<T>>() {
+			@Override
+			public AlmEntityCollection<T> get() {
+				return alm.getEntities(entityClass, queryParameters);
+			}
+		});
+	}
+
+	/**
+	 * Get the number of calls waiting for one of the in flight calls to
+	 * complete before being handed to the executor.
+	 *
+	 * @return The number of queued calls.
+	 * @since 1.0.0
+	 */
+	public int getPendingCount() {
+		return pendingCalls.size();
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public CompletableFuture<Void> updateEntity(final AlmEntity almEntity) {
+		return submit(new Supplier<Void>() {
+			@Override
+			public Void get() {
+				alm.updateEntity(almEntity);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public CompletableFuture<Void> updateEntity(final AlmEntity almEntity, final FieldName... fieldNames) {
+		return submit(new Supplier<Void>() {
+			@Override
+			public Void get() {
+				alm.updateEntity(almEntity, fieldNames);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * Hands queued calls to the executor while permits are available; a
+	 * permit taken when the queue turned out to be empty is released and the
+	 * queue checked again, so a call queued concurrently is never stranded.
+	 */
+	private void dispatch() {
+		while (!pendingCalls.isEmpty() && inFlightPermits.tryAcquire()) {
+			final PendingCall<?> call = pendingCalls.poll();
+			if (call == null) {
+				inFlightPermits.release();
+			} else {
+				try {
+					executor.execute(call);
+				} catch (final RejectedExecutionException exception) {
+					inFlightPermits.release();
+					call.future.completeExceptionally(exception);
+				}
+			}
+		}
+	}
+
+	private <V> CompletableFuture<V> submit(final Supplier<V> supplier) {
+		final PendingCall<V> call = new PendingCall<>(supplier);
+		pendingCalls.add(call);
+		dispatch();
+		return call.future;
+	}
+
+	private final class PendingCall<V> implements Runnable {
+
+		private final CompletableFuture<V> future = new CompletableFuture<>();
+
+		private final Supplier<V> supplier;
+
+		private PendingCall(final Supplier<V> theSupplier) {
+			this.supplier = theSupplier;
+		}
+
+		@Override
+		public void run() {
+			try {
+				future.complete(supplier.get());
+			} catch (final Throwable throwable) {
+				// an Error must complete the future too, or callers wait forever
+				future.completeExceptionally(throwable);
+			} finally {
+				inFlightPermits.release();
+				dispatch();
+			}
+		}
+	}
+
+}
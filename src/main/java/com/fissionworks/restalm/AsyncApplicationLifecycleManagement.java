@@ -0,0 +1,97 @@
+package com.fissionworks.restalm;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.fissionworks.restalm.constants.field.FieldName;
+import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+
+/**
+ * Non-blocking counterpart of {@link ApplicationLifecycleManagement} for the
+ * entity operations; each method returns immediately with a
+ * {@link CompletableFuture} that is completed with the result of the call, or
+ * completed exceptionally with the exception the blocking call would have
+ * thrown.
+ *
+ * @since 1.0.0
+ */
+public interface AsyncApplicationLifecycleManagement {
+
+	/**
+	 * Add a {@link AlmEntity} to ALM.
+	 *
+	 * @param entity
+	 *            The resource entity to add.
+	 * @return A future completed with a copy of the entity as it was saved to
+	 *         ALM.
+	 * @see ApplicationLifecycleManagement#addEntity(AlmEntity)
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> CompletableFuture<T> addEntity(final T entity);
+
+	/**
+	 * Delete a {@link AlmEntity} or list of {@link AlmEntity}s from ALM.
+	 *
+	 * @param entityClass
+	 *            The type of entity to be deleted.
+	 * @param id
+	 *            The id(s) to be deleted.
+	 * @return A future completed once the entities have been deleted.
+	 * @see ApplicationLifecycleManagement#deleteEntity(Class, int...)
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> CompletableFuture<Void> deleteEntity(final Class<T> entityClass, final int... id);
+
+	/**
+	 * Retrieve an {@link AlmEntity} by it's id.
+	 *
+	 * @param entityClass
+	 *            The type of entity to retrieve.
+	 * @param id
+	 *            The id of the entity to retrieve.
+	 * @return A future completed with the entity.
+	 * @see ApplicationLifecycleManagement#getEnityById(Class, int)
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> CompletableFuture<T> getEnityById(final Class<T> entityClass, final int id);
+
+	/**
+	 * Retrieve a single page of entities matching the given query.
+	 *
+	 * @param entityClass
+	 *            The type of entities to retrieve.
+	 * @param queryParameters
+	 *            The query, field and paging parameters of the request.
+	 * @return A future completed with the retrieved entities.
+	 * @see ApplicationLifecycleManagement#getEntities(Class, RestParameters)
+	 * @since 1.0.0
+	 */
+	<T extends AlmEntity> CompletableFuture<AlmEntityCollection<T>> getEntities(final Class<T> entityClass,
+			final RestParameters queryParameters);
+
+	/**
+	 * Updates all editable fields of the given {@link AlmEntity}.
+	 *
+	 * @param almEntity
+	 *            The entity to update.
+	 * @return A future completed once the entity has been updated.
+	 * @see ApplicationLifecycleManagement#updateEntity(AlmEntity)
+	 * @since 1.0.0
+	 */
+	CompletableFuture<Void> updateEntity(final AlmEntity almEntity);
+
+	/**
+	 * Updates only the given fields of the given {@link AlmEntity}.
+	 *
+	 * @param almEntity
+	 *            The entity to update.
+	 * @param fieldNames
+	 *            The fields to update.
+	 * @return A future completed once the entity has been updated.
+	 * @see ApplicationLifecycleManagement#updateEntity(AlmEntity, FieldName...)
+	 * @since 1.0.0
+	 */
+	CompletableFuture<Void> updateEntity(final AlmEntity almEntity, FieldName... fieldNames);
+
+}
@@ -0,0 +1,238 @@
+package com.fissionworks.restalm;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.lang3.Validate;
+
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.site.Project;
+
+/**
+ * Size bounded, time limited cache of the entities retrieved by
+ * {@link Alm115Connection#getEnityById(Class, int)}, keyed by project, entity
+ * collection type and id. Entries expire a fixed time after they were cached;
+ * once the cache is full, the least recently used entry is evicted to make
+ * room for a new one. A connection removes an entity from its cache whenever
+ * it updates or deletes that entity; changes made through other connections
+ * or directly in ALM are only seen once the cached entry expires. An entity
+ * retrieved while any entity was being removed is not cached, so a retrieval
+ * that raced with an update can never cache the entity as it was before the
+ * update.
+ * <p>
+ * A cache is enabled with {@link Alm115Connection.Builder#entityCache(EntityCache)};
+ * it is thread safe and may be shared by several connections to the same ALM
+ * instance.
+ *
+ * @since 1.0.0
+ */
+public final class EntityCache {
+
+	private final LongSupplier clock;
+
+	private final LinkedHashMap<Key, Entry> entries;
+
+	private long evictionCount;
+
+	private long generation;
+
+	private long hitCount;
+
+	private final int maximumSize;
+
+	private long missCount;
+
+	private final long timeToLiveNanos;
+
+	/**
+	 * Creates a cache holding at most the given number of entities, each for
+	 * at most the given time.
+	 *
+	 * @param theMaximumSize
+	 *            The maximum number of entities held.
+	 * @param timeToLiveMillis
+	 *            How long, in milliseconds, an entity is served from the cache
+	 *            after it was retrieved from ALM.
+	 * @throws IllegalArgumentException
+	 *             thrown if the maximum size or time to live are not greater
+	 *             than zero.
+	 * @since 1.0.0
+	 */
+	public EntityCache(final int theMaximumSize, final long timeToLiveMillis) {
+		this(theMaximumSize, timeToLiveMillis, new LongSupplier() {
+			@Override
+			public long getAsLong() {
+				return System.nanoTime();
+			}
+		});
+	}
+
+	EntityCache(final int theMaximumSize, final long timeToLiveMillis, final LongSupplier theClock) {
+		Validate.isTrue(theMaximumSize > 0, "maximum size must be greater than zero");
+		Validate.isTrue(timeToLiveMillis > 0, "time to live must be greater than zero");
+		this.maximumSize = theMaximumSize;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+		this.clock = theClock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Get the number of entities that were evicted to make room for other
+	 * entities; expired entities are not counted.
+	 *
+	 * @return The number of evictions.
+	 * @since 1.0.0
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Get the number of lookups that were served from the cache.
+	 *
+	 * @return The number of cache hits.
+	 * @since 1.0.0
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Get the number of lookups that had to be retrieved from ALM, including
+	 * lookups of expired entities.
+	 *
+	 * @return The number of cache misses.
+	 * @since 1.0.0
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Remove all entities from the cache; the statistics are not reset.
+	 *
+	 * @since 1.0.0
+	 */
+	public synchronized void invalidateAll() {
+		entries.clear();
+		generation++;
+	}
+
+	/**
+	 * Get the number of entities currently held, which may include expired
+	 * entities that have not been looked up since they expired.
+	 *
+	 * @return The number of cached entities.
+	 * @since 1.0.0
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	@Override
+	public synchronized String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <EntityCache> {\n    size=|").append(entries.size())
+				.append("|,\n    maximumSize=|").append(maximumSize).append("|,\n    hitCount=|").append(hitCount)
+				.append("|,\n    missCount=|").append(missCount).append("|,\n    evictionCount=|")
+				.append(evictionCount).append("|");
+		return builder.toString();
+	}
+
+	synchronized GenericEntity get(final Project project, final String collectionType, final int id) {
+		final Key key = new Key(project, collectionType, id);
+		final Entry entry = entries.get(key);
+		if (entry != null) {
+			if ((clock.getAsLong() - entry.expiresAt) < 0) {
+				hitCount++;
+				return entry.entity;
+			}
+			entries.remove(key);
+		}
+		missCount++;
+		return null;
+	}
+
+	/*
+	 * Changes whenever entities are removed; read before retrieving an entity
+	 * from ALM and passed to put, so that put can tell whether the entity may
+	 * have been changed while it was being retrieved.
+	 */
+	synchronized long getGeneration() {
+		return generation;
+	}
+
+	synchronized void invalidate(final Project project, final String collectionType, final int... ids) {
+		for (final int id : ids) {
+			entries.remove(new Key(project, collectionType, id));
+		}
+		generation++;
+	}
+
+	synchronized void put(final Project project, final String collectionType, final int id,
+			final GenericEntity entity, final long retrievalGeneration) {
+		if (retrievalGeneration != generation) {
+			return;
+		}
+		entries.put(new Key(project, collectionType, id), new Entry(entity, clock.getAsLong() + timeToLiveNanos));
+		if (entries.size() > maximumSize) {
+			final Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+			eldest.next();
+			eldest.remove();
+			evictionCount++;
+		}
+	}
+
+	private static final class Entry {
+
+		private final GenericEntity entity;
+
+		private final long expiresAt;
+
+		private Entry(final GenericEntity theEntity, final long theExpiresAt) {
+			this.entity = theEntity;
+			this.expiresAt = theExpiresAt;
+		}
+	}
+
+	private static final class Key {
+
+		private final String collectionType;
+
+		private final String domain;
+
+		private final int id;
+
+		private final String projectName;
+
+		private Key(final Project project, final String theCollectionType, final int theId) {
+			this.domain = project.getDomain();
+			this.projectName = project.getProjectName();
+			this.collectionType = theCollectionType;
+			this.id = theId;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) obj;
+			return (id == other.id) && collectionType.equals(other.collectionType) && domain.equals(other.domain)
+					&& projectName.equals(other.projectName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(domain, projectName, collectionType, id);
+		}
+	}
+
+}
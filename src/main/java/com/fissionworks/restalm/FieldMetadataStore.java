@@ -0,0 +1,200 @@
+package com.fissionworks.restalm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+
+import com.fissionworks.restalm.conversion.marshalling.EntityFieldCollectionMarshaller;
+import com.fissionworks.restalm.model.customization.EntityField;
+import com.fissionworks.restalm.model.customization.EntityFieldCollection;
+import com.fissionworks.restalm.model.site.Project;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.naming.NoNameCoder;
+import com.thoughtworks.xstream.io.xml.CompactWriter;
+
+/**
+ * Stores the field metadata ALM reports for each entity type on the local
+ * disk, so that a new {@link Alm115Connection} can validate and write
+ * entities without first requesting the field metadata from ALM. Metadata is
+ * stored per ALM URL, domain and project, in the same XML format ALM returns
+ * it in, and is only used while it is younger than the configured maximum
+ * age; older metadata, or metadata written by an incompatible version of this
+ * library, is requested from ALM again and the stored copy replaced.
+ * <p>
+ * The store is best effort: failures reading or writing the stored metadata
+ * are logged and the metadata is requested from ALM as if it had not been
+ * stored. A store is enabled with
+ * {@link Alm115Connection.Builder#fieldMetadataStore(FieldMetadataStore)}.
+ *
+ * @since 1.0.0
+ */
+public final class FieldMetadataStore {
+
+	private static final String FILE_SUFFIX = ".fields-v1.xml";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FieldMetadataStore.class);
+
+	private final Path directory;
+
+	private final long maxAgeMillis;
+
+	/**
+	 * Creates a store that keeps its metadata in the given directory.
+	 *
+	 * @param theDirectory
+	 *            The directory to store metadata in; created when metadata is
+	 *            first stored if it does not exist.
+	 * @param theMaxAgeMillis
+	 *            How long, in milliseconds, stored metadata is used before it
+	 *            is requested from ALM again.
+	 * @throws NullPointerException
+	 *             thrown if the directory is null.
+	 * @throws IllegalArgumentException
+	 *             thrown if the maximum age is not greater than zero.
+	 * @since 1.0.0
+	 */
+	public FieldMetadataStore(final Path theDirectory, final long theMaxAgeMillis) {
+		Validate.notNull(theDirectory, "directory cannot be null");
+		Validate.isTrue(theMaxAgeMillis > 0, "maximum age must be greater than zero");
+		this.directory = theDirectory;
+		this.maxAgeMillis = theMaxAgeMillis;
+	}
+
+	/**
+	 * Get the directory metadata is stored in.
+	 *
+	 * @return The metadata directory.
+	 * @since 1.0.0
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Get how long stored metadata is used before it is requested from ALM
+	 * again.
+	 *
+	 * @return The maximum age in milliseconds.
+	 * @since 1.0.0
+	 */
+	public long getMaxAgeMillis() {
+		return maxAgeMillis;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <FieldMetadataStore> {\n    directory=|")
+				.append(directory).append("|,\n    maxAgeMillis=|").append(maxAgeMillis).append("|");
+		return builder.toString();
+	}
+
+	/*
+	 * Returns the stored metadata, or null if there is no usable metadata
+	 * stored for the entity type.
+	 */
+	EntityFieldCollection load(final String url, final Project project, final String entityType) {
+		final Path file = getFile(url, project, entityType);
+		try {
+			final long age = System.currentTimeMillis() - Files.getLastModifiedTime(file).to(TimeUnit.MILLISECONDS);
+			if (age > maxAgeMillis) {
+				return null;
+			}
+			try (final InputStream body = Files.newInputStream(file)) {
+				final HttpInputMessage inputMessage = new HttpInputMessage() {
+					@Override
+					public InputStream getBody() {
+						return body;
+					}
+
+					@Override
+					public HttpHeaders getHeaders() {
+						return new HttpHeaders();
+					}
+				};
+				return new EntityFieldCollectionMarshaller().read(EntityFieldCollection.class, inputMessage);
+			}
+		} catch (final NoSuchFileException exception) {
+			return null;
+		} catch (final IOException | RuntimeException exception) {
+			LOGGER.warn("Unable to read stored field metadata from " + file + ": " + exception.getMessage());
+			return null;
+		}
+	}
+
+	void save(final String url, final Project project, final String entityType,
+			final EntityFieldCollection entityFields) {
+		final Path file = getFile(url, project, entityType);
+		try {
+			Files.createDirectories(file.getParent());
+			final Path tempFile = Files.createTempFile(file.getParent(), entityType, ".tmp");
+			try {
+				try (final OutputStream body = Files.newOutputStream(tempFile)) {
+					write(body, entityFields);
+				}
+				try {
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (final AtomicMoveNotSupportedException exception) {
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
+		} catch (final IOException exception) {
+			LOGGER.warn("Unable to store field metadata in " + file + ": " + exception.getMessage());
+		}
+	}
+
+	private String encode(final String value) {
+		try {
+			return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+		} catch (final UnsupportedEncodingException exception) {
+			throw new IllegalStateException("UTF-8 encoding not supported", exception);
+		}
+	}
+
+	private Path getFile(final String url, final Project project, final String entityType) {
+		return directory.resolve(encode(url)).resolve(encode(project.getDomain()))
+				.resolve(encode(project.getProjectName())).resolve(encode(entityType) + FILE_SUFFIX);
+	}
+
+	private void write(final OutputStream body, final EntityFieldCollection entityFields) throws IOException {
+		final OutputStreamWriter streamWriter = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+		final HierarchicalStreamWriter writer = new CompactWriter(streamWriter, new NoNameCoder());
+		writer.startNode("Fields");
+		for (final EntityField field : entityFields) {
+			writer.startNode("Field");
+			writer.addAttribute("Name", field.getName());
+			writer.addAttribute("Label", field.getLabel());
+			writeValue(writer, "Required", field.isRequired());
+			writeValue(writer, "System", field.isSystem());
+			writeValue(writer, "Editable", field.isEditable());
+			writer.endNode();
+		}
+		writer.endNode();
+		writer.flush();
+	}
+
+	private void writeValue(final HierarchicalStreamWriter writer, final String parameterName, final boolean value) {
+		writer.startNode(parameterName);
+		writer.setValue(String.valueOf(value));
+		writer.endNode();
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.fissionworks.restalm;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.IntFunction;
+
+import org.apache.commons.lang3.Validate;
+
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+
+/**
+ * Iterator that lazily walks every page of an entity collection query. Only
+ * the page currently being iterated and the next page are held in memory; the
+ * next page is requested on a background thread as soon as the current page
+ * arrives, so the caller's processing overlaps with the next round-trip to
+ * ALM. The background thread is released once the last page has been
+ * retrieved or {@link #close()} is called.
+ *
+ * @param <T>
+ *            The type of {@link AlmEntity} being iterated.
+ * @since 1.0.0
+ */
+final class PagedEntityIterator<T extends AlmEntity> implements Iterator<T>, Closeable {
+
+	private Iterator<T> currentPage = Collections.emptyIterator();
+
+	private ExecutorService executor;
+
+	private int nextStartIndex;
+
+	private Future<AlmEntityCollection<T>> nextPage;
+
+	private final IntFunction<AlmEntityCollection<T>> pageLoader;
+
+	private final int pageSize;
+
+	private boolean started;
+
+	/**
+	 * Creates an iterator that requests pages through the given page loader.
+	 *
+	 * @param thePageLoader
+	 *            Function that retrieves the page beginning at the given
+	 *            (1-based) start index.
+	 * @param thePageSize
+	 *            The page size the page loader uses.
+	 * @param theStartIndex
+	 *            The start index of the first page.
+	 * @since 1.0.0
+	 */
+	PagedEntityIterator(final IntFunction<AlmEntityCollection<T>> thePageLoader, final int thePageSize,
+			final int theStartIndex) {
+		Validate.notNull(thePageLoader, "pageLoader cannot be null");
+		Validate.isTrue(thePageSize > 0, "the page size must be greater than zero");
+		Validate.isTrue(theStartIndex > 0, "the start index must be greater than zero");
+		this.pageLoader = thePageLoader;
+		this.pageSize = thePageSize;
+		this.nextStartIndex = theStartIndex;
+	}
+
+	/**
+	 * Stops any outstanding prefetch and releases the background thread.
+	 *
+	 * @since 1.0.0
+	 */
+	@Override
+	public void close() {
+		if (nextPage != null) {
+			nextPage.cancel(true);
+			nextPage = null;
+		}
+		shutdownExecutor();
+		currentPage = Collections.emptyIterator();
+		started = true;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			started = true;
+			acceptPage(pageLoader.apply(nextStartIndex));
+		}
+		while (!currentPage.hasNext() && (nextPage != null)) {
+			acceptPage(awaitNextPage());
+		}
+		return currentPage.hasNext();
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more entities available");
+		}
+		return currentPage.next();
+	}
+
+	private void acceptPage(final AlmEntityCollection<T> page) {
+		currentPage = page.iterator();
+		nextStartIndex += pageSize;
+		// an empty page means the result set shrank while paging; stop rather
+		// than requesting pages that can no longer contain results.
+		if ((page.size() > 0) && (nextStartIndex <= page.getTotalResults())) {
+			prefetch(nextStartIndex);
+		} else {
+			shutdownExecutor();
+		}
+	}
+
+	private AlmEntityCollection<T> awaitNextPage() {
+		final Future<AlmEntityCollection<T>> page = nextPage;
+		nextPage = null;
+		try {
+			return page.get();
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new IllegalStateException("Interrupted while waiting for the next page of entities", exception);
+		} catch (final ExecutionException exception) {
+			close();
+			if (exception.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) exception.getCause();
+			}
+			throw new IllegalStateException("Error retrieving the next page of entities", exception.getCause());
+		}
+	}
+
+	private void prefetch(final int startIndex) {
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable runnable) {
+					final Thread thread = new Thread(runnable, "restalm-page-prefetch");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		nextPage = executor.submit(new Callable<AlmEntityCollection<T>>() {
+			@Override
+			public AlmEntityCollection<T> call() {
+				return pageLoader.apply(startIndex);
+			}
+		});
+	}
+
+	private void shutdownExecutor() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+}
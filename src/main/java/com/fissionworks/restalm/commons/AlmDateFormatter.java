@@ -1,6 +1,13 @@
 package com.fissionworks.restalm.commons;
 
 import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -11,12 +18,33 @@ import org.apache.commons.lang3.time.DateUtils;
  * Utility class that encapsulates the date/datetime formats used in ALM, as
  * well as the checked {@link ParseException} thrown during date string parsing
  * that is not correctable at runtime.
+ * <p>
+ * Dates in the exact ALM formats from the year 1900 on are parsed and
+ * formatted with shared, thread safe {@code java.time} formatters; other
+ * dates (including the {@code Long.MIN_VALUE} used by entities for unset
+ * dates) are handled as {@link java.text.SimpleDateFormat} would, so results
+ * are the same for all dates.
  *
  * @since 1.0.0
  *
  */
 public final class AlmDateFormatter {
 
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+			.withResolverStyle(ResolverStyle.STRICT);
+
+	private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss")
+			.withResolverStyle(ResolverStyle.STRICT);
+
+	/*
+	 * java.time and java.util dates agree on years from here on; earlier years
+	 * may fall before the Julian/Gregorian cutover or in historic time zone
+	 * offsets the two handle differently.
+	 */
+	private static final int MINIMUM_FAST_YEAR = 1900;
+
+	private static final int MAXIMUM_FAST_YEAR = 9999;
+
 	private static final String STANDARD_DATE_FORMAT = "yyyy-MM-dd";
 
 	private static final String STANDARD_DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
@@ -37,13 +65,7 @@ public final class AlmDateFormatter {
 	 * @since 1.0.0
 	 */
 	public static Date createDate(final String date) {
-		try {
-			return DateUtils.parseDateStrictly(date, STANDARD_DATE_FORMAT);
-		} catch (final ParseException exception) {
-			throw new IllegalArgumentException(
-					"ParseException thrown while parsing date string; string must conform to yyyy-MM-dd", exception);
-		}
-
+		return new Date(parseDate(date));
 	}
 
 	/**
@@ -60,14 +82,7 @@ public final class AlmDateFormatter {
 	 * @since 1.0.0
 	 */
 	public static Date createDateTime(final String datetime) {
-		try {
-			return DateUtils.parseDateStrictly(datetime, STANDARD_DATETIME_FORMAT);
-		} catch (final ParseException exception) {
-			throw new IllegalArgumentException(
-					"ParseException thrown while parsing datetime string; string must conform to yyyy-MM-dd hh:mm:ss",
-					exception);
-		}
-
+		return new Date(parseDateTime(datetime));
 	}
 
 	/**
@@ -83,6 +98,24 @@ public final class AlmDateFormatter {
 		return DateFormatUtils.format(calendar, STANDARD_DATE_FORMAT);
 	}
 
+	/**
+	 * Creates a string representation of the given time, in the default time
+	 * zone, in the standard ALM date format of "yyyy-MM-dd".
+	 *
+	 * @param millis
+	 *            The time, in milliseconds since the epoch, to create a string
+	 *            representation of.
+	 * @return A string in the format "yyyy-MM-dd".
+	 * @since 1.0.0
+	 */
+	public static String getStandardDate(final long millis) {
+		final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+		if (isFastYear(dateTime.getYear())) {
+			return DATE_FORMATTER.format(dateTime);
+		}
+		return DateFormatUtils.format(millis, STANDARD_DATE_FORMAT);
+	}
+
 	/**
 	 * Creates a string representation of the given {@link Calendar} in the
 	 * standard ALM datetime format of "yyyy-MM-dd HH:mm:ss".
@@ -96,4 +129,101 @@ public final class AlmDateFormatter {
 		return DateFormatUtils.format(calendar, STANDARD_DATETIME_FORMAT);
 	}
 
+	/**
+	 * Creates a string representation of the given time, in the default time
+	 * zone, in the standard ALM datetime format of "yyyy-MM-dd HH:mm:ss".
+	 *
+	 * @param millis
+	 *            The time, in milliseconds since the epoch, to create a string
+	 *            representation of.
+	 * @return A string in the format "yyyy-MM-dd HH:mm:ss".
+	 * @since 1.0.0
+	 */
+	public static String getStandardDateTime(final long millis) {
+		final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+		if (isFastYear(dateTime.getYear())) {
+			return DATETIME_FORMATTER.format(dateTime);
+		}
+		return DateFormatUtils.format(millis, STANDARD_DATETIME_FORMAT);
+	}
+
+	/**
+	 * Parses the given date string to the time, in milliseconds since the
+	 * epoch, of the start of that day in the default time zone.
+	 *
+	 * @param date
+	 *            The date string to parse; Must be in the format "yyyy-MM-dd".
+	 * @return The time the given date string represents.
+	 * @throws IllegalArgumentException
+	 *             thrown if the given date string is not in the format
+	 *             "yyyy-MM-dd" or has invalid values (i.e. 2014-13-32).
+	 * @since 1.0.0
+	 */
+	public static long parseDate(final String date) {
+		if (date != null) {
+			try {
+				final LocalDateTime localDateTime = LocalDate.parse(date, DATE_FORMATTER).atStartOfDay();
+				final ZoneId zone = ZoneId.systemDefault();
+				if (isFastDateTime(localDateTime, zone)) {
+					return localDateTime.atZone(zone).toInstant().toEpochMilli();
+				}
+			} catch (final DateTimeParseException exception) {
+				// not in the exact format; the legacy parser decides
+			}
+		}
+		try {
+			return DateUtils.parseDateStrictly(date, STANDARD_DATE_FORMAT).getTime();
+		} catch (final ParseException exception) {
+			throw new IllegalArgumentException(
+					"ParseException thrown while parsing date string; string must conform to yyyy-MM-dd", exception);
+		}
+	}
+
+	/**
+	 * Parses the given datetime string, in the default time zone, to the time
+	 * in milliseconds since the epoch.
+	 *
+	 * @param datetime
+	 *            The datetime string to parse; Must be in the format
+	 *            "yyyy-MM-dd HH:mm:ss".
+	 * @return The time the given datetime string represents.
+	 * @throws IllegalArgumentException
+	 *             thrown if the given date string is not in the format
+	 *             "yyyy-MM-dd HH:mm:ss" or has invalid values (i.e. 2014-13-32
+	 *             25:61:62).
+	 * @since 1.0.0
+	 */
+	public static long parseDateTime(final String datetime) {
+		if (datetime != null) {
+			try {
+				final LocalDateTime localDateTime = LocalDateTime.parse(datetime, DATETIME_FORMATTER);
+				final ZoneId zone = ZoneId.systemDefault();
+				if (isFastDateTime(localDateTime, zone)) {
+					return localDateTime.atZone(zone).toInstant().toEpochMilli();
+				}
+			} catch (final DateTimeParseException exception) {
+				// not in the exact format; the legacy parser decides
+			}
+		}
+		try {
+			return DateUtils.parseDateStrictly(datetime, STANDARD_DATETIME_FORMAT).getTime();
+		} catch (final ParseException exception) {
+			throw new IllegalArgumentException(
+					"ParseException thrown while parsing datetime string; string must conform to yyyy-MM-dd hh:mm:ss",
+					exception);
+		}
+	}
+
+	/*
+	 * Local times skipped or repeated by a daylight saving transition are left
+	 * to the legacy parser, which resolves them differently.
+	 */
+	private static boolean isFastDateTime(final LocalDateTime localDateTime, final ZoneId zone) {
+		return isFastYear(localDateTime.getYear()) && (zone.getRules().getValidOffsets(localDateTime).size() == 1);
+	}
+
+	private static boolean isFastYear(final int year) {
+		return (year >= MINIMUM_FAST_YEAR) && (year <= MAXIMUM_FAST_YEAR);
+	}
+
 }
@@ -33,6 +33,16 @@ public enum ServiceUrl {
 	 */
 	BULK_DELETE_URL("{url}/qcbin/rest/domains/{domain}/projects/{projectName}/{collectionType}?ids-to-delete={ids}"),
 
+	/**
+	 * PUT Method; URL for updating several entities of a collection in a
+	 * single request; URL value is "
+	 * <code>{url}/qcbin/rest/domains/{domain}/projects/{projectName}/{collectionType}</code>
+	 * ".
+	 *
+	 * @since 1.0.0
+	 */
+	BULK_UPDATE_URL("{url}/qcbin/rest/domains/{domain}/projects/{projectName}/{collectionType}"),
+
 	/**
 	 * URL for interaction with specific entities by ID; URL value is "
 	 * <code>{url}/qcbin/rest/domains/{domain}/projects/{projectName}/{collectionType}/{id}</code>".
@@ -1,9 +1,18 @@
 package com.fissionworks.restalm.conversion;
 
+import java.io.IOException;
+
 import org.apache.commons.lang3.StringUtils;
 
+import net.htmlparser.jericho.CharacterReference;
+import net.htmlparser.jericho.HTMLElementName;
+import net.htmlparser.jericho.HTMLElements;
 import net.htmlparser.jericho.Segment;
 import net.htmlparser.jericho.Source;
+import net.htmlparser.jericho.StartTag;
+import net.htmlparser.jericho.StartTagType;
+import net.htmlparser.jericho.StreamedSource;
+import net.htmlparser.jericho.Tag;
 import net.htmlparser.jericho.TextExtractor;
 
 /**
@@ -14,6 +23,12 @@ import net.htmlparser.jericho.TextExtractor;
  */
 public final class ConversionUtils {
 
+	/*
+	 * Above this length a Source, which keeps every tag of the document
+	 * cached, costs more than parsing the markup once as a stream.
+	 */
+	static final int STREAMING_THRESHOLD = 64 * 1024;
+
 	private ConversionUtils() {
 		throw new UnsupportedOperationException("ConversionUtils should not be instantiated");
 	}
@@ -29,6 +44,12 @@ public final class ConversionUtils {
 	 */
 	public static String removeHtml(final String sourceString) {
 		if (StringUtils.isNotBlank(sourceString)) {
+			if (isPlainText(sourceString)) {
+				return sourceString;
+			}
+			if (sourceString.length() > STREAMING_THRESHOLD) {
+				return removeHtmlStreamed(sourceString);
+			}
 			final TextExtractor extractor = new TextExtractor(
 					new Segment(new Source(sourceString), 0, sourceString.length()));
 			return extractor.toString();
@@ -36,4 +57,70 @@ public final class ConversionUtils {
 		return sourceString;
 	}
 
+	/*
+	 * True if the string has no markup, character references or white space
+	 * the TextExtractor would collapse, so extracting its text would return it
+	 * unchanged.
+	 */
+	static boolean isPlainText(final String string) {
+		final int lastIndex = string.length() - 1;
+		for (int index = 0; index <= lastIndex; index++) {
+			final char character = string.charAt(index);
+			if (character == ' ') {
+				if ((index == 0) || (index == lastIndex) || (string.charAt(index + 1) == ' ')) {
+					return false;
+				}
+			} else if ((character == '<') || (character == '&') || (character < ' ') || (character == '\u200B')
+					|| Character.isWhitespace(character) || Character.isSpaceChar(character)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Extracts the text as the TextExtractor does, from a single pass over the
+	 * markup: script, style and server elements are dropped, tags that are not
+	 * inline are replaced by a space and the white space of the result is
+	 * collapsed with its character references decoded.
+	 */
+	static String removeHtmlStreamed(final String sourceString) {
+		final StringBuilder text = new StringBuilder(sourceString.length());
+		String skipToEndTag = null;
+		try (final StreamedSource source = new StreamedSource(sourceString)) {
+			for (final Segment segment : source) {
+				if (!(segment instanceof Tag)) {
+					if (skipToEndTag == null) {
+						text.append(segment);
+					}
+					continue;
+				}
+				final Tag tag = (Tag) segment;
+				if (skipToEndTag != null) {
+					if (tag.getName().equals(skipToEndTag) && !(tag instanceof StartTag)) {
+						skipToEndTag = null;
+					}
+					continue;
+				}
+				if (tag.getTagType().isServerTag()) {
+					continue;
+				}
+				if ((tag.getTagType() == StartTagType.NORMAL) && ((tag.getName().equals(HTMLElementName.SCRIPT))
+						|| tag.getName().equals(HTMLElementName.STYLE))) {
+					if (!((StartTag) tag).isSyntacticalEmptyElementTag()) {
+						skipToEndTag = tag.getName();
+					}
+					continue;
+				}
+				if (tag.getName().equals(HTMLElementName.BR)
+						|| !HTMLElements.getInlineLevelElementNames().contains(tag.getName())) {
+					text.append(' ');
+				}
+			}
+		} catch (final IOException exception) {
+			throw new IllegalStateException("unable to read HTML from a string", exception);
+		}
+		return CharacterReference.decodeCollapseWhiteSpace(text);
+	}
+
 }
@@ -10,9 +10,7 @@ import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 
-import com.fissionworks.restalm.model.entity.base.Field;
 import com.fissionworks.restalm.model.entity.base.GenericEntity;
-import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import com.thoughtworks.xstream.io.xml.CompactWriter;
 
@@ -45,35 +43,14 @@ public final class EntityMarshaller implements HttpMessageConverter<GenericEntit
 	@Override
 	public GenericEntity read(final Class<? extends GenericEntity> clazz, final HttpInputMessage inputMessage)
 			throws IOException {
-		final HierarchicalStreamReader reader = MarshallingUtils.createReader(inputMessage);
-		return MarshallingUtils.createEntity(reader);
+		return StreamingEntityParser.parseEntity(inputMessage.getBody());
 	}
 
 	@Override
 	public void write(final GenericEntity entity, final MediaType contentType, final HttpOutputMessage outputMessage)
 			throws IOException {
 		final HierarchicalStreamWriter writer = new CompactWriter(new OutputStreamWriter(outputMessage.getBody()));
-		writer.startNode("Entity");
-		writer.addAttribute("Type", entity.getType());
-		writer.startNode("Fields");
-		for (final Field field : entity.getFields()) {
-			writer.startNode("Field");
-			writer.addAttribute("Name", field.getName());
-			if (field.getValues().size() == 0) {
-				writer.startNode("Value");
-				writer.endNode();
-			} else {
-				for (final String value : field.getValues()) {
-					writer.startNode("Value");
-					writer.setValue(value);
-					writer.endNode();
-				}
-			}
-			writer.endNode();
-		}
-		writer.endNode();
-		writer.endNode();
-
+		MarshallingUtils.writeEntity(writer, entity);
 	}
 
 }
@@ -2,22 +2,30 @@ package com.fissionworks.restalm.conversion.marshalling;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
 import org.xmlpull.v1.XmlPullParserException;
 import org.xmlpull.v1.XmlPullParserFactory;
 
 import com.fissionworks.restalm.model.entity.base.Field;
+import com.fissionworks.restalm.model.entity.base.FieldCursor;
 import com.fissionworks.restalm.model.entity.base.GenericEntity;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import com.thoughtworks.xstream.io.naming.NoNameCoder;
 import com.thoughtworks.xstream.io.path.PathTracker;
 import com.thoughtworks.xstream.io.path.PathTrackingReader;
+import com.thoughtworks.xstream.io.xml.CompactWriter;
 import com.thoughtworks.xstream.io.xml.XppReader;
 
 /**
@@ -31,8 +39,13 @@ public final class MarshallingUtils {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MarshallingUtils.class);
 
+	private static final MediaType COLLECTION_MEDIA_TYPE = new MediaType("application", "xml",
+			Collections.singletonMap("type", "collection"));
+
 	private static final String NAME = "Name";
 
+	private static final XmlPullParserFactory PARSER_FACTORY = createParserFactory();
+
 	private static final String TYPE = "Type";
 
 	private MarshallingUtils() {
@@ -78,11 +91,9 @@ public final class MarshallingUtils {
 	 * @since 1.0.0
 	 */
 	public static HierarchicalStreamReader createReader(final HttpInputMessage inputMessage) {
-		XmlPullParserFactory factory;
 		try {
-			factory = XmlPullParserFactory.newInstance();
 			final XppReader reader = new XppReader(new InputStreamReader(inputMessage.getBody()),
-					factory.newPullParser(), new NoNameCoder());
+					PARSER_FACTORY.newPullParser(), new NoNameCoder());
 			return new PathTrackingReader(reader, new PathTracker());
 		} catch (XmlPullParserException | IOException e) {
 			LOGGER.error("Marshalling failure; unable to create stream reader to process HTTP response");
@@ -90,6 +101,76 @@ public final class MarshallingUtils {
 		throw new IllegalStateException("Unable to create HierarchicalStreamReader");
 	}
 
+	/**
+	 * Writes the given entities as a single {@code Entities} element to the
+	 * body of the given message, as expected by ALM's bulk operations, and
+	 * sets the {@code application/xml;type=collection} content type on the
+	 * message. Entities are written in iteration order.
+	 *
+	 * @param outputMessage
+	 *            The message to write to.
+	 * @param entities
+	 *            The entities to write.
+	 * @throws IOException
+	 *             Thrown if the message body cannot be written.
+	 * @since 1.0.0
+	 */
+	public static void writeEntities(final HttpOutputMessage outputMessage, final Iterable<GenericEntity> entities)
+			throws IOException {
+		outputMessage.getHeaders().setContentType(COLLECTION_MEDIA_TYPE);
+		final HierarchicalStreamWriter writer = new CompactWriter(
+				new OutputStreamWriter(outputMessage.getBody(), StandardCharsets.UTF_8));
+		writer.startNode("Entities");
+		for (final GenericEntity entity : entities) {
+			writeEntity(writer, entity);
+		}
+		writer.endNode();
+		writer.flush();
+	}
+
+	/**
+	 * Writes the given entity as an {@code Entity} element (type and fields)
+	 * using the provided writer.
+	 *
+	 * @param writer
+	 *            The writer to use, which should be positioned where the
+	 *            {@code Entity} node is to be written.
+	 * @param entity
+	 *            The entity to write.
+	 * @since 1.0.0
+	 */
+	public static void writeEntity(final HierarchicalStreamWriter writer, final GenericEntity entity) {
+		writer.startNode("Entity");
+		writer.addAttribute(TYPE, entity.getType());
+		writer.startNode("Fields");
+		final FieldCursor field = entity.getFieldCursor();
+		while (field.next()) {
+			writer.startNode("Field");
+			writer.addAttribute(NAME, field.getName());
+			if (field.isEmpty()) {
+				writer.startNode("Value");
+				writer.endNode();
+			} else {
+				for (int index = 0; index < field.getValueCount(); index++) {
+					writer.startNode("Value");
+					writer.setValue(field.getValue(index));
+					writer.endNode();
+				}
+			}
+			writer.endNode();
+		}
+		writer.endNode();
+		writer.endNode();
+	}
+
+	private static XmlPullParserFactory createParserFactory() {
+		try {
+			return XmlPullParserFactory.newInstance();
+		} catch (final XmlPullParserException exception) {
+			throw new IllegalStateException("Unable to create XmlPullParserFactory", exception);
+		}
+	}
+
 	private static List<Field> getFields(final HierarchicalStreamReader reader) {
 		final List<Field> fields = new ArrayList<>();
 		reader.moveDown();
@@ -0,0 +1,316 @@
+package com.fissionworks.restalm.conversion.marshalling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+import org.xmlpull.v1.XmlPullParserFactory;
+
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.DefectField;
+import com.fissionworks.restalm.constants.field.DesignStepField;
+import com.fissionworks.restalm.constants.field.FieldName;
+import com.fissionworks.restalm.constants.field.ReleaseCycleField;
+import com.fissionworks.restalm.constants.field.ReleaseField;
+import com.fissionworks.restalm.constants.field.ReleaseFolderField;
+import com.fissionworks.restalm.constants.field.RequirementCoverageField;
+import com.fissionworks.restalm.constants.field.RequirementField;
+import com.fissionworks.restalm.constants.field.RunField;
+import com.fissionworks.restalm.constants.field.TestConfigField;
+import com.fissionworks.restalm.constants.field.TestFolderField;
+import com.fissionworks.restalm.constants.field.TestInstanceField;
+import com.fissionworks.restalm.constants.field.TestSetField;
+import com.fissionworks.restalm.constants.field.TestSetFolderField;
+import com.fissionworks.restalm.jfr.FlightRecorderEvents;
+import com.fissionworks.restalm.model.entity.base.Field;
+import com.fissionworks.restalm.model.entity.base.FieldLayout;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+
+/**
+ * Pull parser for the entity XML returned by the ALM rest API. Unlike the
+ * {@code HierarchicalStreamReader} returned by
+ * {@link MarshallingUtils#createReader(org.springframework.http.HttpInputMessage)},
+ * the parser works directly against a pull parser created from a shared
+ * factory, without path tracking, and hands each {@code Entity} of an
+ * {@code Entities} payload to a consumer as soon as it has been read, so a
+ * collection never has to be held in memory in full. Field names and entity
+ * types are replaced with the canonical strings defined by the
+ * {@link FieldName} and {@link EntityType} enums, so large numbers of parsed
+ * entities share a single copy of each name. Each payload parsed is reported
+ * as a marshalling event to {@link FlightRecorderEvents}.
+ *
+ * @since 1.0.0
+ *
+ */
+public final class StreamingEntityParser {
+
+	private static final String ENTITY = "Entity";
+
+	private static final String FIELD = "Field";
+
+	private static final String FIELDS = "Fields";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StreamingEntityParser.class);
+
+	private static final String NAME = "Name";
+
+	private static final Map<String, String> NAMES = createNames();
+
+	private static final XmlPullParserFactory PARSER_FACTORY = createParserFactory();
+
+	private static final String RELATED_ENTITIES = "RelatedEntities";
+
+	private static final String RELATION = "Relation";
+
+	private static final String TOTAL_RESULTS = "TotalResults";
+
+	private static final String TYPE = "Type";
+
+	private static final String VALUE = "Value";
+
+	private StreamingEntityParser() {
+		throw new UnsupportedOperationException("StreamingEntityParser should not be instantiated");
+	}
+
+	/**
+	 * Parses an {@code Entities} payload, passing each top level entity to the
+	 * given consumer in document order. The entities of the payload share one
+	 * {@link FieldLayout}.
+	 *
+	 * @param body
+	 *            The UTF-8 encoded XML to parse.
+	 * @param consumer
+	 *            Receives each {@link GenericEntity} as soon as it is parsed.
+	 * @return The value of the {@code TotalResults} attribute of the payload,
+	 *         or the number of entities parsed if the payload (such as the
+	 *         response to a bulk operation) has no such attribute.
+	 * @throws IOException
+	 *             Thrown if the body cannot be read.
+	 * @throws IllegalStateException
+	 *             Thrown if the body is not a well formed {@code Entities}
+	 *             payload.
+	 * @since 1.0.0
+	 */
+	public static int parseEntities(final InputStream body, final Consumer<GenericEntity> consumer)
+			throws IOException {
+		final Object event = FlightRecorderEvents.beginMarshalling();
+		String entityType = null;
+		int entityCount = 0;
+		try {
+			final XmlPullParser parser = createParser(body);
+			final FieldLayout layout = new FieldLayout();
+			final String totalResults = parser.getAttributeValue(null, TOTAL_RESULTS);
+			while (nextTag(parser) == XmlPullParser.START_TAG) {
+				if (ENTITY.equals(parser.getName())) {
+					final GenericEntity entity = readEntity(parser, layout, true);
+					if (entityType == null) {
+						entityType = entity.getType();
+					}
+					consumer.accept(entity);
+					entityCount++;
+				} else {
+					skip(parser);
+				}
+			}
+			return totalResults == null ? entityCount : Integer.parseInt(totalResults);
+		} catch (final XmlPullParserException exception) {
+			LOGGER.error("Marshalling failure; unable to parse entity collection XML");
+			throw new IllegalStateException("Unable to parse entity collection XML", exception);
+		} finally {
+			FlightRecorderEvents.commitMarshalling(event, entityType, entityCount);
+		}
+	}
+
+	/**
+	 * Parses a single {@code Entity} payload, including its related entities.
+	 *
+	 * @param body
+	 *            The UTF-8 encoded XML to parse.
+	 * @return The parsed {@link GenericEntity}.
+	 * @throws IOException
+	 *             Thrown if the body cannot be read.
+	 * @throws IllegalStateException
+	 *             Thrown if the body is not a well formed {@code Entity}
+	 *             payload.
+	 * @since 1.0.0
+	 */
+	public static GenericEntity parseEntity(final InputStream body) throws IOException {
+		final Object event = FlightRecorderEvents.beginMarshalling();
+		GenericEntity entity = null;
+		try {
+			entity = readEntity(createParser(body), new FieldLayout(), true);
+			return entity;
+		} catch (final XmlPullParserException exception) {
+			LOGGER.error("Marshalling failure; unable to parse entity XML");
+			throw new IllegalStateException("Unable to parse entity XML", exception);
+		} finally {
+			FlightRecorderEvents.commitMarshalling(event, entity == null ? null : entity.getType(),
+					entity == null ? 0 : 1);
+		}
+	}
+
+	private static void addNames(final Map<String, String> names, final FieldName[] fieldNames) {
+		for (final FieldName fieldName : fieldNames) {
+			names.put(fieldName.getName(), fieldName.getName());
+		}
+	}
+
+	private static String canonical(final String name) {
+		final String canonicalName = NAMES.get(name);
+		return canonicalName == null ? name : canonicalName;
+	}
+
+	private static Map<String, String> createNames() {
+		final Map<String, String> names = new HashMap<>();
+		for (final EntityType entityType : EntityType.values()) {
+			names.put(entityType.entityName(), entityType.entityName());
+		}
+		addNames(names, AlmTestField.values());
+		addNames(names, DefectField.values());
+		addNames(names, DesignStepField.values());
+		addNames(names, ReleaseCycleField.values());
+		addNames(names, ReleaseField.values());
+		addNames(names, ReleaseFolderField.values());
+		addNames(names, RequirementCoverageField.values());
+		addNames(names, RequirementField.values());
+		addNames(names, RunField.values());
+		addNames(names, TestConfigField.values());
+		addNames(names, TestFolderField.values());
+		addNames(names, TestInstanceField.values());
+		addNames(names, TestSetField.values());
+		addNames(names, TestSetFolderField.values());
+		return Collections.unmodifiableMap(names);
+	}
+
+	private static XmlPullParser createParser(final InputStream body) throws XmlPullParserException {
+		final XmlPullParser parser = PARSER_FACTORY.newPullParser();
+		parser.setInput(new InputStreamReader(body, StandardCharsets.UTF_8));
+		try {
+			parser.nextTag();
+		} catch (final IOException exception) {
+			throw new XmlPullParserException("Unable to read XML root element", parser, exception);
+		}
+		return parser;
+	}
+
+	private static XmlPullParserFactory createParserFactory() {
+		try {
+			return XmlPullParserFactory.newInstance();
+		} catch (final XmlPullParserException exception) {
+			throw new IllegalStateException("Unable to create XmlPullParserFactory", exception);
+		}
+	}
+
+	/*
+	 * Advances to the next start or end tag, ignoring text, comments and
+	 * processing instructions; returns END_DOCUMENT at the end of input.
+	 */
+	private static int nextTag(final XmlPullParser parser) throws XmlPullParserException, IOException {
+		int eventType = parser.next();
+		while ((eventType != XmlPullParser.START_TAG) && (eventType != XmlPullParser.END_TAG)
+				&& (eventType != XmlPullParser.END_DOCUMENT)) {
+			eventType = parser.next();
+		}
+		return eventType;
+	}
+
+	private static GenericEntity readEntity(final XmlPullParser parser, final FieldLayout layout,
+			final boolean includeRelatedEntities) throws XmlPullParserException, IOException {
+		final String type = canonical(parser.getAttributeValue(null, TYPE));
+		List<Field> fields = Collections.emptyList();
+		List<GenericEntity> relatedEntities = Collections.emptyList();
+		while (nextTag(parser) == XmlPullParser.START_TAG) {
+			if (FIELDS.equals(parser.getName())) {
+				fields = readFields(parser);
+			} else if (includeRelatedEntities && RELATED_ENTITIES.equals(parser.getName())) {
+				relatedEntities = readRelatedEntities(parser, layout);
+			} else {
+				skip(parser);
+			}
+		}
+		final GenericEntity entity = new GenericEntity(type, fields, layout);
+		for (final GenericEntity relatedEntity : relatedEntities) {
+			entity.addRelatedEntity(relatedEntity);
+		}
+		return entity;
+	}
+
+	private static List<Field> readFields(final XmlPullParser parser) throws XmlPullParserException, IOException {
+		final List<Field> fields = new ArrayList<>();
+		while (nextTag(parser) == XmlPullParser.START_TAG) {
+			if (FIELD.equals(parser.getName())) {
+				final String name = canonical(parser.getAttributeValue(null, NAME));
+				fields.add(new Field(name, readValues(parser)));
+			} else {
+				skip(parser);
+			}
+		}
+		return fields;
+	}
+
+	private static List<GenericEntity> readRelatedEntities(final XmlPullParser parser, final FieldLayout layout)
+			throws XmlPullParserException, IOException {
+		final List<GenericEntity> relatedEntities = new ArrayList<>();
+		while (nextTag(parser) == XmlPullParser.START_TAG) {
+			if (RELATION.equals(parser.getName())) {
+				while (nextTag(parser) == XmlPullParser.START_TAG) {
+					if (ENTITY.equals(parser.getName())) {
+						relatedEntities.add(readEntity(parser, layout, false));
+					} else {
+						skip(parser);
+					}
+				}
+			} else {
+				skip(parser);
+			}
+		}
+		return relatedEntities;
+	}
+
+	private static List<String> readValues(final XmlPullParser parser) throws XmlPullParserException, IOException {
+		final List<String> values = new ArrayList<>(1);
+		while (nextTag(parser) == XmlPullParser.START_TAG) {
+			if (VALUE.equals(parser.getName())) {
+				final String value = parser.nextText();
+				if (!value.isEmpty()) {
+					values.add(value);
+				}
+			} else {
+				skip(parser);
+			}
+		}
+		return values;
+	}
+
+	/*
+	 * Skips the element the parser is positioned on, including all children.
+	 */
+	private static void skip(final XmlPullParser parser) throws XmlPullParserException, IOException {
+		int depth = 1;
+		while (depth > 0) {
+			switch (nextTag(parser)) {
+			case XmlPullParser.START_TAG:
+				depth++;
+				break;
+			case XmlPullParser.END_TAG:
+				depth--;
+				break;
+			default:
+				throw new XmlPullParserException("Unexpected end of document", parser, null);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.fissionworks.restalm.http;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+import com.fissionworks.restalm.jfr.FlightRecorderEvents;
+
+/**
+ * Implements Spring RestTemplate's ClientHttpRequestInterceptor in order to
+ * emit a Java Flight Recorder event for every request made to ALM. Each event
+ * covers the request from being sent until its response is closed, and
+ * carries the {@link ServiceUrl} template and entity type the request
+ * corresponds to, the response status code and the number of response body
+ * bytes read. Requests are passed through untouched when no recording has
+ * enabled the event; see {@link FlightRecorderEvents}.
+ *
+ * @since 1.0.0
+ */
+public final class FlightRecorderInterceptor implements ClientHttpRequestInterceptor {
+
+	/**
+	 * Intercepts HTTP requests made to ALM to record them in a flight
+	 * recording.
+	 *
+	 * @since 1.0.0
+	 */
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+			final ClientHttpRequestExecution execution) throws IOException {
+		final Object event = FlightRecorderEvents.beginHttpExchange();
+		if (event == null) {
+			return execution.execute(request, body);
+		}
+		final ServiceRequest serviceRequest = ServiceRequest.classify(request);
+		final String urlTemplate = serviceRequest == null ? String.valueOf(request.getURI().getRawPath())
+				: serviceRequest.getServiceUrl().url();
+		final String entityType = serviceRequest == null ? null : serviceRequest.getEntityType();
+		final String method = String.valueOf(request.getMethod());
+		final ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		} catch (final IOException | RuntimeException exception) {
+			FlightRecorderEvents.commitHttpExchange(event, urlTemplate, method, entityType, -1, 0);
+			throw exception;
+		}
+		return new RecordedResponse(response, event, urlTemplate, method, entityType);
+	}
+
+	private static final class RecordedResponse extends ObservedResponse {
+
+		private final String entityType;
+
+		private final Object event;
+
+		private final String method;
+
+		private final String urlTemplate;
+
+		private RecordedResponse(final ClientHttpResponse theResponse, final Object theEvent,
+				final String theUrlTemplate, final String theMethod, final String theEntityType) {
+			super(theResponse);
+			this.event = theEvent;
+			this.urlTemplate = theUrlTemplate;
+			this.method = theMethod;
+			this.entityType = theEntityType;
+		}
+
+		@Override
+		void closed(final int statusCode, final long responseBytes) {
+			FlightRecorderEvents.commitHttpExchange(event, urlTemplate, method, entityType, statusCode,
+					responseBytes);
+		}
+	}
+
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
@@ -24,7 +25,9 @@ import com.fissionworks.restalm.model.authentication.Credentials;
  * constructed from the provided credentials, and subsequent requests will
  * include the LWSSO and QCSession cookies. Responses from ALM will be examined,
  * and if new LWSSO/QCSession cookies are returned they will be used on future
- * calls to maintain an active session.
+ * calls to maintain an active session. A single instance may be shared by
+ * concurrent requests; the current session cookies are published as one
+ * immutable pair so that every request sees a consistent session.
  *
  * @since 1.0.0
  *
@@ -47,9 +50,7 @@ public final class HttpHeaderManager implements ClientHttpRequestInterceptor {
 
 	private final String authorizationHeader;
 
-	private String lwssoCookie;
-
-	private String qcSessionCookie;
+	private volatile SessionCookies cookies = new SessionCookies(null, null);
 
 	/**
 	 * Constructor requires a valid Credentials object to build the
@@ -71,6 +72,7 @@ public final class HttpHeaderManager implements ClientHttpRequestInterceptor {
 	 * @since 1.0.0
 	 */
 	public String getCurrentLwssoCookie() {
+		final String lwssoCookie = cookies.lwssoCookie;
 		return lwssoCookie == null ? "" : lwssoCookie;
 	}
 
@@ -81,6 +83,7 @@ public final class HttpHeaderManager implements ClientHttpRequestInterceptor {
 	 * @since 1.0.0
 	 */
 	public String getCurrentQcSessionCookie() {
+		final String qcSessionCookie = cookies.qcSessionCookie;
 		return qcSessionCookie == null ? "" : qcSessionCookie;
 	}
 
@@ -93,7 +96,13 @@ public final class HttpHeaderManager implements ClientHttpRequestInterceptor {
 	@Override
 	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
 			final ClientHttpRequestExecution execution) throws IOException {
+		final MediaType contentType = request.getHeaders().getContentType();
 		request.getHeaders().putAll(getCurrentHeaders());
+		// keep a more specific content type (e.g. for bulk collection
+		// payloads) set by the message converter.
+		if (contentType != null) {
+			request.getHeaders().setContentType(contentType);
+		}
 		final ClientHttpResponse response = execution.execute(request, body);
 		extractCookies(response);
 		return response;
@@ -102,32 +111,55 @@ public final class HttpHeaderManager implements ClientHttpRequestInterceptor {
 	private void extractCookies(final ClientHttpResponse response) {
 		final List<String> setCookies = response.getHeaders().get(SET_COOKIE);
 		if (setCookies != null) {
-			for (final String cookie : setCookies) {
-				if (StringUtils.contains(cookie, LWSSO_KEY)) {
-					lwssoCookie = cookie;
-				}
-				if (StringUtils.contains(cookie, QC_SESSION_KEY)) {
-					qcSessionCookie = cookie;
+			synchronized (this) {
+				String lwssoCookie = cookies.lwssoCookie;
+				String qcSessionCookie = cookies.qcSessionCookie;
+				for (final String cookie : setCookies) {
+					if (StringUtils.contains(cookie, LWSSO_KEY)) {
+						lwssoCookie = cookie;
+					}
+					if (StringUtils.contains(cookie, QC_SESSION_KEY)) {
+						qcSessionCookie = cookie;
+					}
 				}
+				cookies = new SessionCookies(lwssoCookie, qcSessionCookie);
 			}
 		}
 	}
 
 	private Map<String, List<String>> getCurrentHeaders() {
+		final SessionCookies currentCookies = this.cookies;
 		final Map<String, List<String>> headerEntries = new HashMap<>();
 		headerEntries.put(ACCEPT, Arrays.asList(APPLICATION_XML));
 		headerEntries.put("Content-Type", Arrays.asList(APPLICATION_XML));
-		if (StringUtils.isBlank(lwssoCookie)) {
+		if (StringUtils.isBlank(currentCookies.lwssoCookie)) {
 			headerEntries.put(AUTHORIZATION, Arrays.asList(authorizationHeader));
 		} else {
-			final List<String> cookies = new ArrayList<>();
-			cookies.add(lwssoCookie);
-			if (qcSessionCookie != null) {
-				cookies.add(qcSessionCookie);
+			final List<String> cookieHeaders = new ArrayList<>();
+			cookieHeaders.add(currentCookies.lwssoCookie);
+			if (currentCookies.qcSessionCookie != null) {
+				cookieHeaders.add(currentCookies.qcSessionCookie);
 			}
-			headerEntries.put(COOKIE, cookies);
+			headerEntries.put(COOKIE, cookieHeaders);
 		}
 		return headerEntries;
 	}
 
+	/*
+	 * Immutable snapshot of the session cookies; replaced as a whole so that
+	 * readers never observe an LWSSO cookie from one session paired with a
+	 * QCSession cookie from another.
+	 */
+	private static final class SessionCookies {
+
+		private final String lwssoCookie;
+
+		private final String qcSessionCookie;
+
+		private SessionCookies(final String theLwssoCookie, final String theQcSessionCookie) {
+			this.lwssoCookie = theLwssoCookie;
+			this.qcSessionCookie = theQcSessionCookie;
+		}
+	}
+
 }
@@ -0,0 +1,95 @@
+package com.fissionworks.restalm.http;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.Validate;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+import com.fissionworks.restalm.metrics.AlmMetrics;
+
+/**
+ * Implements Spring RestTemplate's ClientHttpRequestInterceptor in order to
+ * report every request made to ALM to an {@link AlmMetrics} instance. Each
+ * request is attributed to the {@link ServiceUrl} and entity type its URL and
+ * method correspond to; the response body is counted as it is read, and the
+ * exchange is reported when the response is closed, which RestTemplate does
+ * once the response has been processed. Requests to URLs that do not
+ * correspond to a service URL are not reported.
+ *
+ * @since 1.0.0
+ */
+public final class MetricsInterceptor implements ClientHttpRequestInterceptor {
+
+	private final AlmMetrics metrics;
+
+	/**
+	 * Creates an interceptor reporting to the given metrics.
+	 *
+	 * @param theMetrics
+	 *            The metrics to report requests to.
+	 * @throws NullPointerException
+	 *             Thrown if the metrics are null.
+	 * @since 1.0.0
+	 */
+	public MetricsInterceptor(final AlmMetrics theMetrics) {
+		Validate.notNull(theMetrics, "metrics cannot be null");
+		this.metrics = theMetrics;
+	}
+
+	/**
+	 * Intercepts HTTP requests made to ALM to time them and count their
+	 * response bytes.
+	 *
+	 * @since 1.0.0
+	 */
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+			final ClientHttpRequestExecution execution) throws IOException {
+		final ServiceRequest serviceRequest = ServiceRequest.classify(request);
+		if (serviceRequest == null) {
+			return execution.execute(request, body);
+		}
+		final ServiceUrl serviceUrl = serviceRequest.getServiceUrl();
+		final String entityType = serviceRequest.getEntityType();
+		final long start = System.nanoTime();
+		final ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		} catch (final IOException | RuntimeException exception) {
+			metrics.recordError(serviceUrl, entityType, System.nanoTime() - start);
+			throw exception;
+		}
+		return new MeteredResponse(response, serviceUrl, entityType, start, System.nanoTime() - start);
+	}
+
+	private final class MeteredResponse extends ObservedResponse {
+
+		private final String entityType;
+
+		private final long responseNanos;
+
+		private final ServiceUrl serviceUrl;
+
+		private final long start;
+
+		private MeteredResponse(final ClientHttpResponse theResponse, final ServiceUrl theServiceUrl,
+				final String theEntityType, final long theStart, final long theResponseNanos) {
+			super(theResponse);
+			this.serviceUrl = theServiceUrl;
+			this.entityType = theEntityType;
+			this.start = theStart;
+			this.responseNanos = theResponseNanos;
+		}
+
+		@Override
+		void closed(final int statusCode, final long responseBytes) {
+			metrics.recordExchange(serviceUrl, entityType, statusCode, responseNanos, System.nanoTime() - start,
+					responseBytes);
+		}
+	}
+
+}
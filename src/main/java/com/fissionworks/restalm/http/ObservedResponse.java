@@ -0,0 +1,119 @@
+package com.fissionworks.restalm.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+ * Counts the response body bytes read and reports the response once, when it
+ * is closed, which RestTemplate does once the response has been processed.
+ */
+abstract class ObservedResponse implements ClientHttpResponse {
+
+	private CountingInputStream body;
+
+	private boolean closed;
+
+	private final ClientHttpResponse response;
+
+	ObservedResponse(final ClientHttpResponse theResponse) {
+		this.response = theResponse;
+	}
+
+	@Override
+	public final void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		int statusCode;
+		try {
+			statusCode = response.getRawStatusCode();
+		} catch (final IOException exception) {
+			statusCode = -1;
+		}
+		try {
+			response.close();
+		} finally {
+			closed(statusCode, body == null ? 0 : body.count);
+		}
+	}
+
+	@Override
+	public final InputStream getBody() throws IOException {
+		if (body == null) {
+			body = new CountingInputStream(response.getBody());
+		}
+		return body;
+	}
+
+	@Override
+	public final HttpHeaders getHeaders() {
+		return response.getHeaders();
+	}
+
+	@Override
+	public final int getRawStatusCode() throws IOException {
+		return response.getRawStatusCode();
+	}
+
+	@Override
+	public final HttpStatus getStatusCode() throws IOException {
+		return response.getStatusCode();
+	}
+
+	@Override
+	public final String getStatusText() throws IOException {
+		return response.getStatusText();
+	}
+
+	/*
+	 * Called once the response has been closed, with its status code, or -1
+	 * if it could not be read, and the number of body bytes read.
+	 */
+	abstract void closed(int statusCode, long responseBytes);
+
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		private CountingInputStream(final InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final int value = super.read();
+			if (value >= 0) {
+				count++;
+			}
+			return value;
+		}
+
+		@Override
+		public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+			final int read = super.read(buffer, offset, length);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(final long length) throws IOException {
+			final long skipped = super.skip(length);
+			count += skipped;
+			return skipped;
+		}
+	}
+
+}
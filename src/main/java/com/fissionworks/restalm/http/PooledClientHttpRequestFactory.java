@@ -0,0 +1,104 @@
+package com.fissionworks.restalm.http;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * A {@link ClientHttpRequestFactory} backed by a pool of persistent (keep-alive)
+ * Apache HttpClient connections. Connections are reused across requests so
+ * that the TCP/TLS handshake is only paid when the pool grows, and idle
+ * connections are evicted in the background after the configured idle
+ * timeout. Cookie management of the underlying client is disabled, as ALM
+ * session cookies are managed by {@link HttpHeaderManager}.
+ * <p>
+ * The pool is released when {@link #destroy()} is called.
+ *
+ * @since 1.0.0
+ *
+ */
+public final class PooledClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+	private static final long MILLIS_PER_SECOND = 1000L;
+
+	private static final String TIMEOUT = "timeout";
+
+	/**
+	 * Creates a request factory with a connection pool of the given size.
+	 *
+	 * @param maxConnectionsTotal
+	 *            The maximum number of pooled connections across all routes.
+	 * @param maxConnectionsPerRoute
+	 *            The maximum number of pooled connections to a single host.
+	 * @param idleConnectionTimeout
+	 *            Time in milliseconds a connection may sit unused in the pool
+	 *            before it is closed.
+	 * @param keepAliveDuration
+	 *            Time in milliseconds a connection is kept alive when the
+	 *            server does not send a {@code Keep-Alive} timeout of its own.
+	 * @throws IllegalArgumentException
+	 *             Thrown if either connection limit is less than one, the
+	 *             per-route limit exceeds the total limit, or either duration
+	 *             is not positive.
+	 * @since 1.0.0
+	 */
+	public PooledClientHttpRequestFactory(final int maxConnectionsTotal, final int maxConnectionsPerRoute,
+			final long idleConnectionTimeout, final long keepAliveDuration) {
+		super(HttpClientBuilder.create()
+				.setConnectionManager(
+						createConnectionManager(maxConnectionsTotal, maxConnectionsPerRoute, idleConnectionTimeout))
+				.setKeepAliveStrategy(createKeepAliveStrategy(keepAliveDuration)).disableCookieManagement()
+				.evictExpiredConnections().evictIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS)
+				.build());
+	}
+
+	private static PoolingHttpClientConnectionManager createConnectionManager(final int maxConnectionsTotal,
+			final int maxConnectionsPerRoute, final long idleConnectionTimeout) {
+		Validate.isTrue(maxConnectionsTotal > 0, "maxConnectionsTotal must be greater than zero");
+		Validate.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than zero");
+		Validate.isTrue(maxConnectionsPerRoute <= maxConnectionsTotal,
+				"maxConnectionsPerRoute cannot be greater than maxConnectionsTotal");
+		Validate.isTrue(idleConnectionTimeout > 0, "idleConnectionTimeout must be greater than zero");
+		final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnectionsTotal);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+		// re-validate connections that have been idle for a while before reuse,
+		// since ALM (or a proxy in front of it) may have silently dropped them.
+		connectionManager.setValidateAfterInactivity((int) Math.min(idleConnectionTimeout, Integer.MAX_VALUE));
+		return connectionManager;
+	}
+
+	private static ConnectionKeepAliveStrategy createKeepAliveStrategy(final long keepAliveDuration) {
+		Validate.isTrue(keepAliveDuration > 0, "keepAliveDuration must be greater than zero");
+		return new ConnectionKeepAliveStrategy() {
+			@Override
+			public long getKeepAliveDuration(final HttpResponse response, final HttpContext context) {
+				final HeaderElementIterator iterator = new BasicHeaderElementIterator(
+						response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+				while (iterator.hasNext()) {
+					final HeaderElement element = iterator.nextElement();
+					if (TIMEOUT.equalsIgnoreCase(element.getName()) && (element.getValue() != null)) {
+						try {
+							return Long.parseLong(element.getValue()) * MILLIS_PER_SECOND;
+						} catch (final NumberFormatException exception) {
+							// fall through to the configured duration
+						}
+					}
+				}
+				return keepAliveDuration;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.fissionworks.restalm.http;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+import com.fissionworks.restalm.constants.entity.EntityType;
+
+/*
+ * The service URL and entity type a request made to ALM corresponds to,
+ * derived from the request's URL and method.
+ */
+final class ServiceRequest {
+
+	private static final Map<String, String> ENTITY_NAMES = createEntityNames();
+
+	private static final Pattern PROJECT_PATH = Pattern.compile("/qcbin/rest/domains/[^/]+/projects/[^/]+/(.+)$");
+
+	private final String entityType;
+
+	private final ServiceUrl serviceUrl;
+
+	private ServiceRequest(final ServiceUrl theServiceUrl, final String theEntityType) {
+		this.serviceUrl = theServiceUrl;
+		this.entityType = theEntityType;
+	}
+
+	/*
+	 * Returns null if the request does not correspond to a service URL.
+	 */
+	static ServiceRequest classify(final HttpRequest request) {
+		final String path = String.valueOf(request.getURI().getRawPath());
+		final Matcher projectPath = PROJECT_PATH.matcher(path);
+		if (!projectPath.find()) {
+			final ServiceUrl serviceUrl = getServiceUrl(path);
+			return serviceUrl == null ? null : new ServiceRequest(serviceUrl, null);
+		}
+		final String[] segments = projectPath.group(1).split("/");
+		final ServiceUrl serviceUrl = getProjectServiceUrl(request.getMethod(), segments);
+		if (serviceUrl == null) {
+			return null;
+		}
+		if (serviceUrl == ServiceUrl.GET_ENTITY_FIELDS) {
+			return new ServiceRequest(serviceUrl, segments[2]);
+		}
+		return new ServiceRequest(serviceUrl,
+				ENTITY_NAMES.containsKey(segments[0]) ? ENTITY_NAMES.get(segments[0]) : segments[0]);
+	}
+
+	String getEntityType() {
+		return entityType;
+	}
+
+	ServiceUrl getServiceUrl() {
+		return serviceUrl;
+	}
+
+	private static Map<String, String> createEntityNames() {
+		final Map<String, String> entityNames = new HashMap<>();
+		for (final EntityType entityType : EntityType.values()) {
+			entityNames.put(entityType.collectionName(), entityType.entityName());
+		}
+		return entityNames;
+	}
+
+	private static ServiceUrl getProjectServiceUrl(final HttpMethod method, final String[] segments) {
+		if ((segments.length == 4) && "customization".equals(segments[0]) && "entities".equals(segments[1])
+				&& "fields".equals(segments[3])) {
+			return ServiceUrl.GET_ENTITY_FIELDS;
+		}
+		if (segments.length == 2) {
+			return ServiceUrl.ENTITY_BY_ID;
+		}
+		if (segments.length != 1) {
+			return null;
+		}
+		switch (method) {
+		case GET:
+			return ServiceUrl.GET_ENTITY_COLLECTION;
+		case POST:
+			return ServiceUrl.ADD_ENTITY_URL;
+		case PUT:
+			return ServiceUrl.BULK_UPDATE_URL;
+		case DELETE:
+			return ServiceUrl.BULK_DELETE_URL;
+		default:
+			return null;
+		}
+	}
+
+	private static ServiceUrl getServiceUrl(final String path) {
+		if (path.endsWith("/qcbin/authentication-point/authenticate")) {
+			return ServiceUrl.AUTHENTICATE;
+		}
+		if (path.endsWith("/qcbin/authentication-point/logout")) {
+			return ServiceUrl.LOGOUT;
+		}
+		if (path.endsWith("/qcbin/rest/is-authenticated")) {
+			return ServiceUrl.IS_AUTHENTICATED;
+		}
+		if (path.endsWith("/qcbin/rest/domains")) {
+			return ServiceUrl.GET_DOMAINS;
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.fissionworks.restalm.jfr;
+
+/**
+ * Emits Java Flight Recorder events for the work an ALM connection does, so a
+ * standard flight recording shows the client's HTTP exchanges, marshalling and
+ * entity population alongside GC and thread activity. The events are in the
+ * "ALM REST Client" category and can be enabled, disabled and given thresholds
+ * like any other event, e.g. with
+ * {@code -XX:StartFlightRecording:settings=profile}:
+ * <ul>
+ * <li>{@code com.fissionworks.restalm.HttpExchange}: one per request, with the
+ * service URL template, method, entity type, status code and response
+ * bytes</li>
+ * <li>{@code com.fissionworks.restalm.Marshalling}: one per payload parsed,
+ * with the number and type of entities parsed</li>
+ * <li>{@code com.fissionworks.restalm.PopulateFields}: one per batch of
+ * entities populated from a parsed payload</li>
+ * </ul>
+ * <p>
+ * Each {@code begin} method returns an opaque event to pass to the matching
+ * {@code commit} method once the work is done. When no recording has enabled
+ * the event, or the flight recorder API is not available in the running JVM,
+ * {@code begin} returns null without allocating anything and {@code commit}
+ * returns immediately, so callers need not check whether recording is on.
+ *
+ * @since 1.0.0
+ */
+public final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+	private FlightRecorderEvents() {
+		throw new UnsupportedOperationException("FlightRecorderEvents should not be instantiated");
+	}
+
+	/**
+	 * Begins timing an HTTP exchange with ALM.
+	 *
+	 * @return The event to commit once the response has been closed, or null
+	 *         if the event is not being recorded.
+	 * @since 1.0.0
+	 */
+	public static Object beginHttpExchange() {
+		return AVAILABLE ? FlightRecorderSupport.beginHttpExchange() : null;
+	}
+
+	/**
+	 * Begins timing the parsing of an ALM payload.
+	 *
+	 * @return The event to commit once parsing has finished, or null if the
+	 *         event is not being recorded.
+	 * @since 1.0.0
+	 */
+	public static Object beginMarshalling() {
+		return AVAILABLE ? FlightRecorderSupport.beginMarshalling() : null;
+	}
+
+	/**
+	 * Begins timing the population of a batch of entities.
+	 *
+	 * @return The event to commit once the batch has been populated, or null
+	 *         if the event is not being recorded.
+	 * @since 1.0.0
+	 */
+	public static Object beginPopulateFields() {
+		return AVAILABLE ? FlightRecorderSupport.beginPopulateFields() : null;
+	}
+
+	/**
+	 * Commits an HTTP exchange event begun with {@link #beginHttpExchange()}.
+	 *
+	 * @param event
+	 *            The event returned by {@link #beginHttpExchange()}; nothing is
+	 *            recorded if null.
+	 * @param urlTemplate
+	 *            The service URL template the request was made to, or the
+	 *            request path if it does not correspond to a service URL.
+	 * @param method
+	 *            The HTTP method of the request.
+	 * @param entityType
+	 *            The entity type (e.g. "test") the request was for, or null if
+	 *            it was not for a single entity type.
+	 * @param statusCode
+	 *            The HTTP status code of the response, or -1 if no response
+	 *            was received.
+	 * @param responseBytes
+	 *            The number of response body bytes read.
+	 * @since 1.0.0
+	 */
+	public static void commitHttpExchange(final Object event, final String urlTemplate, final String method,
+			final String entityType, final int statusCode, final long responseBytes) {
+		if (event != null) {
+			FlightRecorderSupport.commitHttpExchange(event, urlTemplate, method, entityType, statusCode,
+					responseBytes);
+		}
+	}
+
+	/**
+	 * Commits a marshalling event begun with {@link #beginMarshalling()}.
+	 *
+	 * @param event
+	 *            The event returned by {@link #beginMarshalling()}; nothing is
+	 *            recorded if null.
+	 * @param entityType
+	 *            The entity type (e.g. "test") of the parsed entities, or null
+	 *            if no entities were parsed.
+	 * @param entitiesParsed
+	 *            The number of entities parsed.
+	 * @since 1.0.0
+	 */
+	public static void commitMarshalling(final Object event, final String entityType, final int entitiesParsed) {
+		if (event != null) {
+			FlightRecorderSupport.commitMarshalling(event, entityType, entitiesParsed);
+		}
+	}
+
+	/**
+	 * Commits a populate fields event begun with
+	 * {@link #beginPopulateFields()}.
+	 *
+	 * @param event
+	 *            The event returned by {@link #beginPopulateFields()}; nothing
+	 *            is recorded if null.
+	 * @param entityType
+	 *            The entity type (e.g. "test") of the populated entities.
+	 * @param entityCount
+	 *            The number of entities populated.
+	 * @since 1.0.0
+	 */
+	public static void commitPopulateFields(final Object event, final String entityType, final int entityCount) {
+		if (event != null) {
+			FlightRecorderSupport.commitPopulateFields(event, entityType, entityCount);
+		}
+	}
+
+	/**
+	 * Determine whether the running JVM provides the flight recorder API;
+	 * events are only ever recorded if it does.
+	 *
+	 * @return true if the {@code jdk.jfr} API is available, false otherwise.
+	 * @since 1.0.0
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/*
+	 * jdk.jfr is part of Java 11 and later, and of Java 8 from update 262;
+	 * FlightRecorderSupport, and through it the event classes, must not be
+	 * loaded on older JVMs.
+	 */
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+			return true;
+		} catch (final ClassNotFoundException | LinkageError error) {
+			return false;
+		}
+	}
+
+}
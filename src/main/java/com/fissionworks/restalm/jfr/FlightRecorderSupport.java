@@ -0,0 +1,83 @@
+package com.fissionworks.restalm.jfr;
+
+/*
+ * Creates and commits the flight recorder events. Only loaded once
+ * FlightRecorderEvents has found the jdk.jfr API to be available; each event
+ * type has a probe instance, as whether an event is enabled is a property of
+ * its type rather than of an instance, so no event is allocated unless a
+ * recording has enabled its type.
+ */
+final class FlightRecorderSupport {
+
+	private static final HttpExchangeEvent HTTP_EXCHANGE = new HttpExchangeEvent();
+
+	private static final MarshallingEvent MARSHALLING = new MarshallingEvent();
+
+	private static final PopulateFieldsEvent POPULATE_FIELDS = new PopulateFieldsEvent();
+
+	private FlightRecorderSupport() {
+		throw new UnsupportedOperationException("FlightRecorderSupport should not be instantiated");
+	}
+
+	static Object beginHttpExchange() {
+		if (!HTTP_EXCHANGE.isEnabled()) {
+			return null;
+		}
+		final HttpExchangeEvent event = new HttpExchangeEvent();
+		event.begin();
+		return event;
+	}
+
+	static Object beginMarshalling() {
+		if (!MARSHALLING.isEnabled()) {
+			return null;
+		}
+		final MarshallingEvent event = new MarshallingEvent();
+		event.begin();
+		return event;
+	}
+
+	static Object beginPopulateFields() {
+		if (!POPULATE_FIELDS.isEnabled()) {
+			return null;
+		}
+		final PopulateFieldsEvent event = new PopulateFieldsEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitHttpExchange(final Object theEvent, final String urlTemplate, final String method,
+			final String entityType, final int statusCode, final long responseBytes) {
+		final HttpExchangeEvent event = (HttpExchangeEvent) theEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.urlTemplate = urlTemplate;
+			event.method = method;
+			event.entityType = entityType;
+			event.statusCode = statusCode;
+			event.responseBytes = responseBytes;
+			event.commit();
+		}
+	}
+
+	static void commitMarshalling(final Object theEvent, final String entityType, final int entitiesParsed) {
+		final MarshallingEvent event = (MarshallingEvent) theEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.entityType = entityType;
+			event.entitiesParsed = entitiesParsed;
+			event.commit();
+		}
+	}
+
+	static void commitPopulateFields(final Object theEvent, final String entityType, final int entityCount) {
+		final PopulateFieldsEvent event = (PopulateFieldsEvent) theEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.entityType = entityType;
+			event.entityCount = entityCount;
+			event.commit();
+		}
+	}
+
+}
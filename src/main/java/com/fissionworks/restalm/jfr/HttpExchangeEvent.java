@@ -0,0 +1,39 @@
+package com.fissionworks.restalm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * A single request made to ALM, from the request being sent until its
+ * response has been closed.
+ */
+@Name("com.fissionworks.restalm.HttpExchange")
+@Label("ALM HTTP Exchange")
+@Category("ALM REST Client")
+@Description("A request made to ALM, from sending the request until the response has been closed")
+final class HttpExchangeEvent extends Event {
+
+	@Label("Entity Type")
+	@Description("The entity type the request was for, if it was for a single entity type")
+	String entityType;
+
+	@Label("Method")
+	String method;
+
+	@Label("Response Bytes")
+	@DataAmount
+	long responseBytes;
+
+	@Label("Status Code")
+	@Description("The HTTP status code of the response, or -1 if no response was received")
+	int statusCode;
+
+	@Label("URL Template")
+	@Description("The service URL template the request was made to, or the request path for other requests")
+	String urlTemplate;
+
+}
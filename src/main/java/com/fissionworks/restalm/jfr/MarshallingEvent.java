@@ -0,0 +1,25 @@
+package com.fissionworks.restalm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * The parsing of an entity or entity collection payload returned by ALM.
+ */
+@Name("com.fissionworks.restalm.Marshalling")
+@Label("ALM Marshalling")
+@Category("ALM REST Client")
+@Description("Parsing of entities returned by ALM, including the time spent handing each entity to its consumer")
+final class MarshallingEvent extends Event {
+
+	@Label("Entities Parsed")
+	int entitiesParsed;
+
+	@Label("Entity Type")
+	@Description("The entity type of the first entity parsed")
+	String entityType;
+
+}
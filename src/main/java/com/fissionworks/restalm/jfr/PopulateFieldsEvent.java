@@ -0,0 +1,25 @@
+package com.fissionworks.restalm.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * The population of a batch of entities from the generic entities parsed from
+ * an ALM response.
+ */
+@Name("com.fissionworks.restalm.PopulateFields")
+@Label("ALM Populate Fields")
+@Category("ALM REST Client")
+@Description("Population of a batch of entities from the entities parsed from an ALM response")
+final class PopulateFieldsEvent extends Event {
+
+	@Label("Entity Count")
+	int entityCount;
+
+	@Label("Entity Type")
+	String entityType;
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Java Flight Recorder events describing the work an ALM connection does: the
+ * HTTP exchanges it makes, the parsing of their responses and the population
+ * of entities from the parsed data.
+ */
+package com.fissionworks.restalm.jfr;
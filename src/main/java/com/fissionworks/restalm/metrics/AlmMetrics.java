@@ -0,0 +1,74 @@
+package com.fissionworks.restalm.metrics;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+
+/**
+ * Receives measurements of the requests an
+ * {@link com.fissionworks.restalm.Alm115Connection} makes to ALM. A
+ * connection reports to the metrics set with
+ * {@link com.fissionworks.restalm.Alm115Connection.Builder#metrics(AlmMetrics)};
+ * {@link InMemoryAlmMetrics} aggregates the measurements in memory, other
+ * implementations may forward them to a monitoring system.
+ * <p>
+ * Implementations are called on the threads making requests, possibly
+ * concurrently, and must be thread safe; they should return quickly, as the
+ * time spent in them is added to every request.
+ *
+ * @since 1.0.0
+ */
+public interface AlmMetrics {
+
+	/**
+	 * Records that entities were parsed from an ALM response.
+	 *
+	 * @param entityType
+	 *            The entity type (e.g. "test") of the parsed entities.
+	 * @param count
+	 *            The number of entities parsed.
+	 * @since 1.0.0
+	 */
+	void recordEntitiesParsed(String entityType, int count);
+
+	/**
+	 * Records a request that failed without a response from ALM, e.g. because
+	 * the connection could not be established or timed out.
+	 *
+	 * @param serviceUrl
+	 *            The service URL the request was made to.
+	 * @param entityType
+	 *            The entity type (e.g. "test") the request was for, or null if
+	 *            it was not for a single entity type.
+	 * @param elapsedNanos
+	 *            The time, in nanoseconds, from sending the request until it
+	 *            failed.
+	 * @since 1.0.0
+	 */
+	void recordError(ServiceUrl serviceUrl, String entityType, long elapsedNanos);
+
+	/**
+	 * Records a completed exchange with ALM; responses with a status code of
+	 * 400 or above are errors.
+	 *
+	 * @param serviceUrl
+	 *            The service URL the request was made to.
+	 * @param entityType
+	 *            The entity type (e.g. "test") the request was for, or null if
+	 *            it was not for a single entity type.
+	 * @param statusCode
+	 *            The HTTP status code of the response.
+	 * @param responseNanos
+	 *            The time, in nanoseconds, from sending the request until the
+	 *            response status and headers were received; the time spent by
+	 *            ALM and the network.
+	 * @param exchangeNanos
+	 *            The time, in nanoseconds, from sending the request until the
+	 *            response was closed; includes reading and parsing the
+	 *            response body.
+	 * @param responseBytes
+	 *            The number of response body bytes read.
+	 * @since 1.0.0
+	 */
+	void recordExchange(ServiceUrl serviceUrl, String entityType, int statusCode, long responseNanos,
+			long exchangeNanos, long responseBytes);
+
+}
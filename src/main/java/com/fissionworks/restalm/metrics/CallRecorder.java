@@ -0,0 +1,47 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Thread safe accumulator of the measurements behind one CallStatistics.
+ */
+final class CallRecorder {
+
+	private final AtomicLong count = new AtomicLong();
+
+	private final AtomicLong entitiesParsed = new AtomicLong();
+
+	private final AtomicLong errorCount = new AtomicLong();
+
+	private final LatencyHistogram exchangeLatency = new LatencyHistogram();
+
+	private final AtomicLong responseBytes = new AtomicLong();
+
+	private final LatencyHistogram responseLatency = new LatencyHistogram();
+
+	void recordEntitiesParsed(final int parsed) {
+		entitiesParsed.addAndGet(parsed);
+	}
+
+	void recordError() {
+		count.incrementAndGet();
+		errorCount.incrementAndGet();
+	}
+
+	void recordExchange(final int statusCode, final long responseNanos, final long exchangeNanos,
+			final long bytes) {
+		count.incrementAndGet();
+		if (statusCode >= 400) {
+			errorCount.incrementAndGet();
+		}
+		responseLatency.record(responseNanos);
+		exchangeLatency.record(exchangeNanos);
+		responseBytes.addAndGet(bytes);
+	}
+
+	CallStatistics snapshot() {
+		return new CallStatistics(count.get(), errorCount.get(), responseBytes.get(), entitiesParsed.get(),
+				responseLatency.snapshot(), exchangeLatency.snapshot());
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.fissionworks.restalm.metrics;
+
+/**
+ * Immutable statistics of the requests made to one service URL, or for one
+ * entity type, as recorded by {@link InMemoryAlmMetrics}.
+ *
+ * @since 1.0.0
+ */
+public final class CallStatistics {
+
+	private final long count;
+
+	private final long entitiesParsed;
+
+	private final long errorCount;
+
+	private final LatencyDistribution exchangeLatency;
+
+	private final long responseBytes;
+
+	private final LatencyDistribution responseLatency;
+
+	CallStatistics(final long theCount, final long theErrorCount, final long theResponseBytes,
+			final long theEntitiesParsed, final LatencyDistribution theResponseLatency,
+			final LatencyDistribution theExchangeLatency) {
+		this.count = theCount;
+		this.errorCount = theErrorCount;
+		this.responseBytes = theResponseBytes;
+		this.entitiesParsed = theEntitiesParsed;
+		this.responseLatency = theResponseLatency;
+		this.exchangeLatency = theExchangeLatency;
+	}
+
+	/**
+	 * Get the number of requests made, including failed requests.
+	 *
+	 * @return The number of requests.
+	 * @since 1.0.0
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the number of entities parsed from responses; always zero for
+	 * service URL statistics, as entities are counted per entity type.
+	 *
+	 * @return The number of entities parsed.
+	 * @since 1.0.0
+	 */
+	public long getEntitiesParsed() {
+		return entitiesParsed;
+	}
+
+	/**
+	 * Get the number of requests that failed, either without a response or
+	 * with a response status code of 400 or above.
+	 *
+	 * @return The number of failed requests.
+	 * @since 1.0.0
+	 */
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+	/**
+	 * Get the distribution of the times from sending each request until its
+	 * response was closed, which includes reading and parsing the response
+	 * body; the difference to {@link #getResponseLatency()} is the time spent
+	 * transferring and parsing response bodies.
+	 *
+	 * @return The exchange latencies of the requests that received a
+	 *         response.
+	 * @since 1.0.0
+	 */
+	public LatencyDistribution getExchangeLatency() {
+		return exchangeLatency;
+	}
+
+	/**
+	 * Get the total number of response body bytes read.
+	 *
+	 * @return The number of response bytes.
+	 * @since 1.0.0
+	 */
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+
+	/**
+	 * Get the distribution of the times from sending each request until its
+	 * response status and headers were received, which is the time spent by
+	 * ALM and the network.
+	 *
+	 * @return The response latencies of the requests that received a
+	 *         response.
+	 * @since 1.0.0
+	 */
+	public LatencyDistribution getResponseLatency() {
+		return responseLatency;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <CallStatistics> {\n    count=|").append(count)
+				.append("|,\n    errorCount=|").append(errorCount).append("|,\n    responseBytes=|")
+				.append(responseBytes).append("|,\n    entitiesParsed=|").append(entitiesParsed)
+				.append("|,\n    responseLatency=|").append(responseLatency).append("|,\n    exchangeLatency=|")
+				.append(exchangeLatency).append("|");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+
+/**
+ * {@link AlmMetrics} implementation that aggregates measurements in memory,
+ * per service URL and per entity type: request and error counts, response
+ * bytes, entities parsed, and histograms of the response and exchange
+ * latencies from which {@link #snapshot()} reports percentiles. Memory use is
+ * fixed per service URL and entity type, however many requests are recorded.
+ * <p>
+ * Recording is lock free and may happen concurrently with taking snapshots;
+ * a snapshot taken while requests are recorded may include some of the
+ * measurements of a request and not others.
+ *
+ * @since 1.0.0
+ */
+public final class InMemoryAlmMetrics implements AlmMetrics {
+
+	private final ConcurrentMap<String, CallRecorder> entityTypeRecorders = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<ServiceUrl, CallRecorder> serviceUrlRecorders = new ConcurrentHashMap<>();
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public void recordEntitiesParsed(final String entityType, final int count) {
+		if (entityType != null) {
+			getRecorder(entityTypeRecorders, entityType).recordEntitiesParsed(count);
+		}
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public void recordError(final ServiceUrl serviceUrl, final String entityType, final long elapsedNanos) {
+		getRecorder(serviceUrlRecorders, serviceUrl).recordError();
+		if (entityType != null) {
+			getRecorder(entityTypeRecorders, entityType).recordError();
+		}
+	}
+
+	/**
+	 * @since 1.0.0
+	 */
+	@Override
+	public void recordExchange(final ServiceUrl serviceUrl, final String entityType, final int statusCode,
+			final long responseNanos, final long exchangeNanos, final long responseBytes) {
+		getRecorder(serviceUrlRecorders, serviceUrl).recordExchange(statusCode, responseNanos, exchangeNanos,
+				responseBytes);
+		if (entityType != null) {
+			getRecorder(entityTypeRecorders, entityType).recordExchange(statusCode, responseNanos, exchangeNanos,
+					responseBytes);
+		}
+	}
+
+	/**
+	 * Discards all recorded measurements.
+	 *
+	 * @since 1.0.0
+	 */
+	public void reset() {
+		serviceUrlRecorders.clear();
+		entityTypeRecorders.clear();
+	}
+
+	/**
+	 * Creates an immutable copy of the statistics recorded so far.
+	 *
+	 * @return The current statistics.
+	 * @since 1.0.0
+	 */
+	public MetricsSnapshot snapshot() {
+		final Map<ServiceUrl, CallStatistics> serviceUrlStatistics = new EnumMap<>(ServiceUrl.class);
+		for (final Map.Entry<ServiceUrl, CallRecorder> entry : serviceUrlRecorders.entrySet()) {
+			serviceUrlStatistics.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		final Map<String, CallStatistics> entityTypeStatistics = new TreeMap<>();
+		for (final Map.Entry<String, CallRecorder> entry : entityTypeRecorders.entrySet()) {
+			entityTypeStatistics.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		return new MetricsSnapshot(serviceUrlStatistics, entityTypeStatistics);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <InMemoryAlmMetrics> {\n    serviceUrls=|")
+				.append(serviceUrlRecorders.keySet()).append("|,\n    entityTypes=|")
+				.append(entityTypeRecorders.keySet()).append("|");
+		return builder.toString();
+	}
+
+	private <K> CallRecorder getRecorder(final ConcurrentMap<K, CallRecorder> recorders, final K key) {
+		final CallRecorder recorder = recorders.get(key);
+		if (recorder != null) {
+			return recorder;
+		}
+		// a concurrent reset may clear the map at any time, so the recorder
+		// is never looked up again once it has been added.
+		final CallRecorder newRecorder = new CallRecorder();
+		final CallRecorder existingRecorder = recorders.putIfAbsent(key, newRecorder);
+		return existingRecorder == null ? newRecorder : existingRecorder;
+	}
+
+}
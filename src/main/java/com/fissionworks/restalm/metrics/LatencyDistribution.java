@@ -0,0 +1,142 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Immutable distribution of recorded latencies. Latencies are kept in
+ * histogram buckets rather than individually, so percentiles are reported as
+ * the upper bound of the bucket they fall into: within 12.5% (or one
+ * microsecond, for latencies below 16 microseconds) above the exact value,
+ * and never above the maximum latency recorded.
+ *
+ * @since 1.0.0
+ */
+public final class LatencyDistribution {
+
+	private final long[] bucketCounts;
+
+	private final long count;
+
+	private final long maxNanos;
+
+	private final long totalNanos;
+
+	LatencyDistribution(final long[] theBucketCounts, final long theTotalNanos, final long theMaxNanos) {
+		this.bucketCounts = theBucketCounts;
+		long bucketTotal = 0;
+		for (final long bucketCount : theBucketCounts) {
+			bucketTotal += bucketCount;
+		}
+		this.count = bucketTotal;
+		this.totalNanos = theTotalNanos;
+		this.maxNanos = theMaxNanos;
+	}
+
+	/**
+	 * Get the number of latencies recorded.
+	 *
+	 * @return The number of latencies.
+	 * @since 1.0.0
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the highest latency recorded.
+	 *
+	 * @return The maximum latency in nanoseconds; zero if no latencies were
+	 *         recorded.
+	 * @since 1.0.0
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * Get the mean of the latencies recorded.
+	 *
+	 * @return The mean latency in nanoseconds; zero if no latencies were
+	 *         recorded.
+	 * @since 1.0.0
+	 */
+	public long getMeanNanos() {
+		return count == 0 ? 0 : totalNanos / count;
+	}
+
+	/**
+	 * Get the median latency.
+	 *
+	 * @return The 50th percentile latency in nanoseconds.
+	 * @since 1.0.0
+	 */
+	public long getP50Nanos() {
+		return getPercentileNanos(50);
+	}
+
+	/**
+	 * Get the 95th percentile latency.
+	 *
+	 * @return The 95th percentile latency in nanoseconds.
+	 * @since 1.0.0
+	 */
+	public long getP95Nanos() {
+		return getPercentileNanos(95);
+	}
+
+	/**
+	 * Get the 99th percentile latency.
+	 *
+	 * @return The 99th percentile latency in nanoseconds.
+	 * @since 1.0.0
+	 */
+	public long getP99Nanos() {
+		return getPercentileNanos(99);
+	}
+
+	/**
+	 * Get the latency the given percentage of recorded latencies are at or
+	 * below.
+	 *
+	 * @param percentile
+	 *            The percentile; greater than 0 and at most 100.
+	 * @return The latency in nanoseconds; zero if no latencies were recorded.
+	 * @throws IllegalArgumentException
+	 *             thrown if the percentile is not greater than 0 or is above
+	 *             100.
+	 * @since 1.0.0
+	 */
+	public long getPercentileNanos(final double percentile) {
+		Validate.isTrue((percentile > 0) && (percentile <= 100), "percentile must be greater than 0 and at most 100");
+		if (count == 0) {
+			return 0;
+		}
+		final long rank = Math.max(1, (long) Math.ceil((percentile / 100) * count));
+		long cumulativeCount = 0;
+		for (int index = 0; index < bucketCounts.length; index++) {
+			cumulativeCount += bucketCounts[index];
+			if (cumulativeCount >= rank) {
+				final long upperBoundMicros = LatencyHistogram.bucketUpperBound(index);
+				if (upperBoundMicros >= TimeUnit.NANOSECONDS.toMicros(maxNanos)) {
+					return maxNanos;
+				}
+				return ((upperBoundMicros + 1) * 1000) - 1;
+			}
+		}
+		return maxNanos;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <LatencyDistribution> {\n    count=|").append(count)
+				.append("|,\n    meanNanos=|").append(getMeanNanos()).append("|,\n    p50Nanos=|")
+				.append(getP50Nanos()).append("|,\n    p95Nanos=|").append(getP95Nanos())
+				.append("|,\n    p99Nanos=|").append(getP99Nanos()).append("|,\n    maxNanos=|").append(maxNanos)
+				.append("|");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Lock free histogram of latencies at microsecond resolution. Latencies below
+ * 16 microseconds have a bucket each; above that every power of two is split
+ * into 8 buckets, so a bucket's bounds are within 12.5% of each other and a
+ * fixed 488 buckets cover every latency a long can hold.
+ */
+final class LatencyHistogram {
+
+	static final int BUCKET_COUNT = 488;
+
+	private static final int EXACT_BUCKETS = 16;
+
+	private static final int SUB_BUCKET_BITS = 3;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	static int bucketIndex(final long micros) {
+		if (micros < EXACT_BUCKETS) {
+			return (int) micros;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return EXACT_BUCKETS + ((exponent - 4) * SUB_BUCKETS) + subBucket;
+	}
+
+	static long bucketUpperBound(final int index) {
+		if (index < EXACT_BUCKETS) {
+			return index;
+		}
+		final int exponent = ((index - EXACT_BUCKETS) / SUB_BUCKETS) + 4;
+		final long subBucket = SUB_BUCKETS + ((index - EXACT_BUCKETS) % SUB_BUCKETS);
+		final int shift = exponent - SUB_BUCKET_BITS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	void record(final long nanos) {
+		final long latency = Math.max(0, nanos);
+		counts.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(latency)));
+		totalNanos.addAndGet(latency);
+		long currentMax = maxNanos.get();
+		while ((latency > currentMax) && !maxNanos.compareAndSet(currentMax, latency)) {
+			currentMax = maxNanos.get();
+		}
+	}
+
+	LatencyDistribution snapshot() {
+		final long[] bucketCounts = new long[BUCKET_COUNT];
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			bucketCounts[index] = counts.get(index);
+		}
+		return new LatencyDistribution(bucketCounts, totalNanos.get(), maxNanos.get());
+	}
+
+}
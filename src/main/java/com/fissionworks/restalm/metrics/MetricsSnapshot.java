@@ -0,0 +1,85 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+
+/**
+ * Immutable copy of the statistics recorded by {@link InMemoryAlmMetrics},
+ * per service URL and per entity type. Requests that were not for a single
+ * entity type (e.g. authentication) only appear in the service URL
+ * statistics.
+ *
+ * @since 1.0.0
+ */
+public final class MetricsSnapshot {
+
+	private final Map<String, CallStatistics> entityTypeStatistics;
+
+	private final Map<ServiceUrl, CallStatistics> serviceUrlStatistics;
+
+	MetricsSnapshot(final Map<ServiceUrl, CallStatistics> theServiceUrlStatistics,
+			final Map<String, CallStatistics> theEntityTypeStatistics) {
+		this.serviceUrlStatistics = Collections.unmodifiableMap(theServiceUrlStatistics);
+		this.entityTypeStatistics = Collections.unmodifiableMap(theEntityTypeStatistics);
+	}
+
+	/**
+	 * Get the statistics of the requests for each entity type.
+	 *
+	 * @return An unmodifiable map of entity type to statistics, sorted by
+	 *         entity type.
+	 * @since 1.0.0
+	 */
+	public Map<String, CallStatistics> getEntityTypeStatistics() {
+		return entityTypeStatistics;
+	}
+
+	/**
+	 * Get the statistics of the requests for the given entity type.
+	 *
+	 * @param entityType
+	 *            The entity type (e.g. "test").
+	 * @return The statistics, or null if no requests for the entity type were
+	 *         recorded.
+	 * @since 1.0.0
+	 */
+	public CallStatistics getEntityTypeStatistics(final String entityType) {
+		return entityTypeStatistics.get(entityType);
+	}
+
+	/**
+	 * Get the statistics of the requests made to each service URL.
+	 *
+	 * @return An unmodifiable map of service URL to statistics, in service
+	 *         URL order.
+	 * @since 1.0.0
+	 */
+	public Map<ServiceUrl, CallStatistics> getServiceUrlStatistics() {
+		return serviceUrlStatistics;
+	}
+
+	/**
+	 * Get the statistics of the requests made to the given service URL.
+	 *
+	 * @param serviceUrl
+	 *            The service URL.
+	 * @return The statistics, or null if no requests to the service URL were
+	 *         recorded.
+	 * @since 1.0.0
+	 */
+	public CallStatistics getServiceUrlStatistics(final ServiceUrl serviceUrl) {
+		return serviceUrlStatistics.get(serviceUrl);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <MetricsSnapshot> {\n    serviceUrlStatistics=|")
+				.append(serviceUrlStatistics).append("|,\n    entityTypeStatistics=|").append(entityTypeStatistics)
+				.append("|");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Instrumentation of the requests made to ALM: the {@link AlmMetrics} service
+ * provider interface and a default in-memory implementation.
+ */
+package com.fissionworks.restalm.metrics;
@@ -1,20 +1,31 @@
 package com.fissionworks.restalm.model.customization;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.Validate;
 
 /**
- * A collection of {@link EntityField}s for a given ALM entity.
+ * A collection of {@link EntityField}s for a given ALM entity. Fields are
+ * indexed by name, so looking up a field is a constant time operation; the
+ * names of the editable, required and addable fields are computed when first
+ * requested and kept until a field is added or changed through this
+ * collection. Fields should therefore be changed with
+ * {@link #setEditable(String, boolean)} and
+ * {@link #setRequired(String, boolean)} once added, not directly.
  *
  * @since 1.0.0
  *
  */
 public final class EntityFieldCollection implements Iterable<EntityField> {
 
-	private final Set<EntityField> fields = new HashSet<>();
+	private final Map<String, EntityField> fields = new LinkedHashMap<>();
+
+	private volatile FieldNames fieldNames;
 
 	/**
 	 * Add an {@link EntityField} to the collection.
@@ -27,7 +38,8 @@ public final class EntityFieldCollection implements Iterable<EntityField> {
 	 */
 	public void addEntityField(final EntityField entityField) {
 		Validate.notNull(entityField, "entityField cannot be null");
-		this.fields.add(entityField);
+		this.fields.put(entityField.getName(), entityField);
+		this.fieldNames = null;
 	}
 
 	@Override
@@ -60,12 +72,32 @@ public final class EntityFieldCollection implements Iterable<EntityField> {
 	 * @since 1.0.0
 	 */
 	public EntityField getEntityField(final String fieldName) {
-		for (final EntityField field : this.fields) {
-			if (field.getName().equals(fieldName)) {
-				return field;
-			}
+		final EntityField field = this.fields.get(fieldName);
+		if (field == null) {
+			throw new IllegalArgumentException("No field named |" + fieldName + "| found for this entity");
 		}
-		throw new IllegalArgumentException("No field named |" + fieldName + "| found for this entity");
+		return field;
+	}
+
+	/**
+	 * Returns the names of the fields that may be set when adding an entity
+	 * (fields that are editable or required).
+	 *
+	 * @return An unmodifiable set of the addable field names.
+	 * @since 1.0.0
+	 */
+	public Set<String> getAddableFieldNames() {
+		return getFieldNames().addable;
+	}
+
+	/**
+	 * Returns the names of the editable fields.
+	 *
+	 * @return An unmodifiable set of the editable field names.
+	 * @since 1.0.0
+	 */
+	public Set<String> getEditableFieldNames() {
+		return getFieldNames().editable;
 	}
 
 	/**
@@ -75,7 +107,17 @@ public final class EntityFieldCollection implements Iterable<EntityField> {
 	 * @since 1.0.0
 	 */
 	public Set<EntityField> getFields() {
-		return new HashSet<>(fields);
+		return new HashSet<>(fields.values());
+	}
+
+	/**
+	 * Returns the names of the required fields.
+	 *
+	 * @return An unmodifiable set of the required field names.
+	 * @since 1.0.0
+	 */
+	public Set<String> getRequiredFieldNames() {
+		return getFieldNames().required;
 	}
 
 	@Override
@@ -116,7 +158,7 @@ public final class EntityFieldCollection implements Iterable<EntityField> {
 
 	@Override
 	public Iterator<EntityField> iterator() {
-		return fields.iterator();
+		return fields.values().iterator();
 	}
 
 	/**
@@ -134,6 +176,7 @@ public final class EntityFieldCollection implements Iterable<EntityField> {
 	 */
 	public void setEditable(final String fieldName, final boolean editable) {
 		getEntityField(fieldName).setEditable(editable);
+		this.fieldNames = null;
 	}
 
 	/**
@@ -149,14 +192,57 @@ public final class EntityFieldCollection implements Iterable<EntityField> {
 	 */
 	public void setRequired(final String fieldName, final boolean required) {
 		getEntityField(fieldName).setRequired(required);
+		this.fieldNames = null;
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
-		builder.append(super.toString()).append(" extended by: <EntityFieldCollection> {\n    fields=|").append(fields)
-				.append("|");
+		builder.append(super.toString()).append(" extended by: <EntityFieldCollection> {\n    fields=|")
+				.append(fields.values()).append("|");
 		return builder.toString();
 	}
 
+	/*
+	 * The cached names are discarded whenever a field is added or changed
+	 * through this collection, and recomputed here on the next request.
+	 */
+	private FieldNames getFieldNames() {
+		FieldNames names = this.fieldNames;
+		if (names == null) {
+			names = new FieldNames(fields.values());
+			this.fieldNames = names;
+		}
+		return names;
+	}
+
+	private static final class FieldNames {
+
+		private final Set<String> addable;
+
+		private final Set<String> editable;
+
+		private final Set<String> required;
+
+		private FieldNames(final Iterable<EntityField> fields) {
+			final Set<String> addableNames = new HashSet<>();
+			final Set<String> editableNames = new HashSet<>();
+			final Set<String> requiredNames = new HashSet<>();
+			for (final EntityField field : fields) {
+				if (field.isEditable()) {
+					editableNames.add(field.getName());
+				}
+				if (field.isRequired()) {
+					requiredNames.add(field.getName());
+				}
+				if (field.isEditable() || field.isRequired()) {
+					addableNames.add(field.getName());
+				}
+			}
+			this.addable = Collections.unmodifiableSet(addableNames);
+			this.editable = Collections.unmodifiableSet(editableNames);
+			this.required = Collections.unmodifiableSet(requiredNames);
+		}
+	}
+
 }
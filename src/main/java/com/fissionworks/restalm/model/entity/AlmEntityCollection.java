@@ -1,12 +1,12 @@
 package com.fissionworks.restalm.model.entity;
 
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
  * Collection that contains a group of resource entities (tests, requirements,
- * etc.) from ALM.
+ * etc.) from ALM. Entities are iterated in the order they were added.
  *
  * @param <T>
  *            The type of {@link AlmEntity} the collection contains.
@@ -14,7 +14,7 @@ import java.util.Set;
  */
 public final class AlmEntityCollection<T extends AlmEntity> implements Iterable<T> {
 
-	private final Set<T> entities = new HashSet<>();
+	private final Set<T> entities = new LinkedHashSet<>();
 
 	private final int totalResults;
 
@@ -0,0 +1,156 @@
+package com.fissionworks.restalm.model.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The outcome of a bulk operation (add, update, delete) performed against
+ * ALM. Items that were processed successfully are listed in the order they
+ * were processed; each item that could not be processed is reported as a
+ * {@link Failure} holding the item, its position in the original request and
+ * the exception that caused it to fail.
+ *
+ * @param <T>
+ *            The type of item the bulk operation was performed on.
+ * @since 1.0.0
+ */
+public final class BulkResult<T> {
+
+	private final List<Failure<T>> failures = new ArrayList<>();
+
+	private final List<T> successes = new ArrayList<>();
+
+	/**
+	 * Record an item that could not be processed.
+	 *
+	 * @param index
+	 *            The (0-based) position of the item in the original request.
+	 * @param item
+	 *            The item that could not be processed.
+	 * @param cause
+	 *            The exception describing why the item could not be processed.
+	 * @throws NullPointerException
+	 *             Thrown if the cause is null.
+	 * @throws IllegalArgumentException
+	 *             Thrown if the index is negative.
+	 * @since 1.0.0
+	 */
+	public void addFailure(final int index, final T item, final RuntimeException cause) {
+		failures.add(new Failure<>(index, item, cause));
+	}
+
+	/**
+	 * Record an item that was processed successfully.
+	 *
+	 * @param item
+	 *            The item that was processed.
+	 * @since 1.0.0
+	 */
+	public void addSuccess(final T item) {
+		successes.add(item);
+	}
+
+	/**
+	 * Get the items that could not be processed.
+	 *
+	 * @return An unmodifiable list of the failures, in the order they occurred.
+	 * @since 1.0.0
+	 */
+	public List<Failure<T>> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Get the items that were processed successfully.
+	 *
+	 * @return An unmodifiable list of the successfully processed items.
+	 * @since 1.0.0
+	 */
+	public List<T> getSuccesses() {
+		return Collections.unmodifiableList(successes);
+	}
+
+	/**
+	 * Did any item fail to be processed?
+	 *
+	 * @return True if at least one failure was recorded, false otherwise.
+	 * @since 1.0.0
+	 */
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(super.toString()).append(" extended by: <BulkResult> {\n    successes=|").append(successes)
+				.append("|,\n    failures=|").append(failures).append("|");
+		return builder.toString();
+	}
+
+	/**
+	 * An item of a bulk operation that could not be processed.
+	 *
+	 * @param <T>
+	 *            The type of item the bulk operation was performed on.
+	 * @since 1.0.0
+	 */
+	public static final class Failure<T> {
+
+		private final RuntimeException cause;
+
+		private final int index;
+
+		private final T item;
+
+		private Failure(final int theIndex, final T theItem, final RuntimeException theCause) {
+			Validate.isTrue(theIndex >= 0, "index cannot be negative");
+			Validate.notNull(theCause, "cause cannot be null");
+			this.index = theIndex;
+			this.item = theItem;
+			this.cause = theCause;
+		}
+
+		/**
+		 * Get the exception describing why the item could not be processed.
+		 *
+		 * @return The cause of the failure.
+		 * @since 1.0.0
+		 */
+		public RuntimeException getCause() {
+			return cause;
+		}
+
+		/**
+		 * Get the position of the item in the original request.
+		 *
+		 * @return The (0-based) index of the item.
+		 * @since 1.0.0
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * Get the item that could not be processed.
+		 *
+		 * @return The item.
+		 * @since 1.0.0
+		 */
+		public T getItem() {
+			return item;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append("Failure {index=|").append(index).append("|, item=|").append(item).append("|, cause=|")
+					.append(cause.getMessage()).append("|}");
+			return builder.toString();
+		}
+	}
+
+}
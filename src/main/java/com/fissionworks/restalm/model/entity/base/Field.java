@@ -1,24 +1,32 @@
 package com.fissionworks.restalm.model.entity.base;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 /**
  * Simple class that represents a single field within an {@link GenericEntity}.
+ * <p>
+ * The distinct, non-empty values of the field are held in a compact form that
+ * is shared with the {@link GenericEntity} the field is added to: a single
+ * value is held as the value itself, and no values or multiple values as an
+ * array of the values in the order they were given.
  *
  * @since 1.0.0
  *
  */
 public final class Field {
 
+	private static final String[] NO_VALUES = new String[0];
+
 	private final String name;
 
-	private final Set<String> values = new HashSet<>();
+	private final Object values;
 
 	/**
 	 * Creates a field with the given name and values.
@@ -34,11 +42,81 @@ public final class Field {
 	 * @since 1.0.0
 	 */
 	public Field(final String theName, final List<String> theValues) {
+		this(theName, compact(theValues));
+	}
+
+	Field(final String theName, final Object theValues) {
 		Validate.notBlank(theName, "Name cannot be null or blank");
 		this.name = theName;
-		this.values.addAll(theValues);
+		this.values = theValues;
+	}
+
+	/*
+	 * Returns the compact form of the given values; empty and duplicate values
+	 * are removed.
+	 */
+	static Object compact(final List<String> values) {
+		if ((values.size() == 1) && StringUtils.isNotEmpty(values.get(0))) {
+			return values.get(0);
+		}
+		final Set<String> distinctValues = new LinkedHashSet<>(values);
 		// remove empty values
-		this.values.removeAll(Collections.singleton(""));
+		distinctValues.remove("");
+		distinctValues.remove(null);
+		if (distinctValues.size() == 1) {
+			return distinctValues.iterator().next();
+		}
+		return distinctValues.isEmpty() ? NO_VALUES : distinctValues.toArray(new String[distinctValues.size()]);
+	}
+
+	static String firstValue(final Object values) {
+		if (values instanceof String) {
+			return (String) values;
+		}
+		final String[] valueArray = (String[]) values;
+		return valueArray.length == 0 ? null : valueArray[0];
+	}
+
+	static boolean isEmpty(final Object values) {
+		return values == NO_VALUES;
+	}
+
+	static List<String> toList(final Object values) {
+		if (values instanceof String) {
+			final List<String> valueList = new ArrayList<>(1);
+			valueList.add((String) values);
+			return valueList;
+		}
+		return new ArrayList<>(Arrays.asList((String[]) values));
+	}
+
+	/*
+	 * Compares the compact forms of two sets of values, ignoring the order of
+	 * multiple values.
+	 */
+	static boolean valuesEqual(final Object values, final Object otherValues) {
+		if ((values instanceof String) || (otherValues instanceof String)) {
+			return values.equals(otherValues);
+		}
+		final String[] valueArray = (String[]) values;
+		final String[] otherValueArray = (String[]) otherValues;
+		return (valueArray.length == otherValueArray.length)
+				&& Arrays.asList(otherValueArray).containsAll(Arrays.asList(valueArray));
+	}
+
+	/*
+	 * Hashes the compact form of a set of values the same way as a Set of the
+	 * values is hashed.
+	 */
+	static int valuesHashCode(final Object values) {
+		if (values instanceof String) {
+			return values.hashCode();
+		}
+		int hashCode = 0;
+		for (final String value : (String[]) values) {
+			hashCode += value.hashCode();
+		}
+		return hashCode;
 	}
 
 	@Override
@@ -56,12 +134,24 @@ public final class Field {
 		if (!name.equals(other.name)) {
 			return false;
 		}
-		if (!values.equals(other.values)) {
+		if (!valuesEqual(values, other.values)) {
 			return false;
 		}
 		return true;
 	}
 
+	/**
+	 * Gets the first value associated with the field, without copying the
+	 * values; for fields with multiple values this is the first of the values
+	 * the field was created with.
+	 *
+	 * @return the first value, or null if the field has no values.
+	 * @since 1.0.0
+	 */
+	public String getFirstValue() {
+		return firstValue(values);
+	}
+
 	/**
 	 * Gets the name of the field.
 	 *
@@ -79,7 +169,11 @@ public final class Field {
 	 * @since 1.0.0
 	 */
 	public List<String> getValues() {
-		return new ArrayList<>(values);
+		return toList(values);
+	}
+
+	Object getCompactValues() {
+		return values;
 	}
 
 	@Override
@@ -87,7 +181,7 @@ public final class Field {
 		final int prime = 31;
 		int result = 1;
 		result = (prime * result) + name.hashCode();
-		result = (prime * result) + values.hashCode();
+		result = (prime * result) + valuesHashCode(values);
 		return result;
 	}
 
@@ -98,14 +192,14 @@ public final class Field {
 	 * @since 1.0.0
 	 */
 	public boolean isEmpty() {
-		return values.isEmpty();
+		return isEmpty(values);
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
 		builder.append(super.toString()).append(" extended by: <Field> {\n    name=|").append(name)
-				.append("|,\n    values=|").append(values).append("|");
+				.append("|,\n    values=|").append(getValues()).append("|");
 		return builder.toString();
 	}
 
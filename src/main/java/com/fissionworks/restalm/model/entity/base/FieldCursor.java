@@ -0,0 +1,115 @@
+package com.fissionworks.restalm.model.entity.base;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A forward-only view of the fields of a {@link GenericEntity} that reads the
+ * entity's values in place, so going through the fields of an entity does not
+ * create a {@link Field} or a list of values for each of them. Obtain one with
+ * {@link GenericEntity#getFieldCursor()} and call {@link #next()} before
+ * reading each field:
+ *
+ * <pre>
+ * final FieldCursor cursor = entity.getFieldCursor();
+ * while (cursor.next()) {
+ * 	for (int index = 0; index &lt; cursor.getValueCount(); index++) {
+ * 		process(cursor.getName(), cursor.getValue(index));
+ * 	}
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ */
+public final class FieldCursor {
+
+	private final Object[] fieldValues;
+
+	private int index = -1;
+
+	private final FieldLayout layout;
+
+	FieldCursor(final FieldLayout theLayout, final Object[] theFieldValues) {
+		this.layout = theLayout;
+		this.fieldValues = theFieldValues;
+	}
+
+	/**
+	 * Get the name of the current field.
+	 *
+	 * @return the name of the field.
+	 * @throws IllegalStateException
+	 *             thrown if the cursor is not positioned on a field.
+	 * @since 1.0.0
+	 */
+	public String getName() {
+		return layout.nameAt(currentIndex());
+	}
+
+	/**
+	 * Get a value of the current field.
+	 *
+	 * @param valueIndex
+	 *            the index of the value, from 0 to {@link #getValueCount()} - 1.
+	 * @return the value.
+	 * @throws IllegalStateException
+	 *             thrown if the cursor is not positioned on a field.
+	 * @throws IndexOutOfBoundsException
+	 *             thrown if the field has no value with the given index.
+	 * @since 1.0.0
+	 */
+	public String getValue(final int valueIndex) {
+		final Object values = fieldValues[currentIndex()];
+		if (values instanceof String) {
+			if (valueIndex != 0) {
+				throw new IndexOutOfBoundsException("Field has no value at index " + valueIndex);
+			}
+			return (String) values;
+		}
+		return ((String[]) values)[valueIndex];
+	}
+
+	/**
+	 * Get the number of values of the current field.
+	 *
+	 * @return the number of values; 0 if the field is empty.
+	 * @throws IllegalStateException
+	 *             thrown if the cursor is not positioned on a field.
+	 * @since 1.0.0
+	 */
+	public int getValueCount() {
+		final Object values = fieldValues[currentIndex()];
+		return values instanceof String ? 1 : ((String[]) values).length;
+	}
+
+	/**
+	 * Does the current field contain no values?
+	 *
+	 * @return true if the field has no values, false otherwise.
+	 * @throws IllegalStateException
+	 *             thrown if the cursor is not positioned on a field.
+	 * @since 1.0.0
+	 */
+	public boolean isEmpty() {
+		return Field.isEmpty(fieldValues[currentIndex()]);
+	}
+
+	/**
+	 * Moves the cursor to the next field of the entity.
+	 *
+	 * @return true if the cursor is positioned on a field, false if there are
+	 *         no more fields.
+	 * @since 1.0.0
+	 */
+	public boolean next() {
+		do {
+			index++;
+		} while ((index < fieldValues.length) && (fieldValues[index] == null));
+		return index < fieldValues.length;
+	}
+
+	private int currentIndex() {
+		Validate.validState((index >= 0) && (index < fieldValues.length), "Cursor is not positioned on a field");
+		return index;
+	}
+
+}
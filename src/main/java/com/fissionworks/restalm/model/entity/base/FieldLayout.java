@@ -0,0 +1,67 @@
+package com.fissionworks.restalm.model.entity.base;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The field names of a group of {@link GenericEntity} instances, each assigned
+ * a fixed index; entities created with the same layout store the values of
+ * their fields in an array by these indices instead of each keeping its own
+ * field names. A layout is typically shared by the entities parsed from one
+ * ALM payload, so it holds only the names that payload contains and is
+ * discarded together with its entities.
+ *
+ * @since 1.0.0
+ */
+public final class FieldLayout {
+
+	private final ConcurrentMap<String, Integer> indices = new ConcurrentHashMap<>();
+
+	private volatile String[] names = new String[0];
+
+	/**
+	 * Creates an empty layout; names are added as entities are created with
+	 * it.
+	 *
+	 * @since 1.0.0
+	 */
+	public FieldLayout() {
+	}
+
+	/*
+	 * Returns the index of the given name, assigning the next index to names
+	 * not yet in the layout.
+	 */
+	int addName(final String name) {
+		final Integer index = indices.get(name);
+		if (index != null) {
+			return index;
+		}
+		synchronized (this) {
+			final Integer existingIndex = indices.get(name);
+			if (existingIndex != null) {
+				return existingIndex;
+			}
+			final String[] newNames = Arrays.copyOf(names, names.length + 1);
+			newNames[names.length] = name;
+			names = newNames;
+			indices.put(name, newNames.length - 1);
+			return newNames.length - 1;
+		}
+	}
+
+	/*
+	 * Returns the index of the given name, or -1 if the name is not in the
+	 * layout.
+	 */
+	int indexOf(final String name) {
+		final Integer index = indices.get(name);
+		return index == null ? -1 : index;
+	}
+
+	String nameAt(final int index) {
+		return names[index];
+	}
+
+}
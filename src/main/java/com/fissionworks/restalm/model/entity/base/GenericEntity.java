@@ -1,18 +1,17 @@
 package com.fissionworks.restalm.model.entity.base;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
+import com.fissionworks.restalm.commons.AlmDateFormatter;
 import com.fissionworks.restalm.constants.field.FieldName;
 import com.fissionworks.restalm.model.customization.EntityField;
 import com.fissionworks.restalm.model.customization.EntityFieldCollection;
@@ -21,13 +20,23 @@ import com.fissionworks.restalm.model.customization.EntityFieldCollection;
  * POJO modeled after the common entity xml returned from the ALM rest API for
  * resource entities (test, requirements, runs, etc). Used for
  * marshalling/unmarshalling purposes only.
+ * <p>
+ * To keep large numbers of entities small, entities created together (such as
+ * the entities parsed from one payload) can share a {@link FieldLayout} that
+ * assigns each field name an index; an entity stores the values of its fields
+ * in an array by that index, in the compact form described by {@link Field}.
+ * {@link #getFieldCursor()} reads the fields in place.
  *
  * @since 1.0.0
  *
  */
 public final class GenericEntity {
 
-	private final Map<String, Field> fieldMap = new HashMap<>();
+	private static final Object[] NO_FIELDS = new Object[0];
+
+	private Object[] fieldValues = NO_FIELDS;
+
+	private final FieldLayout layout;
 
 	private final List<GenericEntity> relatedEntities = new ArrayList<>();
 
@@ -45,11 +54,36 @@ public final class GenericEntity {
 	 * @since 1.0.0
 	 */
 	public GenericEntity(final String theType, final List<Field> fields) {
+		this(theType, fields, new FieldLayout());
+	}
+
+	/**
+	 * Creates an Entity with the given type that stores its fields by the
+	 * indices of the given layout, which it shares with the other entities
+	 * created with it.
+	 *
+	 * @param theType
+	 *            The type of this entity.
+	 * @param theLayout
+	 *            The layout to store the fields by.
+	 * @throws NullPointerException
+	 *             Thrown if the type or layout is null.
+	 * @throws IllegalArgumentException
+	 *             Thrown if the type is blank.
+	 * @since 1.0.0
+	 */
+	public GenericEntity(final String theType, final List<Field> fields, final FieldLayout theLayout) {
 		Validate.notBlank(theType, "Type cannot be null or blank");
 		Validate.notEmpty(fields, "fields object cannot be null or empty");
+		Validate.notNull(theLayout, "layout cannot be null");
 		this.type = theType;
+		this.layout = theLayout;
 		for (final Field field : fields) {
-			fieldMap.put(field.getName(), field);
+			final int index = layout.addName(field.getName());
+			if (index >= fieldValues.length) {
+				fieldValues = Arrays.copyOf(fieldValues, index + 1);
+			}
+			fieldValues[index] = field.getCompactValues();
 		}
 	}
 
@@ -76,12 +110,20 @@ public final class GenericEntity {
 			return false;
 		}
 		final GenericEntity other = (GenericEntity) obj;
-		if (!fieldMap.equals(other.fieldMap)) {
-			return false;
-		}
 		if (!type.equals(other.type)) {
 			return false;
 		}
+		if (layout != other.layout) {
+			return fieldsEqualByName(other);
+		}
+		for (int index = 0; index < Math.max(fieldValues.length, other.fieldValues.length); index++) {
+			final Object values = index < fieldValues.length ? fieldValues[index] : null;
+			final Object otherValues = index < other.fieldValues.length ? other.fieldValues[index] : null;
+			if ((values == null) ? (otherValues != null)
+					: ((otherValues == null) || !Field.valuesEqual(values, otherValues))) {
+				return false;
+			}
+		}
 		return true;
 	}
 
@@ -95,15 +137,12 @@ public final class GenericEntity {
 	 * @since 1.0.0
 	 */
 	public void formatForAdd(final EntityFieldCollection entityFields) {
-		final List<String> extraFields = new ArrayList<>();
-		for (final Entry<String, Field> entry : fieldMap.entrySet()) {
-			if (entry.getValue().isEmpty() || !entityFields.isValidAddField(entry.getKey())) {
-				extraFields.add(entry.getKey());
+		for (int index = 0; index < fieldValues.length; index++) {
+			if ((fieldValues[index] != null) && (Field.isEmpty(fieldValues[index])
+					|| !entityFields.isValidAddField(layout.nameAt(index)))) {
+				fieldValues[index] = null;
 			}
 		}
-		for (final String fieldName : extraFields) {
-			fieldMap.remove(fieldName);
-		}
 	}
 
 	/**
@@ -116,15 +155,11 @@ public final class GenericEntity {
 	 * @since 1.0.0
 	 */
 	public void formatForUpdate(final EntityFieldCollection entityFields) {
-		final List<String> extraFields = new ArrayList<>();
-		for (final Entry<String, Field> entry : fieldMap.entrySet()) {
-			if (!entityFields.isEditableField(entry.getKey())) {
-				extraFields.add(entry.getKey());
+		for (int index = 0; index < fieldValues.length; index++) {
+			if ((fieldValues[index] != null) && !entityFields.isEditableField(layout.nameAt(index))) {
+				fieldValues[index] = null;
 			}
 		}
-		for (final String fieldName : extraFields) {
-			fieldMap.remove(fieldName);
-		}
 	}
 
 	/**
@@ -136,22 +171,103 @@ public final class GenericEntity {
 	 */
 	public List<Field> getCustomFields() {
 		final List<Field> customFields = new ArrayList<>();
-		for (final Entry<String, Field> fieldEntry : fieldMap.entrySet()) {
-			if (StringUtils.startsWith(fieldEntry.getKey(), "user-")) {
-				customFields.add(fieldEntry.getValue());
+		for (int index = 0; index < fieldValues.length; index++) {
+			if ((fieldValues[index] != null) && StringUtils.startsWith(layout.nameAt(index), "user-")) {
+				customFields.add(new Field(layout.nameAt(index), fieldValues[index]));
 			}
 		}
 		return customFields;
 	}
 
+	/**
+	 * Get the (first) value of the field with the given field name as a date
+	 * in the standard ALM date format ("yyyy-MM-dd").
+	 *
+	 * @param fieldName
+	 *            the name of the {@link Field} to get the value of.
+	 * @param defaultValue
+	 *            the value to return if the field does not exist in this
+	 *            entity or has no values.
+	 * @return the start of the date, in milliseconds since the epoch, or the
+	 *         default value.
+	 * @throws IllegalArgumentException
+	 *             thrown if the value of the field is not a valid date.
+	 * @since 1.0.0
+	 */
+	public long getDateFieldValue(final String fieldName, final long defaultValue) {
+		final Object values = getCompactValues(fieldName);
+		return (values == null) || Field.isEmpty(values) ? defaultValue
+				: AlmDateFormatter.parseDate(Field.firstValue(values));
+	}
+
+	/**
+	 * Get the (first) value of the field with the given field name as a date
+	 * and time in the standard ALM datetime format ("yyyy-MM-dd HH:mm:ss").
+	 *
+	 * @param fieldName
+	 *            the name of the {@link Field} to get the value of.
+	 * @param defaultValue
+	 *            the value to return if the field does not exist in this
+	 *            entity or has no values.
+	 * @return the date and time, in milliseconds since the epoch, or the
+	 *         default value.
+	 * @throws IllegalArgumentException
+	 *             thrown if the value of the field is not a valid datetime.
+	 * @since 1.0.0
+	 */
+	public long getDateTimeFieldValue(final String fieldName, final long defaultValue) {
+		final Object values = getCompactValues(fieldName);
+		return (values == null) || Field.isEmpty(values) ? defaultValue
+				: AlmDateFormatter.parseDateTime(Field.firstValue(values));
+	}
+
+	/**
+	 * Returns a cursor over the fields of this entity that reads their values
+	 * in place, without creating a {@link Field} for each of them. Fields
+	 * removed from this entity after the cursor is created are skipped, and
+	 * fields added after it is created are not visited.
+	 *
+	 * @return A cursor positioned before the first field.
+	 * @since 1.0.0
+	 */
+	public FieldCursor getFieldCursor() {
+		return new FieldCursor(layout, fieldValues);
+	}
+
 	/**
 	 * Returns the collection of {@link Field} objects contained in this entity.
+	 * The fields are created on each call; changes to the returned collection
+	 * do not change this entity. Use {@link #getFieldCursor()} to read the
+	 * fields without creating them.
 	 *
 	 * @return The collection of {@link Field} values.
 	 * @since 1.0.0
 	 */
 	public Collection<Field> getFields() {
-		return this.fieldMap.values();
+		final List<Field> fields = new ArrayList<>();
+		for (int index = 0; index < fieldValues.length; index++) {
+			if (fieldValues[index] != null) {
+				fields.add(new Field(layout.nameAt(index), fieldValues[index]));
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * Get the (first) value of the field with the given field name, without
+	 * copying the field's values.
+	 *
+	 * @param fieldName
+	 *            the name of the {@link Field} to get the value of.
+	 * @param defaultValue
+	 *            the value to return if the field does not exist in this
+	 *            entity or has no values.
+	 * @return the first value of the field, or the default value.
+	 * @since 1.0.0
+	 */
+	public String getFieldValue(final String fieldName, final String defaultValue) {
+		final Object values = getCompactValues(fieldName);
+		return (values == null) || Field.isEmpty(values) ? defaultValue : Field.firstValue(values);
 	}
 
 	/**
@@ -164,13 +280,31 @@ public final class GenericEntity {
 	 * @since 1.0.0
 	 */
 	public List<String> getFieldValues(final String fieldName) {
-		final Field field = fieldMap.get(fieldName);
-		if (field != null) {
-			return field.getValues();
+		final Object values = getCompactValues(fieldName);
+		if (values != null) {
+			return Field.toList(values);
 		}
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Get the (first) value of the field with the given field name as an int.
+	 *
+	 * @param fieldName
+	 *            the name of the {@link Field} to get the value of.
+	 * @param defaultValue
+	 *            the value to return if the field does not exist in this
+	 *            entity or has no values.
+	 * @return the first value of the field, or the default value.
+	 * @throws NumberFormatException
+	 *             thrown if the value of the field is not an integer.
+	 * @since 1.0.0
+	 */
+	public int getIntFieldValue(final String fieldName, final int defaultValue) {
+		final Object values = getCompactValues(fieldName);
+		return (values == null) || Field.isEmpty(values) ? defaultValue : Integer.parseInt(Field.firstValue(values));
+	}
+
 	/**
 	 * Get the list of related entities currently contained in this entity.
 	 *
@@ -202,15 +336,21 @@ public final class GenericEntity {
 	 * @since 1.0.0
 	 */
 	public boolean hasFieldValue(final String fieldName) {
-		final Field field = fieldMap.get(fieldName);
-		return (field != null) && !field.isEmpty();
+		final Object values = getCompactValues(fieldName);
+		return (values != null) && !Field.isEmpty(values);
 	}
 
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = (prime * result) + fieldMap.hashCode();
+		int fieldsHashCode = 0;
+		for (int index = 0; index < fieldValues.length; index++) {
+			if (fieldValues[index] != null) {
+				fieldsHashCode += layout.nameAt(index).hashCode() ^ Field.valuesHashCode(fieldValues[index]);
+			}
+		}
+		result = (prime * result) + fieldsHashCode;
 		result = (prime * result) + type.hashCode();
 		return result;
 	}
@@ -234,19 +374,47 @@ public final class GenericEntity {
 	 * @since 1.0.0
 	 */
 	public void removeExtraFields(final List<FieldName> fieldNames) {
-		final Map<String, Field> newMap = new HashMap<>();
+		final Set<String> names = new HashSet<>();
 		for (final FieldName fieldName : fieldNames) {
-			newMap.put(fieldName.getName(), fieldMap.get(fieldName.getName()));
+			names.add(fieldName.getName());
+		}
+		for (int index = 0; index < fieldValues.length; index++) {
+			if ((fieldValues[index] != null) && !names.contains(layout.nameAt(index))) {
+				fieldValues[index] = null;
+			}
 		}
-		this.fieldMap.clear();
-		this.fieldMap.putAll(newMap);
+	}
+
+	/**
+	 * Sets the value of the field with the given field name, replacing any
+	 * values the field has, or adds the field if this entity does not contain
+	 * it.
+	 *
+	 * @param fieldName
+	 *            the name of the {@link Field} to set the value of.
+	 * @param value
+	 *            the new value of the field; the field is left without values
+	 *            if null or empty.
+	 * @throws NullPointerException
+	 *             Thrown if the field name is null.
+	 * @throws IllegalArgumentException
+	 *             Thrown if the field name is blank.
+	 * @since 1.0.0
+	 */
+	public void setFieldValue(final String fieldName, final String value) {
+		Validate.notBlank(fieldName, "Name cannot be null or blank");
+		final int index = layout.addName(fieldName);
+		if (index >= fieldValues.length) {
+			fieldValues = Arrays.copyOf(fieldValues, index + 1);
+		}
+		fieldValues[index] = Field.compact(Arrays.asList(value));
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
 		builder.append(super.toString()).append(" extended by: <Entity> {\n    type=|").append(type)
-				.append("|,\n    fieldMap=|").append(fieldMap).append("|");
+				.append("|,\n    fields=|").append(getFields()).append("|");
 		return builder.toString();
 	}
 
@@ -262,14 +430,46 @@ public final class GenericEntity {
 	 */
 	public void validateRequiredFieldsPresent(final EntityFieldCollection fields) {
 		final Set<String> missingFields = new HashSet<>();
-		for (final EntityField field : fields) {
-			if (field.isRequired()
-					&& (!this.fieldMap.containsKey(field.getName()) || fieldMap.get(field.getName()).isEmpty())) {
-				missingFields.add(field.getName());
+		for (final String requiredField : fields.getRequiredFieldNames()) {
+			final Object values = getCompactValues(requiredField);
+			if ((values == null) || Field.isEmpty(values)) {
+				missingFields.add(requiredField);
 			}
 		}
 		Validate.isTrue(missingFields.isEmpty(), "Entity is missing the following required fields: %s",
 				StringUtils.join(missingFields, ","));
 	}
 
+	/*
+	 * Compares the fields of entities with different layouts by looking up
+	 * each field of this entity in the other.
+	 */
+	private boolean fieldsEqualByName(final GenericEntity other) {
+		int fieldCount = 0;
+		for (int index = 0; index < fieldValues.length; index++) {
+			if (fieldValues[index] != null) {
+				final Object otherValues = other.getCompactValues(layout.nameAt(index));
+				if ((otherValues == null) || !Field.valuesEqual(fieldValues[index], otherValues)) {
+					return false;
+				}
+				fieldCount++;
+			}
+		}
+		for (final Object otherValues : other.fieldValues) {
+			if (otherValues != null) {
+				fieldCount--;
+			}
+		}
+		return fieldCount == 0;
+	}
+
+	/*
+	 * Returns the compact values of the field with the given name, or null if
+	 * this entity has no such field.
+	 */
+	private Object getCompactValues(final String fieldName) {
+		final int index = layout.indexOf(fieldName);
+		return (index >= 0) && (index < fieldValues.length) ? fieldValues[index] : null;
+	}
+
 }
@@ -1,7 +1,7 @@
 package com.fissionworks.restalm.model.entity.base;
 
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.apache.commons.lang3.Validate;
@@ -9,14 +9,16 @@ import org.apache.commons.lang3.Validate;
 /**
  * POJO modeled after the common entity xml returned from the ALM rest API for a
  * collection of resource entities (test, requirements, runs, etc). Used for
- * marshalling/unmarshalling purposes only.
+ * marshalling/unmarshalling purposes only. Entities are iterated in the order
+ * they were given in, which for a parsed collection is the order ALM returned
+ * them in.
  *
  * @since 1.0.0
  *
  */
 public final class GenericEntityCollection implements Iterable<GenericEntity> {
 
-	private final Set<GenericEntity> entities = new HashSet<>();
+	private final Set<GenericEntity> entities = new LinkedHashSet<>();
 
 	private final int totalResults;
 
@@ -2,7 +2,6 @@ package com.fissionworks.restalm.model.entity.defects;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -34,7 +33,7 @@ public final class Defect implements AlmEntity {
 
 	private String assignedTo = "";
 
-	private final Calendar closingDate = Calendar.getInstance();
+	private long closingDate = Long.MIN_VALUE;
 
 	private String comments = "";
 
@@ -50,16 +49,20 @@ public final class Defect implements AlmEntity {
 
 	private int detectedInReleaseId = Integer.MIN_VALUE;
 
-	private final Calendar detectedOnDate = Calendar.getInstance();
+	private long detectedOnDate = Long.MIN_VALUE;
 
 	private int id = Integer.MIN_VALUE;
 
-	private final Calendar modified = Calendar.getInstance();
+	private long modified = Long.MIN_VALUE;
 
 	private String severity = "";
 
 	private String status = "";
 
+	private String strippedComments;
+
+	private String strippedDescription;
+
 	private String summary = "";
 
 	/**
@@ -69,16 +72,13 @@ public final class Defect implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public Defect() {
-		closingDate.setTimeInMillis(Long.MIN_VALUE);
-		detectedOnDate.setTimeInMillis(Long.MIN_VALUE);
-		modified.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
 		fields.add(new Field(DefectField.ASSIGNED_TO.getName(), Arrays.asList(assignedTo)));
-		fields.add(closingDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(closingDate == Long.MIN_VALUE ? null
 				: new Field(DefectField.CLOSING_DATE.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDate(closingDate))));
 		fields.add(new Field(DefectField.COMMENTS.getName(), Arrays.asList(comments)));
@@ -90,12 +90,12 @@ public final class Defect implements AlmEntity {
 		fields.add(detectedInReleaseId == Integer.MIN_VALUE ? null
 				: new Field(DefectField.DETECTED_IN_RELEASE_ID.getName(),
 						Arrays.asList(String.valueOf(detectedInReleaseId))));
-		fields.add(detectedOnDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(detectedOnDate == Long.MIN_VALUE ? null
 				: new Field(DefectField.DETECTED_ON_DATE.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDate(detectedOnDate))));
 		fields.add(id == Integer.MIN_VALUE ? null
 				: new Field(DefectField.ID.getName(), Arrays.asList(String.valueOf(id))));
-		fields.add(modified.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(modified == Long.MIN_VALUE ? null
 				: new Field(DefectField.MODIFIED.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDateTime(modified))));
 		fields.add(new Field(DefectField.SEVERITY.getName(), Arrays.asList(severity)));
@@ -157,7 +157,10 @@ public final class Defect implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getComments() {
-		return ConversionUtils.removeHtml(comments);
+		if (strippedComments == null) {
+			strippedComments = ConversionUtils.removeHtml(comments);
+		}
+		return strippedComments;
 	}
 
 	/**
@@ -168,7 +171,10 @@ public final class Defect implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	/**
@@ -338,7 +344,7 @@ public final class Defect implements AlmEntity {
 			return false;
 		}
 
-		if (closingDate.getTimeInMillis() != other.closingDate.getTimeInMillis()) {
+		if (closingDate != other.closingDate) {
 			return false;
 		}
 		if (!getComments().equals(other.getComments())) {
@@ -355,10 +361,10 @@ public final class Defect implements AlmEntity {
 			return false;
 		}
 
-		if (detectedOnDate.getTimeInMillis() != other.detectedOnDate.getTimeInMillis()) {
+		if (detectedOnDate != other.detectedOnDate) {
 			return false;
 		}
-		if (modified.getTimeInMillis() != other.modified.getTimeInMillis()) {
+		if (modified != other.modified) {
 			return false;
 		}
 		if (!severity.equals(other.severity)) {
@@ -389,37 +395,22 @@ public final class Defect implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		assignedTo = entity.hasFieldValue(DefectField.ASSIGNED_TO.getName())
-				? entity.getFieldValues((DefectField.ASSIGNED_TO.getName())).get(0) : "";
-		closingDate.setTime(entity.hasFieldValue(DefectField.CLOSING_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(DefectField.CLOSING_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		comments = entity.hasFieldValue(DefectField.COMMENTS.getName())
-				? entity.getFieldValues((DefectField.COMMENTS.getName())).get(0) : "";
-		description = entity.hasFieldValue(DefectField.DESCRIPTION.getName())
-				? entity.getFieldValues((DefectField.DESCRIPTION.getName())).get(0) : "";
-		detectedBy = entity.hasFieldValue(DefectField.DETECTED_BY.getName())
-				? entity.getFieldValues((DefectField.DETECTED_BY.getName())).get(0) : "";
-		detectedInReleaseCycleId = entity.hasFieldValue(DefectField.DETECTED_IN_CYCLE_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(DefectField.DETECTED_IN_CYCLE_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		detectedInReleaseId = entity.hasFieldValue(DefectField.DETECTED_IN_RELEASE_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(DefectField.DETECTED_IN_RELEASE_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		detectedOnDate.setTime(entity.hasFieldValue(DefectField.DETECTED_ON_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(DefectField.DETECTED_ON_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		id = entity.hasFieldValue(DefectField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(DefectField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		modified.setTime(entity.hasFieldValue(DefectField.MODIFIED.getName())
-				? AlmDateFormatter.createDateTime(entity.getFieldValues(DefectField.MODIFIED.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		severity = entity.hasFieldValue(DefectField.SEVERITY.getName())
-				? entity.getFieldValues((DefectField.SEVERITY.getName())).get(0) : "";
-		status = entity.hasFieldValue(DefectField.STATUS.getName())
-				? entity.getFieldValues((DefectField.STATUS.getName())).get(0) : "";
-		summary = entity.hasFieldValue(DefectField.SUMMARY.getName())
-				? entity.getFieldValues((DefectField.SUMMARY.getName())).get(0) : "";
+		assignedTo = entity.getFieldValue(DefectField.ASSIGNED_TO.getName(), "");
+		closingDate = entity.getDateFieldValue(DefectField.CLOSING_DATE.getName(), Long.MIN_VALUE);
+		comments = entity.getFieldValue(DefectField.COMMENTS.getName(), "");
+		strippedComments = null;
+		description = entity.getFieldValue(DefectField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		detectedBy = entity.getFieldValue(DefectField.DETECTED_BY.getName(), "");
+		detectedInReleaseCycleId = entity.getIntFieldValue(DefectField.DETECTED_IN_CYCLE_ID.getName(),
+				Integer.MIN_VALUE);
+		detectedInReleaseId = entity.getIntFieldValue(DefectField.DETECTED_IN_RELEASE_ID.getName(), Integer.MIN_VALUE);
+		detectedOnDate = entity.getDateFieldValue(DefectField.DETECTED_ON_DATE.getName(), Long.MIN_VALUE);
+		id = entity.getIntFieldValue(DefectField.ID.getName(), Integer.MIN_VALUE);
+		modified = entity.getDateTimeFieldValue(DefectField.MODIFIED.getName(), Long.MIN_VALUE);
+		severity = entity.getFieldValue(DefectField.SEVERITY.getName(), "");
+		status = entity.getFieldValue(DefectField.STATUS.getName(), "");
+		summary = entity.getFieldValue(DefectField.SUMMARY.getName(), "");
 		if (entity.hasRelatedEntities()) {
 			for (final GenericEntity relatedEntity : entity.getRelatedEntities()) {
 				populateRelatedEntity(relatedEntity);
@@ -446,7 +437,7 @@ public final class Defect implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setClosingDate(final String closingDate) {
-		this.closingDate.setTime(AlmDateFormatter.createDate(closingDate));
+		this.closingDate = AlmDateFormatter.parseDate(closingDate);
 	}
 
 	/**
@@ -458,6 +449,7 @@ public final class Defect implements AlmEntity {
 	 */
 	public void setComments(final String comments) {
 		this.comments = comments;
+		this.strippedComments = null;
 	}
 
 	/**
@@ -469,6 +461,7 @@ public final class Defect implements AlmEntity {
 	 */
 	public void setDescription(final String description) {
 		this.description = description;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -536,7 +529,7 @@ public final class Defect implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setDetectedOnDate(final String theDetectedOnDate) {
-		this.detectedOnDate.setTime(AlmDateFormatter.createDate(theDetectedOnDate));
+		this.detectedOnDate = AlmDateFormatter.parseDate(theDetectedOnDate);
 	}
 
 	/**
@@ -560,7 +553,7 @@ public final class Defect implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setModified(final String theModified) {
-		this.modified.setTime(AlmDateFormatter.createDateTime(theModified));
+		this.modified = AlmDateFormatter.parseDateTime(theModified);
 	}
 
 	/**
@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.management;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -32,7 +30,7 @@ public final class ReleaseCycle implements AlmEntity {
 
 	private String description = "";
 
-	private final Calendar endDate = Calendar.getInstance();
+	private long endDate = Long.MIN_VALUE;
 
 	private int id = Integer.MIN_VALUE;
 
@@ -42,7 +40,9 @@ public final class ReleaseCycle implements AlmEntity {
 
 	private Release parentRelease;
 
-	private final Calendar startDate = Calendar.getInstance();
+	private long startDate = Long.MIN_VALUE;
+
+	private String strippedDescription;
 
 	/**
 	 * Default constructor; sets start and end date times to
@@ -51,22 +51,20 @@ public final class ReleaseCycle implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public ReleaseCycle() {
-		startDate.setTimeInMillis(Long.MIN_VALUE);
-		endDate.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
 		fields.add(new Field(ReleaseField.DESCRIPTION.getName(), Arrays.asList(description)));
-		fields.add(endDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(endDate == Long.MIN_VALUE ? null
 				: new Field(ReleaseField.END_DATE.getName(), Arrays.asList(AlmDateFormatter.getStandardDate(endDate))));
 		fields.add(id == Integer.MIN_VALUE ? null
 				: new Field(ReleaseField.ID.getName(), Arrays.asList(String.valueOf(id))));
 		fields.add(new Field(ReleaseField.NAME.getName(), Arrays.asList(name)));
 		fields.add(parentId == Integer.MIN_VALUE ? null
 				: new Field(ReleaseField.PARENT_ID.getName(), Arrays.asList(String.valueOf(parentId))));
-		fields.add(startDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(startDate == Long.MIN_VALUE ? null
 				: new Field(ReleaseField.START_DATE.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDate(startDate))));
 		fields.removeAll(Collections.singleton(null));
@@ -105,7 +103,10 @@ public final class ReleaseCycle implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	/**
@@ -214,10 +215,10 @@ public final class ReleaseCycle implements AlmEntity {
 		if (!getDescription().equals(other.getDescription())) {
 			return false;
 		}
-		if (endDate.getTimeInMillis() != other.endDate.getTimeInMillis()) {
+		if (endDate != other.endDate) {
 			return false;
 		}
-		if (startDate.getTimeInMillis() != other.startDate.getTimeInMillis()) {
+		if (startDate != other.startDate) {
 			return false;
 		}
 
@@ -233,20 +234,13 @@ public final class ReleaseCycle implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		description = entity.hasFieldValue(AlmTestField.DESCRIPTION.getName())
-				? entity.getFieldValues(AlmTestField.DESCRIPTION.getName()).get(0) : "";
-		endDate.setTime(entity.hasFieldValue(ReleaseField.END_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(ReleaseField.END_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		id = entity.hasFieldValue(ReleaseField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(ReleaseField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(ReleaseField.NAME.getName())
-				? entity.getFieldValues(ReleaseField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(ReleaseField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(ReleaseField.PARENT_ID.getName()).get(0)) : Integer.MIN_VALUE;
-		startDate.setTime(entity.hasFieldValue(ReleaseField.START_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(ReleaseField.START_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
+		description = entity.getFieldValue(AlmTestField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		endDate = entity.getDateFieldValue(ReleaseField.END_DATE.getName(), Long.MIN_VALUE);
+		id = entity.getIntFieldValue(ReleaseField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(ReleaseField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(ReleaseField.PARENT_ID.getName(), Integer.MIN_VALUE);
+		startDate = entity.getDateFieldValue(ReleaseField.START_DATE.getName(), Long.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			if (parentRelease == null) {
 				parentRelease = new Release();
@@ -264,6 +258,7 @@ public final class ReleaseCycle implements AlmEntity {
 	 */
 	public void setDescription(final String theDescription) {
 		this.description = theDescription;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -277,7 +272,7 @@ public final class ReleaseCycle implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setEndDate(final String theEndDate) {
-		endDate.setTime(AlmDateFormatter.createDate(theEndDate));
+		endDate = AlmDateFormatter.parseDate(theEndDate);
 	}
 
 	/**
@@ -339,7 +334,7 @@ public final class ReleaseCycle implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setStartDate(final String theStartDate) {
-		startDate.setTime(AlmDateFormatter.createDate(theStartDate));
+		startDate = AlmDateFormatter.parseDate(theStartDate);
 	}
 
 	@Override
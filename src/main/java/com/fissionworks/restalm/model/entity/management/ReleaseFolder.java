@@ -36,6 +36,8 @@ public final class ReleaseFolder implements AlmEntity {
 
 	private ReleaseFolder parentReleaseFolder;
 
+	private String strippedDescription;
+
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
@@ -81,7 +83,10 @@ public final class ReleaseFolder implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	@Override
@@ -183,15 +188,11 @@ public final class ReleaseFolder implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		description = entity.hasFieldValue(ReleaseFolderField.DESCRIPTION.getName())
-				? entity.getFieldValues(ReleaseFolderField.DESCRIPTION.getName()).get(0) : "";
-		id = entity.hasFieldValue(ReleaseFolderField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(ReleaseFolderField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(ReleaseFolderField.NAME.getName())
-				? entity.getFieldValues(ReleaseFolderField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(ReleaseFolderField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(ReleaseFolderField.PARENT_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
+		description = entity.getFieldValue(ReleaseFolderField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		id = entity.getIntFieldValue(ReleaseFolderField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(ReleaseFolderField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(ReleaseFolderField.PARENT_ID.getName(), Integer.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			if (parentReleaseFolder == null) {
 				parentReleaseFolder = new ReleaseFolder();
@@ -209,6 +210,7 @@ public final class ReleaseFolder implements AlmEntity {
 	 */
 	public void setDescription(final String theDescription) {
 		this.description = theDescription;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.requirements;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -29,7 +27,7 @@ public final class Requirement implements AlmEntity {
 
 	private String comments = "";
 
-	private final Calendar creationDate = Calendar.getInstance();
+	private long creationDate = Long.MIN_VALUE;
 
 	private String description = "";
 
@@ -39,7 +37,7 @@ public final class Requirement implements AlmEntity {
 
 	private int id = Integer.MIN_VALUE;
 
-	private final Calendar lastModified = Calendar.getInstance();
+	private long lastModified = Long.MIN_VALUE;
 
 	private String name = "";
 
@@ -47,6 +45,10 @@ public final class Requirement implements AlmEntity {
 
 	private Requirement parentRequirement;
 
+	private String strippedComments;
+
+	private String strippedDescription;
+
 	private int typeId = Integer.MIN_VALUE;
 
 	/**
@@ -55,8 +57,6 @@ public final class Requirement implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public Requirement() {
-		lastModified.setTimeInMillis(Long.MIN_VALUE);
-		creationDate.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public final class Requirement implements AlmEntity {
 		final List<Field> fields = new ArrayList<>();
 		fields.add(new Field(RequirementField.AUTHOR.getName(), Arrays.asList(author)));
 		fields.add(new Field(RequirementField.COMMENTS.getName(), Arrays.asList(comments)));
-		fields.add(creationDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(creationDate == Long.MIN_VALUE ? null
 				: new Field(RequirementField.CREATION_DATE.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDate(creationDate))));
 		fields.add(new Field(RequirementField.DESCRIPTION.getName(), Arrays.asList(description)));
@@ -72,7 +72,7 @@ public final class Requirement implements AlmEntity {
 		fields.add(new Field(RequirementField.FATHER_NAME.getName(), Arrays.asList(fatherName)));
 		fields.add(id == Integer.MIN_VALUE ? null
 				: new Field(RequirementField.ID.getName(), Arrays.asList(String.valueOf(id))));
-		fields.add(lastModified.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(lastModified == Long.MIN_VALUE ? null
 				: new Field(RequirementField.LAST_MODIFIED.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDateTime(lastModified))));
 		fields.add(new Field(RequirementField.NAME.getName(), Arrays.asList(name)));
@@ -126,7 +126,10 @@ public final class Requirement implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getComments() {
-		return ConversionUtils.removeHtml(comments);
+		if (strippedComments == null) {
+			strippedComments = ConversionUtils.removeHtml(comments);
+		}
+		return strippedComments;
 	}
 
 	/**
@@ -147,7 +150,10 @@ public final class Requirement implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	/**
@@ -299,7 +305,7 @@ public final class Requirement implements AlmEntity {
 			return false;
 		}
 
-		if (creationDate.getTimeInMillis() != other.creationDate.getTimeInMillis()) {
+		if (creationDate != other.creationDate) {
 			return false;
 		}
 
@@ -314,7 +320,7 @@ public final class Requirement implements AlmEntity {
 		if (!fatherName.equals(other.fatherName)) {
 			return false;
 		}
-		if (lastModified.getTimeInMillis() != other.lastModified.getTimeInMillis()) {
+		if (lastModified != other.lastModified) {
 			return false;
 		}
 
@@ -327,32 +333,19 @@ public final class Requirement implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		author = entity.hasFieldValue(RequirementField.AUTHOR.getName())
-				? entity.getFieldValues((RequirementField.AUTHOR.getName())).get(0) : "";
-		comments = entity.hasFieldValue(RequirementField.COMMENTS.getName())
-				? entity.getFieldValues((RequirementField.COMMENTS.getName())).get(0) : "";
-		creationDate.setTime(entity.hasFieldValue(RequirementField.CREATION_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(RequirementField.CREATION_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		description = entity.hasFieldValue(RequirementField.DESCRIPTION.getName())
-				? entity.getFieldValues((RequirementField.DESCRIPTION.getName())).get(0) : "";
-		directCoverStatus = entity.hasFieldValue(RequirementField.DIRECT_COVER_STATUS.getName())
-				? entity.getFieldValues((RequirementField.DIRECT_COVER_STATUS.getName())).get(0) : "";
-		fatherName = entity.hasFieldValue(RequirementField.FATHER_NAME.getName())
-				? entity.getFieldValues((RequirementField.FATHER_NAME.getName())).get(0) : "";
-		id = entity.hasFieldValue(RequirementField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RequirementField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		lastModified.setTime(entity.hasFieldValue(RequirementField.LAST_MODIFIED.getName())
-				? AlmDateFormatter
-						.createDateTime(entity.getFieldValues(RequirementField.LAST_MODIFIED.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		name = entity.hasFieldValue(RequirementField.NAME.getName())
-				? entity.getFieldValues((RequirementField.NAME.getName())).get(0) : "";
-		parentId = entity.hasFieldValue(RequirementField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RequirementField.PARENT_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		typeId = entity.hasFieldValue(RequirementField.TYPE_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RequirementField.TYPE_ID.getName()).get(0)) : Integer.MIN_VALUE;
+		author = entity.getFieldValue(RequirementField.AUTHOR.getName(), "");
+		comments = entity.getFieldValue(RequirementField.COMMENTS.getName(), "");
+		strippedComments = null;
+		creationDate = entity.getDateFieldValue(RequirementField.CREATION_DATE.getName(), Long.MIN_VALUE);
+		description = entity.getFieldValue(RequirementField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		directCoverStatus = entity.getFieldValue(RequirementField.DIRECT_COVER_STATUS.getName(), "");
+		fatherName = entity.getFieldValue(RequirementField.FATHER_NAME.getName(), "");
+		id = entity.getIntFieldValue(RequirementField.ID.getName(), Integer.MIN_VALUE);
+		lastModified = entity.getDateTimeFieldValue(RequirementField.LAST_MODIFIED.getName(), Long.MIN_VALUE);
+		name = entity.getFieldValue(RequirementField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(RequirementField.PARENT_ID.getName(), Integer.MIN_VALUE);
+		typeId = entity.getIntFieldValue(RequirementField.TYPE_ID.getName(), Integer.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			if (parentRequirement == null) {
 				parentRequirement = new Requirement();
@@ -383,6 +376,7 @@ public final class Requirement implements AlmEntity {
 	 */
 	public void setComments(final String comments) {
 		this.comments = comments;
+		this.strippedComments = null;
 	}
 
 	/**
@@ -393,7 +387,7 @@ public final class Requirement implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setCreationDate(final String creationDate) {
-		this.creationDate.setTime(AlmDateFormatter.createDate(creationDate));
+		this.creationDate = AlmDateFormatter.parseDate(creationDate);
 	}
 
 	/**
@@ -405,6 +399,7 @@ public final class Requirement implements AlmEntity {
 	 */
 	public void setDescription(final String description) {
 		this.description = description;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -448,7 +443,7 @@ public final class Requirement implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setLastModified(final String lastModified) {
-		this.lastModified.setTime(AlmDateFormatter.createDateTime(lastModified));
+		this.lastModified = AlmDateFormatter.parseDateTime(lastModified);
 	}
 
 	/**
@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.requirements;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -31,7 +29,7 @@ public final class RequirementCoverage implements AlmEntity {
 
 	private int id = Integer.MIN_VALUE;
 
-	private final Calendar lastModified = Calendar.getInstance();
+	private long lastModified = Long.MIN_VALUE;
 
 	private int requirementId = Integer.MIN_VALUE;
 
@@ -45,7 +43,6 @@ public final class RequirementCoverage implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public RequirementCoverage() {
-		lastModified.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
@@ -55,7 +52,7 @@ public final class RequirementCoverage implements AlmEntity {
 				new Field(RequirementCoverageField.COVERAGE_ENTITY_TYPE.getName(), Arrays.asList(coverageEntityType)));
 		fields.add(id == Integer.MIN_VALUE ? null
 				: new Field(RequirementCoverageField.ID.getName(), Arrays.asList(String.valueOf(id))));
-		fields.add(lastModified.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(lastModified == Long.MIN_VALUE ? null
 				: new Field(RequirementCoverageField.LAST_MODIFIED.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDateTime(lastModified))));
 		fields.add(requirementId == Integer.MIN_VALUE ? null
@@ -208,7 +205,7 @@ public final class RequirementCoverage implements AlmEntity {
 			return false;
 		}
 
-		if (lastModified.getTimeInMillis() != other.lastModified.getTimeInMillis()) {
+		if (lastModified != other.lastModified) {
 			return false;
 		}
 
@@ -221,23 +218,12 @@ public final class RequirementCoverage implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		coverageEntityType = entity.hasFieldValue(RequirementCoverageField.COVERAGE_ENTITY_TYPE.getName())
-				? entity.getFieldValues((RequirementCoverageField.COVERAGE_ENTITY_TYPE.getName())).get(0) : "";
-		id = entity.hasFieldValue(RequirementCoverageField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RequirementCoverageField.ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		lastModified.setTime(entity.hasFieldValue(RequirementCoverageField.LAST_MODIFIED.getName())
-				? AlmDateFormatter
-						.createDateTime(entity.getFieldValues(RequirementCoverageField.LAST_MODIFIED.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		requirementId = entity.hasFieldValue(RequirementCoverageField.REQUIREMENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RequirementCoverageField.REQUIREMENT_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		status = entity.hasFieldValue(RequirementCoverageField.STATUS.getName())
-				? entity.getFieldValues((RequirementCoverageField.STATUS.getName())).get(0) : "";
-		testId = entity.hasFieldValue(RequirementCoverageField.TEST_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RequirementCoverageField.TEST_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
+		coverageEntityType = entity.getFieldValue(RequirementCoverageField.COVERAGE_ENTITY_TYPE.getName(), "");
+		id = entity.getIntFieldValue(RequirementCoverageField.ID.getName(), Integer.MIN_VALUE);
+		lastModified = entity.getDateTimeFieldValue(RequirementCoverageField.LAST_MODIFIED.getName(), Long.MIN_VALUE);
+		requirementId = entity.getIntFieldValue(RequirementCoverageField.REQUIREMENT_ID.getName(), Integer.MIN_VALUE);
+		status = entity.getFieldValue(RequirementCoverageField.STATUS.getName(), "");
+		testId = entity.getIntFieldValue(RequirementCoverageField.TEST_ID.getName(), Integer.MIN_VALUE);
 
 		if (entity.hasRelatedEntities()) {
 			if (associatedRequirement == null) {
@@ -292,7 +278,7 @@ public final class RequirementCoverage implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setLastModified(final String lastModified) {
-		this.lastModified.setTime(AlmDateFormatter.createDateTime(lastModified));
+		this.lastModified = AlmDateFormatter.parseDateTime(lastModified);
 	}
 
 	/**
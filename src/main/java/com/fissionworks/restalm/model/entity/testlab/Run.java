@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.testlab;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -38,7 +36,7 @@ public final class Run implements AlmEntity {
 
 	private int id = Integer.MIN_VALUE;
 
-	private final Calendar lastModified = Calendar.getInstance();
+	private long lastModified = Long.MIN_VALUE;
 
 	private String name = "";
 
@@ -46,6 +44,8 @@ public final class Run implements AlmEntity {
 
 	private String status = "";
 
+	private String strippedComments;
+
 	private String subtype = "";
 
 	private int testConfigId = Integer.MIN_VALUE;
@@ -62,7 +62,6 @@ public final class Run implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public Run() {
-		lastModified.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
@@ -70,7 +69,7 @@ public final class Run implements AlmEntity {
 		final List<Field> fields = new ArrayList<>();
 		fields.add(new Field(RunField.COMMENTS.getName(), Arrays.asList(comments)));
 		fields.add(new Field(RunField.HOST.getName(), Arrays.asList(host)));
-		fields.add(lastModified.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(lastModified == Long.MIN_VALUE ? null
 				: new Field(RunField.LAST_MODIFIED.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDateTime(lastModified))));
 		fields.add(new Field(RunField.NAME.getName(), Arrays.asList(name)));
@@ -123,7 +122,10 @@ public final class Run implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getComments() {
-		return ConversionUtils.removeHtml(comments);
+		if (strippedComments == null) {
+			strippedComments = ConversionUtils.removeHtml(comments);
+		}
+		return strippedComments;
 	}
 
 	@Override
@@ -290,7 +292,7 @@ public final class Run implements AlmEntity {
 		if (id != other.id) {
 			return false;
 		}
-		if (lastModified.getTimeInMillis() != other.lastModified.getTimeInMillis()) {
+		if (lastModified != other.lastModified) {
 			return false;
 		}
 		if (!name.equals(other.name)) {
@@ -322,32 +324,19 @@ public final class Run implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		comments = entity.hasFieldValue(RunField.COMMENTS.getName())
-				? entity.getFieldValues((RunField.COMMENTS.getName())).get(0) : "";
-		host = entity.hasFieldValue(RunField.HOST.getName()) ? entity.getFieldValues((RunField.HOST.getName())).get(0)
-				: "";
-		id = entity.hasFieldValue(RunField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RunField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		lastModified.setTime(entity.hasFieldValue(RunField.LAST_MODIFIED.getName())
-				? AlmDateFormatter.createDateTime(entity.getFieldValues(RunField.LAST_MODIFIED.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		name = entity.hasFieldValue(RunField.NAME.getName()) ? entity.getFieldValues((RunField.NAME.getName())).get(0)
-				: "";
-		owner = entity.hasFieldValue(RunField.OWNER.getName())
-				? entity.getFieldValues((RunField.OWNER.getName())).get(0) : "";
-		status = entity.hasFieldValue(RunField.STATUS.getName())
-				? entity.getFieldValues((RunField.STATUS.getName())).get(0) : "";
-		subtype = entity.hasFieldValue(RunField.SUBTYPE_ID.getName())
-				? entity.getFieldValues((RunField.SUBTYPE_ID.getName())).get(0) : "";
-		testConfigId = entity.hasFieldValue(RunField.TEST_CONFIG_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RunField.TEST_CONFIG_ID.getName()).get(0)) : Integer.MIN_VALUE;
-		testId = entity.hasFieldValue(RunField.TEST_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RunField.TEST_ID.getName()).get(0)) : Integer.MIN_VALUE;
-		testInstanceId = entity.hasFieldValue(RunField.TEST_INSTANCE_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RunField.TEST_INSTANCE_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		testSetId = entity.hasFieldValue(RunField.TEST_SET_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(RunField.TEST_SET_ID.getName()).get(0)) : Integer.MIN_VALUE;
+		comments = entity.getFieldValue(RunField.COMMENTS.getName(), "");
+		strippedComments = null;
+		host = entity.getFieldValue(RunField.HOST.getName(), "");
+		id = entity.getIntFieldValue(RunField.ID.getName(), Integer.MIN_VALUE);
+		lastModified = entity.getDateTimeFieldValue(RunField.LAST_MODIFIED.getName(), Long.MIN_VALUE);
+		name = entity.getFieldValue(RunField.NAME.getName(), "");
+		owner = entity.getFieldValue(RunField.OWNER.getName(), "");
+		status = entity.getFieldValue(RunField.STATUS.getName(), "");
+		subtype = entity.getFieldValue(RunField.SUBTYPE_ID.getName(), "");
+		testConfigId = entity.getIntFieldValue(RunField.TEST_CONFIG_ID.getName(), Integer.MIN_VALUE);
+		testId = entity.getIntFieldValue(RunField.TEST_ID.getName(), Integer.MIN_VALUE);
+		testInstanceId = entity.getIntFieldValue(RunField.TEST_INSTANCE_ID.getName(), Integer.MIN_VALUE);
+		testSetId = entity.getIntFieldValue(RunField.TEST_SET_ID.getName(), Integer.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			for (final GenericEntity relatedEntity : entity.getRelatedEntities()) {
 				populateRelatedEntity(relatedEntity);
@@ -394,6 +383,7 @@ public final class Run implements AlmEntity {
 	 */
 	public void setComments(final String comments) {
 		this.comments = comments;
+		this.strippedComments = null;
 	}
 
 	/**
@@ -429,7 +419,7 @@ public final class Run implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setLastModified(final String theLastModified) {
-		this.lastModified.setTime(AlmDateFormatter.createDateTime(theLastModified));
+		this.lastModified = AlmDateFormatter.parseDateTime(theLastModified);
 	}
 
 	/**
@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.testlab;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -37,7 +35,7 @@ public final class TestInstance implements AlmEntity {
 
 	private int id = Integer.MIN_VALUE;
 
-	private final Calendar lastModified = Calendar.getInstance();
+	private long lastModified = Long.MIN_VALUE;
 
 	private TestSet parentTestSet;
 
@@ -65,13 +63,12 @@ public final class TestInstance implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public TestInstance() {
-		lastModified.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
-		fields.add(lastModified.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(lastModified == Long.MIN_VALUE ? null
 				: new Field(TestInstanceField.LAST_MODIFIED.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDateTime(lastModified))));
 		fields.add(new Field(TestInstanceField.RESPONSIBLE_TESTER.getName(), Arrays.asList(responsibleTester)));
@@ -296,7 +293,7 @@ public final class TestInstance implements AlmEntity {
 			return true;
 		}
 
-		if (lastModified.getTimeInMillis() != other.lastModified.getTimeInMillis()) {
+		if (lastModified != other.lastModified) {
 			return false;
 		}
 		if (!plannedHost.equals(other.plannedHost)) {
@@ -346,35 +343,18 @@ public final class TestInstance implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		lastModified.setTime(entity.hasFieldValue(TestInstanceField.LAST_MODIFIED.getName())
-				? AlmDateFormatter
-						.createDateTime(entity.getFieldValues(TestInstanceField.LAST_MODIFIED.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		plannedHost = entity.hasFieldValue(TestInstanceField.PLANNED_HOST.getName())
-				? entity.getFieldValues((TestInstanceField.PLANNED_HOST.getName())).get(0) : "";
-		responsibleTester = entity.hasFieldValue(TestInstanceField.RESPONSIBLE_TESTER.getName())
-				? entity.getFieldValues(TestInstanceField.RESPONSIBLE_TESTER.getName()).get(0) : "";
-		id = entity.hasFieldValue(TestInstanceField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestInstanceField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		status = entity.hasFieldValue(TestInstanceField.STATUS.getName())
-				? entity.getFieldValues(TestInstanceField.STATUS.getName()).get(0) : "";
-		subtype = entity.hasFieldValue(TestInstanceField.SUBTYPE.getName())
-				? entity.getFieldValues(TestInstanceField.SUBTYPE.getName()).get(0) : "";
-		testConfigId = entity.hasFieldValue(TestInstanceField.TEST_CONFIG_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestInstanceField.TEST_CONFIG_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		testId = entity.hasFieldValue(TestInstanceField.TEST_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestInstanceField.TEST_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		testOrder = entity.hasFieldValue(TestInstanceField.TEST_ORDER.getName())
-				? Integer.valueOf(entity.getFieldValues(TestInstanceField.TEST_ORDER.getName()).get(0))
-				: Integer.MIN_VALUE;
-		testInstanceNumber = entity.hasFieldValue(TestInstanceField.TEST_INSTANCE_NUMBER.getName())
-				? Integer.valueOf(entity.getFieldValues(TestInstanceField.TEST_INSTANCE_NUMBER.getName()).get(0))
-				: Integer.MIN_VALUE;
-		testSetId = entity.hasFieldValue(TestInstanceField.TEST_SET_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestInstanceField.TEST_SET_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
+		lastModified = entity.getDateTimeFieldValue(TestInstanceField.LAST_MODIFIED.getName(), Long.MIN_VALUE);
+		plannedHost = entity.getFieldValue(TestInstanceField.PLANNED_HOST.getName(), "");
+		responsibleTester = entity.getFieldValue(TestInstanceField.RESPONSIBLE_TESTER.getName(), "");
+		id = entity.getIntFieldValue(TestInstanceField.ID.getName(), Integer.MIN_VALUE);
+		status = entity.getFieldValue(TestInstanceField.STATUS.getName(), "");
+		subtype = entity.getFieldValue(TestInstanceField.SUBTYPE.getName(), "");
+		testConfigId = entity.getIntFieldValue(TestInstanceField.TEST_CONFIG_ID.getName(), Integer.MIN_VALUE);
+		testId = entity.getIntFieldValue(TestInstanceField.TEST_ID.getName(), Integer.MIN_VALUE);
+		testOrder = entity.getIntFieldValue(TestInstanceField.TEST_ORDER.getName(), Integer.MIN_VALUE);
+		testInstanceNumber = entity.getIntFieldValue(TestInstanceField.TEST_INSTANCE_NUMBER.getName(),
+				Integer.MIN_VALUE);
+		testSetId = entity.getIntFieldValue(TestInstanceField.TEST_SET_ID.getName(), Integer.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			for (final GenericEntity relatedEntity : entity.getRelatedEntities()) {
 				populateRelatedEntity(relatedEntity);
@@ -428,7 +408,7 @@ public final class TestInstance implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setLastModified(final String theLastModified) {
-		this.lastModified.setTime(AlmDateFormatter.createDateTime(theLastModified));
+		this.lastModified = AlmDateFormatter.parseDateTime(theLastModified);
 	}
 
 	/**
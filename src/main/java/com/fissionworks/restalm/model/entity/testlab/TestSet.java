@@ -40,6 +40,8 @@ public final class TestSet implements AlmEntity {
 
 	private TestSetFolder parentTestSetFolder;
 
+	private String strippedDescription;
+
 	private String subtype = DEFAULT_SUBTYPE;
 
 	@Override
@@ -88,7 +90,10 @@ public final class TestSet implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	@Override
@@ -203,16 +208,12 @@ public final class TestSet implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		description = entity.hasFieldValue(TestSetField.DESCRIPTION.getName())
-				? entity.getFieldValues(TestSetField.DESCRIPTION.getName()).get(0) : "";
-		id = entity.hasFieldValue(TestSetField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestSetField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(TestSetField.NAME.getName())
-				? entity.getFieldValues(TestSetField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(TestSetField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestSetField.PARENT_ID.getName()).get(0)) : Integer.MIN_VALUE;
-		subtype = entity.hasFieldValue(TestSetField.TYPE.getName())
-				? entity.getFieldValues(TestSetField.TYPE.getName()).get(0) : DEFAULT_SUBTYPE;
+		description = entity.getFieldValue(TestSetField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		id = entity.getIntFieldValue(TestSetField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(TestSetField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(TestSetField.PARENT_ID.getName(), Integer.MIN_VALUE);
+		subtype = entity.getFieldValue(TestSetField.TYPE.getName(), DEFAULT_SUBTYPE);
 		if (entity.hasRelatedEntities()) {
 			if (parentTestSetFolder == null) {
 				parentTestSetFolder = new TestSetFolder();
@@ -231,6 +232,7 @@ public final class TestSet implements AlmEntity {
 	 */
 	public void setDescription(final String theDescription) {
 		this.description = theDescription;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -36,6 +36,8 @@ public final class TestSetFolder implements AlmEntity {
 
 	private TestSetFolder parentTestSetFolder;
 
+	private String strippedDescription;
+
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
@@ -81,7 +83,10 @@ public final class TestSetFolder implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	@Override
@@ -183,15 +188,11 @@ public final class TestSetFolder implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		description = entity.hasFieldValue(TestSetFolderField.DESCRIPTION.getName())
-				? entity.getFieldValues(TestSetFolderField.DESCRIPTION.getName()).get(0) : "";
-		id = entity.hasFieldValue(TestSetFolderField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestSetFolderField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(TestSetFolderField.NAME.getName())
-				? entity.getFieldValues(TestSetFolderField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(TestSetFolderField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestSetFolderField.PARENT_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
+		description = entity.getFieldValue(TestSetFolderField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		id = entity.getIntFieldValue(TestSetFolderField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(TestSetFolderField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(TestSetFolderField.PARENT_ID.getName(), Integer.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			if (parentTestSetFolder == null) {
 				parentTestSetFolder = new TestSetFolder();
@@ -210,6 +211,7 @@ public final class TestSetFolder implements AlmEntity {
 	 */
 	public void setDescription(final String theDescription) {
 		this.description = theDescription;
+		this.strippedDescription = null;
 	}
 
 	/**
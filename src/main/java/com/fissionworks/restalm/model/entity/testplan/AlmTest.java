@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.testplan;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -29,7 +27,7 @@ public final class AlmTest implements AlmEntity {
 
 	private static final String COLLECTION_TYPE = "tests";
 
-	private final Calendar creationDate = Calendar.getInstance();
+	private long creationDate = Long.MIN_VALUE;
 
 	private final List<Field> customFields = new ArrayList<>();
 
@@ -47,6 +45,8 @@ public final class AlmTest implements AlmEntity {
 
 	private String status = "";
 
+	private String strippedDescription;
+
 	private String type = "";
 
 	/**
@@ -55,13 +55,12 @@ public final class AlmTest implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public AlmTest() {
-		creationDate.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
-		fields.add(creationDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(creationDate == Long.MIN_VALUE ? null
 				: new Field(AlmTestField.CREATION_DATE.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDate(creationDate))));
 		fields.add(new Field(AlmTestField.DESCRIPTION.getName(), Arrays.asList(description)));
@@ -139,7 +138,10 @@ public final class AlmTest implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	/**
@@ -264,7 +266,7 @@ public final class AlmTest implements AlmEntity {
 			return true;
 		}
 
-		if (creationDate.getTimeInMillis() != other.creationDate.getTimeInMillis()) {
+		if (creationDate != other.creationDate) {
 			return false;
 		}
 		if (!getDescription().equals(other.getDescription())) {
@@ -298,23 +300,15 @@ public final class AlmTest implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		creationDate.setTime(entity.hasFieldValue(AlmTestField.CREATION_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(AlmTestField.CREATION_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		description = entity.hasFieldValue(AlmTestField.DESCRIPTION.getName())
-				? entity.getFieldValues(AlmTestField.DESCRIPTION.getName()).get(0) : "";
-		designer = entity.hasFieldValue(AlmTestField.DESIGNER.getName())
-				? entity.getFieldValues(AlmTestField.DESIGNER.getName()).get(0) : "";
-		id = entity.hasFieldValue(AlmTestField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(AlmTestField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(AlmTestField.NAME.getName())
-				? entity.getFieldValues(AlmTestField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(AlmTestField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(AlmTestField.PARENT_ID.getName()).get(0)) : Integer.MIN_VALUE;
-		status = entity.hasFieldValue(AlmTestField.STATUS.getName())
-				? entity.getFieldValues(AlmTestField.STATUS.getName()).get(0) : "";
-		type = entity.hasFieldValue(AlmTestField.TYPE.getName())
-				? entity.getFieldValues(AlmTestField.TYPE.getName()).get(0) : "";
+		creationDate = entity.getDateFieldValue(AlmTestField.CREATION_DATE.getName(), Long.MIN_VALUE);
+		description = entity.getFieldValue(AlmTestField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		designer = entity.getFieldValue(AlmTestField.DESIGNER.getName(), "");
+		id = entity.getIntFieldValue(AlmTestField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(AlmTestField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(AlmTestField.PARENT_ID.getName(), Integer.MIN_VALUE);
+		status = entity.getFieldValue(AlmTestField.STATUS.getName(), "");
+		type = entity.getFieldValue(AlmTestField.TYPE.getName(), "");
 		if (entity.hasRelatedEntities()) {
 			if (parentTestFolder == null) {
 				parentTestFolder = new TestFolder();
@@ -336,7 +330,7 @@ public final class AlmTest implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setCreationDate(final String theCreatedDate) {
-		creationDate.setTime(AlmDateFormatter.createDate(theCreatedDate));
+		creationDate = AlmDateFormatter.parseDate(theCreatedDate);
 	}
 
 	/**
@@ -348,6 +342,7 @@ public final class AlmTest implements AlmEntity {
 	 */
 	public void setDescription(final String description) {
 		this.description = description;
+		this.strippedDescription = null;
 	}
 
 	/**
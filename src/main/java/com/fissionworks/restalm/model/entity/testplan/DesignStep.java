@@ -42,6 +42,10 @@ public final class DesignStep implements AlmEntity {
 
 	private int stepOrder = Integer.MIN_VALUE;
 
+	private String strippedDescription;
+
+	private String strippedExpectedResult;
+
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
@@ -103,7 +107,10 @@ public final class DesignStep implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	@Override
@@ -124,7 +131,10 @@ public final class DesignStep implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getExpectedResult() {
-		return ConversionUtils.removeHtml(expectedResult);
+		if (strippedExpectedResult == null) {
+			strippedExpectedResult = ConversionUtils.removeHtml(expectedResult);
+		}
+		return strippedExpectedResult;
 	}
 
 	/**
@@ -256,19 +266,14 @@ public final class DesignStep implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		description = entity.hasFieldValue(DesignStepField.DESCRIPTION.getName())
-				? entity.getFieldValues(DesignStepField.DESCRIPTION.getName()).get(0) : "";
-		id = entity.hasFieldValue(DesignStepField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(DesignStepField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(DesignStepField.NAME.getName())
-				? entity.getFieldValues(DesignStepField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(AlmTestField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(AlmTestField.PARENT_ID.getName()).get(0)) : Integer.MIN_VALUE;
-		expectedResult = entity.hasFieldValue(DesignStepField.EXPECTED_RESULT.getName())
-				? entity.getFieldValues(DesignStepField.EXPECTED_RESULT.getName()).get(0) : "";
-		stepOrder = entity.hasFieldValue(DesignStepField.STEP_ORDER.getName())
-				? Integer.valueOf(entity.getFieldValues(DesignStepField.STEP_ORDER.getName()).get(0))
-				: Integer.MIN_VALUE;
+		description = entity.getFieldValue(DesignStepField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		id = entity.getIntFieldValue(DesignStepField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(DesignStepField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(AlmTestField.PARENT_ID.getName(), Integer.MIN_VALUE);
+		expectedResult = entity.getFieldValue(DesignStepField.EXPECTED_RESULT.getName(), "");
+		strippedExpectedResult = null;
+		stepOrder = entity.getIntFieldValue(DesignStepField.STEP_ORDER.getName(), Integer.MIN_VALUE);
 
 		if (entity.hasRelatedEntities()) {
 			if (parentAlmTest == null) {
@@ -290,6 +295,7 @@ public final class DesignStep implements AlmEntity {
 	 */
 	public void setDescription(final String description) {
 		this.description = description;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -301,6 +307,7 @@ public final class DesignStep implements AlmEntity {
 	 */
 	public void setExpectedResult(final String expectedResult) {
 		this.expectedResult = expectedResult;
+		this.strippedExpectedResult = null;
 	}
 
 	/**
@@ -2,9 +2,7 @@ package com.fissionworks.restalm.model.entity.testplan;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import com.fissionworks.restalm.commons.AlmDateFormatter;
@@ -31,7 +29,7 @@ public final class TestConfig implements AlmEntity {
 
 	private String createdBy = "";
 
-	private final Calendar creationDate = Calendar.getInstance();
+	private long creationDate = Long.MIN_VALUE;
 
 	private final List<Field> customFields = new ArrayList<>();
 
@@ -47,6 +45,8 @@ public final class TestConfig implements AlmEntity {
 
 	private int parentId = Integer.MIN_VALUE;
 
+	private String strippedDescription;
+
 	private String testName = "";
 
 	/**
@@ -55,13 +55,12 @@ public final class TestConfig implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public TestConfig() {
-		creationDate.setTimeInMillis(Long.MIN_VALUE);
 	}
 
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
-		fields.add(creationDate.getTimeInMillis() == Long.MIN_VALUE ? null
+		fields.add(creationDate == Long.MIN_VALUE ? null
 				: new Field(TestConfigField.CREATION_DATE.getName(),
 						Arrays.asList(AlmDateFormatter.getStandardDate(creationDate))));
 		fields.add(new Field(TestConfigField.CREATED_BY.getName(), Arrays.asList(this.createdBy)));
@@ -159,7 +158,10 @@ public final class TestConfig implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	/**
@@ -269,7 +271,7 @@ public final class TestConfig implements AlmEntity {
 		if (!createdBy.equals(other.createdBy)) {
 			return false;
 		}
-		if (creationDate.getTimeInMillis() != other.creationDate.getTimeInMillis()) {
+		if (creationDate != other.creationDate) {
 			return false;
 		}
 		if (dataState != other.dataState) {
@@ -300,24 +302,15 @@ public final class TestConfig implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		creationDate.setTime(entity.hasFieldValue(TestConfigField.CREATION_DATE.getName())
-				? AlmDateFormatter.createDate(entity.getFieldValues(TestConfigField.CREATION_DATE.getName()).get(0))
-				: new Date(Long.MIN_VALUE));
-		createdBy = entity.hasFieldValue(TestConfigField.CREATED_BY.getName())
-				? entity.getFieldValues(TestConfigField.CREATED_BY.getName()).get(0) : "";
-		dataState = entity.hasFieldValue(TestConfigField.DATA_STATE.getName())
-				? Integer.valueOf(entity.getFieldValues(TestConfigField.DATA_STATE.getName()).get(0)) : 0;
-		description = entity.hasFieldValue(TestConfigField.DESCRIPTION.getName())
-				? entity.getFieldValues(TestConfigField.DESCRIPTION.getName()).get(0) : "";
-		id = entity.hasFieldValue(TestConfigField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestConfigField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(TestConfigField.NAME.getName())
-				? entity.getFieldValues(TestConfigField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(TestConfigField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestConfigField.PARENT_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
-		testName = entity.hasFieldValue(TestConfigField.TEST_NAME.getName())
-				? entity.getFieldValues(TestConfigField.TEST_NAME.getName()).get(0) : "";
+		creationDate = entity.getDateFieldValue(TestConfigField.CREATION_DATE.getName(), Long.MIN_VALUE);
+		createdBy = entity.getFieldValue(TestConfigField.CREATED_BY.getName(), "");
+		dataState = entity.getIntFieldValue(TestConfigField.DATA_STATE.getName(), 0);
+		description = entity.getFieldValue(TestConfigField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		id = entity.getIntFieldValue(TestConfigField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(TestConfigField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(TestConfigField.PARENT_ID.getName(), Integer.MIN_VALUE);
+		testName = entity.getFieldValue(TestConfigField.TEST_NAME.getName(), "");
 		if (entity.hasRelatedEntities()) {
 			if (parentAlmTest == null) {
 				parentAlmTest = new AlmTest();
@@ -350,7 +343,7 @@ public final class TestConfig implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public void setCreationDate(final String theCreatedDate) {
-		creationDate.setTime(AlmDateFormatter.createDate(theCreatedDate));
+		creationDate = AlmDateFormatter.parseDate(theCreatedDate);
 	}
 
 	/**
@@ -373,6 +366,7 @@ public final class TestConfig implements AlmEntity {
 	 */
 	public void setDescription(final String theDescription) {
 		this.description = theDescription;
+		this.strippedDescription = null;
 	}
 
 	/**
@@ -36,6 +36,8 @@ public final class TestFolder implements AlmEntity {
 
 	private TestFolder parentTestFolder;
 
+	private String strippedDescription;
+
 	@Override
 	public GenericEntity createEntity() {
 		final List<Field> fields = new ArrayList<>();
@@ -81,7 +83,10 @@ public final class TestFolder implements AlmEntity {
 	 * @since 1.0.0
 	 */
 	public String getDescription() {
-		return ConversionUtils.removeHtml(description);
+		if (strippedDescription == null) {
+			strippedDescription = ConversionUtils.removeHtml(description);
+		}
+		return strippedDescription;
 	}
 
 	@Override
@@ -183,15 +188,11 @@ public final class TestFolder implements AlmEntity {
 
 	@Override
 	public void populateFields(final GenericEntity entity) {
-		description = entity.hasFieldValue(TestFolderField.DESCRIPTION.getName())
-				? entity.getFieldValues(TestFolderField.DESCRIPTION.getName()).get(0) : "";
-		id = entity.hasFieldValue(TestFolderField.ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestFolderField.ID.getName()).get(0)) : Integer.MIN_VALUE;
-		name = entity.hasFieldValue(TestFolderField.NAME.getName())
-				? entity.getFieldValues(TestFolderField.NAME.getName()).get(0) : "";
-		parentId = entity.hasFieldValue(TestFolderField.PARENT_ID.getName())
-				? Integer.valueOf(entity.getFieldValues(TestFolderField.PARENT_ID.getName()).get(0))
-				: Integer.MIN_VALUE;
+		description = entity.getFieldValue(TestFolderField.DESCRIPTION.getName(), "");
+		strippedDescription = null;
+		id = entity.getIntFieldValue(TestFolderField.ID.getName(), Integer.MIN_VALUE);
+		name = entity.getFieldValue(TestFolderField.NAME.getName(), "");
+		parentId = entity.getIntFieldValue(TestFolderField.PARENT_ID.getName(), Integer.MIN_VALUE);
 		if (entity.hasRelatedEntities()) {
 			if (parentTestFolder == null) {
 				parentTestFolder = new TestFolder();
@@ -209,6 +210,7 @@ public final class TestFolder implements AlmEntity {
 	 */
 	public void setDescription(final String theDescription) {
 		this.description = theDescription;
+		this.strippedDescription = null;
 	}
 
 	/**
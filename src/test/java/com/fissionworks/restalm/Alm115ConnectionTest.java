@@ -1,17 +1,43 @@
 package com.fissionworks.restalm;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.reflect.Whitebox;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -25,15 +51,26 @@ import com.fissionworks.restalm.constants.field.ReleaseField;
 import com.fissionworks.restalm.constants.field.ReleaseFolderField;
 import com.fissionworks.restalm.constants.field.RequirementField;
 import com.fissionworks.restalm.constants.field.TestFolderField;
+import com.fissionworks.restalm.conversion.marshalling.StreamingEntityParser;
+import com.fissionworks.restalm.conversion.marshalling.XmlUtils;
 import com.fissionworks.restalm.exceptions.AlmRestException;
+import com.fissionworks.restalm.fake.AlmDatasetGenerator;
+import com.fissionworks.restalm.fake.FakeAlmServer;
+import com.fissionworks.restalm.http.PooledClientHttpRequestFactory;
+import com.fissionworks.restalm.jfr.FlightRecording;
 import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.metrics.CallStatistics;
+import com.fissionworks.restalm.metrics.InMemoryAlmMetrics;
+import com.fissionworks.restalm.metrics.MetricsSnapshot;
 import com.fissionworks.restalm.model.authentication.Credentials;
 import com.fissionworks.restalm.model.customization.EntityField;
 import com.fissionworks.restalm.model.customization.EntityFieldCollection;
 import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+import com.fissionworks.restalm.model.entity.BulkResult;
 import com.fissionworks.restalm.model.entity.base.Field;
 import com.fissionworks.restalm.model.entity.base.GenericEntity;
 import com.fissionworks.restalm.model.entity.base.GenericEntityCollection;
+import com.fissionworks.restalm.model.entity.defects.Defect;
 import com.fissionworks.restalm.model.entity.management.Release;
 import com.fissionworks.restalm.model.entity.management.ReleaseCycle;
 import com.fissionworks.restalm.model.entity.management.ReleaseFolder;
@@ -45,11 +82,149 @@ import com.fissionworks.restalm.model.site.Domain;
 import com.fissionworks.restalm.model.site.Project;
 import com.fissionworks.restalm.model.site.Site;
 
+import jdk.jfr.consumer.RecordedEvent;
+
 public class Alm115ConnectionTest {
 
 	private static final Project PROJECT = new Project("domain", "project");
 	private static final String URL = "http://oaoracle:8989";
 
+	@Test
+	public void addEntities_withBatchAcceptedByAlm_shouldReturnAddedEntitiesInOrder() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoRequiredFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doReturn(Arrays.asList(createAddedEntity(), createMockEntityToAdd())).when(rest).execute(
+				Mockito.eq(ServiceUrl.ADD_ENTITY_URL.url()), Mockito.eq(HttpMethod.POST),
+				Mockito.any(RequestCallback.class), anyEntityListExtractor(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+
+		final BulkResult<MockAlmEntity> result = alm.addEntities(Arrays.asList(
+				new MockAlmEntity(createMockEntityToAdd()), new MockAlmEntity(createMockEntityToAdd())));
+		Assert.assertFalse(result.hasFailures());
+		Assert.assertEquals(result.getSuccesses().size(), 2);
+		Assert.assertEquals(result.getSuccesses().get(0).getPopulateFieldsEntity(), createAddedEntity());
+		Assert.assertEquals(result.getSuccesses().get(1).getPopulateFieldsEntity(), createMockEntityToAdd());
+		Mockito.verify(rest, Mockito.never()).postForObject(Mockito.anyString(), Mockito.any(),
+				Mockito.eq(GenericEntity.class), Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()),
+				Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+	}
+
+	@Test
+	public void addEntities_withBatchRejectedByAlm_shouldAddEntitiesIndividuallyAndReportFailures() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entityOne = new MockAlmEntity(createMockEntityToAdd());
+		final MockAlmEntity entityTwo = new MockAlmEntity(new GenericEntity("test", Arrays
+				.asList(new Field("fieldOne", Arrays.asList("four")), new Field("fieldTwo", Arrays.asList("five")))));
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoRequiredFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doThrow(new AlmRestException("rejected")).when(rest).execute(
+				Mockito.eq(ServiceUrl.ADD_ENTITY_URL.url()), Mockito.eq(HttpMethod.POST),
+				Mockito.any(RequestCallback.class), anyEntityListExtractor(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+		Mockito.doReturn(createAddedEntity()).when(rest).postForObject(ServiceUrl.ADD_ENTITY_URL.url(),
+				entityOne.createEntity(), GenericEntity.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(),
+				"mockEntities");
+		Mockito.doThrow(new AlmRestException("duplicate")).when(rest).postForObject(ServiceUrl.ADD_ENTITY_URL.url(),
+				entityTwo.createEntity(), GenericEntity.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(),
+				"mockEntities");
+
+		final BulkResult<MockAlmEntity> result = alm.addEntities(Arrays.asList(entityOne, entityTwo));
+		Assert.assertEquals(result.getSuccesses().size(), 1);
+		Assert.assertEquals(result.getSuccesses().get(0).getPopulateFieldsEntity(), createAddedEntity());
+		Assert.assertEquals(result.getFailures().size(), 1);
+		Assert.assertEquals(result.getFailures().get(0).getIndex(), 1);
+		Assert.assertSame(result.getFailures().get(0).getItem(), entityTwo);
+	}
+
+	@Test
+	public void addEntities_withBatchTransportFailure_shouldReportFailuresWithoutResendingEntities() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entityOne = new MockAlmEntity(createMockEntityToAdd());
+		final MockAlmEntity entityTwo = new MockAlmEntity(createMockEntityToAdd());
+		final ResourceAccessException timeout = new ResourceAccessException("Read timed out");
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoRequiredFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doThrow(timeout).when(rest).execute(Mockito.eq(ServiceUrl.ADD_ENTITY_URL.url()),
+				Mockito.eq(HttpMethod.POST), Mockito.any(RequestCallback.class), anyEntityListExtractor(),
+				Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()),
+				Mockito.eq("mockEntities"));
+
+		final BulkResult<MockAlmEntity> result = alm.addEntities(Arrays.asList(entityOne, entityTwo));
+		Assert.assertTrue(result.getSuccesses().isEmpty());
+		Assert.assertEquals(result.getFailures().size(), 2);
+		Assert.assertSame(result.getFailures().get(0).getItem(), entityOne);
+		Assert.assertSame(result.getFailures().get(1).getItem(), entityTwo);
+		Assert.assertSame(result.getFailures().get(1).getCause(), timeout);
+		Mockito.verify(rest, Mockito.never()).postForObject(Mockito.anyString(), Mockito.any(),
+				Mockito.eq(GenericEntity.class), Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()),
+				Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+	}
+
+	@Test
+	public void addEntities_withEntityWithoutAllRequiredFields_shouldReportFailureWithoutSendingEntity() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity mockEntity = new MockAlmEntity(
+				new GenericEntity("test", Arrays.asList(new Field("fieldOne", Arrays.asList("one")))));
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoRequiredFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+
+		final BulkResult<MockAlmEntity> result = alm.addEntities(Arrays.asList(mockEntity));
+		Assert.assertTrue(result.getSuccesses().isEmpty());
+		Assert.assertEquals(result.getFailures().size(), 1);
+		Assert.assertTrue(result.getFailures().get(0).getCause() instanceof IllegalArgumentException);
+		Mockito.verifyZeroInteractions(rest);
+	}
+
+	@Test
+	public void addEntities_withMoreEntitiesThanBatchSize_shouldSendEntitiesInBatches() {
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).batchSize(2)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity lastEntity = new MockAlmEntity(createMockEntityToAdd());
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoRequiredFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doReturn(Arrays.asList(createAddedEntity(), createAddedEntity())).when(rest).execute(
+				Mockito.eq(ServiceUrl.ADD_ENTITY_URL.url()), Mockito.eq(HttpMethod.POST),
+				Mockito.any(RequestCallback.class), anyEntityListExtractor(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+		Mockito.doReturn(createAddedEntity()).when(rest).postForObject(ServiceUrl.ADD_ENTITY_URL.url(),
+				lastEntity.createEntity(), GenericEntity.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(),
+				"mockEntities");
+
+		final BulkResult<MockAlmEntity> result = alm.addEntities(Arrays.asList(
+				new MockAlmEntity(createMockEntityToAdd()), new MockAlmEntity(createMockEntityToAdd()), lastEntity));
+		Assert.assertEquals(result.getSuccesses().size(), 3);
+		Mockito.verify(rest, Mockito.times(1)).execute(Mockito.eq(ServiceUrl.ADD_ENTITY_URL.url()),
+				Mockito.eq(HttpMethod.POST), Mockito.any(RequestCallback.class), anyEntityListExtractor(),
+				Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()),
+				Mockito.eq("mockEntities"));
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void addEntities_withNullCollection_shouldThrowException() {
+		new Alm115Connection(URL).addEntities(null);
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void addEntity_withAlmEntitywithNoDefaultConstructor_shouldThrowException() {
 		final Alm115Connection alm = new Alm115Connection(URL);
@@ -132,6 +307,209 @@ public class Alm115ConnectionTest {
 		Mockito.verify(rest).getForObject(ServiceUrl.GET_DOMAINS.url(), Site.class, URL);
 	}
 
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withBlankUrl_shouldThrowException() {
+		new Alm115Connection.Builder("  ").build();
+	}
+
+	@Test
+	public void build_withDefaultSettings_shouldUsePooledTransport() {
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).connectTimeout(1000).readTimeout(2000)
+				.maxConnectionsPerRoute(5).maxConnectionsTotal(10).build();
+		try {
+			final RestTemplate rest = Whitebox.getInternalState(alm, "rest");
+			Assert.assertTrue(rest.getRequestFactory() instanceof PooledClientHttpRequestFactory);
+		} finally {
+			alm.close();
+		}
+	}
+
+	@Test
+	public void build_withMetrics_shouldRecordRequestsAndParsedEntities() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		try (final FakeAlmServer server = new FakeAlmServer()) {
+			server.addUser("user", "password");
+			final Project project = server.addProject("DOMAIN", "Project");
+			new AlmDatasetGenerator.Builder(1L).testFolderDepth(1).testsPerFolder(5).testSets(1)
+					.testInstancesPerTestSet(10).runsPerTestInstance(1).build().load(server, project);
+			try (final Alm115Connection alm = new Alm115Connection.Builder(server.getUrl()).metrics(metrics)
+					.build()) {
+				alm.authenticate(new Credentials("user", "password"));
+				alm.login(project);
+				alm.getEntities(AlmTest.class, new RestParameters().pageSize(4));
+				alm.getEnityById(AlmTest.class, 1);
+			}
+		}
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.AUTHENTICATE).getCount(), 1);
+		final CallStatistics collectionStatistics = snapshot
+				.getServiceUrlStatistics(ServiceUrl.GET_ENTITY_COLLECTION);
+		Assert.assertEquals(collectionStatistics.getCount(), 1);
+		Assert.assertTrue(collectionStatistics.getResponseBytes() > 0);
+		Assert.assertEquals(collectionStatistics.getErrorCount(), 0);
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.ENTITY_BY_ID).getCount(), 1);
+		final CallStatistics testStatistics = snapshot.getEntityTypeStatistics("test");
+		Assert.assertEquals(testStatistics.getCount(), 2);
+		Assert.assertEquals(testStatistics.getEntitiesParsed(), 5);
+		Assert.assertEquals(testStatistics.getExchangeLatency().getCount(), 2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withNegativeReadTimeout_shouldThrowException() {
+		new Alm115Connection.Builder(URL).readTimeout(-1);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void build_withNullEntityCache_shouldThrowException() {
+		new Alm115Connection.Builder(URL).entityCache(null);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void build_withNullFieldMetadataStore_shouldThrowException() {
+		new Alm115Connection.Builder(URL).fieldMetadataStore(null);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void build_withNullMetrics_shouldThrowException() {
+		new Alm115Connection.Builder(URL).metrics(null);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void build_withNullUrl_shouldThrowException() {
+		new Alm115Connection.Builder(null).build();
+	}
+
+	@Test
+	public void build_withRequestFactory_shouldUseProvidedTransport() {
+		final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).requestFactory(requestFactory).build();
+		final RestTemplate rest = Whitebox.getInternalState(alm, "rest");
+		Assert.assertSame(rest.getRequestFactory(), requestFactory);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withZeroBatchSize_shouldThrowException() {
+		new Alm115Connection.Builder(URL).batchSize(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withZeroDeleteParallelism_shouldThrowException() {
+		new Alm115Connection.Builder(URL).deleteParallelism(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withZeroWarmUpParallelism_shouldThrowException() {
+		new Alm115Connection.Builder(URL).warmUpEntityFields(0);
+	}
+
+	@Test
+	public void deleteEntities_withChunkRejectedByAlm_shouldDeleteIdsIndividuallyAndReportFailures() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Mockito.doThrow(new AlmRestException("rejected")).when(rest).delete(ServiceUrl.BULK_DELETE_URL.url(), URL,
+				PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", "1,2,3");
+		Mockito.doThrow(new AlmRestException("locked")).when(rest).delete(ServiceUrl.BULK_DELETE_URL.url(), URL,
+				PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", "2");
+
+		final BulkResult<Integer> result = alm.deleteEntities(MockAlmEntity.class, 1, 2, 3);
+		Assert.assertEquals(result.getSuccesses(), Arrays.asList(1, 3));
+		Assert.assertEquals(result.getFailures().size(), 1);
+		Assert.assertEquals(result.getFailures().get(0).getIndex(), 1);
+		Assert.assertEquals(result.getFailures().get(0).getItem(), Integer.valueOf(2));
+	}
+
+	@Test
+	public void deleteEntities_withDeleteParallelism_shouldDeleteAllChunksAndKeepIdOrder() {
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).batchSize(2).deleteParallelism(3)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+
+		final BulkResult<Integer> result = alm.deleteEntities(MockAlmEntity.class, 1, 2, 3, 4, 5);
+		Assert.assertEquals(result.getSuccesses(), Arrays.asList(1, 2, 3, 4, 5));
+		Assert.assertFalse(result.hasFailures());
+		Mockito.verify(rest).delete(ServiceUrl.BULK_DELETE_URL.url(), URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", "1,2");
+		Mockito.verify(rest).delete(ServiceUrl.BULK_DELETE_URL.url(), URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", "3,4");
+		Mockito.verify(rest).delete(ServiceUrl.BULK_DELETE_URL.url(), URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", "5");
+	}
+
+	@Test
+	public void deleteEntities_withEntityCacheAndFailingChunk_shouldRemoveIdsFromCache() {
+		final EntityCache cache = new EntityCache(10, 60000);
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).batchSize(2).entityCache(cache)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		cache.put(PROJECT, "mockEntities", 1, createAddedEntity(), cache.getGeneration());
+		cache.put(PROJECT, "mockEntities", 2, createAddedEntity(), cache.getGeneration());
+		Mockito.doThrow(new IllegalStateException("unexpected response")).when(rest).delete(
+				ServiceUrl.BULK_DELETE_URL.url(), URL, PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities",
+				"3,4");
+
+		try {
+			alm.deleteEntities(MockAlmEntity.class, 1, 2, 3, 4);
+			Assert.fail("exception should have been rethrown");
+		} catch (final IllegalStateException exception) {
+			Assert.assertEquals(cache.size(), 0);
+		}
+	}
+
+	@Test
+	public void deleteEntities_withLongIdList_shouldLimitLengthOfEachRequest() {
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).batchSize(1000)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final int[] ids = new int[500];
+		for (int index = 0; index < ids.length; index++) {
+			ids[index] = 100000000 + index;
+		}
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+
+		final BulkResult<Integer> result = alm.deleteEntities(MockAlmEntity.class, ids);
+		Assert.assertEquals(result.getSuccesses().size(), 500);
+		final ArgumentCaptor<String> idStrings = ArgumentCaptor.forClass(String.class);
+		Mockito.verify(rest, Mockito.times(3)).delete(Mockito.eq(ServiceUrl.BULK_DELETE_URL.url()), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"),
+				idStrings.capture());
+		for (final String idString : idStrings.getAllValues()) {
+			Assert.assertTrue(idString.length() <= 2000);
+		}
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void deleteEntities_withNullClass_shouldThrowException() {
+		new Alm115Connection(URL).deleteEntities(null, 1);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void deleteEntities_withNullIdList_shouldThrowException() {
+		new Alm115Connection(URL).deleteEntities(MockAlmEntity.class, (int[]) null);
+	}
+
+	@Test
+	public void deleteEntity_withEntityCache_shouldRemoveDeletedEntitiesFromCache() {
+		final EntityCache cache = new EntityCache(10, 60000);
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).entityCache(cache)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		cache.put(PROJECT, "mockEntities", 1, createAddedEntity(), cache.getGeneration());
+		cache.put(PROJECT, "mockEntities", 2, createAddedEntity(), cache.getGeneration());
+
+		alm.deleteEntity(MockAlmEntity.class, 1);
+		Assert.assertEquals(cache.size(), 1);
+		Assert.assertNotNull(cache.get(PROJECT, "mockEntities", 2));
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void deleteEntity_withEmptyIdList_shouldThrowException() {
 		final int[] integers = new int[0];
@@ -160,6 +538,176 @@ public class Alm115ConnectionTest {
 				PROJECT.getProjectName(), "mockEntities", "1,2,3");
 	}
 
+	@Test
+	public void getAllEntities_withMultiplePages_shouldReturnEntitiesFromAllPages() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		for (int startIndex = 1; startIndex <= 5; startIndex++) {
+			final Set<GenericEntity> page = new HashSet<>();
+			page.add(createMockEntityToAdd());
+			Mockito.doReturn(new GenericEntityCollection(5, page)).when(rest).getForObject(
+					ServiceUrl.GET_ENTITY_COLLECTION.url(), GenericEntityCollection.class, URL, PROJECT.getDomain(),
+					PROJECT.getProjectName(), "mockEntities", "", "{}", 1, startIndex);
+		}
+
+		final AlmEntityCollection<MockAlmEntity> actualCollection = alm.getAllEntities(MockAlmEntity.class,
+				new RestParameters().pageSize(1), 3);
+		Assert.assertEquals(actualCollection.getTotalResults(), 5);
+		Assert.assertEquals(actualCollection.size(), 5);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void getAllEntities_withNonPositiveParallelism_shouldThrowException() {
+		new Alm115Connection(URL).getAllEntities(MockAlmEntity.class, new RestParameters(), 0);
+	}
+
+	@Test
+	public void getAllEntities_withSinglePage_shouldNotRequestFurtherPages() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final Set<GenericEntity> page = new HashSet<>();
+		page.add(createMockEntityToAdd());
+
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Mockito.doReturn(new GenericEntityCollection(1, page)).when(rest).getForObject(
+				ServiceUrl.GET_ENTITY_COLLECTION.url(), GenericEntityCollection.class, URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", "", "{}", 200, 1);
+
+		final AlmEntityCollection<MockAlmEntity> actualCollection = alm.getAllEntities(MockAlmEntity.class,
+				new RestParameters(), 4);
+		Assert.assertEquals(actualCollection.size(), 1);
+		Mockito.verify(rest, Mockito.never()).getForObject(ServiceUrl.GET_ENTITY_COLLECTION.url(),
+				GenericEntityCollection.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", "",
+				"{}", 200, 201);
+	}
+
+	@Test
+	public void getEnityById_withEntityCache_shouldRetrieveEntityFromAlmOnce() {
+		final EntityCache cache = new EntityCache(10, 60000);
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).entityCache(cache)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Mockito.doReturn(createAddedEntity()).when(rest).getForObject(ServiceUrl.ENTITY_BY_ID.url(),
+				GenericEntity.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", 5);
+
+		Assert.assertEquals(alm.getEnityById(MockAlmEntity.class, 5).getPopulateFieldsEntity(), createAddedEntity());
+		Assert.assertEquals(alm.getEnityById(MockAlmEntity.class, 5).getPopulateFieldsEntity(), createAddedEntity());
+		Mockito.verify(rest, Mockito.times(1)).getForObject(ServiceUrl.ENTITY_BY_ID.url(), GenericEntity.class, URL,
+				PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", 5);
+		Assert.assertEquals(cache.getHitCount(), 1);
+		Assert.assertEquals(cache.getMissCount(), 1);
+	}
+
+	@Test
+	public void getEnityById_withEntityUpdatedDuringRetrieval_shouldNotCacheRetrievedEntity() {
+		final EntityCache cache = new EntityCache(10, 60000);
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).entityCache(cache)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Mockito.doAnswer(new Answer<GenericEntity>() {
+			@Override
+			public GenericEntity answer(final InvocationOnMock invocation) {
+				// another thread updates the entity after ALM has responded
+				cache.invalidate(PROJECT, "mockEntities", 5);
+				return createAddedEntity();
+			}
+		}).when(rest).getForObject(ServiceUrl.ENTITY_BY_ID.url(), GenericEntity.class, URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", 5);
+
+		alm.getEnityById(MockAlmEntity.class, 5);
+		Assert.assertEquals(cache.size(), 0);
+		alm.getEnityById(MockAlmEntity.class, 5);
+		Mockito.verify(rest, Mockito.times(2)).getForObject(ServiceUrl.ENTITY_BY_ID.url(), GenericEntity.class, URL,
+				PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", 5);
+	}
+
+	@Test
+	public void getEntities_whileRecording_shouldRecordFlightRecorderEvents() throws IOException {
+		final List<RecordedEvent> events;
+		try (final FakeAlmServer server = new FakeAlmServer()) {
+			server.addUser("user", "password");
+			final Project project = server.addProject("DOMAIN", "Project");
+			new AlmDatasetGenerator.Builder(1L).testFolderDepth(1).testsPerFolder(5).testSets(0)
+					.coveragePerRequirement(0).build().load(server, project);
+			try (final Alm115Connection alm = new Alm115Connection.Builder(server.getUrl()).build();
+					final FlightRecording recording = new FlightRecording(FlightRecording.HTTP_EXCHANGE,
+							FlightRecording.MARSHALLING, FlightRecording.POPULATE_FIELDS)) {
+				alm.authenticate(new Credentials("user", "password"));
+				alm.login(project);
+				alm.getEntities(AlmTest.class, new RestParameters().pageSize(4));
+				events = recording.stop();
+			}
+		}
+		final Map<String, RecordedEvent> lastEvents = new HashMap<>();
+		for (final RecordedEvent event : events) {
+			lastEvents.put(event.getEventType().getName(), event);
+		}
+		final RecordedEvent exchange = lastEvents.get(FlightRecording.HTTP_EXCHANGE);
+		Assert.assertEquals(exchange.getString("urlTemplate"), ServiceUrl.GET_ENTITY_COLLECTION.url());
+		Assert.assertEquals(exchange.getString("entityType"), "test");
+		Assert.assertEquals(exchange.getInt("statusCode"), 200);
+		Assert.assertTrue(exchange.getLong("responseBytes") > 0);
+		final RecordedEvent marshalling = lastEvents.get(FlightRecording.MARSHALLING);
+		Assert.assertEquals(marshalling.getString("entityType"), "test");
+		Assert.assertEquals(marshalling.getInt("entitiesParsed"), 4);
+		final RecordedEvent populateFields = lastEvents.get(FlightRecording.POPULATE_FIELDS);
+		Assert.assertEquals(populateFields.getString("entityType"), "test");
+		Assert.assertEquals(populateFields.getInt("entityCount"), 4);
+	}
+
+	@Test
+	public void getEntities_withConsumerAndMultipleEntities_shouldPassEachEntityToConsumer() throws IOException {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final ClientHttpResponse response = PowerMockito.mock(ClientHttpResponse.class);
+		final Set<GenericEntity> entities = new HashSet<>();
+		entities.add(createMockEntityToAdd());
+		entities.add(createAddedEntity());
+		final List<MockAlmEntity> consumedEntities = new ArrayList<>();
+
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Mockito.doReturn(IOUtils.toInputStream(
+				XmlUtils.createEntityCollectionXml(new GenericEntityCollection(1337, entities)))).when(response)
+				.getBody();
+		Mockito.doAnswer(new Answer<Integer>() {
+			@Override
+			public Integer answer(final InvocationOnMock invocation) throws Throwable {
+				return (Integer) invocation.getArgumentAt(3, ResponseExtractor.class).extractData(response);
+			}
+		}).when(rest).execute(Mockito.eq(ServiceUrl.GET_ENTITY_COLLECTION.url()), Mockito.eq(HttpMethod.GET),
+				Mockito.isNull(RequestCallback.class), Mockito.<ResponseExtractor<Integer>> any(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"),
+				Mockito.eq(""), Mockito.eq("{}"), Mockito.eq(200), Mockito.eq(1));
+		final int totalResults = alm.getEntities(MockAlmEntity.class, new RestParameters(),
+				new Consumer<MockAlmEntity>() {
+					@Override
+					public void accept(final MockAlmEntity entity) {
+						consumedEntities.add(entity);
+					}
+				});
+		Assert.assertEquals(totalResults, 1337);
+		Assert.assertEquals(consumedEntities.size(), 2);
+		final Set<GenericEntity> populatedEntities = new HashSet<>();
+		for (final MockAlmEntity consumedEntity : consumedEntities) {
+			populatedEntities.add(consumedEntity.getPopulateFieldsEntity());
+		}
+		Assert.assertEquals(populatedEntities, entities);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void getEntities_withConsumerAndNullConsumer_shouldThrowException() {
+		new Alm115Connection(URL).getEntities(MockAlmEntity.class, new RestParameters(), null);
+	}
+
 	@Test
 	public void getEntities_withEmptyCollectionReturnedFromRest_shouldReturnEmptyCollection() {
 		final Alm115Connection alm = new Alm115Connection(URL);
@@ -314,6 +862,65 @@ public class Alm115ConnectionTest {
 		Assert.assertEquals(actualEntity.getPopulateFieldsEntity(), returnedEntity);
 	}
 
+	@Test
+	public void getEntityFields_calledConcurrently_shouldShareSingleEntityFieldCollection() throws Exception {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity mockEntity = new MockAlmEntity(createMockEntityToAdd());
+		final int callers = 8;
+		final CountDownLatch fetching = new CountDownLatch(callers);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Set<EntityFieldCollection> fetched = Collections
+				.newSetFromMap(new IdentityHashMap<EntityFieldCollection, Boolean>());
+
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		// every caller is held in the lookup until all of them have missed the
+		// cache, so each one retrieves its own collection
+		Mockito.doAnswer(new Answer<EntityFieldCollection>() {
+			@Override
+			public EntityFieldCollection answer(final InvocationOnMock invocation) throws InterruptedException {
+				final EntityFieldCollection fields = createEntityFieldMapWithTwoRequiredFields(MockAlmEntity.class)
+						.get(MockAlmEntity.class);
+				synchronized (fetched) {
+					fetched.add(fields);
+				}
+				fetching.countDown();
+				release.await();
+				return fields;
+			}
+		}).when(rest).getForObject(ServiceUrl.GET_ENTITY_FIELDS.url(), EntityFieldCollection.class, URL,
+				PROJECT.getDomain(), PROJECT.getProjectName(), mockEntity.getEntityType());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			final List<Future<EntityFieldCollection>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				results.add(executor.submit(new Callable<EntityFieldCollection>() {
+					@Override
+					public EntityFieldCollection call() {
+						return alm.getEnityFields(MockAlmEntity.class);
+					}
+				}));
+			}
+			Assert.assertTrue(fetching.await(10, TimeUnit.SECONDS), "callers did not all start retrieving fields");
+			release.countDown();
+			final EntityFieldCollection shared = results.get(0).get(10, TimeUnit.SECONDS);
+			for (final Future<EntityFieldCollection> result : results) {
+				Assert.assertSame(result.get(10, TimeUnit.SECONDS), shared);
+			}
+			Assert.assertSame(alm.getEnityFields(MockAlmEntity.class), shared);
+			Assert.assertEquals(fetched.size(), callers);
+			Assert.assertTrue(fetched.contains(shared));
+			Mockito.verify(rest, Mockito.times(callers)).getForObject(ServiceUrl.GET_ENTITY_FIELDS.url(),
+					EntityFieldCollection.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(),
+					mockEntity.getEntityType());
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void getEntityFields_withAlmTest_shouldReturnEntityFieldCollectionWithCorrectedFields() {
 		final Alm115Connection alm = new Alm115Connection(URL);
@@ -331,6 +938,37 @@ public class Alm115ConnectionTest {
 				.contains(createEntityField(AlmTestField.PARENT_ID.getName(), "Parent ID", true, true, true)));
 	}
 
+	@Test
+	public void getEntityFields_withAlmTestAndFieldMetadataStore_shouldUseStoredFieldsInNewConnection()
+			throws IOException {
+		final Path directory = Files.createTempDirectory("metadata");
+		try {
+			final FieldMetadataStore store = new FieldMetadataStore(directory, 60000);
+			final EntityFieldCollection fields = new EntityFieldCollection();
+			fields.addEntityField(createEntityField(AlmTestField.PARENT_ID.getName(), "Parent ID", false, true, true));
+			final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+			Mockito.doReturn(fields).when(rest).getForObject(ServiceUrl.GET_ENTITY_FIELDS.url(),
+					EntityFieldCollection.class, URL, PROJECT.getDomain(), PROJECT.getProjectName(), "test");
+			final Alm115Connection alm = new Alm115Connection.Builder(URL).fieldMetadataStore(store)
+					.requestFactory(new SimpleClientHttpRequestFactory()).build();
+			Whitebox.setInternalState(alm, "currentProject", PROJECT);
+			Whitebox.setInternalState(alm, "rest", rest);
+			alm.getEnityFields(AlmTest.class);
+
+			final RestTemplate newRest = PowerMockito.mock(RestTemplate.class);
+			final Alm115Connection newAlm = new Alm115Connection.Builder(URL).fieldMetadataStore(store)
+					.requestFactory(new SimpleClientHttpRequestFactory()).build();
+			Whitebox.setInternalState(newAlm, "currentProject", PROJECT);
+			Whitebox.setInternalState(newAlm, "rest", newRest);
+
+			Assert.assertTrue(newAlm.getEnityFields(AlmTest.class).getFields()
+					.contains(createEntityField(AlmTestField.PARENT_ID.getName(), "Parent ID", true, true, true)));
+			Mockito.verifyZeroInteractions(newRest);
+		} finally {
+			FileUtils.deleteDirectory(directory.toFile());
+		}
+	}
+
 	@Test
 	public void getEntityFields_withAlmTestFolder_shouldReturnEntityFieldCollectionWithCorrectedFields() {
 		final Alm115Connection alm = new Alm115Connection(URL);
@@ -560,6 +1198,41 @@ public class Alm115ConnectionTest {
 		alm.login(PROJECT);
 	}
 
+	@Test
+	public void login_withWarmUpEntityFields_shouldRetrieveFieldsOfAllEntityTypes() {
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).warmUpEntityFields(4)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final Site site = new Site();
+		final Domain domain = new Domain("domain");
+		domain.addProject(PROJECT);
+		site.addDomain(domain);
+		Whitebox.setInternalState(alm, "site", site);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doAnswer(new Answer<EntityFieldCollection>() {
+			@Override
+			public EntityFieldCollection answer(final InvocationOnMock invocation) {
+				final EntityFieldCollection fields = new EntityFieldCollection();
+				fields.addEntityField(createEntityField("parent-id", "Parent ID", false, false, true));
+				return fields;
+			}
+		}).when(rest).getForObject(Mockito.eq(ServiceUrl.GET_ENTITY_FIELDS.url()),
+				Mockito.eq(EntityFieldCollection.class), Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()),
+				Mockito.eq(PROJECT.getProjectName()), Mockito.anyString());
+		Mockito.doThrow(new AlmRestException("no such entity")).when(rest).getForObject(
+				ServiceUrl.GET_ENTITY_FIELDS.url(), EntityFieldCollection.class, URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "defect");
+
+		alm.login(PROJECT);
+		final Map<Class<?>, EntityFieldCollection> entityFieldMap = Whitebox.getInternalState(alm, "entityFieldMap");
+		Assert.assertEquals(entityFieldMap.size(), 13);
+		Assert.assertFalse(entityFieldMap.containsKey(Defect.class));
+		Assert.assertTrue(entityFieldMap.get(AlmTest.class).isEditableField("parent-id"));
+		Mockito.verify(rest, Mockito.times(14)).getForObject(Mockito.eq(ServiceUrl.GET_ENTITY_FIELDS.url()),
+				Mockito.eq(EntityFieldCollection.class), Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()),
+				Mockito.eq(PROJECT.getProjectName()), Mockito.anyString());
+	}
+
 	@Test
 	public void logout_shouldClearProjectAndHeaders() {
 		final Alm115Connection alm = new Alm115Connection(URL);
@@ -571,6 +1244,202 @@ public class Alm115ConnectionTest {
 		Mockito.verify(rest).headForHeaders(ServiceUrl.LOGOUT.url(), URL);
 	}
 
+	@Test
+	public void logout_withMetrics_shouldKeepMeasuringRequests() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		try (final FakeAlmServer server = new FakeAlmServer()) {
+			server.addUser("user", "password");
+			try (final Alm115Connection alm = new Alm115Connection.Builder(server.getUrl()).metrics(metrics)
+					.build()) {
+				alm.logout();
+				alm.authenticate(new Credentials("user", "password"));
+				alm.logout();
+				Assert.assertFalse(alm.isAuthenticated());
+			}
+		}
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.LOGOUT).getCount(), 2);
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.IS_AUTHENTICATED).getCount(), 2);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void streamEntities_withNullEntityClass_shouldThrowException() {
+		new Alm115Connection(URL).streamEntities(null, new RestParameters());
+	}
+
+	@Test
+	public void streamEntities_withMultiplePages_shouldReturnEntitiesFromAllPages() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final Set<GenericEntity> firstPage = new HashSet<>();
+		firstPage.add(createMockEntityToAdd());
+		firstPage.add(createAddedEntity());
+		final Set<GenericEntity> secondPage = new HashSet<>();
+		secondPage.add(createMockEntityToAdd());
+
+		Whitebox.setInternalState(alm, "rest", rest);
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Mockito.doReturn(new GenericEntityCollection(3, firstPage)).when(rest).getForObject(
+				ServiceUrl.GET_ENTITY_COLLECTION.url(), GenericEntityCollection.class, URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", "", "{}", 2, 1);
+		Mockito.doReturn(new GenericEntityCollection(3, secondPage)).when(rest).getForObject(
+				ServiceUrl.GET_ENTITY_COLLECTION.url(), GenericEntityCollection.class, URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", "", "{}", 2, 3);
+
+		try (Stream<MockAlmEntity> entities = alm.streamEntities(MockAlmEntity.class,
+				new RestParameters().pageSize(2))) {
+			Assert.assertEquals(entities.count(), 3);
+		}
+	}
+
+	@Test
+	public void updateEntities_withBatchAcceptedByAlm_shouldSendEntitiesWithIds() throws IOException {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entityOne = createMockEntityToUpdate(1, "one");
+		final MockAlmEntity entityTwo = createMockEntityToUpdate(2, "two");
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoEditableFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		final BulkResult<MockAlmEntity> result = alm.updateEntities(Arrays.asList(entityOne, entityTwo));
+
+		Assert.assertEquals(result.getSuccesses(), Arrays.asList(entityOne, entityTwo));
+		Assert.assertFalse(result.hasFailures());
+		final ArgumentCaptor<RequestCallback> callback = ArgumentCaptor.forClass(RequestCallback.class);
+		Mockito.verify(rest).execute(Mockito.eq(ServiceUrl.BULK_UPDATE_URL.url()), Mockito.eq(HttpMethod.PUT),
+				callback.capture(), anyEntityListExtractor(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+		final MockClientHttpRequest request = new MockClientHttpRequest();
+		callback.getValue().doWithRequest(request);
+		final List<GenericEntity> sentEntities = new ArrayList<>();
+		StreamingEntityParser.parseEntities(new ByteArrayInputStream(request.getBodyAsBytes()),
+				new Consumer<GenericEntity>() {
+					@Override
+					public void accept(final GenericEntity entity) {
+						sentEntities.add(entity);
+					}
+				});
+		Assert.assertEquals(sentEntities.size(), 2);
+		Assert.assertEquals(sentEntities.get(0).getFieldValues("id"), Arrays.asList("1"));
+		Assert.assertEquals(sentEntities.get(0).getFieldValues("normalField"), Arrays.asList("one"));
+		Assert.assertFalse(sentEntities.get(0).hasFieldValue("uneditableField"));
+		Assert.assertEquals(sentEntities.get(1).getFieldValues("id"), Arrays.asList("2"));
+	}
+
+	@Test
+	public void updateEntities_withBatchRejectedByAlm_shouldUpdateEntitiesIndividuallyAndReportFailures() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entityOne = createMockEntityToUpdate(1, "one");
+		final MockAlmEntity entityTwo = createMockEntityToUpdate(2, "two");
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoEditableFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doThrow(new AlmRestException("rejected")).when(rest).execute(
+				Mockito.eq(ServiceUrl.BULK_UPDATE_URL.url()), Mockito.eq(HttpMethod.PUT),
+				Mockito.any(RequestCallback.class), anyEntityListExtractor(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+		Mockito.doThrow(new AlmRestException("locked")).when(rest).put(ServiceUrl.ENTITY_BY_ID.url(),
+				entityTwo.createEntity(), URL, PROJECT.getDomain(), PROJECT.getProjectName(), "mockEntities", 2);
+
+		final BulkResult<MockAlmEntity> result = alm.updateEntities(Arrays.asList(entityOne, entityTwo));
+		Assert.assertEquals(result.getSuccesses(), Arrays.asList(entityOne));
+		Assert.assertEquals(result.getFailures().size(), 1);
+		Assert.assertEquals(result.getFailures().get(0).getIndex(), 1);
+		Assert.assertSame(result.getFailures().get(0).getItem(), entityTwo);
+		Mockito.verify(rest).put(ServiceUrl.ENTITY_BY_ID.url(), entityOne.createEntity(), URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", 1);
+	}
+
+	@Test
+	public void updateEntities_withBatchTransportFailure_shouldReportFailuresWithoutResendingEntities() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entityOne = createMockEntityToUpdate(1, "one");
+		final MockAlmEntity entityTwo = createMockEntityToUpdate(2, "two");
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoEditableFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		Mockito.doThrow(new ResourceAccessException("Connection reset")).when(rest).execute(
+				Mockito.eq(ServiceUrl.BULK_UPDATE_URL.url()), Mockito.eq(HttpMethod.PUT),
+				Mockito.any(RequestCallback.class), anyEntityListExtractor(), Mockito.eq(URL),
+				Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()), Mockito.eq("mockEntities"));
+
+		final BulkResult<MockAlmEntity> result = alm.updateEntities(Arrays.asList(entityOne, entityTwo));
+		Assert.assertTrue(result.getSuccesses().isEmpty());
+		Assert.assertEquals(result.getFailures().size(), 2);
+		Mockito.verify(rest, Mockito.never()).put(Mockito.eq(ServiceUrl.ENTITY_BY_ID.url()), Mockito.any(),
+				Mockito.eq(URL), Mockito.eq(PROJECT.getDomain()), Mockito.eq(PROJECT.getProjectName()),
+				Mockito.eq("mockEntities"), Mockito.anyInt());
+	}
+
+	@Test
+	public void updateEntities_withEntityHavingNegativeId_shouldReportFailureWithoutSendingEntity() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entity = createMockEntityToUpdate(-1, "one");
+
+		Whitebox.setInternalState(alm, "entityFieldMap",
+				createEntityFieldMapWithTwoEditableFields(MockAlmEntity.class));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+
+		final BulkResult<MockAlmEntity> result = alm.updateEntities(Arrays.asList(entity));
+		Assert.assertTrue(result.getSuccesses().isEmpty());
+		Assert.assertEquals(result.getFailures().size(), 1);
+		Assert.assertTrue(result.getFailures().get(0).getCause() instanceof IllegalArgumentException);
+		Mockito.verifyZeroInteractions(rest);
+	}
+
+	@Test
+	public void updateEntities_withFieldList_shouldOnlySendGivenFields() {
+		final Alm115Connection alm = new Alm115Connection(URL);
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final List<Field> fields = new ArrayList<>();
+		fields.add(new Field(MockAlmEntityField.FIELD_ONE.getName(), Arrays.asList("one", "two")));
+		final GenericEntity updatedEntity = new GenericEntity("test", fields);
+		fields.add(new Field(MockAlmEntityField.FIELD_TWO.getName(), Arrays.asList("three")));
+		final MockAlmEntity entity = new MockAlmEntity(new GenericEntity("test", fields));
+		entity.setId(1337);
+
+		Whitebox.setInternalState(alm, "entityFieldMap", createMockEntityFieldMap());
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		final BulkResult<MockAlmEntity> result = alm.updateEntities(Arrays.asList(entity),
+				MockAlmEntityField.FIELD_ONE);
+		Assert.assertEquals(result.getSuccesses(), Arrays.asList(entity));
+		Mockito.verify(rest).put(ServiceUrl.ENTITY_BY_ID.url(), updatedEntity, URL, PROJECT.getDomain(),
+				PROJECT.getProjectName(), "mockEntities", 1337);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void updateEntities_withNullCollection_shouldThrowException() {
+		new Alm115Connection(URL).updateEntities(null);
+	}
+
+	@Test
+	public void updateEntity_withEntityCache_shouldRemoveUpdatedEntityFromCache() {
+		final EntityCache cache = new EntityCache(10, 60000);
+		final Alm115Connection alm = new Alm115Connection.Builder(URL).entityCache(cache)
+				.requestFactory(new SimpleClientHttpRequestFactory()).build();
+		final RestTemplate rest = PowerMockito.mock(RestTemplate.class);
+		final MockAlmEntity entity = createMockEntityToUpdate(7, "value");
+
+		Whitebox.setInternalState(alm, "entityFieldMap", createEntityFieldMapWithTwoEditableFields(entity.getClass()));
+		Whitebox.setInternalState(alm, "currentProject", PROJECT);
+		Whitebox.setInternalState(alm, "rest", rest);
+		cache.put(PROJECT, "mockEntities", 7, createAddedEntity(), cache.getGeneration());
+
+		alm.updateEntity(entity);
+		Assert.assertNull(cache.get(PROJECT, "mockEntities", 7));
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void updateEntity_withEntityHavingNegativeId_shouldThrowException() {
 		final Alm115Connection alm = new Alm115Connection(URL);
@@ -692,6 +1561,10 @@ public class Alm115ConnectionTest {
 		alm.updateEntity(new MockAlmEntity(), fieldNames);
 	}
 
+	private ResponseExtractor<List<GenericEntity>> anyEntityListExtractor() {
+		return Mockito.any();
+	}
+
 	private GenericEntity createAddedEntity() {
 		final List<Field> fields = new ArrayList<>();
 		fields.add(new Field("fieldThree", Arrays.asList("one", "two")));
@@ -746,4 +1619,13 @@ public class Alm115ConnectionTest {
 		fields.add(new Field("fieldTwo", Arrays.asList("three")));
 		return new GenericEntity("test", fields);
 	}
+
+	private MockAlmEntity createMockEntityToUpdate(final int id, final String value) {
+		final List<Field> fields = new ArrayList<>();
+		fields.add(new Field("normalField", Arrays.asList(value)));
+		fields.add(new Field("uneditableField", Arrays.asList("four")));
+		final MockAlmEntity entity = new MockAlmEntity(new GenericEntity("test", fields));
+		entity.setId(id);
+		return entity;
+	}
 }
@@ -0,0 +1,100 @@
+package com.fissionworks.restalm;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.AlmEntityRegistry.Registration;
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.DesignStepField;
+import com.fissionworks.restalm.model.customization.EntityField;
+import com.fissionworks.restalm.model.customization.EntityFieldCollection;
+import com.fissionworks.restalm.model.entity.AlmEntity;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.entity.defects.Defect;
+import com.fissionworks.restalm.model.entity.testplan.AlmTest;
+import com.fissionworks.restalm.model.entity.testplan.DesignStep;
+
+public class AlmEntityRegistryTest {
+
+	@Test
+	public void correctFields_withAlmTest_shouldMakeParentIdEditable() {
+		final EntityFieldCollection fields = createFieldCollection(AlmTestField.PARENT_ID.getName());
+
+		AlmEntityRegistry.forClass(AlmTest.class).correctFields(fields);
+		Assert.assertTrue(fields.getEntityField(AlmTestField.PARENT_ID.getName()).isEditable());
+	}
+
+	@Test
+	public void correctFields_withDefect_shouldNotChangeFields() {
+		final EntityFieldCollection fields = createFieldCollection("parent-id");
+
+		AlmEntityRegistry.forClass(Defect.class).correctFields(fields);
+		Assert.assertFalse(fields.getEntityField("parent-id").isEditable());
+		Assert.assertFalse(fields.getEntityField("parent-id").isRequired());
+	}
+
+	@Test
+	public void correctFields_withDesignStep_shouldMakeParentIdRequired() {
+		final EntityFieldCollection fields = createFieldCollection(DesignStepField.PARENT_ID.getName());
+
+		AlmEntityRegistry.forClass(DesignStep.class).correctFields(fields);
+		Assert.assertTrue(fields.getEntityField(DesignStepField.PARENT_ID.getName()).isRequired());
+	}
+
+	@Test
+	public void forClass_withClassWithoutDefaultConstructor_shouldThrowException() {
+		try {
+			AlmEntityRegistry.forClass(NoDefaultConstructorEntity.class);
+			Assert.fail("registration should have failed");
+		} catch (final IllegalArgumentException exception) {
+			Assert.assertTrue(exception.getCause() instanceof NoSuchMethodException);
+		}
+	}
+
+	@Test
+	public void forClass_withUnregisteredClass_shouldCreateNewInstances() {
+		final Registration<MockAlmEntity> registration = AlmEntityRegistry.forClass(MockAlmEntity.class);
+
+		Assert.assertNull(registration.getEntityType());
+		Assert.assertEquals(registration.getEntityName(), "mockEntity");
+		Assert.assertEquals(registration.getCollectionName(), "mockEntities");
+		Assert.assertNotSame(registration.newEntity(), registration.newEntity());
+		Assert.assertSame(AlmEntityRegistry.forClass(MockAlmEntity.class), registration);
+	}
+
+	@Test
+	public void forType_shouldMatchEntityNamesOfEveryType() {
+		for (final EntityType entityType : EntityType.values()) {
+			final Registration<?> registration = AlmEntityRegistry.forType(entityType);
+			final AlmEntity entity = registration.newEntity();
+			Assert.assertEquals(entity.getClass(), registration.getEntityClass());
+			Assert.assertEquals(entity.getEntityType(), entityType.entityName());
+			Assert.assertEquals(entity.getEntityCollectionType(), entityType.collectionName());
+			Assert.assertSame(AlmEntityRegistry.forClass(registration.getEntityClass()), registration);
+		}
+	}
+
+	@Test
+	public void getEntityClasses_shouldReturnClassOfEveryType() {
+		Assert.assertEquals(AlmEntityRegistry.getEntityClasses().size(), EntityType.values().length);
+		Assert.assertEquals(AlmEntityRegistry.getEntityClasses().get(0), AlmTest.class);
+	}
+
+	private EntityFieldCollection createFieldCollection(final String fieldName) {
+		final EntityFieldCollection fields = new EntityFieldCollection();
+		final EntityField field = new EntityField(fieldName, fieldName);
+		field.setEditable(false);
+		field.setRequired(false);
+		fields.addEntityField(field);
+		return fields;
+	}
+
+	public static class NoDefaultConstructorEntity extends MockAlmEntity {
+
+		public NoDefaultConstructorEntity(final GenericEntity associatedEntity) {
+			super(associatedEntity);
+		}
+	}
+
+}
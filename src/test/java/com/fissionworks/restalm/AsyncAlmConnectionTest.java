@@ -0,0 +1,194 @@
+package com.fissionworks.restalm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+
+public class AsyncAlmConnectionTest {
+
+	private ExecutorService executor;
+
+	@Test
+	public void addEntity_shouldCompleteWithAddedEntity() throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final MockAlmEntity entity = new MockAlmEntity();
+		final MockAlmEntity addedEntity = new MockAlmEntity();
+		Mockito.when(alm.addEntity(entity)).thenReturn(addedEntity);
+
+		Assert.assertSame(new AsyncAlmConnection(alm, executor, 1).addEntity(entity).get(), addedEntity);
+	}
+
+	@Test
+	public void addEntity_withRejectingExecutor_shouldCompleteExceptionally() throws InterruptedException {
+		final Executor rejectingExecutor = new Executor() {
+			@Override
+			public void execute(final Runnable command) {
+				throw new RejectedExecutionException("shut down");
+			}
+		};
+		final CompletableFuture<MockAlmEntity> future = new AsyncAlmConnection(
+				Mockito.mock(ApplicationLifecycleManagement.class), rejectingExecutor, 1)
+						.addEntity(new MockAlmEntity());
+		try {
+			future.get();
+			Assert.fail("future should have completed exceptionally");
+		} catch (final ExecutionException exception) {
+			Assert.assertTrue(exception.getCause() instanceof RejectedExecutionException);
+		}
+	}
+
+	@Test
+	public void AsyncAlmConnection_withMaxInFlight_shouldNotExceedMaxInFlightCalls()
+			throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		Mockito.doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(final InvocationOnMock invocation) throws InterruptedException {
+				final int current = inFlight.incrementAndGet();
+				maxInFlight.accumulateAndGet(current, Math::max);
+				release.await(5, TimeUnit.SECONDS);
+				inFlight.decrementAndGet();
+				return null;
+			}
+		}).when(alm).deleteEntity(Mockito.eq(MockAlmEntity.class), Mockito.anyVararg());
+
+		final AsyncAlmConnection asyncAlm = new AsyncAlmConnection(alm, executor, 2);
+		final List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int id = 1; id <= 6; id++) {
+			futures.add(asyncAlm.deleteEntity(MockAlmEntity.class, id));
+		}
+		Assert.assertEquals(asyncAlm.getPendingCount(), 4);
+		release.countDown();
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).get();
+
+		Assert.assertEquals(maxInFlight.get(), 2);
+		Assert.assertEquals(asyncAlm.getPendingCount(), 0);
+		Mockito.verify(alm, Mockito.times(6)).deleteEntity(Mockito.eq(MockAlmEntity.class), Mockito.anyVararg());
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void AsyncAlmConnection_withNullAlm_shouldThrowException() {
+		new AsyncAlmConnection(null, executor, 1);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void AsyncAlmConnection_withNullExecutor_shouldThrowException() {
+		new AsyncAlmConnection(Mockito.mock(ApplicationLifecycleManagement.class), null, 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void AsyncAlmConnection_withZeroMaxInFlight_shouldThrowException() {
+		new AsyncAlmConnection(Mockito.mock(ApplicationLifecycleManagement.class), executor, 0);
+	}
+
+	@Test
+	public void deleteEntity_shouldDeleteEntities() throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+
+		new AsyncAlmConnection(alm, executor, 1).deleteEntity(MockAlmEntity.class, 1, 2).get();
+		Mockito.verify(alm).deleteEntity(MockAlmEntity.class, 1, 2);
+	}
+
+	@Test
+	public void getEnityById_shouldCompleteWithEntity() throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final MockAlmEntity entity = new MockAlmEntity();
+		Mockito.when(alm.getEnityById(MockAlmEntity.class, 42)).thenReturn(entity);
+
+		Assert.assertSame(new AsyncAlmConnection(alm, executor, 1).getEnityById(MockAlmEntity.class, 42).get(),
+				entity);
+	}
+
+	@Test
+	public void getEnityById_withErrorThrown_shouldCompleteExceptionally()
+			throws InterruptedException, TimeoutException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final StackOverflowError failure = new StackOverflowError("too deep");
+		Mockito.when(alm.getEnityById(MockAlmEntity.class, 42)).thenThrow(failure);
+
+		try {
+			new AsyncAlmConnection(alm, executor, 1).getEnityById(MockAlmEntity.class, 42).get(5, TimeUnit.SECONDS);
+			Assert.fail("future should have completed exceptionally");
+		} catch (final ExecutionException exception) {
+			Assert.assertSame(exception.getCause(), failure);
+		}
+	}
+
+	@Test
+	public void getEnityById_withFailingCall_shouldCompleteExceptionally() throws InterruptedException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final IllegalStateException failure = new IllegalStateException("not found");
+		Mockito.when(alm.getEnityById(MockAlmEntity.class, 42)).thenThrow(failure);
+
+		try {
+			new AsyncAlmConnection(alm, executor, 1).getEnityById(MockAlmEntity.class, 42).get();
+			Assert.fail("future should have completed exceptionally");
+		} catch (final ExecutionException exception) {
+			Assert.assertSame(exception.getCause(), failure);
+		}
+	}
+
+	@Test
+	public void getEntities_shouldCompleteWithEntities() throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final RestParameters parameters = new RestParameters();
+		final AlmEntityCollection<MockAlmEntity> entities = new AlmEntityCollection<>(0);
+		Mockito.when(alm.getEntities(MockAlmEntity.class, parameters)).thenReturn(entities);
+
+		Assert.assertSame(new AsyncAlmConnection(alm, executor, 1).getEntities(MockAlmEntity.class, parameters).get(),
+				entities);
+	}
+
+	@BeforeMethod
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void updateEntity_shouldUpdateEntity() throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final MockAlmEntity entity = new MockAlmEntity();
+
+		new AsyncAlmConnection(alm, executor, 1).updateEntity(entity).get();
+		Mockito.verify(alm).updateEntity(entity);
+	}
+
+	@Test
+	public void updateEntity_withFieldNames_shouldUpdateGivenFields() throws InterruptedException, ExecutionException {
+		final ApplicationLifecycleManagement alm = Mockito.mock(ApplicationLifecycleManagement.class);
+		final MockAlmEntity entity = new MockAlmEntity();
+
+		new AsyncAlmConnection(alm, executor, 1).updateEntity(entity, AlmTestField.NAME).get();
+		Mockito.verify(alm).updateEntity(entity, AlmTestField.NAME);
+	}
+
+}
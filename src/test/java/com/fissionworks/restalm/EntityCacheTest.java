@@ -0,0 +1,157 @@
+package com.fissionworks.restalm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.model.entity.base.Field;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.site.Project;
+
+public class EntityCacheTest {
+
+	private static final Project OTHER_PROJECT = new Project("otherDomain", "otherProject");
+
+	private static final Project PROJECT = new Project("domain", "project");
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void EntityCache_withZeroMaximumSize_shouldThrowException() {
+		new EntityCache(0, 1000);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void EntityCache_withZeroTimeToLive_shouldThrowException() {
+		new EntityCache(10, 0);
+	}
+
+	@Test
+	public void get_withCachedEntity_shouldReturnEntityAndCountHit() {
+		final EntityCache cache = new EntityCache(10, 1000);
+		final GenericEntity entity = createEntity("1");
+		cache.put(PROJECT, "tests", 1, entity, cache.getGeneration());
+
+		Assert.assertSame(cache.get(PROJECT, "tests", 1), entity);
+		Assert.assertEquals(cache.getHitCount(), 1);
+		Assert.assertEquals(cache.getMissCount(), 0);
+	}
+
+	@Test
+	public void get_withDifferentProjectOrCollectionType_shouldReturnNull() {
+		final EntityCache cache = new EntityCache(10, 1000);
+		cache.put(PROJECT, "tests", 1, createEntity("1"), cache.getGeneration());
+
+		Assert.assertNull(cache.get(OTHER_PROJECT, "tests", 1));
+		Assert.assertNull(cache.get(PROJECT, "runs", 1));
+		Assert.assertEquals(cache.getMissCount(), 2);
+	}
+
+	@Test
+	public void get_withExpiredEntity_shouldReturnNullAndRemoveEntity() {
+		final AtomicLong now = new AtomicLong();
+		final EntityCache cache = new EntityCache(10, 1000, clock(now));
+		cache.put(PROJECT, "tests", 1, createEntity("1"), cache.getGeneration());
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+		Assert.assertNotNull(cache.get(PROJECT, "tests", 1));
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+		Assert.assertNull(cache.get(PROJECT, "tests", 1));
+		Assert.assertEquals(cache.size(), 0);
+		Assert.assertEquals(cache.getMissCount(), 1);
+	}
+
+	@Test
+	public void invalidate_shouldRemoveOnlyGivenIds() {
+		final EntityCache cache = new EntityCache(10, 1000);
+		cache.put(PROJECT, "tests", 1, createEntity("1"), cache.getGeneration());
+		cache.put(PROJECT, "tests", 2, createEntity("2"), cache.getGeneration());
+		cache.put(PROJECT, "tests", 3, createEntity("3"), cache.getGeneration());
+		cache.invalidate(PROJECT, "tests", 1, 3);
+
+		Assert.assertEquals(cache.size(), 1);
+		Assert.assertNotNull(cache.get(PROJECT, "tests", 2));
+	}
+
+	@Test
+	public void invalidateAll_shouldRemoveAllEntities() {
+		final EntityCache cache = new EntityCache(10, 1000);
+		cache.put(PROJECT, "tests", 1, createEntity("1"), cache.getGeneration());
+		cache.put(OTHER_PROJECT, "runs", 2, createEntity("2"), cache.getGeneration());
+		cache.invalidateAll();
+
+		Assert.assertEquals(cache.size(), 0);
+	}
+
+	@Test
+	public void put_afterInvalidateAllSinceRetrievalStarted_shouldNotCacheEntity() {
+		final EntityCache cache = new EntityCache(10, 1000);
+		final long generation = cache.getGeneration();
+		cache.invalidateAll();
+		cache.put(PROJECT, "tests", 1, createEntity("stale"), generation);
+
+		Assert.assertEquals(cache.size(), 0);
+	}
+
+	@Test
+	public void put_afterInvalidateSinceRetrievalStarted_shouldNotCacheEntity() {
+		final EntityCache cache = new EntityCache(10, 1000);
+		final long generation = cache.getGeneration();
+		cache.invalidate(PROJECT, "tests", 1);
+		cache.put(PROJECT, "tests", 1, createEntity("stale"), generation);
+
+		Assert.assertEquals(cache.size(), 0);
+		cache.put(PROJECT, "tests", 1, createEntity("current"), cache.getGeneration());
+		Assert.assertEquals(cache.size(), 1);
+	}
+
+	@Test
+	public void put_withFullCache_shouldEvictLeastRecentlyUsedEntity() {
+		final EntityCache cache = new EntityCache(2, 1000);
+		cache.put(PROJECT, "tests", 1, createEntity("1"), cache.getGeneration());
+		cache.put(PROJECT, "tests", 2, createEntity("2"), cache.getGeneration());
+		cache.get(PROJECT, "tests", 1);
+		cache.put(PROJECT, "tests", 3, createEntity("3"), cache.getGeneration());
+
+		Assert.assertEquals(cache.size(), 2);
+		Assert.assertEquals(cache.getEvictionCount(), 1);
+		Assert.assertNull(cache.get(PROJECT, "tests", 2));
+		Assert.assertNotNull(cache.get(PROJECT, "tests", 1));
+		Assert.assertNotNull(cache.get(PROJECT, "tests", 3));
+	}
+
+	@Test
+	public void toString_shouldContainStatistics() {
+		final EntityCache cache = new EntityCache(5, 1000);
+		cache.put(PROJECT, "tests", 1, createEntity("1"), cache.getGeneration());
+		cache.get(PROJECT, "tests", 1);
+		cache.get(PROJECT, "tests", 2);
+		final String cacheString = cache.toString();
+
+		Assert.assertTrue(StringUtils.contains(cacheString, "size=|1|"));
+		Assert.assertTrue(StringUtils.contains(cacheString, "maximumSize=|5|"));
+		Assert.assertTrue(StringUtils.contains(cacheString, "hitCount=|1|"));
+		Assert.assertTrue(StringUtils.contains(cacheString, "missCount=|1|"));
+		Assert.assertTrue(StringUtils.contains(cacheString, "evictionCount=|0|"));
+	}
+
+	private LongSupplier clock(final AtomicLong now) {
+		return new LongSupplier() {
+			@Override
+			public long getAsLong() {
+				return now.get();
+			}
+		};
+	}
+
+	private GenericEntity createEntity(final String id) {
+		final ArrayList<Field> fields = new ArrayList<>();
+		fields.add(new Field("id", Arrays.asList(id)));
+		return new GenericEntity("test", fields);
+	}
+
+}
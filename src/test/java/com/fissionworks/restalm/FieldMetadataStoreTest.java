@@ -0,0 +1,146 @@
+package com.fissionworks.restalm;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.model.customization.EntityField;
+import com.fissionworks.restalm.model.customization.EntityFieldCollection;
+import com.fissionworks.restalm.model.site.Project;
+
+public class FieldMetadataStoreTest {
+
+	private static final Project PROJECT = new Project("domain", "project");
+
+	private static final String URL = "http://localhost:8080";
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void FieldMetadataStore_withNullDirectory_shouldThrowException() {
+		new FieldMetadataStore(null, 1000);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void FieldMetadataStore_withZeroMaxAge_shouldThrowException() {
+		new FieldMetadataStore(Paths.get("metadata"), 0);
+	}
+
+	@Test
+	public void getDirectory_shouldReturnDirectory() {
+		Assert.assertEquals(new FieldMetadataStore(Paths.get("metadata"), 1000).getDirectory(), Paths.get("metadata"));
+	}
+
+	@Test
+	public void getMaxAgeMillis_shouldReturnMaxAge() {
+		Assert.assertEquals(new FieldMetadataStore(Paths.get("metadata"), 1000).getMaxAgeMillis(), 1000);
+	}
+
+	@Test
+	public void load_withCorruptStoredMetadata_shouldReturnNull() throws IOException {
+		final Path directory = Files.createTempDirectory("metadata");
+		try {
+			final FieldMetadataStore store = new FieldMetadataStore(directory, 60000);
+			store.save(URL, PROJECT, "test", createEntityFields());
+			overwriteStoredFiles(directory, "<Fields><Field");
+
+			Assert.assertNull(store.load(URL, PROJECT, "test"));
+		} finally {
+			FileUtils.deleteDirectory(directory.toFile());
+		}
+	}
+
+	@Test
+	public void load_withExpiredMetadata_shouldReturnNull() throws IOException {
+		final Path directory = Files.createTempDirectory("metadata");
+		try {
+			final FieldMetadataStore store = new FieldMetadataStore(directory, 60000);
+			store.save(URL, PROJECT, "test", createEntityFields());
+			for (final File file : FileUtils.listFiles(directory.toFile(), null, true)) {
+				Assert.assertTrue(file.setLastModified(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(2)));
+			}
+
+			Assert.assertNull(store.load(URL, PROJECT, "test"));
+		} finally {
+			FileUtils.deleteDirectory(directory.toFile());
+		}
+	}
+
+	@Test
+	public void load_withNoStoredMetadata_shouldReturnNull() throws IOException {
+		final Path directory = Files.createTempDirectory("metadata");
+		try {
+			Assert.assertNull(new FieldMetadataStore(directory, 60000).load(URL, PROJECT, "test"));
+		} finally {
+			FileUtils.deleteDirectory(directory.toFile());
+		}
+	}
+
+	@Test
+	public void load_withOtherProjectOrEntityType_shouldReturnNull() throws IOException {
+		final Path directory = Files.createTempDirectory("metadata");
+		try {
+			final FieldMetadataStore store = new FieldMetadataStore(directory, 60000);
+			store.save(URL, PROJECT, "test", createEntityFields());
+
+			Assert.assertNull(store.load(URL, new Project("domain", "other"), "test"));
+			Assert.assertNull(store.load("http://other:8080", PROJECT, "test"));
+			Assert.assertNull(store.load(URL, PROJECT, "run"));
+		} finally {
+			FileUtils.deleteDirectory(directory.toFile());
+		}
+	}
+
+	@Test
+	public void save_shouldStoreMetadataThatCanBeLoaded() throws IOException {
+		final Path directory = Files.createTempDirectory("metadata");
+		try {
+			final FieldMetadataStore store = new FieldMetadataStore(directory.resolve("nested"), 60000);
+			store.save(URL, PROJECT, "test", createEntityFields());
+
+			Assert.assertEquals(new FieldMetadataStore(directory.resolve("nested"), 60000).load(URL, PROJECT, "test"),
+					createEntityFields());
+		} finally {
+			FileUtils.deleteDirectory(directory.toFile());
+		}
+	}
+
+	@Test
+	public void toString_shouldContainDirectoryAndMaxAge() {
+		final String storeString = new FieldMetadataStore(Paths.get("metadata"), 1000).toString();
+
+		Assert.assertTrue(StringUtils.contains(storeString, "directory=|metadata|"));
+		Assert.assertTrue(StringUtils.contains(storeString, "maxAgeMillis=|1000|"));
+	}
+
+	private EntityFieldCollection createEntityFields() {
+		final EntityFieldCollection fields = new EntityFieldCollection();
+		fields.addEntityField(createEntityField("name", "Test Name", true, true, false));
+		fields.addEntityField(createEntityField("id", "Test ID", false, false, true));
+		fields.addEntityField(createEntityField("user-01", "Label & <Special>", true, false, false));
+		return fields;
+	}
+
+	private EntityField createEntityField(final String name, final String label, final boolean editable,
+			final boolean required, final boolean system) {
+		final EntityField field = new EntityField(name, label);
+		field.setEditable(editable);
+		field.setRequired(required);
+		field.setSystem(system);
+		return field;
+	}
+
+	private void overwriteStoredFiles(final Path directory, final String content) throws IOException {
+		for (final File file : FileUtils.listFiles(directory.toFile(), null, true)) {
+			FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.fissionworks.restalm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+
+public class PagedEntityIteratorTest {
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void hasNext_withFailingPrefetch_shouldRethrowFailure() {
+		final PagedEntityIterator<MockAlmEntity> iterator = new PagedEntityIterator<>(
+				new IntFunction<AlmEntityCollection<MockAlmEntity>>() {
+					@Override
+					public AlmEntityCollection<MockAlmEntity> apply(final int startIndex) {
+						if (startIndex > 1) {
+							throw new IllegalStateException("page failure");
+						}
+						return createPage(10, 2, startIndex);
+					}
+				}, 2, 1);
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+	}
+
+	@Test
+	public void hasNext_withEmptyResult_shouldReturnFalse() {
+		final PagedEntityIterator<MockAlmEntity> iterator = new PagedEntityIterator<>(createLoader(0, 5, null), 5,
+				1);
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void instantiate_withNonPositivePageSize_shouldThrowException() {
+		new PagedEntityIterator<>(createLoader(0, 5, null), 0, 1);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void instantiate_withNullPageLoader_shouldThrowException() {
+		new PagedEntityIterator<MockAlmEntity>(null, 5, 1);
+	}
+
+	@Test
+	public void iterate_afterClose_shouldReturnNoMoreEntities() {
+		final PagedEntityIterator<MockAlmEntity> iterator = new PagedEntityIterator<>(createLoader(10, 2, null), 2,
+				1);
+		iterator.next();
+		iterator.close();
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void iterate_withMultiplePages_shouldReturnAllEntitiesInPageOrder() {
+		final List<Integer> requestedStartIndexes = new ArrayList<>();
+		final PagedEntityIterator<MockAlmEntity> iterator = new PagedEntityIterator<>(
+				createLoader(7, 3, requestedStartIndexes), 3, 1);
+		final List<Integer> ids = new ArrayList<>();
+		while (iterator.hasNext()) {
+			ids.add(iterator.next().getId());
+		}
+		Assert.assertEquals(ids.size(), 7);
+		Assert.assertTrue(ids.subList(0, 3).contains(1));
+		Assert.assertTrue(ids.subList(3, 6).contains(4));
+		Assert.assertEquals(ids.get(6).intValue(), 7);
+		Assert.assertEquals(requestedStartIndexes.size(), 3);
+	}
+
+	@Test
+	public void iterate_withStartIndex_shouldBeginAtStartIndex() {
+		final PagedEntityIterator<MockAlmEntity> iterator = new PagedEntityIterator<>(createLoader(5, 2, null), 2,
+				5);
+		Assert.assertEquals(iterator.next().getId(), 5);
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test(expectedExceptions = NoSuchElementException.class)
+	public void next_withNoMoreEntities_shouldThrowException() {
+		final PagedEntityIterator<MockAlmEntity> iterator = new PagedEntityIterator<>(createLoader(0, 5, null), 5,
+				1);
+		iterator.next();
+	}
+
+	private IntFunction<AlmEntityCollection<MockAlmEntity>> createLoader(final int totalResults, final int pageSize,
+			final List<Integer> requestedStartIndexes) {
+		return new IntFunction<AlmEntityCollection<MockAlmEntity>>() {
+			@Override
+			public AlmEntityCollection<MockAlmEntity> apply(final int startIndex) {
+				if (requestedStartIndexes != null) {
+					synchronized (requestedStartIndexes) {
+						requestedStartIndexes.add(startIndex);
+					}
+				}
+				return createPage(totalResults, pageSize, startIndex);
+			}
+		};
+	}
+
+	private AlmEntityCollection<MockAlmEntity> createPage(final int totalResults, final int pageSize,
+			final int startIndex) {
+		final AlmEntityCollection<MockAlmEntity> page = new AlmEntityCollection<>(totalResults);
+		for (int id = startIndex; (id < (startIndex + pageSize)) && (id <= totalResults); id++) {
+			final MockAlmEntity entity = new MockAlmEntity();
+			entity.setId(id);
+			page.addEntity(entity);
+		}
+		return page;
+	}
+
+}
@@ -3,6 +3,7 @@ package com.fissionworks.restalm.commons;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.text.ParseException;
+import java.util.Calendar;
 import java.util.Date;
 
 import org.apache.commons.lang3.time.DateUtils;
@@ -65,4 +66,77 @@ public class AlmDateFormatterTest {
 		final Date actualDate = AlmDateFormatter.createDateTime(VALID_DATETIME);
 		Assert.assertEquals(actualDate, DateUtils.parseDateStrictly(VALID_DATETIME, DATETIME_FORMAT));
 	}
+
+	@Test
+	public void getStandardDate_withMillis_shouldMatchCalendarFormat() {
+		final Calendar calendar = Calendar.getInstance();
+		calendar.setTime(AlmDateFormatter.createDate(VALID_DATE));
+		Assert.assertEquals(AlmDateFormatter.getStandardDate(calendar.getTimeInMillis()), VALID_DATE);
+		Assert.assertEquals(AlmDateFormatter.getStandardDate(calendar.getTimeInMillis()),
+				AlmDateFormatter.getStandardDate(calendar));
+	}
+
+	@Test
+	public void getStandardDate_withMinimumMillis_shouldMatchCalendarFormat() {
+		final Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(Long.MIN_VALUE);
+		Assert.assertEquals(AlmDateFormatter.getStandardDate(Long.MIN_VALUE),
+				AlmDateFormatter.getStandardDate(calendar));
+	}
+
+	@Test
+	public void getStandardDateTime_withMillis_shouldMatchCalendarFormat() {
+		final Calendar calendar = Calendar.getInstance();
+		calendar.setTime(AlmDateFormatter.createDateTime(VALID_DATETIME));
+		Assert.assertEquals(AlmDateFormatter.getStandardDateTime(calendar.getTimeInMillis()), VALID_DATETIME);
+		Assert.assertEquals(AlmDateFormatter.getStandardDateTime(calendar.getTimeInMillis()),
+				AlmDateFormatter.getStandardDateTime(calendar));
+	}
+
+	@Test
+	public void getStandardDateTime_withMinimumMillis_shouldMatchCalendarFormat() {
+		final Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(Long.MIN_VALUE);
+		Assert.assertEquals(AlmDateFormatter.getStandardDateTime(Long.MIN_VALUE),
+				AlmDateFormatter.getStandardDateTime(calendar));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void parseDate_withInvalidDateString_shouldThrowException() {
+		AlmDateFormatter.parseDate(INVALID_DATE);
+	}
+
+	@Test
+	public void parseDate_withPre1900DateString_shouldMatchLegacyParser() throws ParseException {
+		Assert.assertEquals(AlmDateFormatter.parseDate("1582-10-04"),
+				DateUtils.parseDateStrictly("1582-10-04", DATE_FORMAT).getTime());
+	}
+
+	@Test
+	public void parseDate_withUnpaddedDateString_shouldMatchLegacyParser() throws ParseException {
+		Assert.assertEquals(AlmDateFormatter.parseDate("2014-1-2"),
+				DateUtils.parseDateStrictly(VALID_DATE, DATE_FORMAT).getTime());
+	}
+
+	@Test
+	public void parseDate_withValidDateString_shouldMatchLegacyParser() throws ParseException {
+		Assert.assertEquals(AlmDateFormatter.parseDate(VALID_DATE),
+				DateUtils.parseDateStrictly(VALID_DATE, DATE_FORMAT).getTime());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void parseDateTime_withInvalidDateTimeString_shouldThrowException() {
+		AlmDateFormatter.parseDateTime(INVALID_DATETIME);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void parseDateTime_withNullString_shouldThrowException() {
+		AlmDateFormatter.parseDateTime(null);
+	}
+
+	@Test
+	public void parseDateTime_withValidDateTimeString_shouldMatchLegacyParser() throws ParseException {
+		Assert.assertEquals(AlmDateFormatter.parseDateTime(VALID_DATETIME),
+				DateUtils.parseDateStrictly(VALID_DATETIME, DATETIME_FORMAT).getTime());
+	}
 }
@@ -22,6 +22,12 @@ public class ServiceUrlTest {
 				"{url}/qcbin/rest/domains/{domain}/projects/{projectName}/{collectionType}?ids-to-delete={ids}");
 	}
 
+	@Test
+	public void url_forBulkUpdateUrl_shouldReturnCorrectUrl() {
+		Assert.assertEquals(ServiceUrl.BULK_UPDATE_URL.url(),
+				"{url}/qcbin/rest/domains/{domain}/projects/{projectName}/{collectionType}");
+	}
+
 	@Test
 	public void url_forEntityById_shouldReturnCorrectUrl() {
 		Assert.assertEquals(ServiceUrl.ENTITY_BY_ID.url(),
@@ -6,8 +6,26 @@ import java.lang.reflect.InvocationTargetException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import net.htmlparser.jericho.Segment;
+import net.htmlparser.jericho.Source;
+import net.htmlparser.jericho.TextExtractor;
+
 public class ConversionUtilsTest {
 
+	private static final String[] HTML_SAMPLES = { "<html><body><div align=\"left\"><font face=\"Arial\">"
+			+ "<span style=\"font-size:8pt\">Step&nbsp;one &amp; two</span></font></div>\n<div align=\"left\">"
+			+ "<font face=\"Arial\"><span style=\"font-size:8pt\">second&#160;line</span></font></div></body></html>",
+			"<div>some text in a div</div><br>", "text<br/>after a break", "<p>para</p><p>graph</p>",
+			"<b>bold</b><i>italic</i> <u>under</u>lined", "<script>var a = '<b>no</b>';</script>visible",
+			"<style>p { color: red; }</style>styled", "before<!-- a comment -->after", "a &lt;b&gt; &#x41; &copy;",
+			"<table><tr><td>cell 1</td><td>cell 2</td></tr></table>", "  leading\t\tand trailing  ",
+			"<ul><li>one</li><li>two</li></ul>", "<?xml version=\"1.0\"?><root>xml</root>", "unclosed <b>bold",
+			"<% server code %>text", "<DIV>Upper case</DIV><SCRIPT>hidden()</SCRIPT>shown" };
+
+	private static String extractText(final String sourceString) {
+		return new TextExtractor(new Segment(new Source(sourceString), 0, sourceString.length())).toString();
+	}
+
 	@Test
 	public void conversionUtils_shouldHaveInaccessibleConstructor() {
 		final Constructor<?>[] constructors = ConversionUtils.class.getDeclaredConstructors();
@@ -47,4 +65,64 @@ public class ConversionUtilsTest {
 		final String string = "<div>some text in a div</div><br>";
 		Assert.assertEquals(ConversionUtils.removeHtml(string), "some text in a div");
 	}
+
+	@Test
+	public void isPlainText_withAnySingleCharacter_shouldOnlyBeTrueWhenTextExtractionLeavesStringUnchanged() {
+		for (char character = 0; character < Character.MAX_VALUE; character++) {
+			final String string = "a" + character + "b";
+			if (ConversionUtils.isPlainText(string)) {
+				Assert.assertEquals(extractText(string), string, "character " + (int) character);
+			}
+		}
+	}
+
+	@Test
+	public void isPlainText_withMarkup_shouldReturnFalse() {
+		Assert.assertFalse(ConversionUtils.isPlainText("a <b>bold</b> word"));
+		Assert.assertFalse(ConversionUtils.isPlainText("fish &amp; chips"));
+	}
+
+	@Test
+	public void isPlainText_withSingleInteriorSpaces_shouldReturnTrue() {
+		Assert.assertTrue(ConversionUtils.isPlainText("plain text with single spaces"));
+	}
+
+	@Test
+	public void isPlainText_withWhiteSpaceToCollapse_shouldReturnFalse() {
+		Assert.assertFalse(ConversionUtils.isPlainText(" leading"));
+		Assert.assertFalse(ConversionUtils.isPlainText("trailing "));
+		Assert.assertFalse(ConversionUtils.isPlainText("double  space"));
+		Assert.assertFalse(ConversionUtils.isPlainText("new\nline"));
+		Assert.assertFalse(ConversionUtils.isPlainText("non\u00A0breaking"));
+	}
+
+	@Test
+	public void removeHtml_withLargeHtml_shouldReturnSameTextAsTextExtractor() {
+		final StringBuilder builder = new StringBuilder();
+		while (builder.length() <= ConversionUtils.STREAMING_THRESHOLD) {
+			for (final String sample : HTML_SAMPLES) {
+				builder.append(sample);
+			}
+		}
+		final String html = builder.toString();
+		Assert.assertEquals(ConversionUtils.removeHtml(html), extractText(html));
+	}
+
+	@Test
+	public void removeHtml_withNull_shouldReturnNull() {
+		Assert.assertNull(ConversionUtils.removeHtml(null));
+	}
+
+	@Test
+	public void removeHtml_withPlainText_shouldReturnSameInstance() {
+		final String string = "plain text";
+		Assert.assertSame(ConversionUtils.removeHtml(string), string);
+	}
+
+	@Test
+	public void removeHtmlStreamed_shouldReturnSameTextAsTextExtractor() {
+		for (final String sample : HTML_SAMPLES) {
+			Assert.assertEquals(ConversionUtils.removeHtmlStreamed(sample), extractText(sample), sample);
+		}
+	}
 }
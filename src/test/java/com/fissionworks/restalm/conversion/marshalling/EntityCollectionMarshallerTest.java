@@ -1,19 +1,25 @@
 package com.fissionworks.restalm.conversion.marshalling;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -55,6 +61,25 @@ public class EntityCollectionMarshallerTest extends PowerMockTestCase {
 		Assert.assertTrue(supportedTypes.contains(MediaType.APPLICATION_XML));
 	}
 
+	@Test
+	public void read_withInputMessageWithManyEntities_shouldKeepDocumentOrder() throws IOException {
+		final HttpInputMessage inputMessage = PowerMockito.mock(HttpInputMessage.class);
+		final List<GenericEntity> expectedEntities = new ArrayList<>();
+		for (int id = 20; id > 0; id--) {
+			expectedEntities.add(new GenericEntity("test",
+					Arrays.asList(new Field("id", Arrays.asList(String.valueOf(id))))));
+		}
+
+		Mockito.doReturn(IOUtils.toInputStream(XmlUtils.createEntityCollectionXml(
+				new GenericEntityCollection(20, new LinkedHashSet<>(expectedEntities))))).when(inputMessage).getBody();
+		final List<GenericEntity> actualEntities = new ArrayList<>();
+		for (final GenericEntity entity : new EntityCollectionMarshaller().read(GenericEntityCollection.class,
+				inputMessage)) {
+			actualEntities.add(entity);
+		}
+		Assert.assertEquals(actualEntities, expectedEntities);
+	}
+
 	@Test
 	public void read_withInputMessageWithMultipleEntities_shouldReturnCollectionWithMultipleEntities()
 			throws IOException {
@@ -85,9 +110,35 @@ public class EntityCollectionMarshallerTest extends PowerMockTestCase {
 		Assert.assertTrue(expectedCollection.equals(actualCollection));
 	}
 
-	@Test(expectedExceptions = UnsupportedOperationException.class)
-	public void write_shouldThrowException() throws IOException {
-		new EntityCollectionMarshaller().write(null, null, null);
+	@Test
+	public void write_withEmptyCollection_shouldWriteEmptyCollectionWithCollectionContentType() throws IOException {
+		final MockHttpOutputMessage output = new MockHttpOutputMessage();
+		new EntityCollectionMarshaller().write(new GenericEntityCollection(0, new HashSet<GenericEntity>()),
+				MediaType.APPLICATION_XML, output);
+		Assert.assertEquals(output.getHeaders().getContentType(), MediaType.valueOf("application/xml;type=collection"));
+		Assert.assertEquals(output.getBodyAsString(), "<Entities/>");
+	}
+
+	@Test
+	public void write_withMultipleEntities_shouldWriteAllEntities() throws IOException {
+		final Set<GenericEntity> expectedEntities = new HashSet<>();
+		expectedEntities.add(createGenericEntityOne());
+		expectedEntities.add(createGenericEntityTwo());
+		final MockHttpOutputMessage output = new MockHttpOutputMessage();
+		new EntityCollectionMarshaller().write(new GenericEntityCollection(2, expectedEntities),
+				MediaType.APPLICATION_XML, output);
+
+		final Set<GenericEntity> actualEntities = new HashSet<>();
+		StreamingEntityParser.parseEntities(
+				new ByteArrayInputStream(StringUtils.replaceOnce(output.getBodyAsString(), "<Entities>",
+						"<Entities TotalResults=\"2\">").getBytes(StandardCharsets.UTF_8)),
+				new Consumer<GenericEntity>() {
+					@Override
+					public void accept(final GenericEntity entity) {
+						actualEntities.add(entity);
+					}
+				});
+		Assert.assertEquals(actualEntities, expectedEntities);
 	}
 
 	private GenericEntity createGenericEntityOne() {
@@ -0,0 +1,160 @@
+package com.fissionworks.restalm.conversion.marshalling;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.jfr.FlightRecording;
+import com.fissionworks.restalm.model.entity.base.Field;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.entity.base.GenericEntityCollection;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+public class StreamingEntityParserTest {
+
+	@Test
+	public void parseEntities_withEmptyCollection_shouldReturnTotalResultsWithoutEntities() throws IOException {
+		final List<GenericEntity> actualEntities = new ArrayList<>();
+		final int totalResults = StreamingEntityParser
+				.parseEntities(IOUtils.toInputStream("<Entities TotalResults=\"0\"/>"), collect(actualEntities));
+		Assert.assertEquals(totalResults, 0);
+		Assert.assertTrue(actualEntities.isEmpty());
+	}
+
+	@Test
+	public void parseEntities_whileRecording_shouldRecordMarshallingEvent() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.MARSHALLING)) {
+			StreamingEntityParser.parseEntities(
+					IOUtils.toInputStream("<Entities>" + XmlUtils.createEntityXml(createEntityOne())
+							+ XmlUtils.createEntityXml(createEntityTwo()) + "</Entities>"),
+					collect(new ArrayList<GenericEntity>()));
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("entityType"), "test");
+			Assert.assertEquals(events.get(0).getInt("entitiesParsed"), 2);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void parseEntities_withMalformedXml_shouldThrowIllegalStateException() throws IOException {
+		StreamingEntityParser.parseEntities(IOUtils.toInputStream("<Entities TotalResults=\"1\"><Entity></Entities>"),
+				collect(new ArrayList<GenericEntity>()));
+	}
+
+	@Test
+	public void parseEntities_withMultipleEntities_shouldPassEachEntityToConsumer() throws IOException {
+		final Set<GenericEntity> expectedEntities = new HashSet<>();
+		expectedEntities.add(createEntityOne());
+		expectedEntities.add(createEntityTwo());
+		final List<GenericEntity> actualEntities = new ArrayList<>();
+		final int totalResults = StreamingEntityParser.parseEntities(
+				IOUtils.toInputStream(
+						XmlUtils.createEntityCollectionXml(new GenericEntityCollection(1337, expectedEntities))),
+				collect(actualEntities));
+		Assert.assertEquals(totalResults, 1337);
+		Assert.assertEquals(new HashSet<>(actualEntities), expectedEntities);
+	}
+
+	@Test
+	public void parseEntities_withoutTotalResults_shouldReturnNumberOfEntities() throws IOException {
+		final List<GenericEntity> actualEntities = new ArrayList<>();
+		final int totalResults = StreamingEntityParser.parseEntities(
+				IOUtils.toInputStream("<Entities>" + XmlUtils.createEntityXml(createEntityOne())
+						+ XmlUtils.createEntityXml(createEntityTwo()) + "</Entities>"),
+				collect(actualEntities));
+		Assert.assertEquals(totalResults, 2);
+		Assert.assertEquals(actualEntities, Arrays.asList(createEntityOne(), createEntityTwo()));
+	}
+
+	@Test
+	public void parseEntities_withUnknownElements_shouldIgnoreUnknownElements() throws IOException {
+		final List<GenericEntity> actualEntities = new ArrayList<>();
+		final String xml = "<Entities TotalResults=\"1\"><Extra><Nested/></Extra><Entity Type=\"test\"><Unknown/>"
+				+ "<Fields><Field Name=\"id\"><Value>7</Value><Other>x</Other></Field></Fields></Entity></Entities>";
+		StreamingEntityParser.parseEntities(IOUtils.toInputStream(xml), collect(actualEntities));
+		Assert.assertEquals(actualEntities.size(), 1);
+		Assert.assertEquals(actualEntities.get(0).getFieldValues("id"), Arrays.asList("7"));
+	}
+
+	@Test
+	public void parseEntity_withKnownFieldName_shouldUseCanonicalFieldName() throws IOException {
+		final String fieldName = new String(AlmTestField.NAME.getName());
+		final GenericEntity expectedEntity = new GenericEntity("test",
+				Arrays.asList(new Field(fieldName, Arrays.asList("a"))));
+		final GenericEntity entity = StreamingEntityParser
+				.parseEntity(IOUtils.toInputStream(XmlUtils.createEntityXml(expectedEntity)));
+		Assert.assertSame(entity.getFields().iterator().next().getName(), AlmTestField.NAME.getName());
+	}
+
+	@Test
+	public void parseEntity_withRelatedEntity_shouldCreateEntityWithRelatedEntity() throws IOException {
+		final GenericEntity expectedEntity = createEntityOne();
+		expectedEntity.addRelatedEntity(createEntityTwo());
+		final GenericEntity actualEntity = StreamingEntityParser
+				.parseEntity(IOUtils.toInputStream(XmlUtils.createEntityXml(expectedEntity)));
+		Assert.assertEquals(actualEntity, expectedEntity);
+		Assert.assertEquals(actualEntity.getRelatedEntities(), expectedEntity.getRelatedEntities());
+	}
+
+	@Test
+	public void parseEntity_withValidXml_shouldCreateEntity() throws IOException {
+		final GenericEntity expectedEntity = createEntityOne();
+		final GenericEntity actualEntity = StreamingEntityParser
+				.parseEntity(IOUtils.toInputStream(XmlUtils.createEntityXml(expectedEntity)));
+		Assert.assertEquals(actualEntity, expectedEntity);
+		Assert.assertFalse(actualEntity.hasRelatedEntities());
+	}
+
+	@Test
+	public void StreamingEntityParser_shouldHaveInaccessibleConstructor() {
+		final Constructor<?>[] constructors = StreamingEntityParser.class.getDeclaredConstructors();
+		final Constructor<?> constructor = constructors[0];
+		Assert.assertFalse(constructor.isAccessible(), "Constructor should be inaccessible");
+	}
+
+	@Test(expectedExceptions = InvocationTargetException.class)
+	public void StreamingEntityParserInstantiationThroughReflection_shouldThrowException()
+			throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		final Constructor<?>[] constructors = StreamingEntityParser.class.getDeclaredConstructors();
+		final Constructor<?> constructor = constructors[0];
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	private Consumer<GenericEntity> collect(final List<GenericEntity> entities) {
+		return new Consumer<GenericEntity>() {
+			@Override
+			public void accept(final GenericEntity entity) {
+				entities.add(entity);
+			}
+		};
+	}
+
+	private GenericEntity createEntityOne() {
+		final List<Field> fields = new ArrayList<>();
+		fields.add(new Field("no value field one", new ArrayList<String>()));
+		fields.add(new Field("single value field one", Arrays.asList("single value one")));
+		fields.add(new Field("multi value field one", Arrays.asList("multi value one", "multi value two")));
+		return new GenericEntity("test", fields);
+	}
+
+	private GenericEntity createEntityTwo() {
+		final List<Field> fields = new ArrayList<>();
+		fields.add(new Field("single value field two", Arrays.asList("single value two")));
+		return new GenericEntity("run", fields);
+	}
+
+}
@@ -0,0 +1,732 @@
+package com.fissionworks.restalm.fake;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.commons.lang3.Validate;
+
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.DesignStepField;
+import com.fissionworks.restalm.constants.field.FieldName;
+import com.fissionworks.restalm.constants.field.RequirementCoverageField;
+import com.fissionworks.restalm.constants.field.RequirementField;
+import com.fissionworks.restalm.constants.field.RunField;
+import com.fissionworks.restalm.constants.field.TestFolderField;
+import com.fissionworks.restalm.constants.field.TestInstanceField;
+import com.fissionworks.restalm.constants.field.TestSetField;
+import com.fissionworks.restalm.conversion.marshalling.MarshallingUtils;
+import com.fissionworks.restalm.model.entity.base.Field;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.site.Project;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.naming.NoNameCoder;
+import com.thoughtworks.xstream.io.xml.CompactWriter;
+
+/**
+ * Generates a synthetic ALM project of a configured size for scale tests and
+ * benchmarks: a test plan of {@code test-folder} trees with tests in the leaf
+ * folders and design steps for each test, a test lab of test sets with test
+ * instances and runs for each instance, and requirement trees with coverage
+ * of the leaf requirements by tests.
+ * <p>
+ * Every entity is a function of the seed, its type and its id alone, so a
+ * generator always produces the same project for the same seed and sizes,
+ * and any entity or page can be produced without producing the ones before
+ * it; projects with millions of runs are therefore generated as they are
+ * consumed rather than held in memory. Ids of each type run from 1 to the
+ * {@link #count(EntityType) count} of that type, and the entities reference
+ * each other by those ids ({@code parent-id}, {@code test-id},
+ * {@code cycle-id}, {@code testcycl-id} and {@code requirement-id}); top level
+ * folders, test sets and requirements have a {@code parent-id} of 0.
+ * <p>
+ * Entities are available as {@link GenericEntity} instances, as pages in the
+ * XML format of ALM collection responses, or loaded into a
+ * {@link FakeAlmServer}.
+ */
+public final class AlmDatasetGenerator {
+
+	private static final LocalDateTime BASE_DATE = LocalDateTime.of(2015, 1, 5, 8, 0);
+
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+
+	private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss");
+
+	private static final int DATE_RANGE_SECONDS = 2 * 365 * 24 * 60 * 60;
+
+	private static final String[] HOSTS = { "lab-host-01", "lab-host-02", "lab-host-03", "lab-host-04" };
+
+	private static final String[] RUN_STATUSES = { "Passed", "Passed", "Passed", "Failed", "Blocked",
+			"Not Completed" };
+
+	private static final Set<EntityType> SUPPORTED_TYPES = Collections.unmodifiableSet(EnumSet.of(
+			EntityType.ALM_TEST, EntityType.DESIGN_STEP, EntityType.REQUIREMENT, EntityType.REQUIREMENT_COVERAGE,
+			EntityType.RUN, EntityType.TEST_FOLDER, EntityType.TEST_INSTANCE, EntityType.TEST_SET));
+
+	private static final String[] TEST_STATUSES = { "Ready", "Ready", "Design", "Repair", "Imported" };
+
+	private static final String[] USERS = { "alice", "bob", "carol", "dave", "erin", "frank" };
+
+	private static final String[] WORDS = { "account", "balance", "customer", "verify", "order", "payment",
+			"report", "login", "session", "export", "invoice", "search", "filter", "update", "delete", "review",
+			"approve", "schedule", "notify", "archive" };
+
+	private final int coverageCount;
+
+	private final int coveragePerRequirement;
+
+	private final int designStepCount;
+
+	private final int designStepsPerTest;
+
+	private final int leafRequirementCount;
+
+	private final int leafTestFolderCount;
+
+	private final int requirementCount;
+
+	private final int requirementsPerFolder;
+
+	private final int runCount;
+
+	private final int runsPerTestInstance;
+
+	private final long seed;
+
+	private final int testCount;
+
+	private final int testFolderCount;
+
+	private final int testFoldersPerFolder;
+
+	private final int testInstanceCount;
+
+	private final int testInstancesPerTestSet;
+
+	private final int testSetCount;
+
+	private final int testsPerFolder;
+
+	private AlmDatasetGenerator(final Builder builder) {
+		this.seed = builder.seed;
+		this.testFoldersPerFolder = builder.testFoldersPerFolder;
+		this.testsPerFolder = builder.testsPerFolder;
+		this.designStepsPerTest = builder.designStepsPerTest;
+		this.testSetCount = builder.testSets;
+		this.testInstancesPerTestSet = builder.testInstancesPerTestSet;
+		this.runsPerTestInstance = builder.runsPerTestInstance;
+		this.requirementsPerFolder = builder.requirementsPerFolder;
+		this.coveragePerRequirement = builder.coveragePerRequirement;
+		this.testFolderCount = toCount(treeSize(testFoldersPerFolder, builder.testFolderDepth), "test folders");
+		this.leafTestFolderCount = toCount(leafCount(testFoldersPerFolder, builder.testFolderDepth),
+				"test folders");
+		this.testCount = toCount((long) leafTestFolderCount * testsPerFolder, "tests");
+		this.designStepCount = toCount((long) testCount * designStepsPerTest, "design steps");
+		this.testInstanceCount = toCount((long) testSetCount * testInstancesPerTestSet, "test instances");
+		this.runCount = toCount((long) testInstanceCount * runsPerTestInstance, "runs");
+		this.requirementCount = toCount(treeSize(requirementsPerFolder, builder.requirementDepth), "requirements");
+		this.leafRequirementCount = toCount(leafCount(requirementsPerFolder, builder.requirementDepth),
+				"requirements");
+		this.coverageCount = toCount((long) leafRequirementCount * coveragePerRequirement, "coverages");
+		Validate.isTrue((coverageCount == 0) || (coveragePerRequirement <= testCount),
+				"requirements cannot cover more tests than are generated");
+		Validate.isTrue((testCount > 0) || (testInstanceCount == 0),
+				"test instances cannot be generated without tests");
+	}
+
+	/**
+	 * Get the number of entities of the given type the generator produces;
+	 * zero for entity types it does not produce.
+	 *
+	 * @param entityType
+	 *            The entity type.
+	 * @return the number of entities of the type.
+	 */
+	public int count(final EntityType entityType) {
+		switch (entityType) {
+		case TEST_FOLDER:
+			return testFolderCount;
+		case ALM_TEST:
+			return testCount;
+		case DESIGN_STEP:
+			return designStepCount;
+		case TEST_SET:
+			return testSetCount;
+		case TEST_INSTANCE:
+			return testInstanceCount;
+		case RUN:
+			return runCount;
+		case REQUIREMENT:
+			return requirementCount;
+		case REQUIREMENT_COVERAGE:
+			return coverageCount;
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * Creates the entity of the given type with the given id.
+	 *
+	 * @param entityType
+	 *            The entity type.
+	 * @param id
+	 *            The id of the entity, from 1 to the count of the type.
+	 * @return a new entity; equal to every other entity created for the same
+	 *         type and id by a generator with the same seed and sizes.
+	 * @throws IllegalArgumentException
+	 *             thrown if the id is outside the range generated for the
+	 *             type.
+	 */
+	public GenericEntity createEntity(final EntityType entityType, final int id) {
+		Validate.isTrue((id > 0) && (id <= count(entityType)), "no %s with id %d is generated",
+				entityType.entityName(), id);
+		final List<Field> fields = new ArrayList<>();
+		switch (entityType) {
+		case TEST_FOLDER:
+			addTestFolderFields(fields, id);
+			break;
+		case ALM_TEST:
+			addTestFields(fields, id);
+			break;
+		case DESIGN_STEP:
+			addDesignStepFields(fields, id);
+			break;
+		case TEST_SET:
+			addTestSetFields(fields, id);
+			break;
+		case TEST_INSTANCE:
+			addTestInstanceFields(fields, id);
+			break;
+		case RUN:
+			addRunFields(fields, id);
+			break;
+		case REQUIREMENT:
+			addRequirementFields(fields, id);
+			break;
+		default:
+			addRequirementCoverageFields(fields, id);
+			break;
+		}
+		return new GenericEntity(entityType.entityName(), fields);
+	}
+
+	/**
+	 * Get all entities of the given type, in id order. The entities are
+	 * created as they are iterated, so iterating does not hold them in
+	 * memory.
+	 *
+	 * @param entityType
+	 *            The entity type.
+	 * @return the entities of the type.
+	 */
+	public Iterable<GenericEntity> entities(final EntityType entityType) {
+		return entities(entityType, 1, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Get a page of the entities of the given type, in id order, as ALM pages
+	 * collection queries. The entities are created as they are iterated.
+	 *
+	 * @param entityType
+	 *            The entity type.
+	 * @param startIndex
+	 *            The one based index of the first entity of the page.
+	 * @param pageSize
+	 *            The maximum number of entities in the page.
+	 * @return the entities of the page.
+	 * @throws IllegalArgumentException
+	 *             thrown if the start index or page size is not greater than
+	 *             zero.
+	 */
+	public Iterable<GenericEntity> entities(final EntityType entityType, final int startIndex, final int pageSize) {
+		Validate.isTrue(startIndex > 0, "start index must be greater than zero");
+		Validate.isTrue(pageSize > 0, "page size must be greater than zero");
+		final long endIndex = Math.min(count(entityType), ((long) startIndex + pageSize) - 1);
+		return new Iterable<GenericEntity>() {
+			@Override
+			public Iterator<GenericEntity> iterator() {
+				return new Iterator<GenericEntity>() {
+					private long nextId = startIndex;
+
+					@Override
+					public boolean hasNext() {
+						return nextId <= endIndex;
+					}
+
+					@Override
+					public GenericEntity next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return createEntity(entityType, (int) nextId++);
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException("generated entities cannot be removed");
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * Get the entity types the generator produces.
+	 *
+	 * @return the generated entity types.
+	 */
+	public Set<EntityType> getEntityTypes() {
+		return SUPPORTED_TYPES;
+	}
+
+	/**
+	 * Stores every generated entity in the given server for the given project,
+	 * under its generated id.
+	 *
+	 * @param server
+	 *            The server to load the entities into.
+	 * @param project
+	 *            The project the entities are stored for.
+	 */
+	public void load(final FakeAlmServer server, final Project project) {
+		for (final EntityType entityType : SUPPORTED_TYPES) {
+			server.loadEntities(project, entityType, entities(entityType));
+		}
+	}
+
+	/**
+	 * Writes a page of the entities of the given type to the given stream in
+	 * the XML format of an ALM collection response, with the count of the type
+	 * as its {@code TotalResults}. The stream is flushed but not closed.
+	 *
+	 * @param entityType
+	 *            The entity type.
+	 * @param startIndex
+	 *            The one based index of the first entity of the page.
+	 * @param pageSize
+	 *            The maximum number of entities in the page.
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             thrown if the page cannot be written.
+	 */
+	public void writePage(final EntityType entityType, final int startIndex, final int pageSize,
+			final OutputStream out) throws IOException {
+		final Iterable<GenericEntity> page = entities(entityType, startIndex, pageSize);
+		final OutputStreamWriter streamWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		final HierarchicalStreamWriter writer = new CompactWriter(streamWriter, new NoNameCoder());
+		writer.startNode("Entities");
+		writer.addAttribute("TotalResults", String.valueOf(count(entityType)));
+		for (final GenericEntity entity : page) {
+			MarshallingUtils.writeEntity(writer, entity);
+		}
+		writer.endNode();
+		writer.flush();
+		streamWriter.flush();
+	}
+
+	private static long leafCount(final int branching, final int depth) {
+		return (depth == 0) ? 0 : power(branching, depth);
+	}
+
+	private static long power(final int base, final int exponent) {
+		long result = 1;
+		for (int level = 0; level < exponent; level++) {
+			result *= base;
+			if (result > Integer.MAX_VALUE) {
+				return Long.MAX_VALUE;
+			}
+		}
+		return result;
+	}
+
+	private static int toCount(final long count, final String description) {
+		Validate.isTrue(count <= Integer.MAX_VALUE, "too many %s; ids must fit in an int", description);
+		return (int) count;
+	}
+
+	private static long treeSize(final int branching, final int depth) {
+		long size = 0;
+		for (int level = 1; level <= depth; level++) {
+			size += power(branching, level);
+			if (size > Integer.MAX_VALUE) {
+				return Long.MAX_VALUE;
+			}
+		}
+		return size;
+	}
+
+	private void add(final List<Field> fields, final FieldName fieldName, final Object value) {
+		fields.add(new Field(fieldName.getName(), Collections.singletonList(String.valueOf(value))));
+	}
+
+	private void addDesignStepFields(final List<Field> fields, final int id) {
+		final int stepOrder = ((id - 1) % designStepsPerTest) + 1;
+		add(fields, DesignStepField.ID, id);
+		add(fields, DesignStepField.NAME, "Step " + stepOrder);
+		add(fields, DesignStepField.PARENT_ID, ((id - 1) / designStepsPerTest) + 1);
+		add(fields, DesignStepField.STEP_ORDER, stepOrder);
+		add(fields, DesignStepField.DESCRIPTION, html(EntityType.DESIGN_STEP, id, 1));
+		add(fields, DesignStepField.EXPECTED_RESULT, html(EntityType.DESIGN_STEP, id, 2));
+	}
+
+	private void addRequirementCoverageFields(final List<Field> fields, final int id) {
+		final int leafIndex = (id - 1) / coveragePerRequirement;
+		final int firstTestIndex = choose(hash(EntityType.REQUIREMENT_COVERAGE, leafIndex, 0), testCount);
+		final int testIndex = (firstTestIndex + ((id - 1) % coveragePerRequirement)) % testCount;
+		add(fields, RequirementCoverageField.ID, id);
+		add(fields, RequirementCoverageField.REQUIREMENT_ID, (requirementCount - leafRequirementCount) + leafIndex + 1);
+		add(fields, RequirementCoverageField.TEST_ID, testIndex + 1);
+		add(fields, RequirementCoverageField.COVERAGE_ENTITY_TYPE, EntityType.ALM_TEST.entityName());
+		add(fields, RequirementCoverageField.STATUS, pick(RUN_STATUSES, EntityType.REQUIREMENT_COVERAGE, id, 1));
+		add(fields, RequirementCoverageField.LAST_MODIFIED, dateTime(EntityType.REQUIREMENT_COVERAGE, id));
+	}
+
+	private void addRequirementFields(final List<Field> fields, final int id) {
+		final int parentId = treeParentId(id, requirementsPerFolder);
+		final boolean leaf = id > (requirementCount - leafRequirementCount);
+		add(fields, RequirementField.ID, id);
+		add(fields, RequirementField.NAME, "Requirement " + id);
+		add(fields, RequirementField.PARENT_ID, parentId);
+		add(fields, RequirementField.FATHER_NAME, parentId == 0 ? "Requirements" : "Requirement " + parentId);
+		add(fields, RequirementField.TYPE_ID, leaf ? 3 : 1);
+		add(fields, RequirementField.AUTHOR, pick(USERS, EntityType.REQUIREMENT, id, 1));
+		add(fields, RequirementField.CREATION_DATE, date(EntityType.REQUIREMENT, id));
+		add(fields, RequirementField.LAST_MODIFIED, dateTime(EntityType.REQUIREMENT, id));
+		add(fields, RequirementField.DIRECT_COVER_STATUS,
+				leaf && (coveragePerRequirement > 0) ? pick(RUN_STATUSES, EntityType.REQUIREMENT, id, 2)
+						: "Not Covered");
+		add(fields, RequirementField.DESCRIPTION, html(EntityType.REQUIREMENT, id, 3));
+		add(fields, RequirementField.COMMENTS, html(EntityType.REQUIREMENT, id, 4));
+	}
+
+	private void addRunFields(final List<Field> fields, final int id) {
+		final int testInstanceId = ((id - 1) / runsPerTestInstance) + 1;
+		final int testId = testInstanceTestId(testInstanceId);
+		add(fields, RunField.ID, id);
+		add(fields, RunField.NAME, "Run_" + id);
+		add(fields, RunField.TEST_INSTANCE_ID, testInstanceId);
+		add(fields, RunField.TEST_SET_ID, ((testInstanceId - 1) / testInstancesPerTestSet) + 1);
+		add(fields, RunField.TEST_ID, testId);
+		add(fields, RunField.TEST_CONFIG_ID, testId);
+		add(fields, RunField.STATUS, pick(RUN_STATUSES, EntityType.RUN, id, 1));
+		add(fields, RunField.OWNER, pick(USERS, EntityType.RUN, id, 2));
+		add(fields, RunField.HOST, pick(HOSTS, EntityType.RUN, id, 3));
+		add(fields, RunField.SUBTYPE_ID, "hp.qc.run.MANUAL");
+		add(fields, RunField.LAST_MODIFIED, dateTime(EntityType.RUN, id));
+		add(fields, RunField.COMMENTS, html(EntityType.RUN, id, 4));
+	}
+
+	private void addTestFields(final List<Field> fields, final int id) {
+		add(fields, AlmTestField.ID, id);
+		add(fields, AlmTestField.NAME, "Test " + id);
+		add(fields, AlmTestField.PARENT_ID, (testFolderCount - leafTestFolderCount) + ((id - 1) / testsPerFolder) + 1);
+		add(fields, AlmTestField.STATUS, pick(TEST_STATUSES, EntityType.ALM_TEST, id, 1));
+		add(fields, AlmTestField.TYPE, "MANUAL");
+		add(fields, AlmTestField.DESIGNER, pick(USERS, EntityType.ALM_TEST, id, 2));
+		add(fields, AlmTestField.CREATION_DATE, date(EntityType.ALM_TEST, id));
+		add(fields, AlmTestField.DESCRIPTION, html(EntityType.ALM_TEST, id, 3));
+	}
+
+	private void addTestFolderFields(final List<Field> fields, final int id) {
+		add(fields, TestFolderField.ID, id);
+		add(fields, TestFolderField.NAME, "Folder " + id);
+		add(fields, TestFolderField.PARENT_ID, treeParentId(id, testFoldersPerFolder));
+		add(fields, TestFolderField.DESCRIPTION, html(EntityType.TEST_FOLDER, id, 1));
+	}
+
+	private void addTestInstanceFields(final List<Field> fields, final int id) {
+		final int testOrder = ((id - 1) % testInstancesPerTestSet) + 1;
+		final int testId = testInstanceTestId(id);
+		add(fields, TestInstanceField.ID, id);
+		add(fields, TestInstanceField.TEST_SET_ID, ((id - 1) / testInstancesPerTestSet) + 1);
+		add(fields, TestInstanceField.TEST_ID, testId);
+		add(fields, TestInstanceField.TEST_CONFIG_ID, testId);
+		add(fields, TestInstanceField.TEST_ORDER, testOrder);
+		add(fields, TestInstanceField.TEST_INSTANCE_NUMBER, ((testOrder - 1) / testCount) + 1);
+		add(fields, TestInstanceField.STATUS, runsPerTestInstance > 0
+				? pick(RUN_STATUSES, EntityType.TEST_INSTANCE, id, 1) : "No Run");
+		add(fields, TestInstanceField.RESPONSIBLE_TESTER, pick(USERS, EntityType.TEST_INSTANCE, id, 2));
+		add(fields, TestInstanceField.PLANNED_HOST, pick(HOSTS, EntityType.TEST_INSTANCE, id, 3));
+		add(fields, TestInstanceField.SUBTYPE, "hp.qc.test-instance.MANUAL");
+		add(fields, TestInstanceField.LAST_MODIFIED, dateTime(EntityType.TEST_INSTANCE, id));
+	}
+
+	private void addTestSetFields(final List<Field> fields, final int id) {
+		add(fields, TestSetField.ID, id);
+		add(fields, TestSetField.NAME, "Test Set " + id);
+		add(fields, TestSetField.PARENT_ID, 0);
+		add(fields, TestSetField.TYPE, "hp.qc.test-set.default");
+		add(fields, TestSetField.DESCRIPTION, html(EntityType.TEST_SET, id, 1));
+	}
+
+	private int choose(final long hash, final int bound) {
+		return (int) ((hash >>> 1) % bound);
+	}
+
+	private String date(final EntityType entityType, final int id) {
+		return DATE_FORMATTER.format(BASE_DATE.plusSeconds(choose(hash(entityType, id, -1), DATE_RANGE_SECONDS)));
+	}
+
+	private String dateTime(final EntityType entityType, final int id) {
+		return DATETIME_FORMATTER
+				.format(BASE_DATE.plusSeconds(choose(hash(entityType, id, -2), DATE_RANGE_SECONDS)));
+	}
+
+	/*
+	 * SplitMix64 finalizer over the seed, type, id and salt, giving every
+	 * generated value its own reproducible random bits.
+	 */
+	private long hash(final EntityType entityType, final long id, final int salt) {
+		long value = seed + ((entityType.ordinal() + 1) * 0x9E3779B97F4A7C15L) + (id * 0xC2B2AE3D27D4EB4FL)
+				+ (salt * 0x165667B19E3779F9L);
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+	private String html(final EntityType entityType, final int id, final int salt) {
+		final long hash = hash(entityType, id, salt);
+		final int wordCount = 4 + choose(hash, 12);
+		final StringBuilder builder = new StringBuilder("<html><body><div align=\"left\"><font face=\"Arial\">");
+		for (int index = 0; index < wordCount; index++) {
+			if (index > 0) {
+				builder.append(' ');
+			}
+			builder.append(WORDS[choose(hash(entityType, id, (salt * 31) + index), WORDS.length)]);
+		}
+		return builder.append("</font></div></body></html>").toString();
+	}
+
+	private String pick(final String[] values, final EntityType entityType, final int id, final int salt) {
+		return values[choose(hash(entityType, id, salt), values.length)];
+	}
+
+	private int testInstanceTestId(final int testInstanceId) {
+		final int testOrder = (testInstanceId - 1) % testInstancesPerTestSet;
+		final int testSetIndex = (testInstanceId - 1) / testInstancesPerTestSet;
+		return ((choose(hash(EntityType.TEST_SET, testSetIndex, 0), testCount) + testOrder) % testCount) + 1;
+	}
+
+	/*
+	 * Ids are assigned level by level, so the children of the folder with id n
+	 * follow each other directly and the parent of any folder below the top
+	 * level is found by division.
+	 */
+	private int treeParentId(final int id, final int branching) {
+		return (id <= branching) ? 0 : (id - 1) / branching;
+	}
+
+	/**
+	 * Builder for {@link AlmDatasetGenerator}. The defaults produce a project
+	 * of about 150,000 entities: 120 test folders four levels deep, 810
+	 * tests with 50 design steps each, 10 test sets of 1,000 test instances
+	 * with 10 runs each, and 155 requirements three levels deep with the 125
+	 * leaf requirements covered by 2 tests each.
+	 */
+	public static final class Builder {
+
+		private int coveragePerRequirement = 2;
+
+		private int designStepsPerTest = 50;
+
+		private int requirementDepth = 3;
+
+		private int requirementsPerFolder = 5;
+
+		private int runsPerTestInstance = 10;
+
+		private final long seed;
+
+		private int testFolderDepth = 4;
+
+		private int testFoldersPerFolder = 3;
+
+		private int testInstancesPerTestSet = 1000;
+
+		private int testSets = 10;
+
+		private int testsPerFolder = 10;
+
+		/**
+		 * Creates a builder for a generator with the given seed.
+		 *
+		 * @param theSeed
+		 *            The seed all generated values are derived from.
+		 */
+		public Builder(final long theSeed) {
+			this.seed = theSeed;
+		}
+
+		/**
+		 * Creates the generator.
+		 *
+		 * @return a new generator.
+		 * @throws IllegalArgumentException
+		 *             thrown if the configured sizes generate more entities of
+		 *             a type than int ids can number, or if requirements cover
+		 *             more tests, or test instances refer to more tests, than
+		 *             are generated.
+		 */
+		public AlmDatasetGenerator build() {
+			return new AlmDatasetGenerator(this);
+		}
+
+		/**
+		 * Sets the number of tests covering each leaf requirement.
+		 *
+		 * @param theCoveragePerRequirement
+		 *            The number of tests covering each leaf requirement.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder coveragePerRequirement(final int theCoveragePerRequirement) {
+			Validate.isTrue(theCoveragePerRequirement >= 0, "coverage per requirement cannot be negative");
+			this.coveragePerRequirement = theCoveragePerRequirement;
+			return this;
+		}
+
+		/**
+		 * Sets the number of design steps of each test.
+		 *
+		 * @param theDesignStepsPerTest
+		 *            The number of design steps of each test.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder designStepsPerTest(final int theDesignStepsPerTest) {
+			Validate.isTrue(theDesignStepsPerTest >= 0, "design steps per test cannot be negative");
+			this.designStepsPerTest = theDesignStepsPerTest;
+			return this;
+		}
+
+		/**
+		 * Sets the number of levels of the requirement trees.
+		 *
+		 * @param theRequirementDepth
+		 *            The number of levels; requirements on the last level are
+		 *            leaf requirements, the others folders.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder requirementDepth(final int theRequirementDepth) {
+			Validate.isTrue(theRequirementDepth >= 0, "requirement depth cannot be negative");
+			this.requirementDepth = theRequirementDepth;
+			return this;
+		}
+
+		/**
+		 * Sets the number of top level requirements and of child requirements
+		 * of each requirement folder.
+		 *
+		 * @param theRequirementsPerFolder
+		 *            The number of requirements per folder.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder requirementsPerFolder(final int theRequirementsPerFolder) {
+			Validate.isTrue(theRequirementsPerFolder > 0, "requirements per folder must be greater than zero");
+			this.requirementsPerFolder = theRequirementsPerFolder;
+			return this;
+		}
+
+		/**
+		 * Sets the number of runs of each test instance.
+		 *
+		 * @param theRunsPerTestInstance
+		 *            The number of runs of each test instance.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder runsPerTestInstance(final int theRunsPerTestInstance) {
+			Validate.isTrue(theRunsPerTestInstance >= 0, "runs per test instance cannot be negative");
+			this.runsPerTestInstance = theRunsPerTestInstance;
+			return this;
+		}
+
+		/**
+		 * Sets the number of levels of the test folder trees.
+		 *
+		 * @param theTestFolderDepth
+		 *            The number of levels; tests are placed in the folders on
+		 *            the last level.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder testFolderDepth(final int theTestFolderDepth) {
+			Validate.isTrue(theTestFolderDepth >= 0, "test folder depth cannot be negative");
+			this.testFolderDepth = theTestFolderDepth;
+			return this;
+		}
+
+		/**
+		 * Sets the number of top level test folders and of child folders of
+		 * each folder above the last level.
+		 *
+		 * @param theTestFoldersPerFolder
+		 *            The number of test folders per folder.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder testFoldersPerFolder(final int theTestFoldersPerFolder) {
+			Validate.isTrue(theTestFoldersPerFolder > 0, "test folders per folder must be greater than zero");
+			this.testFoldersPerFolder = theTestFoldersPerFolder;
+			return this;
+		}
+
+		/**
+		 * Sets the number of test instances in each test set.
+		 *
+		 * @param theTestInstancesPerTestSet
+		 *            The number of test instances in each test set.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder testInstancesPerTestSet(final int theTestInstancesPerTestSet) {
+			Validate.isTrue(theTestInstancesPerTestSet >= 0, "test instances per test set cannot be negative");
+			this.testInstancesPerTestSet = theTestInstancesPerTestSet;
+			return this;
+		}
+
+		/**
+		 * Sets the number of test sets.
+		 *
+		 * @param theTestSets
+		 *            The number of test sets.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder testSets(final int theTestSets) {
+			Validate.isTrue(theTestSets >= 0, "test sets cannot be negative");
+			this.testSets = theTestSets;
+			return this;
+		}
+
+		/**
+		 * Sets the number of tests in each test folder on the last level.
+		 *
+		 * @param theTestsPerFolder
+		 *            The number of tests per folder.
+		 * @return returns the current instance to conform to the builder
+		 *         pattern.
+		 */
+		public Builder testsPerFolder(final int theTestsPerFolder) {
+			Validate.isTrue(theTestsPerFolder >= 0, "tests per folder cannot be negative");
+			this.testsPerFolder = theTestsPerFolder;
+			return this;
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package com.fissionworks.restalm.fake;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.Alm115Connection;
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.DesignStepField;
+import com.fissionworks.restalm.constants.field.RequirementCoverageField;
+import com.fissionworks.restalm.constants.field.RequirementField;
+import com.fissionworks.restalm.conversion.marshalling.EntityCollectionMarshaller;
+import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.model.authentication.Credentials;
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.entity.base.GenericEntityCollection;
+import com.fissionworks.restalm.model.entity.testlab.Run;
+import com.fissionworks.restalm.model.entity.testlab.TestInstance;
+import com.fissionworks.restalm.model.entity.testplan.AlmTest;
+import com.fissionworks.restalm.model.site.Project;
+
+public class AlmDatasetGeneratorTest {
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withCoverageOfMoreTestsThanGenerated_shouldThrowException() {
+		new AlmDatasetGenerator.Builder(1L).testFolderDepth(1).testFoldersPerFolder(1).testsPerFolder(2)
+				.coveragePerRequirement(3).build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withMoreRunsThanIntIds_shouldThrowException() {
+		new AlmDatasetGenerator.Builder(1L).testSets(100000).testInstancesPerTestSet(100000).build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void build_withTestInstancesButNoTests_shouldThrowException() {
+		new AlmDatasetGenerator.Builder(1L).testsPerFolder(0).coveragePerRequirement(0).build();
+	}
+
+	@Test
+	public void count_shouldMatchConfiguredSizes() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).testFolderDepth(3)
+				.testFoldersPerFolder(2).testsPerFolder(4).designStepsPerTest(50).testSets(3)
+				.testInstancesPerTestSet(5).runsPerTestInstance(7).requirementDepth(2).requirementsPerFolder(3)
+				.coveragePerRequirement(2).build();
+		Assert.assertEquals(generator.count(EntityType.TEST_FOLDER), 14);
+		Assert.assertEquals(generator.count(EntityType.ALM_TEST), 32);
+		Assert.assertEquals(generator.count(EntityType.DESIGN_STEP), 1600);
+		Assert.assertEquals(generator.count(EntityType.TEST_SET), 3);
+		Assert.assertEquals(generator.count(EntityType.TEST_INSTANCE), 15);
+		Assert.assertEquals(generator.count(EntityType.RUN), 105);
+		Assert.assertEquals(generator.count(EntityType.REQUIREMENT), 12);
+		Assert.assertEquals(generator.count(EntityType.REQUIREMENT_COVERAGE), 18);
+		Assert.assertEquals(generator.count(EntityType.DEFECT), 0);
+	}
+
+	@Test
+	public void createEntity_shouldCreateEntitiesThatPopulateModels() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).build();
+		final Run run = new Run();
+		run.populateFields(generator.createEntity(EntityType.RUN, 12345));
+		Assert.assertEquals(run.getId(), 12345);
+		Assert.assertEquals(run.getTestInstanceId(), 1235);
+		Assert.assertEquals(run.getTestSetId(), 2);
+
+		final TestInstance testInstance = new TestInstance();
+		testInstance.populateFields(generator.createEntity(EntityType.TEST_INSTANCE, run.getTestInstanceId()));
+		Assert.assertEquals(testInstance.getTestId(), run.getTestId());
+		Assert.assertEquals(testInstance.getTestSetId(), run.getTestSetId());
+
+		final AlmTest test = new AlmTest();
+		test.populateFields(generator.createEntity(EntityType.ALM_TEST, run.getTestId()));
+		Assert.assertEquals(test.getId(), run.getTestId());
+		Assert.assertFalse(test.getDescription().isEmpty());
+	}
+
+	@Test
+	public void createEntity_shouldCreateSameEntityForSameSeed() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(42L).build();
+		final AlmDatasetGenerator sameSeed = new AlmDatasetGenerator.Builder(42L).build();
+		for (final EntityType entityType : generator.getEntityTypes()) {
+			Assert.assertEquals(generator.createEntity(entityType, 1), sameSeed.createEntity(entityType, 1));
+		}
+	}
+
+	@Test
+	public void createEntity_withDifferentSeed_shouldCreateDifferentContent() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).build();
+		final AlmDatasetGenerator otherSeed = new AlmDatasetGenerator.Builder(2L).build();
+		Assert.assertNotEquals(generator.createEntity(EntityType.ALM_TEST, 1),
+				otherSeed.createEntity(EntityType.ALM_TEST, 1));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void createEntity_withIdAboveCount_shouldThrowException() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).build();
+		generator.createEntity(EntityType.TEST_SET, generator.count(EntityType.TEST_SET) + 1);
+	}
+
+	@Test
+	public void createEntity_withMillionsOfRuns_shouldCreateLastRunDirectly() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).testSets(100)
+				.testInstancesPerTestSet(5000).runsPerTestInstance(10).build();
+		Assert.assertEquals(generator.count(EntityType.RUN), 5000000);
+
+		final Run run = new Run();
+		run.populateFields(generator.createEntity(EntityType.RUN, 5000000));
+		Assert.assertEquals(run.getTestInstanceId(), 500000);
+		Assert.assertEquals(run.getTestSetId(), 100);
+	}
+
+	@Test
+	public void entities_shouldReferenceGeneratedParents() {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(7L).testFolderDepth(3)
+				.testsPerFolder(2).designStepsPerTest(3).testSets(2).testInstancesPerTestSet(20)
+				.runsPerTestInstance(2).build();
+		for (final GenericEntity step : generator.entities(EntityType.DESIGN_STEP)) {
+			final int parentId = step.getIntFieldValue(DesignStepField.PARENT_ID.getName(), 0);
+			Assert.assertTrue((parentId > 0) && (parentId <= generator.count(EntityType.ALM_TEST)));
+		}
+		final Set<Integer> leafRequirementIds = new HashSet<>();
+		for (final GenericEntity requirement : generator.entities(EntityType.REQUIREMENT)) {
+			final int parentId = requirement.getIntFieldValue(RequirementField.PARENT_ID.getName(), -1);
+			Assert.assertTrue((parentId >= 0)
+					&& (parentId < requirement.getIntFieldValue(RequirementField.ID.getName(), 0)));
+			if (requirement.getIntFieldValue(RequirementField.TYPE_ID.getName(), 0) == 3) {
+				leafRequirementIds.add(requirement.getIntFieldValue(RequirementField.ID.getName(), 0));
+			}
+		}
+		for (final GenericEntity coverage : generator.entities(EntityType.REQUIREMENT_COVERAGE)) {
+			Assert.assertTrue(leafRequirementIds
+					.contains(coverage.getIntFieldValue(RequirementCoverageField.REQUIREMENT_ID.getName(), 0)));
+		}
+	}
+
+	@Test
+	public void load_shouldServeGeneratedEntities() throws IOException {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(3L).testSets(2)
+				.testInstancesPerTestSet(50).runsPerTestInstance(3).build();
+		try (final FakeAlmServer server = new FakeAlmServer()) {
+			server.addUser("user", "password");
+			final Project project = server.addProject("DEFAULT", "Project");
+			generator.load(server, project);
+			try (final Alm115Connection alm = new Alm115Connection(server.getUrl())) {
+				alm.authenticate(new Credentials("user", "password"));
+				alm.login(project);
+
+				final AlmEntityCollection<Run> runs = alm.getEntities(Run.class, new RestParameters().pageSize(25));
+				Assert.assertEquals(runs.getTotalResults(), 300);
+				Assert.assertEquals(runs.size(), 25);
+				final Run run = alm.getEnityById(Run.class, 300);
+				Assert.assertEquals(run.getTestInstanceId(), 100);
+			}
+		}
+	}
+
+	@Test
+	public void writePage_beyondLastEntity_shouldWriteEmptyPage() throws IOException {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).build();
+		final GenericEntityCollection page = readPage(generator, EntityType.TEST_SET, 11, 100);
+		Assert.assertEquals(page.getTotalResults(), 10);
+		Assert.assertEquals(page.size(), 0);
+	}
+
+	@Test
+	public void writePage_shouldBeReadableByEntityCollectionMarshaller() throws IOException {
+		final AlmDatasetGenerator generator = new AlmDatasetGenerator.Builder(1L).build();
+		final GenericEntityCollection page = readPage(generator, EntityType.DESIGN_STEP, 101, 50);
+		Assert.assertEquals(page.getTotalResults(), generator.count(EntityType.DESIGN_STEP));
+		Assert.assertEquals(page.size(), 50);
+		final Set<GenericEntity> expected = new HashSet<>();
+		for (final GenericEntity entity : generator.entities(EntityType.DESIGN_STEP, 101, 50)) {
+			expected.add(entity);
+		}
+		for (final GenericEntity entity : page) {
+			Assert.assertTrue(expected.contains(entity));
+		}
+	}
+
+	private GenericEntityCollection readPage(final AlmDatasetGenerator generator, final EntityType entityType,
+			final int startIndex, final int pageSize) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		generator.writePage(entityType, startIndex, pageSize, out);
+		final InputStream body = new ByteArrayInputStream(out.toByteArray());
+		return new EntityCollectionMarshaller().read(GenericEntityCollection.class, new HttpInputMessage() {
+			@Override
+			public InputStream getBody() {
+				return body;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return new HttpHeaders();
+			}
+		});
+	}
+
+}
@@ -0,0 +1,811 @@
+package com.fissionworks.restalm.fake;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.DefectField;
+import com.fissionworks.restalm.constants.field.DesignStepField;
+import com.fissionworks.restalm.constants.field.FieldName;
+import com.fissionworks.restalm.constants.field.ReleaseCycleField;
+import com.fissionworks.restalm.constants.field.ReleaseField;
+import com.fissionworks.restalm.constants.field.ReleaseFolderField;
+import com.fissionworks.restalm.constants.field.RequirementCoverageField;
+import com.fissionworks.restalm.constants.field.RequirementField;
+import com.fissionworks.restalm.constants.field.RunField;
+import com.fissionworks.restalm.constants.field.TestConfigField;
+import com.fissionworks.restalm.constants.field.TestFolderField;
+import com.fissionworks.restalm.constants.field.TestInstanceField;
+import com.fissionworks.restalm.constants.field.TestSetField;
+import com.fissionworks.restalm.constants.field.TestSetFolderField;
+import com.fissionworks.restalm.conversion.marshalling.MarshallingUtils;
+import com.fissionworks.restalm.conversion.marshalling.StreamingEntityParser;
+import com.fissionworks.restalm.model.customization.EntityField;
+import com.fissionworks.restalm.model.customization.EntityFieldCollection;
+import com.fissionworks.restalm.model.entity.base.Field;
+import com.fissionworks.restalm.model.entity.base.GenericEntity;
+import com.fissionworks.restalm.model.site.Project;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.naming.NoNameCoder;
+import com.thoughtworks.xstream.io.xml.CompactWriter;
+
+/**
+ * In-process stand-in for the ALM 11.5 REST API, serving the
+ * {@link com.fissionworks.restalm.constants.ServiceUrl} endpoints from an
+ * in-memory store so that an {@code Alm115Connection} can be exercised, and
+ * its throughput and concurrency measured, without a live ALM server.
+ * <p>
+ * The server supports basic authentication with the LWSSO session cookie,
+ * the domains/projects listing, field metadata, entity create, read, update
+ * and delete by id, collection queries (equality and {@code OR} filters on
+ * entity fields, field selection and paging), and the bulk add, update and
+ * delete operations. Every request can be delayed by a random latency within
+ * a configured range. Unless replaced with
+ * {@link #setEntityFields(EntityType, EntityFieldCollection)}, the field
+ * metadata of each entity type lists the fields of its {@link FieldName}
+ * constants, all editable except {@code id} and none required. Related
+ * entities and cross entity query filters are not supported.
+ */
+public final class FakeAlmServer implements Closeable {
+
+	private static final String COLLECTION_CONTENT_TYPE = "type=collection";
+
+	private static final String ID_FIELD = "id";
+
+	private static final String LWSSO_KEY = "LWSSO_COOKIE_KEY";
+
+	private static final String PROJECT_PATH = "/qcbin/rest/domains/";
+
+	private static final Map<EntityType, FieldName[]> FIELD_NAMES = createFieldNames();
+
+	private final ConcurrentMap<String, EntityFieldCollection> entityFields = new ConcurrentHashMap<>();
+
+	private final ExecutorService executor;
+
+	private volatile long maxLatencyMillis;
+
+	private volatile long minLatencyMillis;
+
+	private final ConcurrentMap<String, AtomicInteger> nextIds = new ConcurrentHashMap<>();
+
+	private final Map<String, List<String>> projects = new LinkedHashMap<>();
+
+	private final AtomicLong requestCount = new AtomicLong();
+
+	private final HttpServer server;
+
+	private final Set<String> sessions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	private final ConcurrentMap<String, ConcurrentSkipListMap<Integer, GenericEntity>> store =
+			new ConcurrentHashMap<>();
+
+	private final Map<String, String> users = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates and starts a server listening on an ephemeral port of the
+	 * loopback interface.
+	 *
+	 * @throws IOException
+	 *             thrown if the server cannot be bound.
+	 */
+	public FakeAlmServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		executor = Executors.newCachedThreadPool(new ThreadFactory() {
+			@Override
+			public Thread newThread(final Runnable runnable) {
+				final Thread thread = new Thread(runnable, "fake-alm-server");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		server.setExecutor(executor);
+		server.createContext("/qcbin", new HttpHandler() {
+			@Override
+			public void handle(final HttpExchange exchange) throws IOException {
+				try {
+					dispatch(exchange);
+				} catch (final RuntimeException exception) {
+					sendError(exchange, 500, "qccore.general-error", String.valueOf(exception.getMessage()));
+				} finally {
+					exchange.close();
+				}
+			}
+		});
+		server.start();
+	}
+
+	/**
+	 * Adds a project that authenticated users may log in to.
+	 *
+	 * @param domain
+	 *            The domain of the project.
+	 * @param projectName
+	 *            The name of the project.
+	 * @return the project, for use with {@code login}.
+	 */
+	public synchronized Project addProject(final String domain, final String projectName) {
+		List<String> domainProjects = projects.get(domain);
+		if (domainProjects == null) {
+			domainProjects = new ArrayList<>();
+			projects.put(domain, domainProjects);
+		}
+		domainProjects.add(projectName);
+		return new Project(domain, projectName);
+	}
+
+	/**
+	 * Adds a user that may authenticate with the given password.
+	 *
+	 * @param username
+	 *            The user name.
+	 * @param password
+	 *            The password.
+	 */
+	public void addUser(final String username, final String password) {
+		users.put(username, password);
+	}
+
+	/**
+	 * Stops the server and its request threads.
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Get the entities of the given type currently stored for the project, in
+	 * id order.
+	 *
+	 * @param project
+	 *            The project the entities belong to.
+	 * @param entityType
+	 *            The type of the entities.
+	 * @return the stored entities.
+	 */
+	public List<GenericEntity> getEntities(final Project project, final EntityType entityType) {
+		return new ArrayList<>(getCollection(project.getDomain(), project.getProjectName(),
+				entityType.collectionName()).values());
+	}
+
+	/**
+	 * Get the number of requests the server has handled.
+	 *
+	 * @return the request count.
+	 */
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * Get the URL to construct connections with, in the form
+	 * {@code http://host:port}.
+	 *
+	 * @return the server URL.
+	 */
+	public String getUrl() {
+		final InetSocketAddress address = server.getAddress();
+		return "http://" + address.getHostString() + ":" + address.getPort();
+	}
+
+	/**
+	 * Stores the given entities for the project under their own ids, replacing
+	 * any stored entity with the same id; entities added later through the
+	 * API are assigned ids above the highest id stored.
+	 *
+	 * @param project
+	 *            The project the entities belong to.
+	 * @param entityType
+	 *            The type of the entities.
+	 * @param entities
+	 *            The entities to store; each must have an {@code id} field.
+	 * @throws IllegalArgumentException
+	 *             thrown if an entity has no id greater than zero.
+	 */
+	public void loadEntities(final Project project, final EntityType entityType,
+			final Iterable<GenericEntity> entities) {
+		final ConcurrentSkipListMap<Integer, GenericEntity> collection = getCollection(project.getDomain(),
+				project.getProjectName(), entityType.collectionName());
+		final AtomicInteger nextId = getNextId(project.getDomain(), project.getProjectName(),
+				entityType.collectionName());
+		for (final GenericEntity entity : entities) {
+			final int id = entity.getIntFieldValue(ID_FIELD, 0);
+			Validate.isTrue(id > 0, "entities must have an id greater than zero");
+			collection.put(id, entity);
+			int currentId = nextId.get();
+			while ((currentId < id) && !nextId.compareAndSet(currentId, id)) {
+				currentId = nextId.get();
+			}
+		}
+	}
+
+	/**
+	 * Replaces the field metadata served for the given entity type.
+	 *
+	 * @param entityType
+	 *            The entity type.
+	 * @param fields
+	 *            The field metadata to serve.
+	 */
+	public void setEntityFields(final EntityType entityType, final EntityFieldCollection fields) {
+		Validate.notNull(fields, "fields cannot be null");
+		entityFields.put(entityType.entityName(), fields);
+	}
+
+	/**
+	 * Delays every request by a latency chosen at random between the given
+	 * bounds; both zero (the default) disables the delay.
+	 *
+	 * @param theMinLatencyMillis
+	 *            The minimum latency in milliseconds.
+	 * @param theMaxLatencyMillis
+	 *            The maximum latency in milliseconds.
+	 * @throws IllegalArgumentException
+	 *             thrown if the minimum is negative or greater than the
+	 *             maximum.
+	 */
+	public void setLatency(final long theMinLatencyMillis, final long theMaxLatencyMillis) {
+		Validate.isTrue(theMinLatencyMillis >= 0, "minimum latency cannot be negative");
+		Validate.isTrue(theMinLatencyMillis <= theMaxLatencyMillis, "minimum latency cannot exceed maximum latency");
+		this.minLatencyMillis = theMinLatencyMillis;
+		this.maxLatencyMillis = theMaxLatencyMillis;
+	}
+
+	private static Map<EntityType, FieldName[]> createFieldNames() {
+		final Map<EntityType, FieldName[]> fieldNames = new EnumMap<>(EntityType.class);
+		fieldNames.put(EntityType.ALM_TEST, AlmTestField.values());
+		fieldNames.put(EntityType.DEFECT, DefectField.values());
+		fieldNames.put(EntityType.DESIGN_STEP, DesignStepField.values());
+		fieldNames.put(EntityType.RELEASE, ReleaseField.values());
+		fieldNames.put(EntityType.RELEASE_CYCLE, ReleaseCycleField.values());
+		fieldNames.put(EntityType.RELEASE_FOLDER, ReleaseFolderField.values());
+		fieldNames.put(EntityType.REQUIREMENT, RequirementField.values());
+		fieldNames.put(EntityType.REQUIREMENT_COVERAGE, RequirementCoverageField.values());
+		fieldNames.put(EntityType.RUN, RunField.values());
+		fieldNames.put(EntityType.TEST_CONFIG, TestConfigField.values());
+		fieldNames.put(EntityType.TEST_FOLDER, TestFolderField.values());
+		fieldNames.put(EntityType.TEST_INSTANCE, TestInstanceField.values());
+		fieldNames.put(EntityType.TEST_SET, TestSetField.values());
+		fieldNames.put(EntityType.TEST_SET_FOLDER, TestSetFolderField.values());
+		return fieldNames;
+	}
+
+	private static EntityType fromCollectionName(final String collectionName) {
+		for (final EntityType entityType : EntityType.values()) {
+			if (entityType.collectionName().equals(collectionName)) {
+				return entityType;
+			}
+		}
+		return null;
+	}
+
+	private GenericEntity addEntity(final String domain, final String projectName, final String collectionName,
+			final GenericEntity entity) {
+		final int id = getNextId(domain, projectName, collectionName).incrementAndGet();
+		final GenericEntity added = copyWithField(entity, ID_FIELD, String.valueOf(id));
+		getCollection(domain, projectName, collectionName).put(id, added);
+		return added;
+	}
+
+	private GenericEntity copyWithField(final GenericEntity entity, final String fieldName, final String value) {
+		final Map<String, Field> fields = new LinkedHashMap<>();
+		for (final Field field : entity.getFields()) {
+			fields.put(field.getName(), field);
+		}
+		fields.put(fieldName, new Field(fieldName, Arrays.asList(value)));
+		return new GenericEntity(entity.getType(), new ArrayList<>(fields.values()));
+	}
+
+	private EntityFieldCollection createDefaultFields(final EntityType entityType) {
+		final EntityFieldCollection fields = new EntityFieldCollection();
+		final Map<String, EntityField> fieldsByName = new LinkedHashMap<>();
+		for (final FieldName fieldName : FIELD_NAMES.get(entityType)) {
+			if (!fieldsByName.containsKey(fieldName.getName())) {
+				final EntityField field = new EntityField(fieldName.getName(), fieldName.getName());
+				field.setSystem(true);
+				field.setEditable(!ID_FIELD.equals(fieldName.getName()));
+				fieldsByName.put(fieldName.getName(), field);
+				fields.addEntityField(field);
+			}
+		}
+		return fields;
+	}
+
+	private String decode(final String value) {
+		try {
+			return URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8.name());
+		} catch (final UnsupportedEncodingException exception) {
+			throw new IllegalStateException("UTF-8 encoding not supported", exception);
+		}
+	}
+
+	private void delay() {
+		final long min = minLatencyMillis;
+		final long max = maxLatencyMillis;
+		if (max > 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+			} catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void dispatch(final HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		delay();
+		final String path = exchange.getRequestURI().getRawPath();
+		switch (path) {
+		case "/qcbin/authentication-point/authenticate":
+			handleAuthenticate(exchange);
+			return;
+		case "/qcbin/authentication-point/logout":
+			sessions.remove(getSession(exchange));
+			sendEmpty(exchange, 200);
+			return;
+		case "/qcbin/rest/is-authenticated":
+			sendEmpty(exchange, sessions.contains(getSession(exchange)) ? 200 : 401);
+			return;
+		default:
+			break;
+		}
+		if (!sessions.contains(getSession(exchange))) {
+			sendError(exchange, 401, "qccore.session-has-expired", "Authentication failed");
+			return;
+		}
+		if ("/qcbin/rest/domains".equals(path)) {
+			sendSite(exchange);
+		} else if (path.startsWith(PROJECT_PATH)) {
+			final String[] segments = StringUtils.split(path.substring(PROJECT_PATH.length()), '/');
+			if ((segments.length < 4) || !"projects".equals(segments[1])) {
+				sendError(exchange, 404, "qccore.invalid-url", "Unknown resource " + path);
+				return;
+			}
+			final String domain = decode(segments[0]);
+			final String projectName = decode(segments[2]);
+			if (!hasProject(domain, projectName)) {
+				sendError(exchange, 404, "qccore.project-not-found", "Unknown project " + projectName);
+			} else if ((segments.length == 7) && "customization".equals(segments[3])) {
+				sendEntityFields(exchange, decode(segments[5]));
+			} else if (segments.length == 4) {
+				handleCollection(exchange, domain, projectName, segments[3]);
+			} else if (segments.length == 5) {
+				handleEntity(exchange, domain, projectName, segments[3], segments[4]);
+			} else {
+				sendError(exchange, 404, "qccore.invalid-url", "Unknown resource " + path);
+			}
+		} else {
+			sendError(exchange, 404, "qccore.invalid-url", "Unknown resource " + path);
+		}
+	}
+
+	private String findMissingRequiredField(final EntityType entityType, final List<GenericEntity> entities) {
+		for (final String requiredField : getEntityFields(entityType).getRequiredFieldNames()) {
+			for (final GenericEntity entity : entities) {
+				if (!entity.hasFieldValue(requiredField)) {
+					return requiredField;
+				}
+			}
+		}
+		return null;
+	}
+
+	private ConcurrentSkipListMap<Integer, GenericEntity> getCollection(final String domain, final String projectName,
+			final String collectionName) {
+		final String key = domain + "/" + projectName + "/" + collectionName;
+		ConcurrentSkipListMap<Integer, GenericEntity> collection = store.get(key);
+		if (collection == null) {
+			store.putIfAbsent(key, new ConcurrentSkipListMap<Integer, GenericEntity>());
+			collection = store.get(key);
+		}
+		return collection;
+	}
+
+	private EntityFieldCollection getEntityFields(final EntityType entityType) {
+		EntityFieldCollection fields = entityFields.get(entityType.entityName());
+		if (fields == null) {
+			entityFields.putIfAbsent(entityType.entityName(), createDefaultFields(entityType));
+			fields = entityFields.get(entityType.entityName());
+		}
+		return fields;
+	}
+
+	private AtomicInteger getNextId(final String domain, final String projectName, final String collectionName) {
+		final String key = domain + "/" + projectName + "/" + collectionName;
+		AtomicInteger nextId = nextIds.get(key);
+		if (nextId == null) {
+			nextIds.putIfAbsent(key, new AtomicInteger());
+			nextId = nextIds.get(key);
+		}
+		return nextId;
+	}
+
+	private Map<String, String> getQueryParameters(final HttpExchange exchange) {
+		final Map<String, String> parameters = new HashMap<>();
+		final String query = exchange.getRequestURI().getRawQuery();
+		if (query != null) {
+			for (final String parameter : StringUtils.split(query, '&')) {
+				final int separator = parameter.indexOf('=');
+				if (separator > 0) {
+					parameters.put(decode(parameter.substring(0, separator)),
+							decode(parameter.substring(separator + 1)));
+				}
+			}
+		}
+		return parameters;
+	}
+
+	private String getSession(final HttpExchange exchange) {
+		final List<String> cookieHeaders = exchange.getRequestHeaders().get("Cookie");
+		if (cookieHeaders != null) {
+			for (final String cookieHeader : cookieHeaders) {
+				for (final String cookie : StringUtils.split(cookieHeader, ";,")) {
+					final String trimmed = cookie.trim();
+					if (trimmed.startsWith(LWSSO_KEY + "=")) {
+						return trimmed.substring(LWSSO_KEY.length() + 1);
+					}
+				}
+			}
+		}
+		return "";
+	}
+
+	private void handleAuthenticate(final HttpExchange exchange) throws IOException {
+		final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+		if ((authorization != null) && authorization.startsWith("Basic ")) {
+			final String[] credentials = StringUtils.split(
+					new String(Base64.decodeBase64(authorization.substring(6)), StandardCharsets.UTF_8), ":", 2);
+			if ((credentials.length == 2) && credentials[1].equals(users.get(credentials[0]))) {
+				final String session = UUID.randomUUID().toString();
+				sessions.add(session);
+				exchange.getResponseHeaders().add("Set-Cookie", LWSSO_KEY + "=" + session + ";Path=/;HTTPOnly");
+				sendEmpty(exchange, 200);
+				return;
+			}
+		}
+		sendEmpty(exchange, 401);
+	}
+
+	private void handleCollection(final HttpExchange exchange, final String domain, final String projectName,
+			final String collectionName) throws IOException {
+		final EntityType entityType = fromCollectionName(collectionName);
+		if (entityType == null) {
+			sendError(exchange, 404, "qccore.invalid-url", "Unknown collection " + collectionName);
+			return;
+		}
+		final ConcurrentSkipListMap<Integer, GenericEntity> collection = getCollection(domain, projectName,
+				collectionName);
+		final Map<String, String> parameters = getQueryParameters(exchange);
+		switch (exchange.getRequestMethod()) {
+		case "GET":
+			sendQueryResult(exchange, collection, parameters);
+			break;
+		case "POST":
+			final List<GenericEntity> toAdd = readEntities(exchange);
+			final String missingField = findMissingRequiredField(entityType, toAdd);
+			if (missingField != null) {
+				sendError(exchange, 400, "qccore.required-field-missing",
+						"The field " + missingField + " is required");
+				return;
+			}
+			final List<GenericEntity> added = new ArrayList<>(toAdd.size());
+			for (final GenericEntity entity : toAdd) {
+				added.add(addEntity(domain, projectName, collectionName, entity));
+			}
+			sendEntities(exchange, 201, added, added.size(), isCollectionRequest(exchange));
+			break;
+		case "PUT":
+			final List<GenericEntity> toUpdate = readEntities(exchange);
+			for (final GenericEntity entity : toUpdate) {
+				if (!collection.containsKey(entity.getIntFieldValue(ID_FIELD, Integer.MIN_VALUE))) {
+					sendError(exchange, 404, "qccore.entity-not-found",
+							"Entity " + entity.getFieldValue(ID_FIELD, "") + " not found");
+					return;
+				}
+			}
+			final List<GenericEntity> updated = new ArrayList<>(toUpdate.size());
+			for (final GenericEntity entity : toUpdate) {
+				updated.add(updateEntity(collection, entity.getIntFieldValue(ID_FIELD, Integer.MIN_VALUE), entity));
+			}
+			sendEntities(exchange, 200, updated, updated.size(), true);
+			break;
+		case "DELETE":
+			final List<Integer> ids = new ArrayList<>();
+			for (final String id : StringUtils.split(StringUtils.defaultString(parameters.get("ids-to-delete")), ',')) {
+				ids.add(Integer.valueOf(id.trim()));
+			}
+			if (!collection.keySet().containsAll(ids)) {
+				sendError(exchange, 404, "qccore.entity-not-found", "Entity not found");
+				return;
+			}
+			final List<GenericEntity> deleted = new ArrayList<>(ids.size());
+			for (final int id : ids) {
+				final GenericEntity entity = collection.remove(id);
+				if (entity != null) {
+					deleted.add(entity);
+				}
+			}
+			sendEntities(exchange, 200, deleted, deleted.size(), true);
+			break;
+		default:
+			sendError(exchange, 405, "qccore.operation-not-supported", "Method not supported");
+			break;
+		}
+	}
+
+	private void handleEntity(final HttpExchange exchange, final String domain, final String projectName,
+			final String collectionName, final String idSegment) throws IOException {
+		final ConcurrentSkipListMap<Integer, GenericEntity> collection = getCollection(domain, projectName,
+				collectionName);
+		final int id = StringUtils.isNumeric(idSegment) ? Integer.parseInt(idSegment) : Integer.MIN_VALUE;
+		final GenericEntity entity = collection.get(id);
+		if ((fromCollectionName(collectionName) == null) || (entity == null)) {
+			sendError(exchange, 404, "qccore.entity-not-found", "Entity " + idSegment + " not found");
+			return;
+		}
+		switch (exchange.getRequestMethod()) {
+		case "GET":
+			sendEntities(exchange, 200, Arrays.asList(entity), 1, false);
+			break;
+		case "PUT":
+			final GenericEntity changes = StreamingEntityParser.parseEntity(exchange.getRequestBody());
+			sendEntities(exchange, 200, Arrays.asList(updateEntity(collection, id, changes)), 1, false);
+			break;
+		case "DELETE":
+			collection.remove(id);
+			sendEntities(exchange, 200, Arrays.asList(entity), 1, false);
+			break;
+		default:
+			sendError(exchange, 405, "qccore.operation-not-supported", "Method not supported");
+			break;
+		}
+	}
+
+	private synchronized boolean hasProject(final String domain, final String projectName) {
+		final List<String> domainProjects = projects.get(domain);
+		return (domainProjects != null) && domainProjects.contains(projectName);
+	}
+
+	private boolean isCollectionRequest(final HttpExchange exchange) {
+		return StringUtils.contains(exchange.getRequestHeaders().getFirst("Content-Type"), COLLECTION_CONTENT_TYPE);
+	}
+
+	/*
+	 * Equality filters of the form {name[value];name[value or 'other value']}
+	 * on the fields of the entity itself.
+	 */
+	private boolean matches(final GenericEntity entity, final String query) {
+		final String statements = StringUtils.removeEnd(StringUtils.removeStart(query, "{"), "}");
+		for (final String statement : StringUtils.split(statements, ';')) {
+			final int open = statement.indexOf('[');
+			if ((open < 0) || !statement.endsWith("]")) {
+				continue;
+			}
+			final String fieldName = statement.substring(0, open).trim();
+			if (fieldName.contains(".")) {
+				continue;
+			}
+			final List<String> fieldValues = entity.getFieldValues(fieldName);
+			boolean matched = false;
+			for (final String value : statement.substring(open + 1, statement.length() - 1).split("(?i)\\s+or\\s+")) {
+				final String unquoted = StringUtils.strip(value.trim(), "'\"");
+				matched |= fieldValues.contains(unquoted) || (unquoted.isEmpty() && fieldValues.isEmpty());
+			}
+			if (!matched) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private List<GenericEntity> readEntities(final HttpExchange exchange) throws IOException {
+		final InputStream body = exchange.getRequestBody();
+		if (!isCollectionRequest(exchange)) {
+			return Arrays.asList(StreamingEntityParser.parseEntity(body));
+		}
+		final List<GenericEntity> entities = new ArrayList<>();
+		StreamingEntityParser.parseEntities(body, new Consumer<GenericEntity>() {
+			@Override
+			public void accept(final GenericEntity entity) {
+				entities.add(entity);
+			}
+		});
+		return entities;
+	}
+
+	private GenericEntity select(final GenericEntity entity, final String fields) {
+		if (StringUtils.isBlank(fields)) {
+			return entity;
+		}
+		final List<String> fieldNames = Arrays.asList(StringUtils.split(fields, ','));
+		final List<Field> selected = new ArrayList<>();
+		for (final Field field : entity.getFields()) {
+			if (ID_FIELD.equals(field.getName()) || fieldNames.contains(field.getName())) {
+				selected.add(field);
+			}
+		}
+		return new GenericEntity(entity.getType(), selected);
+	}
+
+	private void send(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "application/xml");
+		if ("HEAD".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+		try (final OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	private void sendEmpty(final HttpExchange exchange, final int status) throws IOException {
+		send(exchange, status, new byte[0]);
+	}
+
+	private void sendEntities(final HttpExchange exchange, final int status, final List<GenericEntity> entities,
+			final int totalResults, final boolean asCollection) throws IOException {
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final OutputStreamWriter streamWriter = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+		final HierarchicalStreamWriter writer = new CompactWriter(streamWriter, new NoNameCoder());
+		if (asCollection) {
+			writer.startNode("Entities");
+			writer.addAttribute("TotalResults", String.valueOf(totalResults));
+		}
+		for (final GenericEntity entity : entities) {
+			MarshallingUtils.writeEntity(writer, entity);
+		}
+		if (asCollection) {
+			writer.endNode();
+		}
+		writer.flush();
+		send(exchange, status, body.toByteArray());
+	}
+
+	private void sendEntityFields(final HttpExchange exchange, final String entityName) throws IOException {
+		final EntityType entityType;
+		try {
+			entityType = EntityType.fromEntityName(entityName);
+		} catch (final IllegalArgumentException exception) {
+			sendError(exchange, 404, "qccore.invalid-entity-type", exception.getMessage());
+			return;
+		}
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final OutputStreamWriter streamWriter = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+		final HierarchicalStreamWriter writer = new CompactWriter(streamWriter, new NoNameCoder());
+		writer.startNode("Fields");
+		for (final EntityField field : getEntityFields(entityType)) {
+			writer.startNode("Field");
+			writer.addAttribute("Name", field.getName());
+			writer.addAttribute("Label", field.getLabel());
+			writeValue(writer, "Required", field.isRequired());
+			writeValue(writer, "System", field.isSystem());
+			writeValue(writer, "Editable", field.isEditable());
+			writer.endNode();
+		}
+		writer.endNode();
+		writer.flush();
+		send(exchange, 200, body.toByteArray());
+	}
+
+	private void sendError(final HttpExchange exchange, final int status, final String id, final String title)
+			throws IOException {
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final OutputStreamWriter streamWriter = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+		final HierarchicalStreamWriter writer = new CompactWriter(streamWriter, new NoNameCoder());
+		writer.startNode("QCRestException");
+		writer.startNode("Id");
+		writer.setValue(id);
+		writer.endNode();
+		writer.startNode("Title");
+		writer.setValue(title);
+		writer.endNode();
+		writer.endNode();
+		writer.flush();
+		send(exchange, status, body.toByteArray());
+	}
+
+	private void sendQueryResult(final HttpExchange exchange,
+			final ConcurrentSkipListMap<Integer, GenericEntity> collection, final Map<String, String> parameters)
+			throws IOException {
+		final String query = StringUtils.defaultString(parameters.get("query"));
+		final List<GenericEntity> matches = new ArrayList<>();
+		for (final GenericEntity entity : collection.values()) {
+			if (matches(entity, query)) {
+				matches.add(entity);
+			}
+		}
+		final int pageSize = Integer.parseInt(StringUtils.defaultIfBlank(parameters.get("page-size"), "100"));
+		final int startIndex = Integer.parseInt(StringUtils.defaultIfBlank(parameters.get("start-index"), "1"));
+		final List<GenericEntity> page = new ArrayList<>();
+		for (int index = startIndex - 1; (index < matches.size()) && (page.size() < pageSize); index++) {
+			page.add(select(matches.get(index), parameters.get("fields")));
+		}
+		sendEntities(exchange, 200, page, matches.size(), true);
+	}
+
+	private synchronized void sendSite(final HttpExchange exchange) throws IOException {
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final OutputStreamWriter streamWriter = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+		final HierarchicalStreamWriter writer = new CompactWriter(streamWriter, new NoNameCoder());
+		writer.startNode("Domains");
+		for (final Map.Entry<String, List<String>> domain : projects.entrySet()) {
+			writer.startNode("Domain");
+			writer.addAttribute("Name", domain.getKey());
+			writer.startNode("Projects");
+			for (final String projectName : domain.getValue()) {
+				writer.startNode("Project");
+				writer.addAttribute("Name", projectName);
+				writer.endNode();
+			}
+			writer.endNode();
+			writer.endNode();
+		}
+		writer.endNode();
+		writer.flush();
+		send(exchange, 200, body.toByteArray());
+	}
+
+	private GenericEntity updateEntity(final ConcurrentSkipListMap<Integer, GenericEntity> collection, final int id,
+			final GenericEntity changes) {
+		final Map<String, Field> fields = new LinkedHashMap<>();
+		final GenericEntity current = collection.get(id);
+		for (final Field field : current.getFields()) {
+			fields.put(field.getName(), field);
+		}
+		for (final Field field : changes.getFields()) {
+			if (!ID_FIELD.equals(field.getName())) {
+				fields.put(field.getName(), field);
+			}
+		}
+		final GenericEntity updated = new GenericEntity(current.getType(), new ArrayList<>(fields.values()));
+		collection.put(id, updated);
+		return updated;
+	}
+
+	private void writeValue(final HierarchicalStreamWriter writer, final String parameterName, final boolean value) {
+		writer.startNode(parameterName);
+		writer.setValue(String.valueOf(value));
+		writer.endNode();
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.fissionworks.restalm.fake;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.Alm115Connection;
+import com.fissionworks.restalm.constants.entity.EntityType;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.exceptions.AlmRestException;
+import com.fissionworks.restalm.filter.RestParameters;
+import com.fissionworks.restalm.model.authentication.Credentials;
+import com.fissionworks.restalm.model.customization.EntityFieldCollection;
+import com.fissionworks.restalm.model.entity.AlmEntityCollection;
+import com.fissionworks.restalm.model.entity.BulkResult;
+import com.fissionworks.restalm.model.entity.testplan.AlmTest;
+import com.fissionworks.restalm.model.site.Project;
+
+public class FakeAlmServerTest {
+
+	private Alm115Connection alm;
+
+	private Project project;
+
+	private FakeAlmServer server;
+
+	@Test
+	public void addEntities_shouldAddAllEntitiesInOneRequest() {
+		final List<AlmTest> tests = Arrays.asList(createTest("one", "Ready"), createTest("two", "Ready"));
+		alm.getEnityFields(AlmTest.class);
+		final long requestCount = server.getRequestCount();
+
+		final BulkResult<AlmTest> result = alm.addEntities(tests);
+		Assert.assertFalse(result.hasFailures());
+		Assert.assertEquals(result.getSuccesses().size(), 2);
+		Assert.assertEquals(server.getEntities(project, EntityType.ALM_TEST).size(), 2);
+		Assert.assertEquals(server.getRequestCount() - requestCount, 1);
+	}
+
+	@Test
+	public void addEntity_shouldReturnEntityWithAssignedId() {
+		final AlmTest added = alm.addEntity(createTest("added", "Ready"));
+		Assert.assertEquals(added.getId(), 1);
+		Assert.assertEquals(added.getName(), "added");
+		Assert.assertEquals(server.getEntities(project, EntityType.ALM_TEST).size(), 1);
+	}
+
+	@Test(expectedExceptions = AlmRestException.class)
+	public void authenticate_withWrongPassword_shouldThrowException() throws IOException {
+		try (final Alm115Connection connection = new Alm115Connection(server.getUrl())) {
+			connection.authenticate(new Credentials("user", "wrong"));
+		}
+	}
+
+	@Test
+	public void deleteEntity_shouldRemoveEntities() {
+		final AlmTest first = alm.addEntity(createTest("first", "Ready"));
+		final AlmTest second = alm.addEntity(createTest("second", "Ready"));
+		alm.addEntity(createTest("third", "Ready"));
+
+		alm.deleteEntity(AlmTest.class, first.getId(), second.getId());
+		Assert.assertEquals(server.getEntities(project, EntityType.ALM_TEST).size(), 1);
+	}
+
+	@Test
+	public void getEnityById_shouldReturnStoredEntity() {
+		final AlmTest added = alm.addEntity(createTest("stored", "Design"));
+
+		final AlmTest retrieved = alm.getEnityById(AlmTest.class, added.getId());
+		Assert.assertEquals(retrieved.getName(), "stored");
+		Assert.assertEquals(retrieved.getStatus(), "Design");
+	}
+
+	@Test(expectedExceptions = AlmRestException.class)
+	public void getEnityById_withUnknownId_shouldThrowException() {
+		alm.getEnityById(AlmTest.class, 42);
+	}
+
+	@Test
+	public void getEnityFields_shouldReturnFieldsOfEntityType() {
+		final EntityFieldCollection fields = alm.getEnityFields(AlmTest.class);
+		Assert.assertTrue(fields.isEditableField(AlmTestField.NAME.getName()));
+		Assert.assertFalse(fields.isEditableField(AlmTestField.ID.getName()));
+	}
+
+	@Test
+	public void getEntities_withOrQuery_shouldReturnEntitiesMatchingEitherValue() {
+		alm.addEntities(Arrays.asList(createTest("a", "Ready"), createTest("b", "Design"), createTest("c", "Repair")));
+
+		final AlmEntityCollection<AlmTest> entities = alm.getEntities(AlmTest.class,
+				new RestParameters().queryFilter(AlmTestField.STATUS, "Ready OR 'Repair'"));
+		Assert.assertEquals(entities.getTotalResults(), 2);
+	}
+
+	@Test
+	public void getEntities_withQueryAndPageSize_shouldReturnMatchingPage() {
+		final List<AlmTest> tests = new ArrayList<>();
+		for (int index = 0; index < 5; index++) {
+			tests.add(createTest("test " + index, index % 2 == 0 ? "Ready" : "Design"));
+		}
+		alm.addEntities(tests);
+
+		final AlmEntityCollection<AlmTest> page = alm.getEntities(AlmTest.class,
+				new RestParameters().queryFilter(AlmTestField.STATUS, "Ready").pageSize(2));
+		Assert.assertEquals(page.getTotalResults(), 3);
+		Assert.assertEquals(page.size(), 2);
+		for (final AlmTest test : page) {
+			Assert.assertEquals(test.getStatus(), "Ready");
+		}
+	}
+
+	@Test
+	public void getEntities_withStartIndex_shouldSkipEarlierEntities() {
+		alm.addEntities(Arrays.asList(createTest("a", "Ready"), createTest("b", "Ready"), createTest("c", "Ready")));
+
+		final AlmEntityCollection<AlmTest> page = alm.getEntities(AlmTest.class,
+				new RestParameters().startIndex(3));
+		Assert.assertEquals(page.getTotalResults(), 3);
+		Assert.assertEquals(page.iterator().next().getName(), "c");
+	}
+
+	@Test
+	public void getSite_shouldContainAddedProjects() {
+		Assert.assertTrue(alm.getSite().containsProject(project));
+	}
+
+	@Test
+	public void isAuthenticated_afterLogout_shouldReturnFalse() {
+		Assert.assertTrue(alm.isAuthenticated());
+		alm.logout();
+		Assert.assertFalse(alm.isAuthenticated());
+	}
+
+	@Test
+	public void setLatency_shouldDelayRequests() {
+		server.setLatency(50, 50);
+		final long start = System.nanoTime();
+		alm.isAuthenticated();
+		Assert.assertTrue(System.nanoTime() - start >= 50000000L, "request should have been delayed");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void setLatency_withMinimumAboveMaximum_shouldThrowException() {
+		server.setLatency(10, 5);
+	}
+
+	@BeforeMethod
+	public void setUp() throws IOException {
+		server = new FakeAlmServer();
+		server.addUser("user", "password");
+		project = server.addProject("DEFAULT", "Project");
+		alm = new Alm115Connection(server.getUrl());
+		alm.authenticate(new Credentials("user", "password"));
+		alm.login(project);
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		alm.close();
+		server.close();
+	}
+
+	@Test
+	public void updateEntity_shouldChangeStoredEntity() {
+		final AlmTest added = alm.addEntity(createTest("before", "Design"));
+		added.setName("after");
+
+		alm.updateEntity(added, AlmTestField.NAME);
+		Assert.assertEquals(alm.getEnityById(AlmTest.class, added.getId()).getName(), "after");
+		Assert.assertEquals(alm.getEnityById(AlmTest.class, added.getId()).getStatus(), "Design");
+	}
+
+	private AlmTest createTest(final String name, final String status) {
+		final AlmTest test = new AlmTest();
+		test.setName(name);
+		test.setStatus(status);
+		test.setParentId(2);
+		test.setType("MANUAL");
+		return test;
+	}
+
+}
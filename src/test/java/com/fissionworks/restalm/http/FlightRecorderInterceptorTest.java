@@ -0,0 +1,102 @@
+package com.fissionworks.restalm.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.mockito.Mockito;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+import com.fissionworks.restalm.jfr.FlightRecording;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+public class FlightRecorderInterceptorTest {
+
+	private static final String PROJECT_URL = "http://alm:8080/qcbin/rest/domains/DOMAIN/projects/Project/";
+
+	@Test
+	public void close_calledTwice_shouldRecordExchangeOnce() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.HTTP_EXCHANGE)) {
+			final ClientHttpResponse response = intercept(HttpMethod.GET, PROJECT_URL + "tests/1", "<Entity/>",
+					HttpStatus.OK);
+			response.close();
+			response.close();
+			Assert.assertEquals(recording.stop().size(), 1);
+		}
+	}
+
+	@Test
+	public void intercept_whileRecording_shouldRecordExchangeWhenClosed() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.HTTP_EXCHANGE)) {
+			final ClientHttpResponse response = intercept(HttpMethod.GET, PROJECT_URL + "release-cycles?page-size=10",
+					"<Entities TotalResults=\"0\"/>", HttpStatus.OK);
+			IOUtils.toByteArray(response.getBody());
+			response.close();
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("urlTemplate"), ServiceUrl.GET_ENTITY_COLLECTION.url());
+			Assert.assertEquals(events.get(0).getString("method"), "GET");
+			Assert.assertEquals(events.get(0).getString("entityType"), "release-cycle");
+			Assert.assertEquals(events.get(0).getInt("statusCode"), 200);
+			Assert.assertEquals(events.get(0).getLong("responseBytes"), 28L);
+		}
+	}
+
+	@Test
+	public void intercept_withExecutionFailure_shouldRecordExchangeAndRethrow() throws IOException {
+		final ClientHttpRequestExecution execution = Mockito.mock(ClientHttpRequestExecution.class);
+		final IOException failure = new IOException("connection refused");
+		Mockito.when(execution.execute(Mockito.any(HttpRequest.class), Mockito.any(byte[].class))).thenThrow(failure);
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.HTTP_EXCHANGE)) {
+			try {
+				new FlightRecorderInterceptor().intercept(
+						new MockClientHttpRequest(HttpMethod.DELETE, URI.create(PROJECT_URL + "runs?ids-to-delete=1")),
+						new byte[0], execution);
+				Assert.fail("exception should have been rethrown");
+			} catch (final IOException exception) {
+				Assert.assertSame(exception, failure);
+			}
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("urlTemplate"), ServiceUrl.BULK_DELETE_URL.url());
+			Assert.assertEquals(events.get(0).getString("entityType"), "run");
+			Assert.assertEquals(events.get(0).getInt("statusCode"), -1);
+		}
+	}
+
+	@Test
+	public void intercept_withUnknownUrl_shouldRecordRequestPath() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.HTTP_EXCHANGE)) {
+			intercept(HttpMethod.GET, "http://alm:8080/qcbin/rest/server", "", HttpStatus.OK).close();
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("urlTemplate"), "/qcbin/rest/server");
+			Assert.assertNull(events.get(0).getString("entityType"));
+		}
+	}
+
+	private ClientHttpResponse intercept(final HttpMethod method, final String url, final String responseBody,
+			final HttpStatus status) throws IOException {
+		final ClientHttpRequestExecution execution = Mockito.mock(ClientHttpRequestExecution.class);
+		Mockito.when(execution.execute(Mockito.any(HttpRequest.class), Mockito.any(byte[].class))).thenReturn(
+				new MockClientHttpResponse(responseBody.getBytes(StandardCharsets.UTF_8), status));
+		return new FlightRecorderInterceptor().intercept(new MockClientHttpRequest(method, URI.create(url)),
+				new byte[0], execution);
+	}
+
+}
@@ -8,6 +8,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.mock.http.client.MockClientHttpRequest;
@@ -41,6 +42,17 @@ public class HttpHeaderManagerTest extends PowerMockTestCase {
 
 	}
 
+	@Test
+	public void intercept_withContentTypeAlreadySet_shouldKeepContentType() throws IOException {
+		final MockClientHttpRequest request = new MockClientHttpRequest();
+		final MediaType collectionType = MediaType.valueOf("application/xml;type=collection");
+		request.getHeaders().setContentType(collectionType);
+
+		performAuthorizationRequest(new HttpHeaderManager(new Credentials("svc", "")), request);
+		Assert.assertEquals(request.getHeaders().getContentType(), collectionType);
+		Assert.assertEquals(request.getHeaders().getFirst("Authorization"), "Basic c3ZjOg==");
+	}
+
 	@Test
 	public void intercept_withPreviouslyExtractedLwssoAndQcSessionCookie_shouldSetLwssoAndQcSessionHeader()
 			throws IOException {
@@ -0,0 +1,161 @@
+package com.fissionworks.restalm.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.mockito.Mockito;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+import com.fissionworks.restalm.metrics.CallStatistics;
+import com.fissionworks.restalm.metrics.InMemoryAlmMetrics;
+import com.fissionworks.restalm.metrics.MetricsSnapshot;
+
+public class MetricsInterceptorTest {
+
+	private static final String PROJECT_URL = "http://alm:8080/qcbin/rest/domains/DOMAIN/projects/Project/";
+
+	@Test
+	public void close_calledTwice_shouldRecordExchangeOnce() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		final ClientHttpResponse response = intercept(metrics, HttpMethod.GET, PROJECT_URL + "tests/1", "<Entity/>",
+				HttpStatus.OK);
+		response.close();
+		response.close();
+		Assert.assertEquals(metrics.snapshot().getServiceUrlStatistics(ServiceUrl.ENTITY_BY_ID).getCount(), 1);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void instantiate_withNullMetrics_shouldThrowException() {
+		new MetricsInterceptor(null);
+	}
+
+	@Test
+	public void intercept_shouldRecordEntityTypeOfCollection() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		interceptAndRead(metrics, HttpMethod.GET, PROJECT_URL + "release-cycles?page-size=10", "<Entities/>",
+				HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.GET, PROJECT_URL + "customization/entities/test/fields", "<Fields/>",
+				HttpStatus.OK);
+
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		Assert.assertEquals(snapshot.getEntityTypeStatistics("release-cycle").getCount(), 1);
+		Assert.assertEquals(snapshot.getEntityTypeStatistics("test").getCount(), 1);
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.GET_ENTITY_FIELDS).getCount(), 1);
+	}
+
+	@Test
+	public void intercept_shouldRecordServiceUrlOfRequest() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		interceptAndRead(metrics, HttpMethod.GET, PROJECT_URL + "tests?query=%7Bid%5B1%5D%7D", "", HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.POST, PROJECT_URL + "tests", "", HttpStatus.CREATED);
+		interceptAndRead(metrics, HttpMethod.PUT, PROJECT_URL + "tests", "", HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.DELETE, PROJECT_URL + "tests?ids-to-delete=1,2", "", HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.PUT, PROJECT_URL + "tests/5", "", HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.GET, PROJECT_URL + "customization/entities/test/fields", "",
+				HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.HEAD, "http://alm:8080/qcbin/authentication-point/authenticate", "",
+				HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.HEAD, "http://alm:8080/qcbin/authentication-point/logout", "",
+				HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.HEAD, "http://alm:8080/qcbin/rest/is-authenticated", "",
+				HttpStatus.OK);
+		interceptAndRead(metrics, HttpMethod.GET, "http://alm:8080/qcbin/rest/domains?include-projects-info=y", "",
+				HttpStatus.OK);
+
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		Assert.assertEquals(snapshot.getServiceUrlStatistics().keySet().size(), ServiceUrl.values().length);
+		for (final CallStatistics statistics : snapshot.getServiceUrlStatistics().values()) {
+			Assert.assertEquals(statistics.getCount(), 1);
+		}
+		Assert.assertEquals(snapshot.getEntityTypeStatistics("test").getCount(), 6);
+	}
+
+	@Test
+	public void intercept_withErrorResponse_shouldRecordError() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		interceptAndRead(metrics, HttpMethod.GET, PROJECT_URL + "tests/42", "<QCRestException/>",
+				HttpStatus.NOT_FOUND);
+
+		final CallStatistics statistics = metrics.snapshot().getServiceUrlStatistics(ServiceUrl.ENTITY_BY_ID);
+		Assert.assertEquals(statistics.getErrorCount(), 1);
+		Assert.assertEquals(statistics.getResponseBytes(), 18);
+	}
+
+	@Test
+	public void intercept_withExecutionFailure_shouldRecordErrorAndRethrow() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		final ClientHttpRequestExecution execution = Mockito.mock(ClientHttpRequestExecution.class);
+		final IOException failure = new IOException("connection refused");
+		Mockito.when(execution.execute(Mockito.any(HttpRequest.class), Mockito.any(byte[].class))).thenThrow(failure);
+		try {
+			new MetricsInterceptor(metrics).intercept(
+					new MockClientHttpRequest(HttpMethod.GET, URI.create(PROJECT_URL + "runs")), new byte[0],
+					execution);
+			Assert.fail("exception should have been rethrown");
+		} catch (final IOException exception) {
+			Assert.assertSame(exception, failure);
+		}
+		final CallStatistics statistics = metrics.snapshot().getServiceUrlStatistics(ServiceUrl.GET_ENTITY_COLLECTION);
+		Assert.assertEquals(statistics.getCount(), 1);
+		Assert.assertEquals(statistics.getErrorCount(), 1);
+		Assert.assertEquals(metrics.snapshot().getEntityTypeStatistics("run").getErrorCount(), 1);
+	}
+
+	@Test
+	public void intercept_withResponseBody_shouldRecordBytesReadWhenClosed() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		final ClientHttpResponse response = intercept(metrics, HttpMethod.GET, PROJECT_URL + "tests",
+				"<Entities TotalResults=\"0\"/>", HttpStatus.OK);
+		final InputStream body = response.getBody();
+		Assert.assertEquals(body.read(), '<');
+		IOUtils.toByteArray(body);
+		Assert.assertTrue(metrics.snapshot().getServiceUrlStatistics().isEmpty());
+
+		response.close();
+		final CallStatistics statistics = metrics.snapshot()
+				.getServiceUrlStatistics(ServiceUrl.GET_ENTITY_COLLECTION);
+		Assert.assertEquals(statistics.getResponseBytes(), 28);
+		Assert.assertEquals(statistics.getErrorCount(), 0);
+		Assert.assertTrue(statistics.getExchangeLatency().getMaxNanos() >= statistics.getResponseLatency()
+				.getMaxNanos());
+	}
+
+	@Test
+	public void intercept_withUnknownUrl_shouldNotRecord() throws IOException {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		interceptAndRead(metrics, HttpMethod.GET, "http://alm:8080/qcbin/rest/server", "", HttpStatus.OK);
+		Assert.assertTrue(metrics.snapshot().getServiceUrlStatistics().isEmpty());
+	}
+
+	private ClientHttpResponse intercept(final InMemoryAlmMetrics metrics, final HttpMethod method, final String url,
+			final String responseBody, final HttpStatus status) throws IOException {
+		final ClientHttpRequestExecution execution = Mockito.mock(ClientHttpRequestExecution.class);
+		Mockito.when(execution.execute(Mockito.any(HttpRequest.class), Mockito.any(byte[].class))).thenReturn(
+				new MockClientHttpResponse(responseBody.getBytes(StandardCharsets.UTF_8), status));
+		return new MetricsInterceptor(metrics).intercept(new MockClientHttpRequest(method, URI.create(url)),
+				new byte[0], execution);
+	}
+
+	private void interceptAndRead(final InMemoryAlmMetrics metrics, final HttpMethod method, final String url,
+			final String responseBody, final HttpStatus status) throws IOException {
+		final ClientHttpResponse response = intercept(metrics, method, url, responseBody, status);
+		try {
+			IOUtils.toByteArray(response.getBody());
+		} finally {
+			response.close();
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.fissionworks.restalm.http;
+
+import org.apache.http.client.HttpClient;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PooledClientHttpRequestFactoryTest {
+
+	@Test
+	public void destroy_withCreatedFactory_shouldReleasePoolWithoutError() throws Exception {
+		final PooledClientHttpRequestFactory factory = new PooledClientHttpRequestFactory(10, 5, 1000L, 1000L);
+		factory.destroy();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void instantiate_withMaxConnectionsPerRouteGreaterThanTotal_shouldThrowException() {
+		new PooledClientHttpRequestFactory(5, 10, 1000L, 1000L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void instantiate_withNonPositiveIdleConnectionTimeout_shouldThrowException() {
+		new PooledClientHttpRequestFactory(10, 5, 0L, 1000L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void instantiate_withNonPositiveKeepAliveDuration_shouldThrowException() {
+		new PooledClientHttpRequestFactory(10, 5, 1000L, 0L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void instantiate_withNonPositiveMaxConnectionsTotal_shouldThrowException() {
+		new PooledClientHttpRequestFactory(0, 5, 1000L, 1000L);
+	}
+
+	@Test
+	public void instantiate_withValidSettings_shouldCreateHttpClient() throws Exception {
+		final PooledClientHttpRequestFactory factory = new PooledClientHttpRequestFactory(10, 5, 1000L, 1000L);
+		final HttpClient client = factory.getHttpClient();
+		Assert.assertNotNull(client);
+		factory.destroy();
+	}
+
+}
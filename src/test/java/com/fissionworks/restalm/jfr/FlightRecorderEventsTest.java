@@ -0,0 +1,85 @@
+package com.fissionworks.restalm.jfr;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+public class FlightRecorderEventsTest {
+
+	@Test
+	public void commitHttpExchange_whileRecording_shouldRecordEvent() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.HTTP_EXCHANGE)) {
+			final Object event = FlightRecorderEvents.beginHttpExchange();
+			FlightRecorderEvents.commitHttpExchange(event, "{url}/qcbin/rest/is-authenticated", "GET", "test", 200,
+					1337L);
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("urlTemplate"), "{url}/qcbin/rest/is-authenticated");
+			Assert.assertEquals(events.get(0).getString("method"), "GET");
+			Assert.assertEquals(events.get(0).getString("entityType"), "test");
+			Assert.assertEquals(events.get(0).getInt("statusCode"), 200);
+			Assert.assertEquals(events.get(0).getLong("responseBytes"), 1337L);
+		}
+	}
+
+	@Test
+	public void commitMarshalling_whileRecording_shouldRecordEvent() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.MARSHALLING)) {
+			FlightRecorderEvents.commitMarshalling(FlightRecorderEvents.beginMarshalling(), "run", 42);
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("entityType"), "run");
+			Assert.assertEquals(events.get(0).getInt("entitiesParsed"), 42);
+		}
+	}
+
+	@Test
+	public void commitPopulateFields_whileRecording_shouldRecordEvent() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.POPULATE_FIELDS)) {
+			FlightRecorderEvents.commitPopulateFields(FlightRecorderEvents.beginPopulateFields(), "defect", 7);
+			final List<RecordedEvent> events = recording.stop();
+
+			Assert.assertEquals(events.size(), 1);
+			Assert.assertEquals(events.get(0).getString("entityType"), "defect");
+			Assert.assertEquals(events.get(0).getInt("entityCount"), 7);
+		}
+	}
+
+	@Test
+	public void commitPopulateFields_withNullEvent_shouldRecordNothing() throws IOException {
+		try (final FlightRecording recording = new FlightRecording(FlightRecording.POPULATE_FIELDS)) {
+			FlightRecorderEvents.commitPopulateFields(null, "defect", 7);
+			Assert.assertTrue(recording.stop().isEmpty());
+		}
+	}
+
+	@Test
+	public void FlightRecorderEvents_shouldHaveInaccessibleConstructor() {
+		final Constructor<?>[] constructors = FlightRecorderEvents.class.getDeclaredConstructors();
+		final Constructor<?> constructor = constructors[0];
+		Assert.assertFalse(constructor.isAccessible(), "Constructor should be inaccessible");
+	}
+
+	@Test(expectedExceptions = InvocationTargetException.class)
+	public void FlightRecorderEventsInstantiationThroughReflection_shouldThrowException()
+			throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		final Constructor<?>[] constructors = FlightRecorderEvents.class.getDeclaredConstructors();
+		final Constructor<?> constructor = constructors[0];
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void isAvailable_onJvmWithFlightRecorder_shouldReturnTrue() {
+		Assert.assertTrue(FlightRecorderEvents.isAvailable());
+	}
+
+}
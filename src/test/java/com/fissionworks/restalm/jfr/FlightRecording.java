@@ -0,0 +1,88 @@
+package com.fissionworks.restalm.jfr;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Flight recording of the restalm events emitted by the thread that started
+ * it, for tests; test classes run in parallel, so events emitted by other
+ * threads are left out.
+ */
+public final class FlightRecording implements Closeable {
+
+	/**
+	 * Name of the HTTP exchange event.
+	 */
+	public static final String HTTP_EXCHANGE = "com.fissionworks.restalm.HttpExchange";
+
+	/**
+	 * Name of the marshalling event.
+	 */
+	public static final String MARSHALLING = "com.fissionworks.restalm.Marshalling";
+
+	/**
+	 * Name of the populate fields event.
+	 */
+	public static final String POPULATE_FIELDS = "com.fissionworks.restalm.PopulateFields";
+
+	private final List<String> eventNames;
+
+	private final Recording recording = new Recording();
+
+	private final long threadId = Thread.currentThread().getId();
+
+	/**
+	 * Starts recording the given events, without a duration threshold.
+	 *
+	 * @param theEventNames
+	 *            The names of the events to record.
+	 */
+	public FlightRecording(final String... theEventNames) {
+		this.eventNames = Arrays.asList(theEventNames);
+		for (final String eventName : theEventNames) {
+			recording.enable(eventName).withoutThreshold();
+		}
+		recording.start();
+	}
+
+	@Override
+	public void close() {
+		recording.close();
+	}
+
+	/**
+	 * Stops the recording.
+	 *
+	 * @return The recorded events emitted by the thread that started the
+	 *         recording, in the order they were committed.
+	 * @throws IOException
+	 *             Thrown if the recording cannot be read.
+	 */
+	public List<RecordedEvent> stop() throws IOException {
+		recording.stop();
+		final Path file = Files.createTempFile("restalm", ".jfr");
+		try {
+			recording.dump(file);
+			final List<RecordedEvent> events = new ArrayList<>();
+			for (final RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				if (eventNames.contains(event.getEventType().getName()) && (event.getThread() != null)
+						&& (event.getThread().getJavaThreadId() == threadId)) {
+					events.add(event);
+				}
+			}
+			return events;
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.constants.ServiceUrl;
+
+public class InMemoryAlmMetricsTest {
+
+	@Test
+	public void recordEntitiesParsed_shouldAddToEntityTypeStatistics() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordEntitiesParsed("run", 100);
+		metrics.recordEntitiesParsed("run", 50);
+
+		final CallStatistics statistics = metrics.snapshot().getEntityTypeStatistics("run");
+		Assert.assertEquals(statistics.getEntitiesParsed(), 150);
+		Assert.assertEquals(statistics.getCount(), 0);
+	}
+
+	@Test
+	public void recordError_shouldCountRequestAndError() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordError(ServiceUrl.ENTITY_BY_ID, "test", 1000);
+
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.ENTITY_BY_ID).getCount(), 1);
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.ENTITY_BY_ID).getErrorCount(), 1);
+		Assert.assertEquals(snapshot.getEntityTypeStatistics("test").getErrorCount(), 1);
+		Assert.assertEquals(snapshot.getEntityTypeStatistics("test").getResponseLatency().getCount(), 0);
+	}
+
+	@Test
+	public void recordExchange_shouldAggregatePerServiceUrlAndEntityType() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordExchange(ServiceUrl.GET_ENTITY_COLLECTION, "test", 200, 1000, 3000, 500);
+		metrics.recordExchange(ServiceUrl.GET_ENTITY_COLLECTION, "run", 200, 2000, 4000, 700);
+		metrics.recordExchange(ServiceUrl.ENTITY_BY_ID, "test", 200, 3000, 5000, 100);
+
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		final CallStatistics collection = snapshot.getServiceUrlStatistics(ServiceUrl.GET_ENTITY_COLLECTION);
+		Assert.assertEquals(collection.getCount(), 2);
+		Assert.assertEquals(collection.getResponseBytes(), 1200);
+		Assert.assertEquals(collection.getResponseLatency().getMaxNanos(), 2000);
+		Assert.assertEquals(collection.getExchangeLatency().getMaxNanos(), 4000);
+		final CallStatistics test = snapshot.getEntityTypeStatistics("test");
+		Assert.assertEquals(test.getCount(), 2);
+		Assert.assertEquals(test.getResponseBytes(), 600);
+		Assert.assertEquals(snapshot.getEntityTypeStatistics().keySet().toString(), "[run, test]");
+	}
+
+	@Test
+	public void recordExchange_withErrorStatus_shouldCountError() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordExchange(ServiceUrl.ADD_ENTITY_URL, "test", 201, 1000, 1000, 10);
+		metrics.recordExchange(ServiceUrl.ADD_ENTITY_URL, "test", 400, 1000, 1000, 10);
+		metrics.recordExchange(ServiceUrl.ADD_ENTITY_URL, "test", 500, 1000, 1000, 10);
+
+		final CallStatistics statistics = metrics.snapshot().getServiceUrlStatistics(ServiceUrl.ADD_ENTITY_URL);
+		Assert.assertEquals(statistics.getCount(), 3);
+		Assert.assertEquals(statistics.getErrorCount(), 2);
+	}
+
+	@Test
+	public void recordExchange_withoutEntityType_shouldOnlyRecordServiceUrl() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordExchange(ServiceUrl.AUTHENTICATE, null, 200, 1000, 1000, 0);
+
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.AUTHENTICATE).getCount(), 1);
+		Assert.assertTrue(snapshot.getEntityTypeStatistics().isEmpty());
+	}
+
+	@Test
+	public void recordExchange_withConcurrentReset_shouldNotThrowException() throws Exception {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<?> resets = executor.submit(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 100000; i++) {
+						metrics.reset();
+					}
+				}
+			});
+			int i = 0;
+			while (!resets.isDone()) {
+				metrics.recordExchange(ServiceUrl.ENTITY_BY_ID, "type" + (i++ % 100), 200, 1000, 1000, 10);
+			}
+			resets.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void reset_shouldDiscardMeasurements() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordExchange(ServiceUrl.LOGOUT, null, 200, 1000, 1000, 0);
+		metrics.reset();
+		Assert.assertTrue(metrics.snapshot().getServiceUrlStatistics().isEmpty());
+	}
+
+	@Test
+	public void snapshot_shouldNotChangeWithLaterMeasurements() {
+		final InMemoryAlmMetrics metrics = new InMemoryAlmMetrics();
+		metrics.recordExchange(ServiceUrl.GET_DOMAINS, null, 200, 1000, 1000, 10);
+		final MetricsSnapshot snapshot = metrics.snapshot();
+		metrics.recordExchange(ServiceUrl.GET_DOMAINS, null, 200, 1000, 1000, 10);
+		metrics.recordExchange(ServiceUrl.LOGOUT, null, 200, 1000, 1000, 0);
+
+		Assert.assertEquals(snapshot.getServiceUrlStatistics(ServiceUrl.GET_DOMAINS).getCount(), 1);
+		Assert.assertNull(snapshot.getServiceUrlStatistics(ServiceUrl.LOGOUT));
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void snapshot_shouldReturnUnmodifiableStatistics() {
+		new InMemoryAlmMetrics().snapshot().getServiceUrlStatistics().clear();
+	}
+
+}
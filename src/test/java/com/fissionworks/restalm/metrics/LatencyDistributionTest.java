@@ -0,0 +1,69 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LatencyDistributionTest {
+
+	@Test
+	public void getMeanNanos_shouldReturnMeanOfLatencies() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1000);
+		histogram.record(3000);
+		Assert.assertEquals(histogram.snapshot().getMeanNanos(), 2000);
+	}
+
+	@Test
+	public void getPercentileNanos_shouldBeWithinBucketPrecision() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (int millis = 1; millis <= 1000; millis++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+		}
+		final LatencyDistribution distribution = histogram.snapshot();
+		assertWithinPrecision(distribution.getP50Nanos(), TimeUnit.MILLISECONDS.toNanos(500));
+		assertWithinPrecision(distribution.getP95Nanos(), TimeUnit.MILLISECONDS.toNanos(950));
+		assertWithinPrecision(distribution.getP99Nanos(), TimeUnit.MILLISECONDS.toNanos(990));
+		Assert.assertEquals(distribution.getPercentileNanos(100), TimeUnit.MILLISECONDS.toNanos(1000));
+		Assert.assertEquals(distribution.getMaxNanos(), TimeUnit.MILLISECONDS.toNanos(1000));
+	}
+
+	@Test
+	public void getPercentileNanos_withNoLatencies_shouldReturnZero() {
+		final LatencyDistribution distribution = new LatencyHistogram().snapshot();
+		Assert.assertEquals(distribution.getCount(), 0);
+		Assert.assertEquals(distribution.getP99Nanos(), 0);
+		Assert.assertEquals(distribution.getMeanNanos(), 0);
+	}
+
+	@Test
+	public void getPercentileNanos_withSingleLatency_shouldReturnThatLatency() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(123456789);
+		Assert.assertEquals(histogram.snapshot().getP50Nanos(), 123456789);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void getPercentileNanos_withPercentileAboveHundred_shouldThrowException() {
+		new LatencyHistogram().snapshot().getPercentileNanos(100.5);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void getPercentileNanos_withZeroPercentile_shouldThrowException() {
+		new LatencyHistogram().snapshot().getPercentileNanos(0);
+	}
+
+	@Test
+	public void toString_shouldContainPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1000);
+		Assert.assertTrue(histogram.snapshot().toString().contains("p99Nanos=|1000|"));
+	}
+
+	private void assertWithinPrecision(final long actual, final long expected) {
+		Assert.assertTrue((actual >= expected) && (actual <= (expected + (expected / 8))),
+				actual + " is not within 12.5% above " + expected);
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.fissionworks.restalm.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void bucketIndex_shouldPlaceEveryValueInBucketBoundingIt() {
+		for (long micros = 0; micros < 100000; micros++) {
+			final int index = LatencyHistogram.bucketIndex(micros);
+			Assert.assertTrue(micros <= LatencyHistogram.bucketUpperBound(index), "value " + micros);
+			if (index > 0) {
+				Assert.assertTrue(micros > LatencyHistogram.bucketUpperBound(index - 1), "value " + micros);
+			}
+		}
+	}
+
+	@Test
+	public void bucketIndex_withLargestLatency_shouldUseLastBucket() {
+		Assert.assertEquals(LatencyHistogram.bucketIndex(Long.MAX_VALUE), LatencyHistogram.BUCKET_COUNT - 1);
+		Assert.assertEquals(LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1), Long.MAX_VALUE);
+	}
+
+	@Test
+	public void bucketUpperBound_shouldBeWithinOneEighthOfBucketLowerBound() {
+		for (int index = 16; index < LatencyHistogram.BUCKET_COUNT; index++) {
+			final long lowerBound = LatencyHistogram.bucketUpperBound(index - 1) + 1;
+			final long upperBound = LatencyHistogram.bucketUpperBound(index);
+			Assert.assertTrue((upperBound - lowerBound) < (lowerBound / 8), "bucket " + index);
+		}
+	}
+
+	@Test
+	public void record_withNegativeLatency_shouldRecordZero() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		final LatencyDistribution distribution = histogram.snapshot();
+		Assert.assertEquals(distribution.getCount(), 1);
+		Assert.assertEquals(distribution.getMaxNanos(), 0);
+	}
+
+	@Test
+	public void snapshot_shouldNotChangeWithLaterLatencies() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+		final LatencyDistribution distribution = histogram.snapshot();
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+		Assert.assertEquals(distribution.getCount(), 1);
+		Assert.assertEquals(distribution.getMaxNanos(), TimeUnit.MILLISECONDS.toNanos(3));
+	}
+
+}
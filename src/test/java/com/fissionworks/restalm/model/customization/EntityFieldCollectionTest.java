@@ -1,6 +1,8 @@
 package com.fissionworks.restalm.model.customization;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -29,6 +31,17 @@ public class EntityFieldCollectionTest {
 		Assert.assertTrue(actualFields.contains(fieldTwo));
 	}
 
+	@Test
+	public void addEntityField_withExistingFieldName_shouldReplaceField() {
+		final EntityFieldCollection fields = new EntityFieldCollection();
+		fields.addEntityField(createEntityField("nameOne", "labelOne", false, false, false));
+		fields.addEntityField(createEntityField("nameOne", "labelOne", true, false, false));
+
+		Assert.assertEquals(fields.getFields().size(), 1);
+		Assert.assertTrue(fields.isEditableField("nameOne"));
+		Assert.assertEquals(fields.getEditableFieldNames(), new HashSet<>(Arrays.asList("nameOne")));
+	}
+
 	@Test
 	public void equals_comparingEntityCollectionToAnEqualCollection_shouldReturnTrue() {
 		final EntityFieldCollection fields = new EntityFieldCollection();
@@ -94,6 +107,28 @@ public class EntityFieldCollectionTest {
 		Assert.assertFalse(fields.equals(null));
 	}
 
+	@Test
+	public void getAddableFieldNames_shouldReturnEditableAndRequiredFieldNames() {
+		final EntityFieldCollection fields = createEntityFieldCollection();
+
+		Assert.assertEquals(fields.getAddableFieldNames(), new HashSet<>(Arrays.asList("nameOne", "nameThree")));
+	}
+
+	@Test
+	public void getEditableFieldNames_afterFieldChanged_shouldReturnChangedFieldNames() {
+		final EntityFieldCollection fields = createEntityFieldCollection();
+		Assert.assertEquals(fields.getEditableFieldNames(), new HashSet<>(Arrays.asList("nameOne")));
+
+		fields.setEditable("nameTwo", true);
+		fields.setEditable("nameOne", false);
+		Assert.assertEquals(fields.getEditableFieldNames(), new HashSet<>(Arrays.asList("nameTwo")));
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void getEditableFieldNames_shouldReturnUnmodifiableSet() {
+		createEntityFieldCollection().getEditableFieldNames().add("nameTwo");
+	}
+
 	@Test
 	public void getEntityField_withExistingFieldName_shouldReturnField() {
 		final EntityFieldCollection fields = new EntityFieldCollection();
@@ -118,6 +153,25 @@ public class EntityFieldCollectionTest {
 		fields.getEntityField("iDontExist");
 	}
 
+	@Test
+	public void getRequiredFieldNames_afterFieldAdded_shouldIncludeAddedField() {
+		final EntityFieldCollection fields = createEntityFieldCollection();
+		Assert.assertEquals(fields.getRequiredFieldNames(), new HashSet<>(Arrays.asList("nameOne", "nameThree")));
+
+		fields.addEntityField(createEntityField("nameFour", "labelFour", false, true, false));
+		Assert.assertEquals(fields.getRequiredFieldNames(),
+				new HashSet<>(Arrays.asList("nameOne", "nameThree", "nameFour")));
+	}
+
+	@Test
+	public void getRequiredFieldNames_afterFieldChanged_shouldReturnChangedFieldNames() {
+		final EntityFieldCollection fields = createEntityFieldCollection();
+		Assert.assertEquals(fields.getRequiredFieldNames(), new HashSet<>(Arrays.asList("nameOne", "nameThree")));
+
+		fields.setRequired("nameThree", false);
+		Assert.assertEquals(fields.getRequiredFieldNames(), new HashSet<>(Arrays.asList("nameOne")));
+	}
+
 	@Test
 	public void hashCode_withEqualCollections_shouldBeEqual() {
 		final EntityFieldCollection fields = new EntityFieldCollection();
@@ -228,4 +282,12 @@ public class EntityFieldCollectionTest {
 		field.setSystem(system);
 		return field;
 	}
+
+	private EntityFieldCollection createEntityFieldCollection() {
+		final EntityFieldCollection fields = new EntityFieldCollection();
+		fields.addEntityField(createEntityField("nameOne", "labelOne", true, true, true));
+		fields.addEntityField(createEntityField("nameTwo", "labelTwo", false, false, false));
+		fields.addEntityField(createEntityField("nameThree", "labelThree", false, true, false));
+		return fields;
+	}
 }
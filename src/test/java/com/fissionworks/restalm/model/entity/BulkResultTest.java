@@ -0,0 +1,65 @@
+package com.fissionworks.restalm.model.entity;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BulkResultTest {
+
+	@Test
+	public void addFailure_shouldAddFailure() {
+		final BulkResult<Integer> result = new BulkResult<>();
+		final IllegalStateException cause = new IllegalStateException("failed");
+		result.addFailure(3, 1337, cause);
+
+		Assert.assertTrue(result.hasFailures());
+		Assert.assertEquals(result.getFailures().size(), 1);
+		Assert.assertEquals(result.getFailures().get(0).getIndex(), 3);
+		Assert.assertEquals(result.getFailures().get(0).getItem(), Integer.valueOf(1337));
+		Assert.assertSame(result.getFailures().get(0).getCause(), cause);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addFailure_withNegativeIndex_shouldThrowException() {
+		new BulkResult<Integer>().addFailure(-1, 1337, new IllegalStateException());
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void addFailure_withNullCause_shouldThrowException() {
+		new BulkResult<Integer>().addFailure(0, 1337, null);
+	}
+
+	@Test
+	public void addSuccess_shouldAddSuccessesInOrder() {
+		final BulkResult<Integer> result = new BulkResult<>();
+		result.addSuccess(2);
+		result.addSuccess(1);
+
+		Assert.assertEquals(result.getSuccesses(), Arrays.asList(2, 1));
+		Assert.assertFalse(result.hasFailures());
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void getFailures_shouldReturnUnmodifiableList() {
+		new BulkResult<Integer>().getFailures().clear();
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void getSuccesses_shouldReturnUnmodifiableList() {
+		new BulkResult<Integer>().getSuccesses().add(1);
+	}
+
+	@Test
+	public void toString_shouldContainSuccessesAndFailures() {
+		final BulkResult<Integer> result = new BulkResult<>();
+		result.addSuccess(42);
+		result.addFailure(1, 1337, new IllegalStateException("failed"));
+		final String resultString = result.toString();
+
+		Assert.assertTrue(StringUtils.contains(resultString, "successes=|[42]|"));
+		Assert.assertTrue(StringUtils.contains(resultString, "index=|1|, item=|1337|, cause=|failed|"));
+	}
+
+}
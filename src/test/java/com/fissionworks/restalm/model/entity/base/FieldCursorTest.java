@@ -0,0 +1,83 @@
+package com.fissionworks.restalm.model.entity.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.FieldName;
+
+public class FieldCursorTest {
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void getName_afterLastField_shouldThrowException() {
+		final FieldCursor cursor = createEntity().getFieldCursor();
+		while (cursor.next()) {
+			cursor.getName();
+		}
+		cursor.getName();
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void getName_beforeNext_shouldThrowException() {
+		createEntity().getFieldCursor().getName();
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getValue_withIndexPastSingleValue_shouldThrowException() {
+		final FieldCursor cursor = createEntity().getFieldCursor();
+		cursor.next();
+		cursor.getValue(1);
+	}
+
+	@Test
+	public void getValueCount_withEmptyField_shouldReturnZero() {
+		final FieldCursor cursor = new GenericEntity("theType",
+				Arrays.asList(new Field("emptyField", Collections.<String> emptyList()))).getFieldCursor();
+		cursor.next();
+		Assert.assertTrue(cursor.isEmpty());
+		Assert.assertEquals(cursor.getValueCount(), 0);
+	}
+
+	@Test
+	public void next_shouldVisitFieldsWithTheirValues() {
+		final FieldCursor cursor = createEntity().getFieldCursor();
+
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(cursor.getName(), "fieldOne");
+		Assert.assertFalse(cursor.isEmpty());
+		Assert.assertEquals(cursor.getValueCount(), 1);
+		Assert.assertEquals(cursor.getValue(0), "valueOne");
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(cursor.getName(), AlmTestField.NAME.getName());
+		Assert.assertEquals(cursor.getValueCount(), 2);
+		Assert.assertEquals(cursor.getValue(0), "valueOne");
+		Assert.assertEquals(cursor.getValue(1), "valueTwo");
+		Assert.assertFalse(cursor.next());
+	}
+
+	@Test
+	public void next_withRemovedField_shouldSkipField() {
+		final GenericEntity entity = createEntity();
+		entity.removeExtraFields(Arrays.<FieldName> asList(AlmTestField.NAME));
+		final List<String> names = new ArrayList<>();
+		final FieldCursor cursor = entity.getFieldCursor();
+		while (cursor.next()) {
+			names.add(cursor.getName());
+		}
+
+		Assert.assertEquals(names, Arrays.asList(AlmTestField.NAME.getName()));
+	}
+
+	private GenericEntity createEntity() {
+		final List<Field> fields = new ArrayList<>();
+		fields.add(new Field("fieldOne", Arrays.asList("valueOne")));
+		fields.add(new Field(AlmTestField.NAME.getName(), Arrays.asList("valueOne", "valueTwo")));
+		return new GenericEntity("theType", fields);
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.fissionworks.restalm.model.entity.base;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FieldLayoutTest {
+
+	@Test
+	public void addName_withExistingName_shouldReturnExistingIndex() {
+		final FieldLayout layout = new FieldLayout();
+		final int index = layout.addName("fieldOne");
+		layout.addName("fieldTwo");
+		Assert.assertEquals(layout.addName(new String("fieldOne")), index);
+	}
+
+	@Test
+	public void addName_withNewNames_shouldAssignConsecutiveIndices() {
+		final FieldLayout layout = new FieldLayout();
+		Assert.assertEquals(layout.addName("fieldOne"), 0);
+		Assert.assertEquals(layout.addName("fieldTwo"), 1);
+		Assert.assertEquals(layout.nameAt(1), "fieldTwo");
+	}
+
+	@Test
+	public void indexOf_withUnknownName_shouldReturnMinusOne() {
+		final FieldLayout layout = new FieldLayout();
+		layout.addName("fieldOne");
+		Assert.assertEquals(layout.indexOf("notAField"), -1);
+		Assert.assertEquals(layout.indexOf("fieldOne"), 0);
+	}
+
+}
@@ -22,6 +22,14 @@ public class FieldTest {
 		Assert.assertTrue(fieldOne.equals(fieldTwo));
 	}
 
+	@Test
+	public void equals_comparingFieldToFieldWithDifferentlyOrderedValues_shouldReturnTrue() {
+		final Field fieldOne = new Field("fieldOneName", Arrays.asList("valueOne", "ValueTwo"));
+		final Field fieldTwo = new Field("fieldOneName", Arrays.asList("ValueTwo", "valueOne"));
+		Assert.assertTrue(fieldOne.equals(fieldTwo));
+		Assert.assertEquals(fieldOne.hashCode(), fieldTwo.hashCode());
+	}
+
 	@Test
 	public void equals_comparingFieldToFieldWithDifferentName_shouldReturnFalse() {
 		final Field fieldOne = new Field("fieldOneName", Arrays.asList("valueOne", "ValueTwo"));
@@ -48,6 +56,17 @@ public class FieldTest {
 		Assert.assertFalse(fieldOne.equals(null));
 	}
 
+	@Test
+	public void getFirstValue_withFieldWithNoValues_shouldReturnNull() {
+		Assert.assertNull(new Field("name", Arrays.asList("")).getFirstValue());
+	}
+
+	@Test
+	public void getFirstValue_withFieldWithValues_shouldReturnFirstOfValues() {
+		final Field field = new Field("name", Arrays.asList("one", "two", "three"));
+		Assert.assertEquals(field.getFirstValue(), field.getValues().get(0));
+	}
+
 	@Test
 	public void hashCode_forEqualfields_shouldBeEqual() {
 		final Field fieldOne = new Field("fieldOneName", Arrays.asList("valueOne", "ValueTwo"));
@@ -62,6 +81,19 @@ public class FieldTest {
 		Assert.assertNotEquals(fieldOne.hashCode(), fieldTwo.hashCode());
 	}
 
+	@Test
+	public void instantiation_withDuplicateAndEmptyValues_shouldKeepDistinctValues() {
+		final Field field = new Field("fieldOneName", Arrays.asList("valueOne", "", "ValueTwo", "valueOne"));
+		Assert.assertEquals(field.getValues(), Arrays.asList("valueOne", "ValueTwo"));
+	}
+
+	@Test
+	public void instantiation_withSingleRepeatedValue_shouldEqualSingleValueField() {
+		final Field field = new Field("fieldOneName", Arrays.asList("valueOne", "valueOne"));
+		Assert.assertEquals(field, new Field("fieldOneName", Arrays.asList("valueOne")));
+		Assert.assertEquals(field.getValues(), Arrays.asList("valueOne"));
+	}
+
 	@Test
 	public void instantiation_withWithValidNameAndPopulatedList_shouldCreateField() {
 		final Field fieldOne = new Field("fieldOneName", Arrays.asList("valueOne", "ValueTwo"));
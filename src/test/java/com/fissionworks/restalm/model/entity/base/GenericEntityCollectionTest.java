@@ -3,6 +3,7 @@ package com.fissionworks.restalm.model.entity.base;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -124,6 +125,22 @@ public class GenericEntityCollectionTest {
 		new GenericEntityCollection(-1, new HashSet<GenericEntity>());
 	}
 
+	@Test
+	public void iterator_shouldReturnEntitiesInGivenOrder() {
+		final List<GenericEntity> expectedEntities = new ArrayList<>();
+		for (int id = 20; id > 0; id--) {
+			expectedEntities.add(new GenericEntity("theType",
+					Arrays.asList(new Field("id", Arrays.asList(String.valueOf(id))))));
+		}
+
+		final List<GenericEntity> actualEntities = new ArrayList<>();
+		for (final GenericEntity entity : new GenericEntityCollection(20,
+				new LinkedHashSet<>(expectedEntities))) {
+			actualEntities.add(entity);
+		}
+		Assert.assertEquals(actualEntities, expectedEntities);
+	}
+
 	@Test
 	public void size_shouldReturnSizeOfCollection() {
 		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
@@ -3,12 +3,17 @@ package com.fissionworks.restalm.model.entity.base;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.fissionworks.restalm.commons.AlmDateFormatter;
+import com.fissionworks.restalm.constants.field.AlmTestField;
+import com.fissionworks.restalm.constants.field.FieldName;
 import com.fissionworks.restalm.model.customization.EntityField;
 import com.fissionworks.restalm.model.customization.EntityFieldCollection;
 
@@ -22,6 +27,16 @@ public class GenericEntityTest {
 		Assert.assertEquals(entity.getRelatedEntities().get(0), new GenericEntity("related", createFieldListOne()));
 	}
 
+	@Test
+	public void equals_comparingEqualGenericEntitiesSharingLayout_shouldReturnTrue() {
+		final FieldLayout layout = new FieldLayout();
+		final List<Field> reversedFields = createFieldListOne();
+		Collections.reverse(reversedFields);
+
+		Assert.assertTrue(new GenericEntity("theType", createFieldListOne(), layout)
+				.equals(new GenericEntity("theType", reversedFields, layout)));
+	}
+
 	@Test
 	public void equals_comparingEqualGenericEntities_shouldReturnTrue() {
 		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
@@ -30,6 +45,38 @@ public class GenericEntityTest {
 		Assert.assertTrue(entity.equals(entityTwo));
 	}
 
+	@Test
+	public void equals_comparingGenericEntitiesSharingLayoutWithDifferentFields_shouldReturnFalse() {
+		final FieldLayout layout = new FieldLayout();
+		final GenericEntity entityOne = new GenericEntity("theType", createFieldListOne(), layout);
+		final List<Field> fields = createFieldListOne();
+		fields.set(0, new Field("fieldOne", Arrays.asList("otherValue")));
+		final GenericEntity entityTwo = new GenericEntity("theType", fields, layout);
+
+		Assert.assertFalse(entityOne.equals(entityTwo));
+		Assert.assertFalse(entityTwo.equals(entityOne));
+	}
+
+	@Test
+	public void equals_comparingGenericEntitiesWithFieldsInDifferentOrder_shouldReturnTrue() {
+		final GenericEntity entityOne = new GenericEntity("theType", createFieldListOne());
+		final List<Field> reversedFields = createFieldListOne();
+		Collections.reverse(reversedFields);
+		final GenericEntity entityTwo = new GenericEntity("theType", reversedFields);
+		Assert.assertTrue(entityOne.equals(entityTwo));
+		Assert.assertEquals(entityOne.hashCode(), entityTwo.hashCode());
+	}
+
+	@Test
+	public void equals_comparingGenericEntityToGenericEntityWithAdditionalField_shouldReturnFalse() {
+		final GenericEntity entityOne = new GenericEntity("theType", createFieldListOne());
+		final List<Field> fields = createFieldListOne();
+		fields.add(new Field("additionalField", Arrays.asList("value")));
+		final GenericEntity entityTwo = new GenericEntity("theType", fields);
+		Assert.assertFalse(entityOne.equals(entityTwo));
+		Assert.assertFalse(entityTwo.equals(entityOne));
+	}
+
 	@Test
 	public void equals_comparingGenericEntityToGenericEntityWithDifferentFieldMap_shouldReturnFalse() {
 		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
@@ -132,6 +179,83 @@ public class GenericEntityTest {
 		Assert.assertEquals(customFields.get(0), new Field("user-01", Arrays.asList("one")));
 	}
 
+	@Test
+	public void getDateFieldValue_withFieldThatExists_shouldReturnDate() {
+		final GenericEntity entity = new GenericEntity("theType",
+				Arrays.asList(new Field("dateField", Arrays.asList("2014-03-15"))));
+		Assert.assertEquals(entity.getDateFieldValue("dateField", Long.MIN_VALUE),
+				AlmDateFormatter.createDate("2014-03-15").getTime());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void getDateFieldValue_withInvalidDate_shouldThrowException() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		entity.getDateFieldValue("fieldOne", Long.MIN_VALUE);
+	}
+
+	@Test
+	public void getDateFieldValue_withNonExistentFieldName_shouldReturnDefaultValue() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		Assert.assertEquals(entity.getDateFieldValue("notAField", Long.MIN_VALUE), Long.MIN_VALUE);
+	}
+
+	@Test
+	public void getDateTimeFieldValue_withFieldThatExists_shouldReturnDateTime() {
+		final GenericEntity entity = new GenericEntity("theType",
+				Arrays.asList(new Field("dateTimeField", Arrays.asList("2014-03-15 10:11:12"))));
+		Assert.assertEquals(entity.getDateTimeFieldValue("dateTimeField", Long.MIN_VALUE),
+				AlmDateFormatter.createDateTime("2014-03-15 10:11:12").getTime());
+	}
+
+	@Test
+	public void getDateTimeFieldValue_withNonExistentFieldName_shouldReturnDefaultValue() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		Assert.assertEquals(entity.getDateTimeFieldValue("notAField", Long.MIN_VALUE), Long.MIN_VALUE);
+	}
+
+	@Test
+	public void getFieldCursor_shouldReadAllFields() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		final List<Field> fields = new ArrayList<>();
+		final FieldCursor cursor = entity.getFieldCursor();
+		while (cursor.next()) {
+			final List<String> values = new ArrayList<>();
+			for (int index = 0; index < cursor.getValueCount(); index++) {
+				values.add(cursor.getValue(index));
+			}
+			fields.add(new Field(cursor.getName(), values));
+		}
+
+		Assert.assertEquals(new HashSet<>(fields), new HashSet<>(createFieldListOne()));
+	}
+
+	@Test
+	public void getFields_clearingReturnedFields_shouldNotChangeEntity() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		entity.getFields().clear();
+		Assert.assertEquals(entity.getFields().size(), 3);
+	}
+
+	@Test
+	public void getFieldValue_withEmptyField_shouldReturnDefaultValue() {
+		final GenericEntity entity = new GenericEntity("theType",
+				Arrays.asList(new Field("emptyField", new ArrayList<String>())));
+		Assert.assertEquals(entity.getFieldValue("emptyField", "default"), "default");
+	}
+
+	@Test
+	public void getFieldValue_withFieldThatExists_shouldReturnFirstValue() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		Assert.assertEquals(entity.getFieldValue("fieldTwo", "default"), "valueTwo");
+		Assert.assertEquals(entity.getFieldValue("fieldThree", "default"), entity.getFieldValues("fieldThree").get(0));
+	}
+
+	@Test
+	public void getFieldValue_withNonExistentFieldName_shouldReturnDefaultValue() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		Assert.assertEquals(entity.getFieldValue("notAField", "default"), "default");
+	}
+
 	@Test
 	public void getFieldValues_withFieldThatExists_shouldReturnValues() {
 		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
@@ -145,6 +269,25 @@ public class GenericEntityTest {
 		Assert.assertTrue(entity.getFieldValues("notAField").isEmpty());
 	}
 
+	@Test
+	public void getIntFieldValue_withFieldThatExists_shouldReturnInt() {
+		final GenericEntity entity = new GenericEntity("theType",
+				Arrays.asList(new Field("intField", Arrays.asList("42"))));
+		Assert.assertEquals(entity.getIntFieldValue("intField", Integer.MIN_VALUE), 42);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void getIntFieldValue_withNonIntegerValue_shouldThrowException() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		entity.getIntFieldValue("fieldOne", Integer.MIN_VALUE);
+	}
+
+	@Test
+	public void getIntFieldValue_withNonExistentFieldName_shouldReturnDefaultValue() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		Assert.assertEquals(entity.getIntFieldValue("notAField", Integer.MIN_VALUE), Integer.MIN_VALUE);
+	}
+
 	@Test
 	public void hasFieldValue_withFieldThatDoesNotExist_shouldReturnFalse() {
 		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
@@ -212,6 +355,33 @@ public class GenericEntityTest {
 		new GenericEntity(null, createFieldListOne());
 	}
 
+	@Test
+	public void removeExtraFields_shouldKeepOnlyGivenFields() {
+		final List<Field> fields = createFieldListOne();
+		fields.add(new Field(AlmTestField.NAME.getName(), Arrays.asList("value")));
+		final GenericEntity entity = new GenericEntity("theType", fields);
+		entity.removeExtraFields(Arrays.<FieldName> asList(AlmTestField.NAME, AlmTestField.STATUS));
+		Assert.assertEquals(entity.getFields().size(), 1);
+		Assert.assertTrue(entity.hasFieldValue(AlmTestField.NAME.getName()));
+		Assert.assertFalse(entity.hasFieldValue("fieldOne"));
+	}
+
+	@Test
+	public void setFieldValue_withExistingField_shouldReplaceValues() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		entity.setFieldValue("fieldThree", "newValue");
+		Assert.assertEquals(entity.getFieldValues("fieldThree"), Arrays.asList("newValue"));
+		Assert.assertEquals(entity.getFields().size(), 3);
+	}
+
+	@Test
+	public void setFieldValue_withNewField_shouldAddField() {
+		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
+		entity.setFieldValue("id", "42");
+		Assert.assertEquals(entity.getFieldValue("id", null), "42");
+		Assert.assertEquals(entity.getFields().size(), 4);
+	}
+
 	@Test
 	public void toString_shouldReturnNonDefaultString() {
 		final GenericEntity entity = new GenericEntity("theType", createFieldListOne());
@@ -118,6 +118,26 @@ public class RequirementTest {
 		Assert.assertFalse(requirementOne.equals(requirementTwo));
 	}
 
+	@Test
+	public void getComments_afterCommentsChanged_shouldReturnChangedCommentsWithoutHtml() {
+		final Requirement requirement = new Requirement();
+		requirement.setComments("<b>first</b>");
+		Assert.assertEquals(requirement.getComments(), "first");
+		requirement.setComments("<i>second</i>");
+		Assert.assertEquals(requirement.getComments(), "second");
+	}
+
+	@Test
+	public void getDescription_afterFieldsPopulated_shouldReturnPopulatedDescriptionWithoutHtml() {
+		final Requirement requirement = new Requirement();
+		requirement.setDescription("<b>first</b>");
+		Assert.assertEquals(requirement.getDescription(), "first");
+		final Requirement populated = new Requirement();
+		populated.setDescription("<i>second</i>");
+		requirement.populateFields(populated.createEntity());
+		Assert.assertEquals(requirement.getDescription(), "second");
+	}
+
 	@Test
 	public void getEntityCollectionType_shouldReturnCollectionType() {
 		Assert.assertEquals(new Requirement().getEntityCollectionType(), "requirements");